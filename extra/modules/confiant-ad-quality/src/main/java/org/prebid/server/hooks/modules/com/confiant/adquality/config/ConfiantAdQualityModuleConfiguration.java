@@ -6,10 +6,14 @@ import io.vertx.core.Vertx;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidsScanner;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisClient;
+import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisCommandPipeline;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisScanStateChecker;
+import org.prebid.server.hooks.modules.com.confiant.adquality.core.ScannedCreativesCache;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisConnectionConfig;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisPipelineConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisRetryConfig;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.ScannedCreativesCacheConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityBidResponsesScanHook;
 import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityModule;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
@@ -37,6 +41,8 @@ public class ConfiantAdQualityModuleConfiguration {
             @Value("${hooks.modules.confiant-ad-quality.bidders-to-exclude-from-scan}") List<String> biddersToExcludeFromScan,
             RedisConfig redisConfig,
             RedisRetryConfig retryConfig,
+            RedisPipelineConfig pipelineConfig,
+            ScannedCreativesCacheConfig scannedCreativesCacheConfig,
             Vertx vertx,
             UserFpdActivityMask userFpdActivityMask,
             ObjectMapper objectMapper) {
@@ -48,7 +54,21 @@ public class ConfiantAdQualityModuleConfiguration {
         final RedisClient readRedisNode = new RedisClient(
                 vertx, readNodeConfig.getHost(), readNodeConfig.getPort(), readNodeConfig.getPassword(), retryConfig, "read node");
 
-        final BidsScanner bidsScanner = new BidsScanner(writeRedisNode, readRedisNode, apiKey, objectMapper);
+        final RedisCommandPipeline writeRedisPipeline = new RedisCommandPipeline(
+                writeRedisNode, vertx, pipelineConfig.getLinger(), pipelineConfig.getMaxBatchSize());
+        final RedisCommandPipeline readRedisPipeline = new RedisCommandPipeline(
+                readRedisNode, vertx, pipelineConfig.getLinger(), pipelineConfig.getMaxBatchSize());
+        final ScannedCreativesCache scannedCreativesCache = new ScannedCreativesCache(
+                scannedCreativesCacheConfig.getTtl(), scannedCreativesCacheConfig.getSize());
+
+        final BidsScanner bidsScanner = new BidsScanner(
+                writeRedisNode,
+                readRedisNode,
+                writeRedisPipeline,
+                readRedisPipeline,
+                scannedCreativesCache,
+                apiKey,
+                objectMapper);
         final RedisScanStateChecker redisScanStateChecker = new RedisScanStateChecker(bidsScanner, scanStateCheckInterval, vertx);
 
         final Promise<Void> scannerPromise = Promise.promise();
@@ -76,4 +96,16 @@ public class ConfiantAdQualityModuleConfiguration {
     RedisRetryConfig redisRetryConfig() {
         return new RedisRetryConfig();
     }
+
+    @Bean
+    @ConfigurationProperties(prefix = "hooks.modules.confiant-ad-quality.redis-pipeline-config")
+    RedisPipelineConfig redisPipelineConfig() {
+        return new RedisPipelineConfig();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "hooks.modules.confiant-ad-quality.scanned-creatives-cache-config")
+    ScannedCreativesCacheConfig scannedCreativesCacheConfig() {
+        return new ScannedCreativesCacheConfig();
+    }
 }
@@ -9,7 +9,7 @@ import org.prebid.server.hooks.modules.com.confiant.adquality.model.GroupByIssue
 import java.util.ArrayList;
 import java.util.List;
 
-@Builder
+@Builder(toBuilder = true)
 @Value(staticConstructor = "of")
 public class BidsScanResult {
 
@@ -4,13 +4,18 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.redis.client.Command;
 import io.vertx.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
 public class BidsScanner {
 
@@ -22,18 +27,32 @@ public class BidsScanner {
 
     private final RedisClient readRedisNode;
 
+    private final RedisCommandPipeline writeRedisPipeline;
+
+    private final RedisCommandPipeline readRedisPipeline;
+
+    private final ScannedCreativesCache scannedCreativesCache;
+
     private volatile Boolean isScanDisabled = true;
 
+    private volatile Future<String> submitFunctionHash;
+
     private final ObjectMapper objectMapper;
 
     public BidsScanner(
             RedisClient writeRedisNode,
             RedisClient readRedisNode,
+            RedisCommandPipeline writeRedisPipeline,
+            RedisCommandPipeline readRedisPipeline,
+            ScannedCreativesCache scannedCreativesCache,
             String apiKey,
             ObjectMapper objectMapper) {
 
         this.writeRedisNode = writeRedisNode;
         this.readRedisNode = readRedisNode;
+        this.writeRedisPipeline = writeRedisPipeline;
+        this.readRedisPipeline = readRedisPipeline;
+        this.scannedCreativesCache = scannedCreativesCache;
         this.apiKey = apiKey;
         this.objectMapper = objectMapper;
         this.redisParser = new RedisParser(objectMapper);
@@ -54,63 +73,137 @@ public class BidsScanner {
         isScanDisabled = true;
     }
 
-    public Future<BidsScanResult> submitBids(RedisBidsData bids) {
-        final Promise<BidsScanResult> scanResult = Promise.promise();
+    /**
+     * Forgets the hash of the Redis submit function, so it is read again with the next submission.
+     */
+    public void invalidateSubmitFunctionHash() {
+        submitFunctionHash = null;
+    }
 
+    public Future<BidsScanResult> submitBids(RedisBidsData bids) {
         final RedisAPI readRedisNodeAPI = this.readRedisNode.getRedisAPI();
         final boolean shouldSubmit = !isScanDisabled
                 && readRedisNodeAPI != null && bids.getBresps().size() > 0;
 
-        if (shouldSubmit) {
-            readRedisNodeAPI.get("function_submit_bids", submitHash -> {
-                final Object submitHashResult = submitHash.result();
-                if (submitHashResult != null) {
-                    final List<String> readArgs = List.of(submitHashResult.toString(), "0", toBidsAsJson(bids), apiKey, "true");
-
-                    readRedisNodeAPI.evalsha(readArgs, response -> {
-                        if (response.result() != null) {
-                            final BidsScanResult parserResult = redisParser
-                                    .parseBidsScanResult(response.result().toString());
-                            final boolean isAnyRoSkipped = parserResult.getBidScanResults()
-                                    .stream().anyMatch(BidScanResult::isRoSkipped);
-
-                            if (isAnyRoSkipped) {
-                                reSubmitBidsToWriteNode(readArgs, scanResult);
-                            } else {
-                                scanResult.complete(parserResult);
-                            }
-                        } else {
-                            scanResult.complete(getEmptyScanResult());
-                        }
-                    });
-                } else {
-                    scanResult.complete(getEmptyScanResult());
-                }
-            });
+        if (!shouldSubmit) {
+            return Future.succeededFuture(getEmptyScanResult());
+        }
+
+        final List<RedisBidResponseData> bidResponses = bids.getBresps();
+        final List<List<BidScanResult>> cachedScanResults = bidResponses.stream()
+                .map(scannedCreativesCache::get)
+                .toList();
+        final List<RedisBidResponseData> notCachedBidResponses = new ArrayList<>();
+        for (int i = 0; i < bidResponses.size(); i++) {
+            if (cachedScanResults.get(i) == null) {
+                notCachedBidResponses.add(bidResponses.get(i));
+            }
+        }
+
+        if (notCachedBidResponses.isEmpty()) {
+            return Future.succeededFuture(mergeScanResults(bidResponses, cachedScanResults, getEmptyScanResult()));
+        }
+
+        final RedisBidsData bidsToScan = notCachedBidResponses.size() == bidResponses.size()
+                ? bids
+                : bids.toBuilder().bresps(notCachedBidResponses).build();
+
+        return getSubmitFunctionHash(readRedisNodeAPI)
+                .compose(submitHash -> submitHash != null
+                        ? scanBids(submitHash, bidsToScan)
+                        : Future.succeededFuture(getEmptyScanResult()))
+                .map(scanResult -> mergeScanResults(bidResponses, cachedScanResults, scanResult))
+                .otherwise(ignored -> getEmptyScanResult());
+    }
 
-            return scanResult.future();
+    private Future<String> getSubmitFunctionHash(RedisAPI readRedisNodeAPI) {
+        final Future<String> cachedHash = submitFunctionHash;
+        if (cachedHash != null && !cachedHash.failed()) {
+            return cachedHash;
         }
 
-        return Future.succeededFuture(getEmptyScanResult());
+        final Future<String> hash = readRedisNodeAPI.get("function_submit_bids")
+                .map(submitHash -> submitHash != null ? submitHash.toString() : null);
+        submitFunctionHash = hash;
+        hash.onComplete(result -> {
+            if (result.failed() || result.result() == null) {
+                invalidateSubmitFunctionHash();
+            }
+        });
+
+        return hash;
     }
 
-    private void reSubmitBidsToWriteNode(List<String> readArgs, Promise<BidsScanResult> scanResult) {
-        final RedisAPI writeRedisAPI = this.writeRedisNode.getRedisAPI();
-        if (writeRedisAPI != null) {
-            final List<String> writeArgs = readArgs.stream().limit(4).toList();
-            writeRedisAPI.evalsha(writeArgs, response -> {
-                if (response.result() != null) {
-                    final BidsScanResult parserResult = redisParser
-                            .parseBidsScanResult(response.result().toString());
-
-                    scanResult.complete(parserResult);
-                } else {
-                    scanResult.complete(getEmptyScanResult());
-                }
-            });
-        } else {
-            scanResult.complete(getEmptyScanResult());
+    private Future<BidsScanResult> scanBids(String submitHash, RedisBidsData bids) {
+        final List<String> readArgs = List.of(submitHash, "0", toBidsAsJson(bids), apiKey, "true");
+
+        return readRedisPipeline.send(Command.EVALSHA, readArgs)
+                .compose(response -> {
+                    if (response == null) {
+                        return Future.succeededFuture(getEmptyScanResult());
+                    }
+
+                    final BidsScanResult parserResult = redisParser.parseBidsScanResult(response.toString());
+                    final boolean isAnyRoSkipped = parserResult.getBidScanResults()
+                            .stream().anyMatch(BidScanResult::isRoSkipped);
+
+                    return isAnyRoSkipped
+                            ? reSubmitBidsToWriteNode(readArgs)
+                            : Future.succeededFuture(parserResult);
+                }, error -> {
+                    invalidateSubmitFunctionHash();
+                    return Future.succeededFuture(getEmptyScanResult());
+                });
+    }
+
+    private Future<BidsScanResult> reSubmitBidsToWriteNode(List<String> readArgs) {
+        final List<String> writeArgs = readArgs.stream().limit(4).toList();
+
+        return writeRedisPipeline.send(Command.EVALSHA, writeArgs)
+                .map(response -> response != null
+                        ? redisParser.parseBidsScanResult(response.toString())
+                        : getEmptyScanResult())
+                .otherwise(ignored -> getEmptyScanResult());
+    }
+
+    /**
+     * Puts scan results of creatives taken from the cache in place of their bid responses and caches
+     * results of just scanned ones. Redis returns results for each bid of submitted bid responses in order.
+     */
+    private BidsScanResult mergeScanResults(List<RedisBidResponseData> bidResponses,
+                                            List<List<BidScanResult>> cachedScanResults,
+                                            BidsScanResult scanResult) {
+
+        final List<BidScanResult> scannedResults = scanResult.getBidScanResults();
+        final boolean hasCachedResults = cachedScanResults.stream().anyMatch(Objects::nonNull);
+        final boolean isScanResultAligned = scannedResults.size() == IntStream.range(0, bidResponses.size())
+                .filter(i -> cachedScanResults.get(i) == null)
+                .map(i -> ScannedCreativesCache.bidsCount(bidResponses.get(i)))
+                .sum();
+
+        final List<BidScanResult> mergedResults = new ArrayList<>();
+        int scannedIndex = 0;
+        for (int i = 0; i < bidResponses.size(); i++) {
+            final List<BidScanResult> cachedResults = cachedScanResults.get(i);
+            if (cachedResults != null) {
+                mergedResults.addAll(cachedResults);
+                continue;
+            }
+
+            final int to = Math.min(scannedIndex + ScannedCreativesCache.bidsCount(bidResponses.get(i)),
+                    scannedResults.size());
+            final List<BidScanResult> bidResponseResults = scannedResults.subList(scannedIndex, to);
+            if (isScanResultAligned) {
+                scannedCreativesCache.put(bidResponses.get(i), List.copyOf(bidResponseResults));
+            }
+            mergedResults.addAll(bidResponseResults);
+            scannedIndex = to;
         }
+        mergedResults.addAll(scannedResults.subList(scannedIndex, scannedResults.size()));
+
+        return hasCachedResults
+                ? scanResult.toBuilder().bidScanResults(mergedResults).build()
+                : scanResult;
     }
 
     public Future<Boolean> isScanDisabledFlag() {
@@ -55,6 +55,10 @@ public class RedisClient {
         return redisAPI;
     }
 
+    public RedisConnection getConnection() {
+        return connection;
+    }
+
     /**
      * Will create a redis client and setup a reconnect handler when there is
      * an exception in the connection.
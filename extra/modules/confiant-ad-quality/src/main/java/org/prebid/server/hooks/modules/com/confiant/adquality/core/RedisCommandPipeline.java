@@ -0,0 +1,138 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sends commands to a Confiant Redis node.
+ * <p>
+ * When linger is positive, commands submitted by concurrent auctions within the linger window are written
+ * to the connection back to back as one pipelined batch, without waiting for replies in between. Each command is
+ * resolved from its own reply, so an error reply fails only its command and no command is ever sent twice.
+ * Otherwise, each command is sent as soon as it is submitted.
+ */
+public class RedisCommandPipeline {
+
+    private final RedisClient redisClient;
+
+    private final Vertx vertx;
+
+    private final long linger;
+
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+
+    private Batch batch;
+
+    public RedisCommandPipeline(RedisClient redisClient, Vertx vertx, long linger, int maxBatchSize) {
+        this.redisClient = Objects.requireNonNull(redisClient);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.linger = linger;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Future<Response> send(Command command, List<String> args) {
+        if (linger <= 0) {
+            final RedisAPI redisAPI = redisClient.getRedisAPI();
+            return redisAPI != null
+                    ? redisAPI.send(command, args.toArray(String[]::new))
+                    : Future.failedFuture("Confiant Redis connection is not established");
+        }
+
+        final PendingCommand pendingCommand = new PendingCommand(toRequest(command, args), vertx.getOrCreateContext());
+
+        final Batch fullBatch;
+        synchronized (lock) {
+            if (batch == null) {
+                batch = newBatch();
+            }
+            batch.commands.add(pendingCommand);
+            fullBatch = batch.commands.size() >= maxBatchSize ? detach() : null;
+        }
+
+        if (fullBatch != null) {
+            vertx.cancelTimer(fullBatch.timerId);
+            run(fullBatch);
+        }
+
+        return pendingCommand.promise.future();
+    }
+
+    private static Request toRequest(Command command, List<String> args) {
+        final Request request = Request.cmd(command);
+        args.forEach(request::arg);
+        return request;
+    }
+
+    private Batch newBatch() {
+        final Batch newBatch = new Batch();
+        newBatch.timerId = vertx.setTimer(linger, timerId -> flush(newBatch));
+        return newBatch;
+    }
+
+    private Batch detach() {
+        final Batch detached = batch;
+        batch = null;
+        return detached;
+    }
+
+    private void flush(Batch timedOutBatch) {
+        synchronized (lock) {
+            if (batch != timedOutBatch) {
+                return;
+            }
+            detach();
+        }
+
+        run(timedOutBatch);
+    }
+
+    private void run(Batch batchToRun) {
+        final RedisConnection connection = redisClient.getConnection();
+        if (connection == null) {
+            batchToRun.commands.forEach(command ->
+                    command.complete(Future.failedFuture("Confiant Redis connection is not established")));
+            return;
+        }
+
+        batchToRun.commands.forEach(command -> connection.send(command.request).onComplete(command::complete));
+    }
+
+    private static class Batch {
+
+        private final List<PendingCommand> commands = new ArrayList<>();
+
+        private long timerId;
+    }
+
+    private static class PendingCommand {
+
+        private final Request request;
+
+        private final Context context;
+
+        private final Promise<Response> promise = Promise.promise();
+
+        PendingCommand(Request request, Context context) {
+            this.request = request;
+            this.context = context;
+        }
+
+        void complete(AsyncResult<Response> result) {
+            context.runOnContext(ignored -> promise.handle(result));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps scan results of recently scanned creatives, so bid responses repeating them can skip Redis.
+ * <p>
+ * Results are keyed by a hash of the bidder and creatives of a bid response and are not kept at all
+ * when time to live is not positive.
+ */
+public class ScannedCreativesCache {
+
+    private static final char DELIMITER = '\u0000';
+
+    private final Cache<String, List<BidScanResult>> cache;
+
+    public ScannedCreativesCache(long ttlMs, long size) {
+        cache = ttlMs > 0
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(size)
+                .build()
+                : null;
+    }
+
+    /**
+     * Returns scan results for each bid of the given bid response or null when creatives were not scanned recently.
+     */
+    public List<BidScanResult> get(RedisBidResponseData bidResponseData) {
+        final List<Bid> bids = bids(bidResponseData);
+        final List<BidScanResult> scanResults = cache != null && !bids.isEmpty()
+                ? cache.getIfPresent(key(bidResponseData.getDspId(), bids))
+                : null;
+
+        return scanResults != null ? withImpIds(scanResults, bids) : null;
+    }
+
+    public void put(RedisBidResponseData bidResponseData, List<BidScanResult> scanResults) {
+        final List<Bid> bids = bids(bidResponseData);
+        if (cache == null || bids.isEmpty() || bids.size() != scanResults.size()
+                || scanResults.stream().anyMatch(BidScanResult::isRoSkipped)) {
+
+            return;
+        }
+
+        cache.put(key(bidResponseData.getDspId(), bids), scanResults);
+    }
+
+    public static int bidsCount(RedisBidResponseData bidResponseData) {
+        return bids(bidResponseData).size();
+    }
+
+    private static List<Bid> bids(RedisBidResponseData bidResponseData) {
+        final BidResponse bidResponse = bidResponseData.getBidresponse();
+        final List<SeatBid> seatBids = bidResponse != null ? bidResponse.getSeatbid() : null;
+        if (CollectionUtils.isEmpty(seatBids)) {
+            return Collections.emptyList();
+        }
+
+        return seatBids.stream()
+                .map(SeatBid::getBid)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private static String key(String dspId, List<Bid> bids) {
+        final StringBuilder creatives = new StringBuilder(dspId != null ? dspId : "");
+        for (Bid bid : bids) {
+            creatives.append(DELIMITER).append(bid.getCrid()).append(DELIMITER).append(bid.getAdm());
+        }
+
+        return HexFormat.of().formatHex(sha256().digest(creatives.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<BidScanResult> withImpIds(List<BidScanResult> scanResults, List<Bid> bids) {
+        final List<BidScanResult> result = new ArrayList<>(scanResults.size());
+        for (int i = 0; i < scanResults.size(); i++) {
+            final BidScanResult cachedScanResult = scanResults.get(i);
+
+            final BidScanResult scanResult = new BidScanResult();
+            scanResult.setTagKey(cachedScanResult.getTagKey());
+            scanResult.setImpId(bids.get(i).getImpid());
+            scanResult.setIssues(cachedScanResult.getIssues());
+            result.add(scanResult);
+        }
+
+        return result;
+    }
+}
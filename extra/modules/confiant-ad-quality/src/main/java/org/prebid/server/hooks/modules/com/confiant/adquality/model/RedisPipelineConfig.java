@@ -0,0 +1,13 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.model;
+
+import lombok.Data;
+
+@Data
+public class RedisPipelineConfig {
+
+    /** Time interval in milliseconds during which commands of concurrent auctions are collected into one pipelined batch. Commands are sent one by one when not positive */
+    long linger;
+
+    /** Maximum number of commands in one pipelined batch. A full batch is sent without waiting for the linger interval to elapse */
+    int maxBatchSize;
+}
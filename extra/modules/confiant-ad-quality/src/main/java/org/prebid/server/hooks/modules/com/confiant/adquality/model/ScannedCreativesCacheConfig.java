@@ -0,0 +1,13 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.model;
+
+import lombok.Data;
+
+@Data
+public class ScannedCreativesCacheConfig {
+
+    /** Time interval in milliseconds during which scan results of a creative are reused without submitting it to Redis. Scan results are not cached when not positive */
+    long ttl;
+
+    /** Maximum number of bid responses with cached scan results */
+    long size;
+}
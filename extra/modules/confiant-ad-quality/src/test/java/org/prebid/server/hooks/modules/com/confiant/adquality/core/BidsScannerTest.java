@@ -1,30 +1,41 @@
 package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.redis.client.Command;
 import io.vertx.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
 import io.vertx.redis.client.ResponseType;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.GroupByIssues;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.util.AdQualityModuleTestUtils;
+import org.prebid.server.hooks.modules.com.confiant.adquality.util.InProcessRedisConnection;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,11 +50,21 @@ public class BidsScannerTest {
     @Mock
     private RedisAPI redisAPI;
 
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private Vertx vertx;
+
     private BidsScanner bidsScannerTest;
 
     @BeforeEach
     public void setUp() {
-        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper());
+        vertx = Vertx.vertx();
+        bidsScannerTest = givenBidsScanner(0L, 0L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
     }
 
     @Test()
@@ -209,6 +230,176 @@ public class BidsScannerTest {
         assertThat(groupByIssues.getWithoutIssues().size()).isEqualTo(0);
     }
 
+    @Test
+    public void shouldSendSubmissionsOfConcurrentAuctionsToReadNodeAsOnePipelinedBatch() throws Exception {
+        // given
+        final InProcessRedisConnection readRedis = givenInProcessReadRedis();
+        bidsScannerTest = givenBidsScanner(100L, 0L);
+        bidsScannerTest.enableScan();
+
+        // when
+        final Future<BidsScanResult> firstScanResult = bidsScannerTest.submitBids(givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-a", "imp-a")));
+        final Future<BidsScanResult> secondScanResult = bidsScannerTest.submitBids(givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-b", "bad-crid-b", "imp-b")));
+
+        // then
+        assertThat(await(firstScanResult).getBidScanResults())
+                .extracting(BidScanResult::getTagKey, BidScanResult::getIssues)
+                .containsExactly(tuple("bidder-a-crid-a", null));
+        assertThat(await(secondScanResult).getBidScanResults())
+                .extracting(BidScanResult::getTagKey)
+                .containsExactly("bidder-b-bad-crid-b");
+        verify(readRedisNode).getConnection();
+        assertThat(readRedis.commands("get")).hasSize(1);
+    }
+
+    @Test
+    public void shouldNotSubmitRecentlyScannedCreativesToRedis() throws Exception {
+        // given
+        final InProcessRedisConnection readRedis = givenInProcessReadRedis();
+        bidsScannerTest = givenBidsScanner(0L, 60000L);
+        bidsScannerTest.enableScan();
+
+        await(bidsScannerTest.submitBids(givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "bad-crid-a", "imp-a"))));
+
+        // when
+        final BidsScanResult scanResult = await(bidsScannerTest.submitBids(givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "bad-crid-a", "imp-b"))));
+
+        // then
+        assertThat(scanResult.getBidScanResults())
+                .extracting(BidScanResult::getTagKey, BidScanResult::getImpId)
+                .containsExactly(tuple("bidder-a-bad-crid-a", "imp-b"));
+        assertThat(scanResult.getBidScanResults().get(0).getIssues()).hasSize(1);
+        assertThat(readRedis.commands("evalsha")).hasSize(1);
+    }
+
+    @Test
+    public void shouldSubmitOnlyNotScannedCreativesAndKeepScanResultsInBidResponsesOrder() throws Exception {
+        // given
+        final InProcessRedisConnection readRedis = givenInProcessReadRedis();
+        bidsScannerTest = givenBidsScanner(0L, 60000L);
+        bidsScannerTest.enableScan();
+
+        await(bidsScannerTest.submitBids(givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-b", "crid-b", "imp-b"))));
+
+        // when
+        final BidsScanResult scanResult = await(bidsScannerTest.submitBids(givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-a", "imp-a"),
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-b", "crid-b", "imp-b"),
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-c", "crid-c", "imp-c"))));
+
+        // then
+        assertThat(scanResult.getBidScanResults())
+                .extracting(BidScanResult::getTagKey)
+                .containsExactly("bidder-a-crid-a", "bidder-b-crid-b", "bidder-c-crid-c");
+        assertThat(readRedis.commands("evalsha"))
+                .extracting(command -> mapper.readTree(command.get(3)).get("bresps").size())
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldReadSubmitFunctionHashOnceUntilItIsInvalidated() throws Exception {
+        // given
+        final InProcessRedisConnection readRedis = givenInProcessReadRedis();
+        bidsScannerTest.enableScan();
+        final RedisBidsData bidsData = givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-a", "imp-a"));
+
+        // when
+        await(bidsScannerTest.submitBids(bidsData));
+        await(bidsScannerTest.submitBids(bidsData));
+        bidsScannerTest.invalidateSubmitFunctionHash();
+        await(bidsScannerTest.submitBids(bidsData));
+
+        // then
+        assertThat(readRedis.commands("get")).hasSize(2);
+        assertThat(readRedis.commands("evalsha")).hasSize(3);
+    }
+
+    @Test
+    public void shouldReturnEmptyScanResultAndReadSubmitFunctionHashAgainWhenScriptIsNotFound() throws Exception {
+        // given
+        final InProcessRedisConnection readRedis = new InProcessRedisConnection()
+                .withValue("function_submit_bids", "unknown-sha");
+        givenReadNode(readRedis);
+        bidsScannerTest.enableScan();
+        final RedisBidsData bidsData = givenBidsData(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-a", "imp-a"));
+
+        // when
+        final BidsScanResult scanResult = await(bidsScannerTest.submitBids(bidsData));
+        await(bidsScannerTest.submitBids(bidsData));
+
+        // then
+        assertThat(scanResult.getBidScanResults()).isEmpty();
+        assertThat(readRedis.commands("get")).hasSize(2);
+    }
+
+    private BidsScanner givenBidsScanner(long linger, long scannedCreativesTtl) {
+        return new BidsScanner(
+                writeRedisNode,
+                readRedisNode,
+                new RedisCommandPipeline(writeRedisNode, vertx, linger, 64),
+                new RedisCommandPipeline(readRedisNode, vertx, linger, 64),
+                new ScannedCreativesCache(scannedCreativesTtl, 100),
+                "api-key",
+                mapper);
+    }
+
+    private InProcessRedisConnection givenInProcessReadRedis() {
+        final InProcessRedisConnection readRedis = new InProcessRedisConnection()
+                .withValue("function_submit_bids", "submit-sha")
+                .withScript("submit-sha", this::scanBids);
+        givenReadNode(readRedis);
+
+        return readRedis;
+    }
+
+    private void givenReadNode(InProcessRedisConnection readRedis) {
+        doReturn(RedisAPI.api(readRedis)).when(readRedisNode).getRedisAPI();
+        lenient().doReturn(readRedis).when(readRedisNode).getConnection();
+    }
+
+    /**
+     * Emulates the submit function: every bid gets a tag key of its bidder and creative,
+     * creatives with "bad" id get an issue.
+     */
+    private String scanBids(List<String> args) {
+        try {
+            final ArrayNode result = mapper.createArrayNode();
+            for (JsonNode bidResponse : mapper.readTree(args.get(1)).get("bresps")) {
+                final ArrayNode bidResponseResult = result.addArray();
+                for (JsonNode bid : bidResponse.at("/bidresponse/seatbid/0/bid")) {
+                    final String crid = bid.get("crid").asText();
+                    final ObjectNode bidResult = bidResponseResult.addArray().addObject()
+                            .put("tag_key", bidResponse.get("dsp_id").asText() + "-" + crid)
+                            .put("imp_id", bid.get("impid").asText());
+                    if (crid.startsWith("bad")) {
+                        bidResult.putArray("issues").addObject().put("spec_name", "malicious_domain");
+                    }
+                }
+            }
+            return mapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RedisBidsData givenBidsData(RedisBidResponseData... bidResponses) {
+        return RedisBidsData.builder()
+                .breq(BidRequest.builder().build())
+                .bresps(List.of(bidResponses))
+                .build();
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(1, TimeUnit.SECONDS);
+    }
+
     private RedisAPI getRedisEmulationWithAnswer(String sendAnswer) {
         return new RedisAPI() {
             @Override
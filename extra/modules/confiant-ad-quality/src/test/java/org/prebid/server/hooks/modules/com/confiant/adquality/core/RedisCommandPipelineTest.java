@@ -0,0 +1,135 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.hooks.modules.com.confiant.adquality.util.InProcessRedisConnection;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisCommandPipelineTest {
+
+    @Mock
+    private RedisClient redisClient;
+
+    private Vertx vertx;
+
+    private InProcessRedisConnection redis;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        redis = new InProcessRedisConnection()
+                .withValue("key-a", "value-a")
+                .withValue("key-b", "value-b");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldSendCommandsOneByOneWhenLingerIsNotPositive() throws Exception {
+        // given
+        doReturn(RedisAPI.api(redis)).when(redisClient).getRedisAPI();
+        final RedisCommandPipeline target = new RedisCommandPipeline(redisClient, vertx, 0L, 64);
+
+        // when
+        final Response first = await(target.send(Command.GET, List.of("key-a")));
+        final Response second = await(target.send(Command.GET, List.of("key-b")));
+
+        // then
+        assertThat(first).hasToString("value-a");
+        assertThat(second).hasToString("value-b");
+        verify(redisClient, never()).getConnection();
+    }
+
+    @Test
+    public void shouldSendCommandsSubmittedWithinLingerAsOneBatchAndReturnEachItsOwnReply() throws Exception {
+        // given
+        doReturn(redis).when(redisClient).getConnection();
+        final RedisCommandPipeline target = new RedisCommandPipeline(redisClient, vertx, 50L, 64);
+
+        // when
+        final Future<Response> first = target.send(Command.GET, List.of("key-a"));
+        final Future<Response> second = target.send(Command.GET, List.of("key-b"));
+
+        // then
+        assertThat(await(first)).hasToString("value-a");
+        assertThat(await(second)).hasToString("value-b");
+        verify(redisClient).getConnection();
+    }
+
+    @Test
+    public void shouldSendFullBatchWithoutWaitingForLinger() throws Exception {
+        // given
+        doReturn(redis).when(redisClient).getConnection();
+        final RedisCommandPipeline target = new RedisCommandPipeline(redisClient, vertx, 60000L, 2);
+
+        // when
+        final Future<Response> first = target.send(Command.GET, List.of("key-a"));
+        final Future<Response> second = target.send(Command.GET, List.of("key-b"));
+
+        // then
+        assertThat(await(first)).hasToString("value-a");
+        assertThat(await(second)).hasToString("value-b");
+        verify(redisClient).getConnection();
+    }
+
+    @Test
+    public void shouldResolveEachCommandOfBatchFromItsOwnReplyWithoutResending() throws Exception {
+        // given
+        redis.withScript("sha", args -> "scanned");
+        doReturn(redis).when(redisClient).getConnection();
+        final RedisCommandPipeline target = new RedisCommandPipeline(redisClient, vertx, 50L, 64);
+
+        // when
+        final Future<Response> failed = target.send(Command.EVALSHA, List.of("unknown-sha", "0"));
+        final Future<Response> succeeded = target.send(Command.EVALSHA, List.of("sha", "0"));
+
+        // then
+        assertThat(await(succeeded)).hasToString("scanned");
+        assertThatThrownBy(() -> await(failed))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("NOSCRIPT");
+        verify(redisClient).getConnection();
+        assertThat(redis.commands()).hasSize(2);
+    }
+
+    @Test
+    public void shouldFailCommandsWhenConnectionIsNotEstablished() {
+        // given
+        doReturn(null).when(redisClient).getConnection();
+        final RedisCommandPipeline target = new RedisCommandPipeline(redisClient, vertx, 10L, 64);
+
+        // when
+        final Future<Response> result = target.send(Command.GET, List.of("key-a"));
+
+        // then
+        assertThatThrownBy(() -> await(result))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("Confiant Redis connection is not established");
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(1, TimeUnit.SECONDS);
+    }
+}
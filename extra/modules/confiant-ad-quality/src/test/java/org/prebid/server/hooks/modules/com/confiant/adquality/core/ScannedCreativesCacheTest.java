@@ -0,0 +1,84 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.Issue;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
+import org.prebid.server.hooks.modules.com.confiant.adquality.util.AdQualityModuleTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class ScannedCreativesCacheTest {
+
+    @Test
+    public void shouldNotCacheScanResultsWhenTtlIsNotPositive() {
+        // given
+        final ScannedCreativesCache target = new ScannedCreativesCache(0L, 100L);
+        final RedisBidResponseData bidResponse = AdQualityModuleTestUtils
+                .getRedisBidResponseData("bidder-a", "crid-a", "imp-a");
+
+        // when
+        target.put(bidResponse, List.of(givenScanResult("tag-a", "imp-a", false)));
+
+        // then
+        assertThat(target.get(bidResponse)).isNull();
+    }
+
+    @Test
+    public void shouldReturnCachedScanResultsWithImpIdsOfGivenBidResponse() {
+        // given
+        final ScannedCreativesCache target = new ScannedCreativesCache(60000L, 100L);
+        final BidScanResult scanResult = givenScanResult("tag-a", "imp-a", false);
+        scanResult.setIssues(List.of(new Issue()));
+        target.put(AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-a", "imp-a"), List.of(scanResult));
+
+        // when
+        final List<BidScanResult> result = target.get(
+                AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-a", "imp-b"));
+
+        // then
+        assertThat(result)
+                .extracting(BidScanResult::getTagKey, BidScanResult::getImpId, BidScanResult::getIssues)
+                .containsExactly(tuple("tag-a", "imp-b", List.of(new Issue())));
+    }
+
+    @Test
+    public void shouldNotReturnScanResultsOfAnotherCreativeOrBidder() {
+        // given
+        final ScannedCreativesCache target = new ScannedCreativesCache(60000L, 100L);
+        target.put(AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-a", "imp-a"),
+                List.of(givenScanResult("tag-a", "imp-a", false)));
+
+        // when and then
+        assertThat(target.get(AdQualityModuleTestUtils.getRedisBidResponseData("bidder-a", "crid-b", "imp-a")))
+                .isNull();
+        assertThat(target.get(AdQualityModuleTestUtils.getRedisBidResponseData("bidder-b", "crid-a", "imp-a")))
+                .isNull();
+    }
+
+    @Test
+    public void shouldNotCacheRoSkippedOrIncompleteScanResults() {
+        // given
+        final ScannedCreativesCache target = new ScannedCreativesCache(60000L, 100L);
+        final RedisBidResponseData bidResponse = AdQualityModuleTestUtils
+                .getRedisBidResponseData("bidder-a", "crid-a", "imp-a");
+
+        // when
+        target.put(bidResponse, List.of(givenScanResult("tag-a", "imp-a", true)));
+        target.put(bidResponse, List.of());
+
+        // then
+        assertThat(target.get(bidResponse)).isNull();
+    }
+
+    private static BidScanResult givenScanResult(String tagKey, String impId, boolean roSkipped) {
+        final BidScanResult scanResult = new BidScanResult();
+        scanResult.setTagKey(tagKey);
+        scanResult.setImpId(impId);
+        scanResult.setRoSkipped(roSkipped);
+        return scanResult;
+    }
+}
@@ -1,9 +1,12 @@
 package org.prebid.server.hooks.modules.com.confiant.adquality.util;
 
 import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 
 import java.math.BigDecimal;
@@ -26,4 +29,19 @@ public class AdQualityModuleTestUtils {
                         .build()))
                 .build(), 11);
     }
+
+    public static RedisBidResponseData getRedisBidResponseData(String dspId, String crid, String impId) {
+        return RedisBidResponseData.builder()
+                .dspId(dspId)
+                .bidresponse(BidResponse.builder()
+                        .seatbid(Collections.singletonList(SeatBid.builder()
+                                .bid(Collections.singletonList(Bid.builder()
+                                        .impid(impId)
+                                        .crid(crid)
+                                        .adm("adm-" + crid)
+                                        .build()))
+                                .build()))
+                        .build())
+                .build();
+    }
 }
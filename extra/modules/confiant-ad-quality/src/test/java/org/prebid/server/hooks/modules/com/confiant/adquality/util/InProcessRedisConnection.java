@@ -0,0 +1,162 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.util;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.types.BulkType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * In-process stand-in of a Redis node answering GET and EVALSHA commands, which records every command it receives.
+ */
+public class InProcessRedisConnection implements RedisConnection {
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+
+    private final Map<String, Function<List<String>, String>> scripts = new ConcurrentHashMap<>();
+
+    private final List<List<String>> commands = new CopyOnWriteArrayList<>();
+
+    public InProcessRedisConnection withValue(String key, String value) {
+        values.put(key, value);
+        return this;
+    }
+
+    public InProcessRedisConnection withScript(String sha, Function<List<String>, String> script) {
+        scripts.put(sha, script);
+        return this;
+    }
+
+    public List<List<String>> commands() {
+        return commands;
+    }
+
+    public List<List<String>> commands(String name) {
+        return commands.stream().filter(command -> command.get(0).equalsIgnoreCase(name)).toList();
+    }
+
+    @Override
+    public Future<Response> send(Request request) {
+        final List<String> command = decode(request);
+        commands.add(command);
+
+        try {
+            return Future.succeededFuture(execute(command));
+        } catch (IllegalStateException e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> requests) {
+        final List<Response> responses = new ArrayList<>();
+        for (Request request : requests) {
+            final List<String> command = decode(request);
+            commands.add(command);
+
+            try {
+                responses.add(execute(command));
+            } catch (IllegalStateException e) {
+                return Future.failedFuture(e);
+            }
+        }
+
+        return Future.succeededFuture(responses);
+    }
+
+    private Response execute(List<String> command) {
+        final List<String> args = command.subList(1, command.size());
+        return switch (command.get(0).toLowerCase()) {
+            case "get" -> toResponse(values.get(args.get(0)));
+            case "evalsha" -> {
+                final Function<List<String>, String> script = scripts.get(args.get(0));
+                if (script == null) {
+                    throw new IllegalStateException("NOSCRIPT No matching script");
+                }
+                yield toResponse(script.apply(args.subList(1, args.size())));
+            }
+            default -> throw new IllegalStateException("ERR unknown command " + command.get(0));
+        };
+    }
+
+    private static Response toResponse(String value) {
+        return value != null ? BulkType.create(Buffer.buffer(value), false) : null;
+    }
+
+    /**
+     * Decodes the RESP array of bulk strings the request is serialized to.
+     */
+    private static List<String> decode(Request request) {
+        final byte[] bytes = request.toString().getBytes(StandardCharsets.UTF_8);
+        final List<String> command = new ArrayList<>();
+
+        int position = bytes[0] == '*' ? lineEnd(bytes, 0) + 2 : 0;
+        while (position < bytes.length) {
+            final int lengthEnd = lineEnd(bytes, position);
+            final int length = Integer.parseInt(new String(bytes, position + 1, lengthEnd - position - 1,
+                    StandardCharsets.UTF_8));
+            command.add(new String(bytes, lengthEnd + 2, length, StandardCharsets.UTF_8));
+            position = lengthEnd + 2 + length + 2;
+        }
+
+        return command;
+    }
+
+    private static int lineEnd(byte[] bytes, int from) {
+        int position = from;
+        while (bytes[position] != '\r') {
+            position++;
+        }
+        return position;
+    }
+
+    @Override
+    public RedisConnection exceptionHandler(Handler<Throwable> handler) {
+        return this;
+    }
+
+    @Override
+    public RedisConnection handler(Handler<Response> handler) {
+        return this;
+    }
+
+    @Override
+    public RedisConnection pause() {
+        return this;
+    }
+
+    @Override
+    public RedisConnection resume() {
+        return this;
+    }
+
+    @Override
+    public RedisConnection fetch(long amount) {
+        return this;
+    }
+
+    @Override
+    public RedisConnection endHandler(Handler<Void> endHandler) {
+        return this;
+    }
+
+    @Override
+    public Future<Void> close() {
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public boolean pendingQueueFull() {
+        return false;
+    }
+}
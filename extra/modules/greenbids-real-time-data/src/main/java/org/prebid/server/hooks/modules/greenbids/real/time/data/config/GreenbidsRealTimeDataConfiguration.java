@@ -5,11 +5,16 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ThrottlingThresholdsFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactStorage;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GcsArtefactStorage;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.LocalArtefactStorage;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
@@ -23,6 +28,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -61,14 +67,26 @@ public class GreenbidsRealTimeDataConfiguration {
     }
 
     @Bean
-    FilterService filterService() {
-        return new FilterService();
+    OnnxInferenceBatcher onnxInferenceBatcher(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
+        return new OnnxInferenceBatcher(
+                vertx, properties.getInferenceBatchWindowMs(), properties.getInferenceMaxBatchSize());
     }
 
     @Bean
-    Storage storage(GreenbidsRealTimeDataProperties properties) {
-        return StorageOptions.newBuilder()
+    FilterService filterService(OnnxInferenceBatcher onnxInferenceBatcher) {
+        return new FilterService(onnxInferenceBatcher);
+    }
+
+    @Bean
+    ArtefactStorage artefactStorage(GreenbidsRealTimeDataProperties properties) {
+        final String localStoragePath = properties.getLocalStoragePath();
+        if (StringUtils.isNotBlank(localStoragePath)) {
+            return new LocalArtefactStorage(Path.of(localStoragePath));
+        }
+
+        final Storage storage = StorageOptions.newBuilder()
                 .setProjectId(properties.getGoogleCloudGreenbidsProject()).build().getService();
+        return new GcsArtefactStorage(storage, properties.getGcsBucketName());
     }
 
     @Bean
@@ -85,17 +103,28 @@ public class GreenbidsRealTimeDataConfiguration {
     ModelCache modelCache(
             GreenbidsRealTimeDataProperties properties,
             Vertx vertx,
-            Storage storage,
+            ArtefactStorage artefactStorage,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
 
         final Cache<String, OnnxModelRunner> modelCacheWithExpiration = Caffeine.newBuilder()
                 .expireAfterWrite(properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
                 .build();
 
+        // previous model is served for one more expiration period at most, replaced and evicted models are closed
+        // off event loop since closing waits for model runs in progress
+        final Cache<String, OnnxModelRunner> previousModelRunners = Caffeine.newBuilder()
+                .expireAfterWrite(2L * properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
+                .<String, OnnxModelRunner>removalListener((key, onnxModelRunner, cause) -> {
+                    if (onnxModelRunner != null) {
+                        onnxModelRunner.close();
+                    }
+                })
+                .build();
+
         return new ModelCache(
-                storage,
-                properties.getGcsBucketName(),
+                artefactStorage,
                 modelCacheWithExpiration,
+                previousModelRunners,
                 properties.getOnnxModelCacheKeyPrefix(),
                 vertx,
                 onnxModelRunnerFactory);
@@ -105,18 +134,22 @@ public class GreenbidsRealTimeDataConfiguration {
     ThresholdCache thresholdCache(
             GreenbidsRealTimeDataProperties properties,
             Vertx vertx,
-            Storage storage,
+            ArtefactStorage artefactStorage,
             ThrottlingThresholdsFactory throttlingThresholdsFactory) {
 
         final Cache<String, ThrottlingThresholds> thresholdsCacheWithExpiration = Caffeine.newBuilder()
                 .expireAfterWrite(properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
                 .build();
 
+        final Cache<String, ThrottlingThresholds> previousThresholds = Caffeine.newBuilder()
+                .expireAfterWrite(2L * properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
+                .build();
+
         return new ThresholdCache(
-                storage,
-                properties.getGcsBucketName(),
+                artefactStorage,
                 ObjectMapperProvider.mapper(),
                 thresholdsCacheWithExpiration,
+                previousThresholds,
                 properties.getThresholdsCacheKeyPrefix(),
                 vertx,
                 throttlingThresholdsFactory);
@@ -15,6 +15,8 @@ public class GreenbidsRealTimeDataProperties {
 
     String gcsBucketName;
 
+    String localStoragePath;
+
     Integer cacheExpirationMinutes;
 
     String onnxModelCacheKeyPrefix;
@@ -24,4 +26,8 @@ public class GreenbidsRealTimeDataProperties {
     Long timeoutMs;
 
     Integer maxRedirects;
+
+    long inferenceBatchWindowMs;
+
+    int inferenceMaxBatchSize = 256;
 }
@@ -0,0 +1,9 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+/**
+ * Source of model and thresholds artefacts. Implementations are blocking and are called from worker threads.
+ */
+public interface ArtefactStorage {
+
+    byte[] read(String path);
+}
@@ -0,0 +1,40 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.Bucket;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import org.prebid.server.exception.PreBidException;
+
+import java.util.Objects;
+
+public class GcsArtefactStorage implements ArtefactStorage {
+
+    private final Storage storage;
+
+    private final String gcsBucketName;
+
+    public GcsArtefactStorage(Storage storage, String gcsBucketName) {
+        this.storage = Objects.requireNonNull(storage);
+        this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
+    }
+
+    @Override
+    public byte[] read(String path) {
+        try {
+            final Bucket bucket = storage.get(gcsBucketName);
+            if (bucket == null) {
+                throw new PreBidException("Bucket not found: " + gcsBucketName);
+            }
+
+            final Blob blob = bucket.get(path);
+            if (blob == null) {
+                throw new PreBidException("GCS artefact not found: " + path);
+            }
+
+            return blob.getContent();
+        } catch (StorageException e) {
+            throw new PreBidException("Error accessing GCS artefact: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import org.prebid.server.exception.PreBidException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+public class LocalArtefactStorage implements ArtefactStorage {
+
+    private final Path directory;
+
+    public LocalArtefactStorage(Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    @Override
+    public byte[] read(String path) {
+        try {
+            return Files.readAllBytes(directory.resolve(path));
+        } catch (IOException e) {
+            throw new PreBidException("Error accessing local artefact: " + path, e);
+        }
+    }
+}
@@ -2,49 +2,50 @@ package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OrtException;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ModelCache {
 
     private static final Logger logger = LoggerFactory.getLogger(ModelCache.class);
 
-    private final String gcsBucketName;
+    private final ArtefactStorage storage;
 
     private final Cache<String, OnnxModelRunner> cache;
 
-    private final Storage storage;
-
     private final String onnxModelCacheKeyPrefix;
 
-    private final AtomicBoolean isFetching;
-
     private final Vertx vertx;
 
     private final OnnxModelRunnerFactory onnxModelRunnerFactory;
 
+    private final Map<String, Future<OnnxModelRunner>> inFlightFetches = new ConcurrentHashMap<>();
+
+    private final Cache<String, OnnxModelRunner> previousModelRunners;
+
+    /**
+     * {@code previousModelRunners} keeps the last fetched model per key to be served while expired model is being
+     * refetched, it should expire later than {@code cache} and close model runners replaced in or evicted from it.
+     */
     public ModelCache(
-            Storage storage,
-            String gcsBucketName,
+            ArtefactStorage storage,
             Cache<String, OnnxModelRunner> cache,
+            Cache<String, OnnxModelRunner> previousModelRunners,
             String onnxModelCacheKeyPrefix,
             Vertx vertx,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
-        this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
-        this.cache = Objects.requireNonNull(cache);
         this.storage = Objects.requireNonNull(storage);
+        this.cache = Objects.requireNonNull(cache);
+        this.previousModelRunners = Objects.requireNonNull(previousModelRunners);
         this.onnxModelCacheKeyPrefix = Objects.requireNonNull(onnxModelCacheKeyPrefix);
-        this.isFetching = new AtomicBoolean(false);
         this.vertx = Objects.requireNonNull(vertx);
         this.onnxModelRunnerFactory = Objects.requireNonNull(onnxModelRunnerFactory);
     }
@@ -57,37 +58,40 @@ public class ModelCache {
             return Future.succeededFuture(cachedOnnxModelRunner);
         }
 
-        if (isFetching.compareAndSet(false, true)) {
-            try {
-                return fetchAndCacheModelRunner(onnxModelPath, cacheKey);
-            } finally {
-                isFetching.set(false);
-            }
-        }
+        final Future<OnnxModelRunner> fetch = fetchOnce(onnxModelPath, cacheKey);
 
-        return Future.failedFuture("ModelRunner fetching in progress. Skip current request");
+        // while expired model is being refreshed, keep serving the previous one
+        final OnnxModelRunner previousOnnxModelRunner = previousModelRunners.getIfPresent(cacheKey);
+        return previousOnnxModelRunner != null ? Future.succeededFuture(previousOnnxModelRunner) : fetch;
     }
 
-    private Future<OnnxModelRunner> fetchAndCacheModelRunner(String onnxModelPath, String cacheKey) {
-        return vertx.executeBlocking(() -> getBlob(onnxModelPath))
-                .map(this::loadModelRunner)
-                .onSuccess(onnxModelRunner -> cache.put(cacheKey, onnxModelRunner))
-                .onFailure(error -> logger.error("Failed to fetch ONNX model"));
+    private Future<OnnxModelRunner> fetchOnce(String onnxModelPath, String cacheKey) {
+        final Promise<OnnxModelRunner> promise = Promise.promise();
+        final Future<OnnxModelRunner> inFlightFetch = inFlightFetches.putIfAbsent(cacheKey, promise.future());
+        if (inFlightFetch != null) {
+            return inFlightFetch;
+        }
+
+        fetchAndCacheModelRunner(onnxModelPath, cacheKey)
+                .onComplete(result -> {
+                    inFlightFetches.remove(cacheKey);
+                    promise.handle(result);
+                });
+
+        return promise.future();
     }
 
-    private Blob getBlob(String onnxModelPath) {
-        try {
-            return Optional.ofNullable(storage.get(gcsBucketName))
-                    .map(bucket -> bucket.get(onnxModelPath))
-                    .orElseThrow(() -> new PreBidException("Bucket not found: " + gcsBucketName));
-        } catch (StorageException e) {
-            throw new PreBidException("Error accessing GCS artefact for model: ", e);
-        }
+    private Future<OnnxModelRunner> fetchAndCacheModelRunner(String onnxModelPath, String cacheKey) {
+        return vertx.executeBlocking(() -> loadModelRunner(storage.read(onnxModelPath)))
+                .onSuccess(onnxModelRunner -> {
+                    cache.put(cacheKey, onnxModelRunner);
+                    previousModelRunners.put(cacheKey, onnxModelRunner);
+                })
+                .onFailure(error -> logger.error("Failed to fetch ONNX model", error));
     }
 
-    private OnnxModelRunner loadModelRunner(Blob blob) {
+    private OnnxModelRunner loadModelRunner(byte[] onnxModelBytes) {
         try {
-            final byte[] onnxModelBytes = blob.getContent();
             return onnxModelRunnerFactory.create(onnxModelBytes);
         } catch (OrtException e) {
             throw new PreBidException("Failed to convert blob to ONNX model", e);
@@ -0,0 +1,183 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.exception.PreBidException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Runs model inference for throttling rows.
+ * <p>
+ * When batch window is positive, rows of requests arriving within the window for the same model
+ * are packed into one tensor, inference is run once on a worker thread and the probabilities are
+ * scattered back to the waiting requests. Otherwise, inference is run in place for each request.
+ */
+public class OnnxInferenceBatcher {
+
+    private static final String PROBABILITIES = "probabilities";
+
+    private final Vertx vertx;
+
+    private final long batchWindowMs;
+
+    private final int maxBatchSize;
+
+    private final Map<OnnxModelRunner, Batch> batches = new HashMap<>();
+
+    public OnnxInferenceBatcher(Vertx vertx, long batchWindowMs, int maxBatchSize) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Future<float[][]> predict(OnnxModelRunner onnxModelRunner, String[][] throttlingInferenceRows) {
+        if (batchWindowMs <= 0) {
+            try {
+                return Future.succeededFuture(runModel(onnxModelRunner, throttlingInferenceRows));
+            } catch (PreBidException e) {
+                return Future.failedFuture(e);
+            }
+        }
+
+        final BatchEntry entry = new BatchEntry(throttlingInferenceRows, vertx.getOrCreateContext());
+
+        final Batch fullBatch;
+        synchronized (batches) {
+            final Batch batch = batches.computeIfAbsent(onnxModelRunner, this::newBatch);
+            batch.add(entry);
+            fullBatch = batch.size() >= maxBatchSize ? batches.remove(onnxModelRunner) : null;
+        }
+
+        if (fullBatch != null) {
+            vertx.cancelTimer(fullBatch.timerId);
+            run(onnxModelRunner, fullBatch);
+        }
+
+        return entry.promise.future();
+    }
+
+    private Batch newBatch(OnnxModelRunner onnxModelRunner) {
+        final Batch batch = new Batch();
+        batch.timerId = vertx.setTimer(batchWindowMs, timerId -> flush(onnxModelRunner, batch));
+        return batch;
+    }
+
+    private void flush(OnnxModelRunner onnxModelRunner, Batch batch) {
+        synchronized (batches) {
+            if (!batches.remove(onnxModelRunner, batch)) {
+                return;
+            }
+        }
+
+        run(onnxModelRunner, batch);
+    }
+
+    private void run(OnnxModelRunner onnxModelRunner, Batch batch) {
+        vertx.executeBlocking(() -> runModel(onnxModelRunner, batch.rows()), false)
+                .onComplete(batch::scatter);
+    }
+
+    private static float[][] runModel(OnnxModelRunner onnxModelRunner, String[][] throttlingInferenceRows) {
+        try (OrtSession.Result results = onnxModelRunner.runModel(throttlingInferenceRows)) {
+            return extractProbabilities(results, throttlingInferenceRows.length);
+        } catch (OrtException e) {
+            throw new PreBidException("Exception during model inference: ", e);
+        }
+    }
+
+    private static float[][] extractProbabilities(OrtSession.Result results, int expectedSize) throws OrtException {
+        for (Map.Entry<String, OnnxValue> onnxItem : results) {
+            validateOnnxTensor(onnxItem);
+
+            if (Objects.equals(onnxItem.getKey(), PROBABILITIES)) {
+                final OnnxTensor tensor = (OnnxTensor) onnxItem.getValue();
+                validateTensorSize(tensor, expectedSize);
+                return (float[][]) tensor.getValue();
+            }
+        }
+
+        throw new PreBidException("Model inference result does not contain 'probabilities'");
+    }
+
+    private static void validateOnnxTensor(Map.Entry<String, OnnxValue> onnxItem) {
+        if (!(onnxItem.getValue() instanceof OnnxTensor)) {
+            throw new PreBidException("Expected OnnxTensor for 'probabilities', but found: "
+                    + onnxItem.getValue().getClass().getName());
+        }
+    }
+
+    private static void validateTensorSize(OnnxTensor tensor, int expectedSize) {
+        final long[] tensorShape = tensor.getInfo().getShape();
+        if (tensorShape.length == 0 || tensorShape[0] != expectedSize) {
+            throw new PreBidException("Mismatch between tensor size and throttlingMessages size");
+        }
+    }
+
+    private static class Batch {
+
+        private final List<BatchEntry> entries = new ArrayList<>();
+
+        private int size;
+
+        private long timerId;
+
+        void add(BatchEntry entry) {
+            entries.add(entry);
+            size += entry.rows.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        String[][] rows() {
+            final String[][] rows = new String[size][];
+
+            int offset = 0;
+            for (BatchEntry entry : entries) {
+                System.arraycopy(entry.rows, 0, rows, offset, entry.rows.length);
+                offset += entry.rows.length;
+            }
+
+            return rows;
+        }
+
+        void scatter(AsyncResult<float[][]> result) {
+            int offset = 0;
+            for (BatchEntry entry : entries) {
+                final int from = offset;
+                final int to = offset + entry.rows.length;
+                entry.context.runOnContext(ignored -> entry.promise.handle(result.map(probabilities ->
+                        Arrays.copyOfRange(probabilities, from, to))));
+                offset = to;
+            }
+        }
+    }
+
+    private static class BatchEntry {
+
+        private final String[][] rows;
+
+        private final Context context;
+
+        private final Promise<float[][]> promise = Promise.promise();
+
+        BatchEntry(String[][] rows, Context context) {
+            this.rows = rows;
+            this.context = context;
+        }
+    }
+}
@@ -4,21 +4,62 @@ import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
 
 import java.util.Collections;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-public class OnnxModelRunner {
+/**
+ * Runs ONNX model session. Session is closed only after model runs in progress are finished, model runs after
+ * closing fail.
+ */
+public class OnnxModelRunner implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OnnxModelRunner.class);
 
     private static final OrtEnvironment ENVIRONMENT = OrtEnvironment.getEnvironment();
 
     private final OrtSession session;
 
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean closed;
+
     public OnnxModelRunner(byte[] onnxModelBytes) throws OrtException {
         session = ENVIRONMENT.createSession(onnxModelBytes, new OrtSession.SessionOptions());
     }
 
     public OrtSession.Result runModel(String[][] throttlingInferenceRow) throws OrtException {
-        final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
-        return session.run(Collections.singletonMap("input", inputTensor));
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                throw new OrtException("ONNX model session is closed");
+            }
+
+            final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
+            return session.run(Collections.singletonMap("input", inputTensor));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Blocks until model runs in progress are finished, so should not be called on event loop.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                closed = true;
+                session.close();
+            }
+        } catch (OrtException e) {
+            logger.error("Failed to close ONNX model session", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 }
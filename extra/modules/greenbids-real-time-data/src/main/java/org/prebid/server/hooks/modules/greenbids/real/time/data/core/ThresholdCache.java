@@ -2,10 +2,8 @@ package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
@@ -13,44 +11,47 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ThresholdCache {
 
     private static final Logger logger = LoggerFactory.getLogger(ThresholdCache.class);
 
-    private final String gcsBucketName;
+    private final ArtefactStorage storage;
 
     private final Cache<String, ThrottlingThresholds> cache;
 
-    private final Storage storage;
-
     private final ObjectMapper mapper;
 
     private final String thresholdsCacheKeyPrefix;
 
-    private final AtomicBoolean isFetching;
-
     private final Vertx vertx;
 
     private final ThrottlingThresholdsFactory throttlingThresholdsFactory;
 
+    private final Map<String, Future<ThrottlingThresholds>> inFlightFetches = new ConcurrentHashMap<>();
+
+    private final Cache<String, ThrottlingThresholds> previousThresholds;
+
+    /**
+     * {@code previousThresholds} keeps the last fetched thresholds per key to be served while expired thresholds are
+     * being refetched, it should expire later than {@code cache}.
+     */
     public ThresholdCache(
-            Storage storage,
-            String gcsBucketName,
+            ArtefactStorage storage,
             ObjectMapper mapper,
             Cache<String, ThrottlingThresholds> cache,
+            Cache<String, ThrottlingThresholds> previousThresholds,
             String thresholdsCacheKeyPrefix,
             Vertx vertx,
             ThrottlingThresholdsFactory throttlingThresholdsFactory) {
-        this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
-        this.cache = Objects.requireNonNull(cache);
         this.storage = Objects.requireNonNull(storage);
+        this.cache = Objects.requireNonNull(cache);
+        this.previousThresholds = Objects.requireNonNull(previousThresholds);
         this.mapper = Objects.requireNonNull(mapper);
         this.thresholdsCacheKeyPrefix = Objects.requireNonNull(thresholdsCacheKeyPrefix);
-        this.isFetching = new AtomicBoolean(false);
         this.vertx = Objects.requireNonNull(vertx);
         this.throttlingThresholdsFactory = Objects.requireNonNull(throttlingThresholdsFactory);
     }
@@ -63,37 +64,40 @@ public class ThresholdCache {
             return Future.succeededFuture(cachedThrottlingThresholds);
         }
 
-        if (isFetching.compareAndSet(false, true)) {
-            try {
-                return fetchAndCacheThrottlingThresholds(thresholdJsonPath, cacheKey);
-            } finally {
-                isFetching.set(false);
-            }
-        }
+        final Future<ThrottlingThresholds> fetch = fetchOnce(thresholdJsonPath, cacheKey);
 
-        return Future.failedFuture("ThrottlingThresholds fetching in progress. Skip current request");
+        // while expired thresholds are being refreshed, keep serving the previous ones
+        final ThrottlingThresholds previous = previousThresholds.getIfPresent(cacheKey);
+        return previous != null ? Future.succeededFuture(previous) : fetch;
     }
 
-    private Future<ThrottlingThresholds> fetchAndCacheThrottlingThresholds(String thresholdJsonPath, String cacheKey) {
-        return vertx.executeBlocking(() -> getBlob(thresholdJsonPath))
-                .map(this::loadThrottlingThresholds)
-                .onSuccess(thresholds -> cache.put(cacheKey, thresholds))
-                .onFailure(error -> logger.error("Failed to fetch thresholds"));
+    private Future<ThrottlingThresholds> fetchOnce(String thresholdJsonPath, String cacheKey) {
+        final Promise<ThrottlingThresholds> promise = Promise.promise();
+        final Future<ThrottlingThresholds> inFlightFetch = inFlightFetches.putIfAbsent(cacheKey, promise.future());
+        if (inFlightFetch != null) {
+            return inFlightFetch;
+        }
+
+        fetchAndCacheThrottlingThresholds(thresholdJsonPath, cacheKey)
+                .onComplete(result -> {
+                    inFlightFetches.remove(cacheKey);
+                    promise.handle(result);
+                });
+
+        return promise.future();
     }
 
-    private Blob getBlob(String thresholdJsonPath) {
-        try {
-            return Optional.ofNullable(storage.get(gcsBucketName))
-                    .map(bucket -> bucket.get(thresholdJsonPath))
-                    .orElseThrow(() -> new PreBidException("Bucket not found: " + gcsBucketName));
-        } catch (StorageException e) {
-            throw new PreBidException("Error accessing GCS artefact for threshold: ", e);
-        }
+    private Future<ThrottlingThresholds> fetchAndCacheThrottlingThresholds(String thresholdJsonPath, String cacheKey) {
+        return vertx.executeBlocking(() -> loadThrottlingThresholds(storage.read(thresholdJsonPath)))
+                .onSuccess(thresholds -> {
+                    cache.put(cacheKey, thresholds);
+                    previousThresholds.put(cacheKey, thresholds);
+                })
+                .onFailure(error -> logger.error("Failed to fetch thresholds", error));
     }
 
-    private ThrottlingThresholds loadThrottlingThresholds(Blob blob) {
+    private ThrottlingThresholds loadThrottlingThresholds(byte[] jsonBytes) {
         try {
-            final byte[] jsonBytes = blob.getContent();
             return throttlingThresholdsFactory.create(jsonBytes, mapper);
         } catch (IOException e) {
             throw new PreBidException("Failed to load throttling thresholds json", e);
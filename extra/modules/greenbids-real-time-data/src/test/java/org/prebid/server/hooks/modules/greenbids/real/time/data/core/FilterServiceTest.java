@@ -5,6 +5,9 @@ import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.TensorInfo;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -22,7 +25,6 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -44,7 +46,15 @@ public class FilterServiceTest {
     @Mock
     private OnnxValue onnxValue;
 
-    private final FilterService target = new FilterService();
+    @Mock
+    private Vertx vertx;
+
+    private FilterService target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new FilterService(new OnnxInferenceBatcher(vertx, 0L, 256));
+    }
 
     @Test
     public void filterBiddersShouldReturnFilteredBiddersWhenValidThrottlingMessagesProvided()
@@ -56,7 +66,7 @@ public class FilterServiceTest {
 
         // when
         final Map<String, Map<String, Boolean>> impsBiddersFilterMap = target.filterBidders(
-                onnxModelRunner, throttlingMessages, threshold);
+                onnxModelRunner, throttlingMessages, threshold).result();
 
         // then
         assertThat(impsBiddersFilterMap).isNotNull();
@@ -72,10 +82,15 @@ public class FilterServiceTest {
         final Double threshold = 0.5;
 
         when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createInvalidOnnxItem()).spliterator());
+        when(results.iterator()).thenReturn(Arrays.asList(createInvalidOnnxItem()).iterator());
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunnerMock, throttlingMessages, threshold);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("Expected OnnxTensor for 'probabilities', but found");
     }
@@ -89,8 +104,13 @@ public class FilterServiceTest {
         when(onnxModelRunnerMock.runModel(any(String[][].class)))
                 .thenThrow(new OrtException("Exception during runModel"));
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunnerMock, throttlingMessages, threshold);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("Exception during model inference");
     }
@@ -101,8 +121,13 @@ public class FilterServiceTest {
         final List<ThrottlingMessage> throttlingMessages = Collections.emptyList();
         final Double threshold = 0.5;
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunnerMock, throttlingMessages, threshold);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("throttlingMessages cannot be null or empty");
     }
@@ -114,12 +139,17 @@ public class FilterServiceTest {
         final Double threshold = 0.5;
 
         when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createOnnxItem()).spliterator());
+        when(results.iterator()).thenReturn(Arrays.asList(createOnnxItem()).iterator());
         when(onnxTensor.getInfo()).thenReturn(tensorInfo);
         when(tensorInfo.getShape()).thenReturn(new long[]{0});
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunnerMock, throttlingMessages, threshold);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("Mismatch between tensor size and throttlingMessages size");
     }
@@ -0,0 +1,33 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.exception.PreBidException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LocalArtefactStorageTest {
+
+    private final LocalArtefactStorage target = new LocalArtefactStorage(Path.of("src/test/resources"));
+
+    @Test
+    public void readShouldReturnFileContentRelativeToDirectory() throws IOException {
+        // when
+        final byte[] result = target.read("thresholds_pbuid=test-pbuid.json");
+
+        // then
+        assertThat(result).isEqualTo(Files.readAllBytes(Path.of("src/test/resources/thresholds_pbuid=test-pbuid.json")));
+    }
+
+    @Test
+    public void readShouldFailWhenFileIsMissing() {
+        // when and then
+        assertThatThrownBy(() -> target.read("unknown.onnx"))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Error accessing local artefact: unknown.onnx");
+    }
+}
@@ -2,73 +2,80 @@ package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OrtException;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Bucket;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageException;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import com.google.cloud.storage.Blob;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
 
-import java.lang.reflect.Field;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ModelCacheTest {
 
-    private static final String GCS_BUCKET_NAME = "test_bucket";
     private static final String MODEL_CACHE_KEY_PREFIX = "onnxModelRunner_";
     private static final String PBUUID = "test-pbuid";
     private static final String ONNX_MODEL_PATH = "model.onnx";
+    private static final String CACHE_KEY = MODEL_CACHE_KEY_PREFIX + PBUUID;
 
     @Mock
     private Cache<String, OnnxModelRunner> cache;
 
-    @Mock(strictness = LENIENT)
-    private Storage storage;
-
-    @Mock(strictness = LENIENT)
-    private Bucket bucket;
-
-    @Mock(strictness = LENIENT)
-    private Blob blob;
+    @Mock
+    private ArtefactStorage storage;
 
     @Mock
     private OnnxModelRunner onnxModelRunner;
 
-    @Mock(strictness = LENIENT)
+    @Mock
     private OnnxModelRunnerFactory onnxModelRunnerFactory;
 
-    @Mock
-    private ModelCache target;
+    private Cache<String, OnnxModelRunner> previousModelRunners;
 
     private Vertx vertx;
 
+    private ModelCache target;
+
     @BeforeEach
     public void setUp() {
         vertx = Vertx.vertx();
+        previousModelRunners = Caffeine.newBuilder().build();
         target = new ModelCache(
-                storage, GCS_BUCKET_NAME, cache, MODEL_CACHE_KEY_PREFIX, vertx, onnxModelRunnerFactory);
+                storage,
+                cache,
+                previousModelRunners,
+                MODEL_CACHE_KEY_PREFIX,
+                vertx,
+                onnxModelRunnerFactory);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
     }
 
     @Test
     public void getShouldReturnModelFromCacheWhenPresent() {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(onnxModelRunner);
+        when(cache.getIfPresent(eq(CACHE_KEY))).thenReturn(onnxModelRunner);
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
@@ -76,116 +83,113 @@ public class ModelCacheTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(onnxModelRunner);
-        verify(cache).getIfPresent(eq(cacheKey));
+        verify(cache).getIfPresent(eq(CACHE_KEY));
     }
 
     @Test
-    public void getShouldSkipFetchingWhenFetchingInProgress() throws NoSuchFieldException, IllegalAccessException {
+    public void getShouldFetchModelWhenNotInCache() throws Exception {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
+        final byte[] bytes = new byte[]{1, 2, 3};
+        given(storage.read(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner);
 
-        final ModelCache spyModelCache = spy(target);
-        final AtomicBoolean mockFetchingState = mock(AtomicBoolean.class);
+        // when
+        final OnnxModelRunner result = await(target.get(ONNX_MODEL_PATH, PBUUID));
 
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(mockFetchingState.compareAndSet(false, true)).thenReturn(false);
-        final Field isFetchingField = ModelCache.class.getDeclaredField("isFetching");
-        isFetchingField.setAccessible(true);
-        isFetchingField.set(spyModelCache, mockFetchingState);
+        // then
+        assertThat(result).isEqualTo(onnxModelRunner);
+        verify(cache).put(eq(CACHE_KEY), eq(onnxModelRunner));
+    }
+
+    @Test
+    public void getShouldFetchModelOnceForConcurrentRequests() throws Exception {
+        // given
+        final byte[] bytes = new byte[]{1, 2, 3};
+        final CountDownLatch storageLatch = new CountDownLatch(1);
+        given(storage.read(ONNX_MODEL_PATH)).willAnswer(invocation -> {
+            storageLatch.await(1, TimeUnit.SECONDS);
+            return bytes;
+        });
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner);
 
         // when
-        final Future<OnnxModelRunner> result = spyModelCache.get(ONNX_MODEL_PATH, PBUUID);
+        final Future<OnnxModelRunner> first = target.get(ONNX_MODEL_PATH, PBUUID);
+        final Future<OnnxModelRunner> second = target.get(ONNX_MODEL_PATH, PBUUID);
+        storageLatch.countDown();
 
         // then
-        assertThat(result.failed()).isTrue();
-        assertThat(result.cause().getMessage()).isEqualTo(
-                "ModelRunner fetching in progress. Skip current request");
+        assertThat(await(first)).isEqualTo(onnxModelRunner);
+        assertThat(await(second)).isEqualTo(onnxModelRunner);
+        verify(storage, times(1)).read(ONNX_MODEL_PATH);
     }
 
     @Test
-    public void getShouldFetchModelWhenNotInCache() throws OrtException {
+    public void getShouldReturnPreviousModelWhileExpiredModelIsRefetched() throws Exception {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
         final byte[] bytes = new byte[]{1, 2, 3};
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(ONNX_MODEL_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(onnxModelRunnerFactory.create(bytes)).thenReturn(onnxModelRunner);
+        given(storage.read(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner);
+        await(target.get(ONNX_MODEL_PATH, PBUUID));
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.succeeded()).isTrue();
-            assertThat(ar.result()).isEqualTo(onnxModelRunner);
-            verify(cache).put(eq(cacheKey), eq(onnxModelRunner));
-        });
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(onnxModelRunner);
     }
 
     @Test
-    public void getShouldThrowExceptionWhenStorageFails() {
+    public void getShouldReplacePreviousModelWithRefetchedOne() throws Exception {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenThrow(new StorageException(500, "Storage Error"));
+        final byte[] bytes = new byte[]{1, 2, 3};
+        final OnnxModelRunner refetchedOnnxModelRunner = mock(OnnxModelRunner.class);
+        given(storage.read(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner, refetchedOnnxModelRunner);
+        await(target.get(ONNX_MODEL_PATH, PBUUID));
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Error accessing GCS artefact for model");
-        });
+        assertThat(future.result()).isEqualTo(onnxModelRunner);
+        verify(cache, timeout(1000)).put(eq(CACHE_KEY), eq(refetchedOnnxModelRunner));
+        assertThat(previousModelRunners.getIfPresent(CACHE_KEY)).isEqualTo(refetchedOnnxModelRunner);
     }
 
     @Test
-    public void getShouldThrowExceptionWhenOnnxModelFails() throws OrtException {
+    public void getShouldFailWhenStorageFails() {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
-        final byte[] bytes = new byte[]{1, 2, 3};
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(ONNX_MODEL_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(onnxModelRunnerFactory.create(bytes)).thenThrow(
-                new OrtException("Failed to convert blob to ONNX model"));
+        given(storage.read(ONNX_MODEL_PATH)).willThrow(new PreBidException("Error accessing GCS artefact"));
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.failed()).isTrue();
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Failed to convert blob to ONNX model");
-        });
+        assertThatThrownBy(() -> await(future))
+                .hasCauseInstanceOf(PreBidException.class)
+                .hasMessageContaining("Error accessing GCS artefact");
     }
 
     @Test
-    public void getShouldThrowExceptionWhenBucketNotFound() {
+    public void getShouldFailWhenOnnxModelFails() throws OrtException {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(ONNX_MODEL_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenThrow(new PreBidException("Bucket not found"));
+        final byte[] bytes = new byte[]{1, 2, 3};
+        given(storage.read(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willThrow(new OrtException("Invalid model"));
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.failed()).isTrue();
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Bucket not found");
-        });
+        assertThatThrownBy(() -> await(future))
+                .hasCauseInstanceOf(PreBidException.class)
+                .hasMessageContaining("Failed to convert blob to ONNX model");
     }
 
+    private static <T> T await(Future<T> future)
+            throws ExecutionException, InterruptedException, TimeoutException {
+
+        return future.toCompletionStage().toCompletableFuture().get(1, TimeUnit.SECONDS);
+    }
 }
@@ -0,0 +1,117 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class OnnxInferenceBatcherTest {
+
+    private static final String[] CHROME_ROW = {
+            "Chrome 59", "rubicon", "adunitcodevalue", "US", "www.leparisien.fr", "PC", "10", "1"};
+    private static final String[] FIREFOX_ROW = {
+            "Firefox", "appnexus", "adunitcodevalue", "FR", "www.lesechos.fr", "Mobile", "11", "2"};
+
+    private Vertx vertx;
+
+    private OnnxModelRunner onnxModelRunner;
+
+    @BeforeEach
+    public void setUp() throws OrtException, IOException {
+        vertx = Vertx.vertx();
+        onnxModelRunner = spy(new OnnxModelRunner(Files.readAllBytes(Paths.get(
+                "src/test/resources/models_pbuid=test-pbuid.onnx"))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void predictShouldRunModelInPlaceWhenBatchWindowIsNotPositive() throws OrtException {
+        // given
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(vertx, 0L, 256);
+
+        // when
+        final Future<float[][]> result = target.predict(onnxModelRunner, new String[][]{CHROME_ROW});
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).hasDimensions(1, 2);
+        verify(onnxModelRunner).runModel(any());
+    }
+
+    @Test
+    public void predictShouldRunRequestsWithinWindowAsSingleBatchAndScatterResults() throws Exception {
+        // given
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(vertx, 50L, 256);
+        final float[][] expectedChrome = new OnnxInferenceBatcher(vertx, 0L, 256)
+                .predict(onnxModelRunner, new String[][]{CHROME_ROW}).result();
+        final float[][] expectedFirefox = new OnnxInferenceBatcher(vertx, 0L, 256)
+                .predict(onnxModelRunner, new String[][]{FIREFOX_ROW, CHROME_ROW}).result();
+
+        // when
+        final Future<float[][]> first = target.predict(onnxModelRunner, new String[][]{CHROME_ROW});
+        final Future<float[][]> second = target.predict(onnxModelRunner, new String[][]{FIREFOX_ROW, CHROME_ROW});
+
+        // then
+        assertThat(await(first)).isDeepEqualTo(expectedChrome);
+        assertThat(await(second)).isDeepEqualTo(expectedFirefox);
+        verify(onnxModelRunner, times(3)).runModel(any());
+    }
+
+    @Test
+    public void predictShouldRunBatchWithoutWaitingForWindowWhenMaxBatchSizeIsReached() throws Exception {
+        // given
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(vertx, 60_000L, 2);
+
+        // when
+        final Future<float[][]> first = target.predict(onnxModelRunner, new String[][]{CHROME_ROW});
+        final Future<float[][]> second = target.predict(onnxModelRunner, new String[][]{FIREFOX_ROW});
+
+        // then
+        assertThat(await(first)).hasDimensions(1, 2);
+        assertThat(await(second)).hasDimensions(1, 2);
+        verify(onnxModelRunner).runModel(any());
+    }
+
+    @Test
+    public void predictShouldFailAllRequestsOfBatchWhenInferenceFails() {
+        // given
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(vertx, 10L, 256);
+        final String[] invalidRow = {"Chrome 59", "adunitcodevalue", "US"};
+
+        // when
+        final Future<float[][]> first = target.predict(onnxModelRunner, new String[][]{CHROME_ROW});
+        final Future<float[][]> second = target.predict(onnxModelRunner, new String[][]{invalidRow});
+
+        // then
+        assertThat(awaitFailure(first)).hasMessageContaining("Exception during model inference");
+        assertThat(awaitFailure(second)).hasMessageContaining("Exception during model inference");
+    }
+
+    private static float[][] await(Future<float[][]> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(1, TimeUnit.SECONDS);
+    }
+
+    private static Throwable awaitFailure(Future<float[][]> future) {
+        return future.toCompletionStage().toCompletableFuture()
+                .handle((result, throwable) -> throwable)
+                .orTimeout(1, TimeUnit.SECONDS)
+                .join();
+    }
+}
@@ -65,6 +65,19 @@ public class OnnxModelRunnerTest {
                 .isInstanceOf(OrtException.class);
     }
 
+    @Test
+    public void runModelShouldThrowOrtExceptionWhenClosed() {
+        // given
+        final String[][] throttlingInferenceRow = {{
+                        "Chrome 59", "rubicon", "adunitcodevalue", "US", "www.leparisien.fr", "PC", "10", "1"}};
+        target.close();
+
+        // when & then
+        assertThatThrownBy(() -> target.runModel(throttlingInferenceRow))
+                .isInstanceOf(OrtException.class)
+                .hasMessageContaining("ONNX model session is closed");
+    }
+
     private OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
         final byte[] onnxModelBytes = Files.readAllBytes(Paths.get(
                 "src/test/resources/models_pbuid=test-pbuid.onnx"));
@@ -1,12 +1,10 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.Bucket;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageException;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,42 +15,38 @@ import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.Thr
 import org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mock.Strictness.LENIENT;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ThresholdCacheTest {
 
-    private static final String GCS_BUCKET_NAME = "test_bucket";
     private static final String THRESHOLD_CACHE_KEY_PREFIX = "onnxModelRunner_";
     private static final String PBUUID = "test-pbuid";
     private static final String THRESHOLDS_PATH = "thresholds.json";
+    private static final String CACHE_KEY = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
 
     @Mock
     private Cache<String, ThrottlingThresholds> cache;
 
-    @Mock(strictness = LENIENT)
-    private Storage storage;
-
-    @Mock(strictness = LENIENT)
-    private Bucket bucket;
-
-    @Mock(strictness = LENIENT)
-    private Blob blob;
+    @Mock
+    private ArtefactStorage storage;
 
     @Mock
     private ThrottlingThresholds throttlingThresholds;
 
-    @Mock(strictness = LENIENT)
+    @Mock
     private ThrottlingThresholdsFactory throttlingThresholdsFactory;
 
     private Vertx vertx;
@@ -64,19 +58,23 @@ public class ThresholdCacheTest {
         vertx = Vertx.vertx();
         target = new ThresholdCache(
                 storage,
-                GCS_BUCKET_NAME,
                 TestBidRequestProvider.MAPPER,
                 cache,
+                Caffeine.newBuilder().build(),
                 THRESHOLD_CACHE_KEY_PREFIX,
                 vertx,
                 throttlingThresholdsFactory);
     }
 
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
     @Test
     public void getShouldReturnThresholdsFromCacheWhenPresent() {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(throttlingThresholds);
+        when(cache.getIfPresent(eq(CACHE_KEY))).thenReturn(throttlingThresholds);
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
@@ -84,115 +82,99 @@ public class ThresholdCacheTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(throttlingThresholds);
-        verify(cache).getIfPresent(eq(cacheKey));
+        verify(cache).getIfPresent(eq(CACHE_KEY));
     }
 
     @Test
-    public void getShouldSkipFetchingWhenFetchingInProgress() throws NoSuchFieldException, IllegalAccessException {
+    public void getShouldFetchThresholdsWhenNotInCache() throws Exception {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-
-        final ThresholdCache spyThresholdCache = spy(target);
-        final AtomicBoolean mockFetchingState = mock(AtomicBoolean.class);
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(mockFetchingState.compareAndSet(false, true)).thenReturn(false);
-
-        final Field isFetchingField = ThresholdCache.class.getDeclaredField("isFetching");
-        isFetchingField.setAccessible(true);
-        isFetchingField.set(spyThresholdCache, mockFetchingState);
+        final byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+        given(storage.read(THRESHOLDS_PATH)).willReturn(bytes);
+        given(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
+                .willReturn(throttlingThresholds);
 
         // when
-        final Future<ThrottlingThresholds> result = spyThresholdCache.get(THRESHOLDS_PATH, PBUUID);
+        final ThrottlingThresholds result = await(target.get(THRESHOLDS_PATH, PBUUID));
 
         // then
-        assertThat(result.failed()).isTrue();
-        assertThat(result.cause().getMessage()).isEqualTo(
-                "ThrottlingThresholds fetching in progress. Skip current request");
+        assertThat(result).isEqualTo(throttlingThresholds);
+        verify(cache).put(eq(CACHE_KEY), eq(throttlingThresholds));
     }
 
     @Test
-    public void getShouldFetchThresholdsWhenNotInCache() throws IOException {
+    public void getShouldFetchThresholdsOnceForConcurrentRequests() throws Exception {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        final String jsonContent = "test_json_content";
-        final byte[] bytes = jsonContent.getBytes(StandardCharsets.UTF_8);
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(THRESHOLDS_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
-                .thenReturn(throttlingThresholds);
+        final byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+        final CountDownLatch storageLatch = new CountDownLatch(1);
+        given(storage.read(THRESHOLDS_PATH)).willAnswer(invocation -> {
+            storageLatch.await(1, TimeUnit.SECONDS);
+            return bytes;
+        });
+        given(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
+                .willReturn(throttlingThresholds);
 
         // when
-        final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
+        final Future<ThrottlingThresholds> first = target.get(THRESHOLDS_PATH, PBUUID);
+        final Future<ThrottlingThresholds> second = target.get(THRESHOLDS_PATH, PBUUID);
+        storageLatch.countDown();
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.succeeded()).isTrue();
-            assertThat(ar.result()).isEqualTo(throttlingThresholds);
-            verify(cache).put(eq(cacheKey), eq(throttlingThresholds));
-        });
+        assertThat(await(first)).isEqualTo(throttlingThresholds);
+        assertThat(await(second)).isEqualTo(throttlingThresholds);
+        verify(storage, times(1)).read(THRESHOLDS_PATH);
     }
 
     @Test
-    public void getShouldThrowExceptionWhenStorageFails() {
+    public void getShouldReturnPreviousThresholdsWhileExpiredThresholdsAreRefetched() throws Exception {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenThrow(new StorageException(500, "Storage Error"));
+        final byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+        given(storage.read(THRESHOLDS_PATH)).willReturn(bytes);
+        given(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
+                .willReturn(throttlingThresholds);
+        await(target.get(THRESHOLDS_PATH, PBUUID));
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Error accessing GCS artefact for threshold");
-        });
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(throttlingThresholds);
     }
 
     @Test
-    public void getShouldThrowExceptionWhenLoadingJsonFails() throws IOException {
+    public void getShouldFailWhenStorageFails() {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        final String jsonContent = "test_json_content";
-        final byte[] bytes = jsonContent.getBytes(StandardCharsets.UTF_8);
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(THRESHOLDS_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER)).thenThrow(
-                new IOException("Failed to load throttling thresholds json"));
+        given(storage.read(THRESHOLDS_PATH)).willThrow(new PreBidException("Error accessing GCS artefact"));
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Failed to load throttling thresholds json");
-        });
+        assertThatThrownBy(() -> await(future))
+                .hasCauseInstanceOf(PreBidException.class)
+                .hasMessageContaining("Error accessing GCS artefact");
     }
 
     @Test
-    public void getShouldThrowExceptionWhenBucketNotFound() {
+    public void getShouldFailWhenLoadingJsonFails() throws IOException {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(THRESHOLDS_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenThrow(new PreBidException("Bucket not found"));
+        final byte[] bytes = "test_json_content".getBytes(StandardCharsets.UTF_8);
+        given(storage.read(THRESHOLDS_PATH)).willReturn(bytes);
+        given(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
+                .willThrow(new IOException("Unexpected token"));
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.failed()).isTrue();
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Bucket not found");
-        });
+        assertThatThrownBy(() -> await(future))
+                .hasCauseInstanceOf(PreBidException.class)
+                .hasMessageContaining("Failed to load throttling thresholds json");
+    }
+
+    private static <T> T await(Future<T> future)
+            throws ExecutionException, InterruptedException, TimeoutException {
+
+        return future.toCompletionStage().toCompletableFuture().get(1, TimeUnit.SECONDS);
     }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import com.iab.openrtb.request.Banner;
@@ -32,11 +33,14 @@ import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
 import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.config.DatabaseReaderFactory;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactStorage;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GcsArtefactStorage;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ThresholdCache;
@@ -113,23 +117,25 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         when(databaseReader.country(any(InetAddress.class))).thenReturn(countryResponse);
         when(databaseReaderFactory.getDatabaseReader()).thenReturn(databaseReader);
 
-        final FilterService filterService = new FilterService();
+        final Vertx vertx = Vertx.vertx();
+        final FilterService filterService = new FilterService(new OnnxInferenceBatcher(vertx, 0L, 256));
+        final ArtefactStorage artefactStorage = new GcsArtefactStorage(storage, "test_bucket");
         final OnnxModelRunnerFactory onnxModelRunnerFactory = new OnnxModelRunnerFactory();
         final ThrottlingThresholdsFactory throttlingThresholdsFactory = new ThrottlingThresholdsFactory();
         final ModelCache modelCache = new ModelCache(
-                storage,
-                "test_bucket",
+                artefactStorage,
                 modelCacheWithExpiration,
+                Caffeine.newBuilder().build(),
                 "onnxModelRunner_",
-                Vertx.vertx(),
+                vertx,
                 onnxModelRunnerFactory);
         final ThresholdCache thresholdCache = new ThresholdCache(
-                storage,
-                "test_bucket",
+                artefactStorage,
                 TestBidRequestProvider.MAPPER,
                 thresholdsCacheWithExpiration,
+                Caffeine.newBuilder().build(),
                 "throttlingThresholds_",
-                Vertx.vertx(),
+                vertx,
                 throttlingThresholdsFactory);
         final OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds = new OnnxModelRunnerWithThresholds(
                 modelCache,
@@ -0,0 +1,24 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps {@link CompiledAccountConfig} for every module account configuration in use.
+ * <p>
+ * Entries are keyed by identity of the configuration node and held weakly, so a configuration is compiled once
+ * while the account that owns it stays in the settings cache and is dropped together with that account version.
+ */
+public class AccountConfigCache {
+
+    private final Cache<ObjectNode, CompiledAccountConfig> compiledConfigs = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public CompiledAccountConfig get(ObjectNode accountConfig) {
+        return accountConfig != null
+                ? compiledConfigs.get(accountConfig, CompiledAccountConfig::compile)
+                : CompiledAccountConfig.compile(null);
+    }
+}
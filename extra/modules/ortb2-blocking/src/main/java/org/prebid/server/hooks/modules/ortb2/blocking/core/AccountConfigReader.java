@@ -1,18 +1,14 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.SetUtils;
-import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.model.BidderBid;
-import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.AttributeConfig;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.OverrideResult;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BidAttributeBlockingConfig;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ResponseBlockingConfig;
@@ -20,7 +16,6 @@ import org.prebid.server.hooks.modules.ortb2.blocking.core.model.Result;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.util.MergeUtils;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.util.ObjectUtil;
-import org.prebid.server.util.StreamUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -28,13 +23,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class AccountConfigReader {
 
-    private static final String ATTRIBUTES_FIELD = "attributes";
     private static final String BADV_FIELD = "badv";
     private static final String BCAT_FIELD = "bcat";
     private static final String BAPP_FIELD = "bapp";
@@ -57,24 +51,22 @@ public class AccountConfigReader {
     private static final String ALLOWED_BANNER_ATTR_FOR_DEALS = "allowed-banner-attr-for-deals";
     private static final String ALLOWED_VIDEO_ATTR_FOR_DEALS = "allowed-video-attr-for-deals";
     private static final String ALLOWED_AUDIO_ATTR_FOR_DEALS = "allowed-audio-attr-for-deals";
-    private static final String ACTION_OVERRIDES_FIELD = "action-overrides";
-    private static final String OVERRIDE_FIELD = "override";
-    private static final String CONDITIONS_FIELD = "conditions";
-    private static final String BIDDERS_FIELD = "bidders";
-    private static final String MEDIA_TYPE_FIELD = "media-type";
-    private static final String DEALIDS_FIELD = "deal-ids";
 
     private static final String AUDIO_MEDIA_TYPE = "audio";
     private static final String VIDEO_MEDIA_TYPE = "video";
     private static final String BANNER_MEDIA_TYPE = "banner";
     private static final String NATIVE_MEDIA_TYPE = "native";
 
-    private final ObjectNode config;
+    private final CompiledAccountConfig config;
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
 
-    private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
+    private AccountConfigReader(CompiledAccountConfig config,
+                                String bidder,
+                                OrtbVersion ortbVersion,
+                                boolean debugEnabled) {
+
         this.config = config;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
@@ -86,11 +78,19 @@ public class AccountConfigReader {
                                              OrtbVersion ortbVersion,
                                              boolean debugEnabled) {
 
-        return new AccountConfigReader(config, bidder, ortbVersion, debugEnabled);
+        return create(CompiledAccountConfig.compile(config), bidder, ortbVersion, debugEnabled);
+    }
+
+    public static AccountConfigReader create(CompiledAccountConfig config,
+                                             String bidder,
+                                             OrtbVersion ortbVersion,
+                                             boolean debugEnabled) {
+
+        return new AccountConfigReader(Objects.requireNonNull(config), bidder, ortbVersion, debugEnabled);
     }
 
     public Result<BlockedAttributes> blockedAttributesFor(BidRequest bidRequest) {
-        if (attributes() == null) {
+        if (!config.hasAttributes()) {
             return Result.empty();
         }
 
@@ -186,16 +186,14 @@ public class AccountConfigReader {
                                                  String fieldName,
                                                  Set<String> actualMediaTypes) {
 
-        final JsonNode attributeConfig = attributeConfig(attribute);
+        final AttributeConfig attributeConfig = config.attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
         }
 
-        final Result<JsonNode> override = overrideFor(attributeConfig, actualMediaTypes, fieldName);
-
-        final List<T> result = overrideArrayAttribute(attributeConfig, override.getValue(), attributeType, fieldName);
-
-        return Result.of(result, override.getMessages());
+        return toResult(
+                attributeConfig.arrayField(fieldName, attributeType, bidder, actualMediaTypes),
+                actualMediaTypes);
     }
 
     private Result<Integer> blockedCattaxComplement(BidRequest bidRequest) {
@@ -210,17 +208,8 @@ public class AccountConfigReader {
     }
 
     private Integer blockedCattaxComplementFromConfig() {
-        final JsonNode config = attributeConfig(BCAT_FIELD);
-        if (config == null) {
-            return null;
-        }
-
-        final JsonNode blockedCattaxComplementNode = config.get(CATEGORY_TAXONOMY_FIELD);
-        if (blockedCattaxComplementNode == null) {
-            return null;
-        }
-
-        return typedAs(blockedCattaxComplementNode, Integer.class, CATEGORY_TAXONOMY_FIELD);
+        final AttributeConfig attributeConfig = config.attributeConfig(BCAT_FIELD);
+        return attributeConfig != null ? attributeConfig.field(CATEGORY_TAXONOMY_FIELD, Integer.class) : null;
     }
 
     private <T> Result<Map<String, List<T>>> blockedAttributesForImps(String attribute,
@@ -279,34 +268,29 @@ public class AccountConfigReader {
                                                                                  Set<String> bidMediaTypes,
                                                                                  String dealid) {
 
-        final JsonNode attributeConfig = attributeConfig(attribute);
+        final AttributeConfig attributeConfig = config.attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
         }
 
-        final Result<JsonNode> enforceBlocksOverrideResult = overrideFor(
-                attributeConfig, bidMediaTypes, ENFORCE_BLOCKS_FIELD);
-        final boolean enforceBlocks = mergeBoolean(
-                attributeConfig, enforceBlocksOverrideResult.getValue(), ENFORCE_BLOCKS_FIELD);
+        final Result<Boolean> enforceBlocksResult = toResult(
+                attributeConfig.booleanField(ENFORCE_BLOCKS_FIELD, bidder, bidMediaTypes),
+                bidMediaTypes);
+        final boolean enforceBlocks = enforceBlocksResult.getValue();
 
         // for attributes that don't support blocking bids with unknown values
-        final Result<JsonNode> blockUnknownOverrideResult = blockUnknownField != null
-                ? overrideFor(attributeConfig, bidMediaTypes, blockUnknownField)
+        final Result<Boolean> blockUnknownResult = blockUnknownField != null
+                ? toResult(attributeConfig.booleanField(blockUnknownField, bidder, bidMediaTypes), bidMediaTypes)
                 : Result.empty();
-        final boolean blockUnknown = blockUnknownField != null
-                && mergeBoolean(attributeConfig, blockUnknownOverrideResult.getValue(), blockUnknownField);
+        final boolean blockUnknown = blockUnknownField != null && blockUnknownResult.getValue();
 
         final Set<T> dealExceptions = StringUtils.isNotBlank(dealid)
-                ? mergeDealExceptions(
-                attributeConfig,
-                dealExceptionsFor(attributeConfig, dealid, allowedForDealsField),
-                attributeType,
-                allowedForDealsField)
+                ? attributeConfig.dealExceptions(allowedForDealsField, attributeType, dealid)
                 : Collections.emptySet();
 
         final BidAttributeBlockingConfig<T> blockingConfig = BidAttributeBlockingConfig.of(
                 enforceBlocks, blockUnknown, dealExceptions);
-        final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksOverrideResult, blockUnknownOverrideResult);
+        final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksResult, blockUnknownResult);
 
         return Result.of(blockingConfig, warnings);
     }
@@ -331,17 +315,6 @@ public class AccountConfigReader {
                 : Result.empty();
     }
 
-    private JsonNode attributes() {
-        return config != null ? objectNodeFrom(config, ATTRIBUTES_FIELD) : null;
-    }
-
-    private JsonNode attributeConfig(String attribute) {
-        final JsonNode attributes = attributes();
-
-        return attributes != null ? objectNodeFrom(attributes, attribute) : null;
-
-    }
-
     private static Set<String> mediaTypesFrom(BidRequest bidRequest) {
         return bidRequest.getImp().stream()
                 .flatMap(imp -> mediaTypesFrom(imp).stream())
@@ -371,58 +344,14 @@ public class AccountConfigReader {
         return Collections.singleton(bidderBid.getType().getName());
     }
 
-    private Result<JsonNode> overrideFor(JsonNode parent, Set<String> actualMediaTypes, String field) {
-        final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
-        final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
-        if (overridesForField == null) {
-            return Result.empty();
-        }
-
-        final List<JsonNode> specificBidderResults = new ArrayList<>();
-        final List<JsonNode> catchAllBidderResults = new ArrayList<>();
-
-        for (final JsonNode override : overridesForField) {
-            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
-            final List<String> bidders = typedArrayFrom(conditions, String.class, BIDDERS_FIELD);
-            final List<String> mediaTypes = typedArrayFrom(conditions, String.class, MEDIA_TYPE_FIELD);
-
-            if (bidders == null && mediaTypes == null) {
-                throw new InvalidAccountConfigurationException(
-                        "%s field in account configuration must contain at least one of %s or %s".formatted(
-                                CONDITIONS_FIELD,
-                                BIDDERS_FIELD,
-                                MEDIA_TYPE_FIELD));
-            }
-
-            final boolean catchAllBidders = bidders == null;
-            final boolean matchesBidder = catchAllBidders || bidders.contains(bidder);
-            final boolean matchesMediaTypes = mediaTypes == null || !Collections.disjoint(mediaTypes, actualMediaTypes);
-
-            if (matchesBidder && matchesMediaTypes) {
-                final JsonNode actions = requireNonNull(override.get(OVERRIDE_FIELD), OVERRIDE_FIELD);
-
-                final List<JsonNode> results = catchAllBidders ? catchAllBidderResults : specificBidderResults;
-                results.add(actions);
-            }
-        }
-
-        return toResult(specificBidderResults, catchAllBidderResults, actualMediaTypes);
-    }
-
-    private Result<JsonNode> toResult(List<JsonNode> specificBidderResults,
-                                      List<JsonNode> catchAllBidderResults,
-                                      Set<String> actualMediaTypes) {
-
-        final JsonNode value = ObjectUtils.firstNonNull(
-                !specificBidderResults.isEmpty() ? specificBidderResults.getFirst() : null,
-                !catchAllBidderResults.isEmpty() ? catchAllBidderResults.getFirst() : null);
-        final List<String> warnings = debugEnabled && specificBidderResults.size() + catchAllBidderResults.size() > 1
+    private <T> Result<T> toResult(OverrideResult<T> overrideResult, Set<String> actualMediaTypes) {
+        final List<String> warnings = debugEnabled && overrideResult.getMatchedOverrides() > 1
                 ? Collections.singletonList(
                 "More than one conditions matches request. Bidder: %s, request media types: %s"
                         .formatted(bidder, actualMediaTypes))
                 : null;
 
-        return Result.of(value, warnings);
+        return Result.of(overrideResult.getValue(), warnings);
     }
 
     private static BlockedAttributes toBlockedAttributes(Result<List<String>> badv,
@@ -450,154 +379,4 @@ public class AccountConfigReader {
 
                 : null;
     }
-
-    private static List<JsonNode> dealExceptionsFor(JsonNode parent, String dealid, String field) {
-        final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
-        final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
-        if (overridesForField == null) {
-            return Collections.emptyList();
-        }
-
-        final List<JsonNode> results = new ArrayList<>();
-        for (final JsonNode override : overridesForField) {
-            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
-            final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
-
-            if (dealIds == null) {
-                throw new InvalidAccountConfigurationException(
-                        "%s field in account configuration must contain %s".formatted(CONDITIONS_FIELD, DEALIDS_FIELD));
-            }
-
-            if (dealIds.contains(dealid)) {
-                results.add(requireNonNull(override.get(OVERRIDE_FIELD), OVERRIDE_FIELD));
-            }
-        }
-
-        return results;
-    }
-
-    private static <T> List<T> overrideArrayAttribute(JsonNode parent, JsonNode override, Class<T> type, String field) {
-        return override != null
-                ? asTypedArray(override, type, OVERRIDE_FIELD)
-                : typedArrayFrom(parent, type, field);
-    }
-
-    private static boolean mergeBoolean(JsonNode parent, JsonNode override, String field) {
-        return BooleanUtils.toBooleanDefaultIfNull(
-                override != null ? typedAs(override, Boolean.class, OVERRIDE_FIELD) : null,
-                BooleanUtils.toBooleanDefaultIfNull(typedFieldFrom(parent, Boolean.class, field), false));
-    }
-
-    private static <T> Set<T> mergeDealExceptions(JsonNode parent,
-                                                  List<JsonNode> overrides,
-                                                  Class<T> type,
-                                                  String field) {
-
-        final List<T> defaultValue = typedArrayFrom(parent, type, field);
-        if (defaultValue == null && CollectionUtils.isEmpty(overrides)) {
-            return Collections.emptySet();
-        }
-
-        final Set<T> results = new HashSet<>(CollectionUtils.emptyIfNull(defaultValue));
-        for (final JsonNode override : IterableUtils.emptyIfNull(overrides)) {
-            results.addAll(asTypedArray(override, type, field));
-        }
-
-        return results;
-    }
-
-    private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        return asTypedArray(child, type, field);
-    }
-
-    private static <T> List<T> asTypedArray(JsonNode node, Class<T> type, String field) {
-        if (node == null) {
-            return null;
-        }
-
-        if (!node.isArray()) {
-            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an array");
-        }
-
-        return StreamUtil.asStream(node.elements())
-                .map(element -> typedAs(element, type, field))
-                .toList();
-    }
-
-    private static <T> T typedFieldFrom(JsonNode parent, Class<T> type, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        return typedAs(child, type, field);
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <T> T typedAs(JsonNode node, Class<T> type, String field) {
-        final Function<JsonNode, Boolean> checker;
-        final Function<JsonNode, ?> converter;
-
-        if (type.isAssignableFrom(String.class)) {
-            checker = JsonNode::isTextual;
-            converter = JsonNode::textValue;
-        } else if (type.isAssignableFrom(Integer.class)) {
-            checker = JsonNode::isInt;
-            converter = JsonNode::intValue;
-        } else if (type.isAssignableFrom(Boolean.class)) {
-            checker = JsonNode::isBoolean;
-            converter = JsonNode::booleanValue;
-        } else {
-            throw new IllegalArgumentException("Unsupported type: " + type);
-        }
-
-        final Boolean hasDesiredType = checker.apply(node);
-        if (!hasDesiredType) {
-            throw new InvalidAccountConfigurationException(
-                    "%s field in account configuration has unexpected type. Expected %s".formatted(field, type));
-        }
-
-        return (T) converter.apply(node);
-    }
-
-    private static JsonNode objectNodeFrom(JsonNode parent, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        if (!child.isObject()) {
-            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an object");
-        }
-
-        return child;
-    }
-
-    private static JsonNode objectArrayFrom(JsonNode parent, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        if (!child.isArray() || !StreamUtil.asStream(child.elements()).allMatch(JsonNode::isObject)) {
-            throw new InvalidAccountConfigurationException(
-                    field + " field in account configuration is not an array of objects");
-        }
-
-        return child;
-    }
-
-    private static <T> T requireNonNull(T object, String field) {
-        if (object == null) {
-            throw new InvalidAccountConfigurationException(
-                    field + " field in account configuration is missing");
-        }
-
-        return object;
-    }
 }
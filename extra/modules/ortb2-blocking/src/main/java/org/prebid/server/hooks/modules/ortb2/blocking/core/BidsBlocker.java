@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -24,6 +23,8 @@ import org.prebid.server.spring.config.bidder.model.MediaType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,15 +48,17 @@ public class BidsBlocker {
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final CompiledAccountConfig accountConfig;
     private final BlockedAttributes blockedAttributes;
     private final BidRejectionTracker bidRejectionTracker;
     private final boolean debugEnabled;
 
+    private final Map<List<?>, Set<?>> blockedValueSets = new IdentityHashMap<>();
+
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
-                        ObjectNode accountConfig,
+                        CompiledAccountConfig accountConfig,
                         BlockedAttributes blockedAttributes,
                         BidRejectionTracker bidRejectionTracker,
                         boolean debugEnabled) {
@@ -72,7 +75,7 @@ public class BidsBlocker {
     public static BidsBlocker create(List<BidderBid> bids,
                                      String bidder,
                                      OrtbVersion ortbVersion,
-                                     ObjectNode accountConfig,
+                                     CompiledAccountConfig accountConfig,
                                      BlockedAttributes blockedAttributes,
                                      BidRejectionTracker bidRejectionTracker,
                                      boolean debugEnabled) {
@@ -81,7 +84,7 @@ public class BidsBlocker {
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfig),
                 blockedAttributes,
                 bidRejectionTracker,
                 debugEnabled);
@@ -213,8 +216,9 @@ public class BidsBlocker {
         }
 
         if (CollectionUtils.isNotEmpty(blockedAttributeValues)) {
+            final Set<T> blockedValues = asSet(blockedAttributeValues);
             final List<T> blockedBidValues = attribute.stream()
-                    .filter(blockedAttributeValues::contains)
+                    .filter(blockedValues::contains)
                     .filter(blockedBidValue -> !blockingConfig.getAllowedValues().contains(blockedBidValue))
                     .toList();
 
@@ -238,7 +242,7 @@ public class BidsBlocker {
             return AttributeCheckResult.succeeded();
         }
 
-        final boolean blocked = blockedAttributeValues.contains(attribute)
+        final boolean blocked = asSet(blockedAttributeValues).contains(attribute)
                 && !blockingConfig.getAllowedValues().contains(attribute);
 
         return blocked
@@ -261,6 +265,14 @@ public class BidsBlocker {
                 : AttributeCheckResult.succeeded();
     }
 
+    /**
+     * Blocked values lists are shared by all bids of the response, so each of them is turned into a set only once.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Set<T> asSet(List<T> values) {
+        return (Set<T>) blockedValueSets.computeIfAbsent(values, HashSet::new);
+    }
+
     private <T> T blockedAttributeValues(Function<BlockedAttributes, T> getter) {
         return blockedAttributes != null ? getter.apply(blockedAttributes) : null;
     }
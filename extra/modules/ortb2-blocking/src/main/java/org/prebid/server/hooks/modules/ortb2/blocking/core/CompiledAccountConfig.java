@@ -0,0 +1,521 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+import org.prebid.server.util.StreamUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Typed form of the module account configuration.
+ * <p>
+ * Every attribute config, field and override list is parsed once and then reused by all lookups:
+ * overrides are indexed by bidder and deal exceptions are merged per deal id in advance.
+ * <p>
+ * Configuration errors are not thrown during compilation. They are kept next to the part of
+ * configuration they belong to and thrown by the lookup that reaches that part, so the same requests
+ * and bids fail with the same messages as when configuration is read directly from JSON.
+ */
+public class CompiledAccountConfig {
+
+    private static final String ATTRIBUTES_FIELD = "attributes";
+    private static final String ACTION_OVERRIDES_FIELD = "action-overrides";
+    private static final String OVERRIDE_FIELD = "override";
+    private static final String CONDITIONS_FIELD = "conditions";
+    private static final String BIDDERS_FIELD = "bidders";
+    private static final String MEDIA_TYPE_FIELD = "media-type";
+    private static final String DEALIDS_FIELD = "deal-ids";
+
+    private static final CompiledAccountConfig EMPTY = new CompiledAccountConfig(ConfigValue.of(null));
+
+    private final ConfigValue<Map<String, ConfigValue<AttributeConfig>>> attributes;
+
+    private CompiledAccountConfig(ConfigValue<Map<String, ConfigValue<AttributeConfig>>> attributes) {
+        this.attributes = attributes;
+    }
+
+    public static CompiledAccountConfig compile(ObjectNode config) {
+        return config != null
+                ? new CompiledAccountConfig(ConfigValue.compute(() -> compileAttributes(config)))
+                : EMPTY;
+    }
+
+    private static Map<String, ConfigValue<AttributeConfig>> compileAttributes(ObjectNode config) {
+        final JsonNode attributesNode = objectNodeFrom(config, ATTRIBUTES_FIELD);
+        if (attributesNode == null) {
+            return null;
+        }
+
+        final Map<String, ConfigValue<AttributeConfig>> attributeConfigs = new HashMap<>();
+        attributesNode.fieldNames().forEachRemaining(attribute -> attributeConfigs.put(
+                attribute,
+                ConfigValue.compute(() -> new AttributeConfig(objectNodeFrom(attributesNode, attribute)))));
+
+        return attributeConfigs;
+    }
+
+    public boolean hasAttributes() {
+        return attributes.get() != null;
+    }
+
+    public AttributeConfig attributeConfig(String attribute) {
+        final Map<String, ConfigValue<AttributeConfig>> attributeConfigs = attributes.get();
+        final ConfigValue<AttributeConfig> attributeConfig = attributeConfigs != null
+                ? attributeConfigs.get(attribute)
+                : null;
+
+        return attributeConfig != null ? attributeConfig.get() : null;
+    }
+
+    public static class AttributeConfig {
+
+        private final JsonNode config;
+        private final ConfigValue<JsonNode> actionOverrides;
+
+        private final Map<String, ConfigValue<?>> fields = new ConcurrentHashMap<>();
+        private final Map<String, ActionOverrides<?>> fieldOverrides = new ConcurrentHashMap<>();
+        private final Map<String, DealExceptions<?>> fieldDealExceptions = new ConcurrentHashMap<>();
+
+        private AttributeConfig(JsonNode config) {
+            this.config = config;
+            this.actionOverrides = ConfigValue.compute(() -> objectNodeFrom(config, ACTION_OVERRIDES_FIELD));
+        }
+
+        /**
+         * Returns the typed value of the field, or null if the field is absent.
+         */
+        public <T> T field(String field, Class<T> type) {
+            return this.<T>compiledField(field, node -> typedAs(node, type, field)).get();
+        }
+
+        /**
+         * Returns the array field value replaced by the first action override matching bidder and media types.
+         */
+        public <T> OverrideResult<List<T>> arrayField(String field,
+                                                      Class<T> type,
+                                                      String bidder,
+                                                      Set<String> mediaTypes) {
+
+            final Match<List<T>> match = this.<List<T>>actionOverrides(
+                    field, node -> asTypedArray(node, type, OVERRIDE_FIELD)).match(bidder, mediaTypes);
+            final List<T> override = match.value();
+
+            return OverrideResult.of(
+                    override != null
+                            ? override
+                            : this.<List<T>>compiledField(field, node -> asTypedArray(node, type, field)).get(),
+                    match.matches());
+        }
+
+        /**
+         * Returns the boolean field value replaced by the first action override matching bidder and media types,
+         * false if neither is defined.
+         */
+        public OverrideResult<Boolean> booleanField(String field, String bidder, Set<String> mediaTypes) {
+            final Match<Boolean> match = this.<Boolean>actionOverrides(
+                    field, node -> typedAs(node, Boolean.class, OVERRIDE_FIELD)).match(bidder, mediaTypes);
+            final Boolean override = match.value();
+            final Boolean defaultValue = this.<Boolean>compiledField(
+                    field, node -> typedAs(node, Boolean.class, field)).get();
+
+            return OverrideResult.of(
+                    override != null ? override : Boolean.TRUE.equals(defaultValue),
+                    match.matches());
+        }
+
+        /**
+         * Returns the values of the field merged with values of all action overrides listing the given deal id.
+         */
+        public <T> Set<T> dealExceptions(String field, Class<T> type, String dealid) {
+            return this.<T>dealExceptions(field, type).forDeal(dealid);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> ConfigValue<T> compiledField(String field, Function<JsonNode, T> converter) {
+            return (ConfigValue<T>) fields.computeIfAbsent(field, key -> ConfigValue.compute(() -> {
+                final JsonNode child = config.get(key);
+                return child != null ? converter.apply(child) : null;
+            }));
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> ActionOverrides<T> actionOverrides(String field, Function<JsonNode, T> converter) {
+            return (ActionOverrides<T>) fieldOverrides.computeIfAbsent(
+                    field, key -> ActionOverrides.compile(overridesFor(key), converter));
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> DealExceptions<T> dealExceptions(String field, Class<T> type) {
+            return (DealExceptions<T>) fieldDealExceptions.computeIfAbsent(
+                    field, key -> DealExceptions.compile(
+                            overridesFor(key),
+                            compiledField(key, node -> asTypedArray(node, type, key)),
+                            node -> asTypedArray(node, type, key)));
+        }
+
+        private ConfigValue<JsonNode> overridesFor(String field) {
+            return ConfigValue.compute(() -> {
+                final JsonNode overrides = actionOverrides.get();
+                return overrides != null ? objectArrayFrom(overrides, field) : null;
+            });
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    public static class OverrideResult<T> {
+
+        T value;
+
+        int matchedOverrides;
+    }
+
+    private record Match<T>(T value, int matches) {
+    }
+
+    private record ActionOverride<T>(int index, Set<String> mediaTypes, ConfigValue<T> value) {
+
+        boolean matches(Set<String> actualMediaTypes) {
+            return mediaTypes == null || !Collections.disjoint(mediaTypes, actualMediaTypes);
+        }
+    }
+
+    /**
+     * Action overrides of a single field indexed by bidder. Overrides without bidders condition apply
+     * to every bidder and are used only when no bidder-specific override matches.
+     */
+    private static class ActionOverrides<T> {
+
+        private final Map<String, List<ActionOverride<T>>> bidderOverrides;
+        private final List<ActionOverride<T>> catchAllBidderOverrides;
+        private final InvalidAccountConfigurationException trailingError;
+
+        private ActionOverrides(Map<String, List<ActionOverride<T>>> bidderOverrides,
+                                List<ActionOverride<T>> catchAllBidderOverrides,
+                                InvalidAccountConfigurationException trailingError) {
+
+            this.bidderOverrides = bidderOverrides;
+            this.catchAllBidderOverrides = catchAllBidderOverrides;
+            this.trailingError = trailingError;
+        }
+
+        static <T> ActionOverrides<T> compile(ConfigValue<JsonNode> overridesNode, Function<JsonNode, T> converter) {
+            final Map<String, List<ActionOverride<T>>> bidderOverrides = new HashMap<>();
+            final List<ActionOverride<T>> catchAllBidderOverrides = new ArrayList<>();
+
+            try {
+                final JsonNode overrides = overridesNode.get();
+                int index = 0;
+                for (final JsonNode override : overrides != null ? overrides : Collections.<JsonNode>emptyList()) {
+                    final JsonNode conditions = requireNonNull(
+                            objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+                    final List<String> bidders = typedArrayFrom(conditions, String.class, BIDDERS_FIELD);
+                    final List<String> mediaTypes = typedArrayFrom(conditions, String.class, MEDIA_TYPE_FIELD);
+
+                    if (bidders == null && mediaTypes == null) {
+                        throw new InvalidAccountConfigurationException(
+                                "%s field in account configuration must contain at least one of %s or %s".formatted(
+                                        CONDITIONS_FIELD,
+                                        BIDDERS_FIELD,
+                                        MEDIA_TYPE_FIELD));
+                    }
+
+                    final JsonNode value = override.get(OVERRIDE_FIELD);
+                    final ActionOverride<T> actionOverride = new ActionOverride<>(
+                            index++,
+                            mediaTypes != null ? new HashSet<>(mediaTypes) : null,
+                            value != null ? ConfigValue.compute(() -> converter.apply(value)) : null);
+
+                    if (bidders == null) {
+                        catchAllBidderOverrides.add(actionOverride);
+                    } else {
+                        new LinkedHashSet<>(bidders).forEach(bidder ->
+                                bidderOverrides.computeIfAbsent(bidder, key -> new ArrayList<>()).add(actionOverride));
+                    }
+                }
+            } catch (InvalidAccountConfigurationException e) {
+                return new ActionOverrides<>(bidderOverrides, catchAllBidderOverrides, e);
+            }
+
+            return new ActionOverrides<>(bidderOverrides, catchAllBidderOverrides, null);
+        }
+
+        Match<T> match(String bidder, Set<String> actualMediaTypes) {
+            final List<ActionOverride<T>> specificBidderOverrides = bidderOverrides.get(bidder);
+
+            ActionOverride<T> firstSpecificBidderMatch = null;
+            ActionOverride<T> firstCatchAllBidderMatch = null;
+            ActionOverride<T> firstMatchWithoutOverride = null;
+            int matches = 0;
+
+            for (final ActionOverride<T> override : CollectionUtils.emptyIfNull(specificBidderOverrides)) {
+                if (override.matches(actualMediaTypes)) {
+                    firstSpecificBidderMatch = firstSpecificBidderMatch == null
+                            ? override
+                            : firstSpecificBidderMatch;
+                    firstMatchWithoutOverride = earliestWithoutOverride(firstMatchWithoutOverride, override);
+                    matches++;
+                }
+            }
+            for (final ActionOverride<T> override : catchAllBidderOverrides) {
+                if (override.matches(actualMediaTypes)) {
+                    firstCatchAllBidderMatch = firstCatchAllBidderMatch == null
+                            ? override
+                            : firstCatchAllBidderMatch;
+                    firstMatchWithoutOverride = earliestWithoutOverride(firstMatchWithoutOverride, override);
+                    matches++;
+                }
+            }
+
+            if (firstMatchWithoutOverride != null) {
+                throw missingFieldException(OVERRIDE_FIELD);
+            }
+            if (trailingError != null) {
+                throw trailingError;
+            }
+
+            final ActionOverride<T> result = firstSpecificBidderMatch != null
+                    ? firstSpecificBidderMatch
+                    : firstCatchAllBidderMatch;
+
+            return new Match<>(result != null ? result.value().get() : null, matches);
+        }
+
+        private static <T> ActionOverride<T> earliestWithoutOverride(ActionOverride<T> current,
+                                                                     ActionOverride<T> candidate) {
+
+            if (candidate.value() != null) {
+                return current;
+            }
+
+            return current == null || candidate.index() < current.index() ? candidate : current;
+        }
+    }
+
+    /**
+     * Deal exceptions of a single field merged with the field default values for every deal id
+     * mentioned in action overrides. Other deal ids share the same default result.
+     */
+    private static class DealExceptions<T> {
+
+        private final Map<String, ConfigValue<Set<T>>> dealExceptions;
+        private final ConfigValue<Set<T>> defaultDealExceptions;
+
+        private DealExceptions(Map<String, ConfigValue<Set<T>>> dealExceptions,
+                               ConfigValue<Set<T>> defaultDealExceptions) {
+
+            this.dealExceptions = dealExceptions;
+            this.defaultDealExceptions = defaultDealExceptions;
+        }
+
+        static <T> DealExceptions<T> compile(ConfigValue<JsonNode> overridesNode,
+                                             ConfigValue<List<T>> defaultValue,
+                                             Function<JsonNode, List<T>> converter) {
+
+            final List<Set<String>> overrideDealIds = new ArrayList<>();
+            final List<JsonNode> overrideValues = new ArrayList<>();
+            InvalidAccountConfigurationException trailingError = null;
+
+            try {
+                final JsonNode overrides = overridesNode.get();
+                for (final JsonNode override : overrides != null ? overrides : Collections.<JsonNode>emptyList()) {
+                    final JsonNode conditions = requireNonNull(
+                            objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+                    final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
+
+                    if (dealIds == null) {
+                        throw new InvalidAccountConfigurationException(
+                                "%s field in account configuration must contain %s".formatted(
+                                        CONDITIONS_FIELD, DEALIDS_FIELD));
+                    }
+
+                    overrideDealIds.add(new HashSet<>(dealIds));
+                    overrideValues.add(override.get(OVERRIDE_FIELD));
+                }
+            } catch (InvalidAccountConfigurationException e) {
+                trailingError = e;
+            }
+
+            final InvalidAccountConfigurationException error = trailingError;
+            final Function<String, ConfigValue<Set<T>>> resolver = dealid -> ConfigValue.compute(() ->
+                    merge(dealid, overrideDealIds, overrideValues, error, defaultValue, converter));
+
+            final Map<String, ConfigValue<Set<T>>> dealExceptions = new HashMap<>();
+            overrideDealIds.forEach(dealIds -> dealIds.forEach(dealid ->
+                    dealExceptions.computeIfAbsent(dealid, resolver)));
+
+            return new DealExceptions<>(dealExceptions, resolver.apply(null));
+        }
+
+        private static <T> Set<T> merge(String dealid,
+                                        List<Set<String>> overrideDealIds,
+                                        List<JsonNode> overrideValues,
+                                        InvalidAccountConfigurationException trailingError,
+                                        ConfigValue<List<T>> defaultValue,
+                                        Function<JsonNode, List<T>> converter) {
+
+            final List<JsonNode> matchedOverrides = new ArrayList<>();
+            for (int i = 0; i < overrideDealIds.size(); i++) {
+                if (dealid != null && overrideDealIds.get(i).contains(dealid)) {
+                    matchedOverrides.add(requireNonNull(overrideValues.get(i), OVERRIDE_FIELD));
+                }
+            }
+
+            if (trailingError != null) {
+                throw trailingError;
+            }
+
+            final List<T> defaultValues = defaultValue.get();
+            if (defaultValues == null && matchedOverrides.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            final Set<T> results = new HashSet<>(CollectionUtils.emptyIfNull(defaultValues));
+            for (final JsonNode override : matchedOverrides) {
+                results.addAll(converter.apply(override));
+            }
+
+            return Collections.unmodifiableSet(results);
+        }
+
+        Set<T> forDeal(String dealid) {
+            final ConfigValue<Set<T>> result = dealExceptions.get(dealid);
+            return (result != null ? result : defaultDealExceptions).get();
+        }
+    }
+
+    /**
+     * Compiled configuration value or the error that occurred while compiling it.
+     */
+    private static class ConfigValue<T> {
+
+        private final T value;
+        private final InvalidAccountConfigurationException error;
+
+        private ConfigValue(T value, InvalidAccountConfigurationException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        static <T> ConfigValue<T> of(T value) {
+            return new ConfigValue<>(value, null);
+        }
+
+        static <T> ConfigValue<T> compute(Supplier<T> supplier) {
+            try {
+                return of(supplier.get());
+            } catch (InvalidAccountConfigurationException e) {
+                return new ConfigValue<>(null, e);
+            }
+        }
+
+        T get() {
+            if (error != null) {
+                throw error;
+            }
+
+            return value;
+        }
+    }
+
+    private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        return asTypedArray(child, type, field);
+    }
+
+    private static <T> List<T> asTypedArray(JsonNode node, Class<T> type, String field) {
+        if (node == null) {
+            return null;
+        }
+
+        if (!node.isArray()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an array");
+        }
+
+        return StreamUtil.asStream(node.elements())
+                .map(element -> typedAs(element, type, field))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T typedAs(JsonNode node, Class<T> type, String field) {
+        final Function<JsonNode, Boolean> checker;
+        final Function<JsonNode, ?> converter;
+
+        if (type.isAssignableFrom(String.class)) {
+            checker = JsonNode::isTextual;
+            converter = JsonNode::textValue;
+        } else if (type.isAssignableFrom(Integer.class)) {
+            checker = JsonNode::isInt;
+            converter = JsonNode::intValue;
+        } else if (type.isAssignableFrom(Boolean.class)) {
+            checker = JsonNode::isBoolean;
+            converter = JsonNode::booleanValue;
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+
+        final Boolean hasDesiredType = checker.apply(node);
+        if (!hasDesiredType) {
+            throw new InvalidAccountConfigurationException(
+                    "%s field in account configuration has unexpected type. Expected %s".formatted(field, type));
+        }
+
+        return (T) converter.apply(node);
+    }
+
+    private static JsonNode objectNodeFrom(JsonNode parent, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        if (!child.isObject()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an object");
+        }
+
+        return child;
+    }
+
+    private static JsonNode objectArrayFrom(JsonNode parent, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        if (!child.isArray() || !StreamUtil.asStream(child.elements()).allMatch(JsonNode::isObject)) {
+            throw new InvalidAccountConfigurationException(
+                    field + " field in account configuration is not an array of objects");
+        }
+
+        return child;
+    }
+
+    private static <T> T requireNonNull(T object, String field) {
+        if (object == null) {
+            throw missingFieldException(field);
+        }
+
+        return object;
+    }
+
+    private static InvalidAccountConfigurationException missingFieldException(String field) {
+        return new InvalidAccountConfigurationException(field + " field in account configuration is missing");
+    }
+}
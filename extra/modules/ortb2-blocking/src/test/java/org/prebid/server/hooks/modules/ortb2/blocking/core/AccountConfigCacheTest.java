@@ -0,0 +1,39 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountConfigCacheTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final AccountConfigCache target = new AccountConfigCache();
+
+    @Test
+    public void getShouldReturnSameCompiledConfigForSameConfigInstance() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode().set("attributes", mapper.createObjectNode());
+
+        // when and then
+        assertThat(target.get(accountConfig)).isSameAs(target.get(accountConfig));
+    }
+
+    @Test
+    public void getShouldCompileNewConfigVersionSeparately() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode().set("attributes", mapper.createObjectNode());
+        final ObjectNode updatedAccountConfig = accountConfig.deepCopy();
+
+        // when and then
+        assertThat(target.get(accountConfig)).isNotSameAs(target.get(updatedAccountConfig));
+    }
+
+    @Test
+    public void getShouldReturnEmptyConfigWhenNoAccountConfig() {
+        // when and then
+        assertThat(target.get(null).hasAttributes()).isFalse();
+    }
+}
@@ -57,7 +57,7 @@ public class AccountConfigReaderTest {
     @Test
     public void blockedAttributesForShouldReturnEmptyResultWhenNoAccountConfig() {
         // given
-        final AccountConfigReader reader = AccountConfigReader.create(null, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = AccountConfigReader.create((ObjectNode) null, "bidder1", ORTB_VERSION, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
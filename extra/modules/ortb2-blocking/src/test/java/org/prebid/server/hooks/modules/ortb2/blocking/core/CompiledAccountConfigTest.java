@@ -0,0 +1,175 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.AttributeConfig;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.OverrideResult;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.AllowedForDealsOverride;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.ArrayOverride;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attribute;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.AttributeActionOverrides;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attributes;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.BooleanOverride;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Conditions;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.DealsConditions;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.config.ModuleConfig;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompiledAccountConfigTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    @Test
+    public void compileShouldNotFailOnInvalidConfiguration() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode().put("attributes", 1);
+
+        // when and then
+        assertThatNoException().isThrownBy(() -> CompiledAccountConfig.compile(accountConfig));
+    }
+
+    @Test
+    public void hasAttributesShouldThrowErrorOfInvalidAttributes() {
+        // given
+        final CompiledAccountConfig config = CompiledAccountConfig.compile(
+                mapper.createObjectNode().put("attributes", 1));
+
+        // when and then
+        assertThatThrownBy(config::hasAttributes)
+                .isInstanceOf(InvalidAccountConfigurationException.class)
+                .hasMessage("attributes field in account configuration is not an object");
+    }
+
+    @Test
+    public void attributeConfigShouldFailOnlyForInvalidAttribute() {
+        // given
+        final CompiledAccountConfig config = CompiledAccountConfig.compile(mapper.createObjectNode()
+                .set("attributes", mapper.createObjectNode()
+                        .put("badv", 1)
+                        .set("bcat", mapper.createObjectNode())));
+
+        // when and then
+        assertThat(config.attributeConfig("bcat")).isNotNull();
+        assertThat(config.attributeConfig("bapp")).isNull();
+        assertThatThrownBy(() -> config.attributeConfig("badv"))
+                .isInstanceOf(InvalidAccountConfigurationException.class)
+                .hasMessage("badv field in account configuration is not an object");
+    }
+
+    @Test
+    public void arrayFieldShouldPreferSpecificBidderOverrideAndCountAllMatches() {
+        // given
+        final AttributeConfig badv = attributeConfig(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(singletonList("domain0.com"))
+                        .actionOverrides(AttributeActionOverrides.blocked(asList(
+                                ArrayOverride.of(
+                                        Conditions.of(null, singletonList("banner")),
+                                        singletonList("domain1.com")),
+                                ArrayOverride.of(
+                                        Conditions.of(asList("bidder1", "bidder2"), null),
+                                        singletonList("domain2.com")),
+                                ArrayOverride.of(
+                                        Conditions.of(singletonList("bidder1"), singletonList("video")),
+                                        singletonList("domain3.com")))))
+                        .build())
+                .build(), "badv");
+
+        // when and then
+        assertThat(badv.arrayField("blocked-adomain", String.class, "bidder1", Set.of("banner", "video")))
+                .isEqualTo(OverrideResult.of(singletonList("domain2.com"), 3));
+        assertThat(badv.arrayField("blocked-adomain", String.class, "bidder2", singleton("video")))
+                .isEqualTo(OverrideResult.of(singletonList("domain2.com"), 1));
+        assertThat(badv.arrayField("blocked-adomain", String.class, "bidder3", singleton("banner")))
+                .isEqualTo(OverrideResult.of(singletonList("domain1.com"), 1));
+        assertThat(badv.arrayField("blocked-adomain", String.class, "bidder3", singleton("video")))
+                .isEqualTo(OverrideResult.of(singletonList("domain0.com"), 0));
+    }
+
+    @Test
+    public void booleanFieldShouldDefaultToFalse() {
+        // given
+        final AttributeConfig badv = attributeConfig(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .actionOverrides(AttributeActionOverrides.blockFlags(
+                                singletonList(BooleanOverride.of(
+                                        Conditions.of(singletonList("bidder1"), null), true)),
+                                null))
+                        .build())
+                .build(), "badv");
+
+        // when and then
+        assertThat(badv.booleanField("enforce-blocks", "bidder1", singleton("banner")))
+                .isEqualTo(OverrideResult.of(true, 1));
+        assertThat(badv.booleanField("enforce-blocks", "bidder2", singleton("banner")))
+                .isEqualTo(OverrideResult.of(false, 0));
+    }
+
+    @Test
+    public void dealExceptionsShouldMergeDefaultsWithAllOverridesOfDeal() {
+        // given
+        final AttributeConfig battr = attributeConfig(Attributes.builder()
+                .battr(Attribute.videoBattrBuilder()
+                        .allowedForDeals(singletonList(1))
+                        .actionOverrides(AttributeActionOverrides.allowedForDeals(asList(
+                                AllowedForDealsOverride.of(
+                                        DealsConditions.of(asList("dealid1", "dealid2")), singletonList(2)),
+                                AllowedForDealsOverride.of(
+                                        DealsConditions.of(singletonList("dealid1")), singletonList(3)))))
+                        .build())
+                .build(), "battr");
+
+        // when and then
+        assertThat(battr.dealExceptions("allowed-video-attr-for-deals", Integer.class, "dealid1"))
+                .containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(battr.dealExceptions("allowed-video-attr-for-deals", Integer.class, "dealid2"))
+                .containsExactlyInAnyOrder(1, 2);
+        assertThat(battr.dealExceptions("allowed-video-attr-for-deals", Integer.class, "dealid3"))
+                .containsExactly(1);
+    }
+
+    @Test
+    public void arrayFieldShouldThrowErrorOfMatchedOverrideBeforeErrorOfLaterConditions() {
+        // given
+        final AttributeConfig badv = CompiledAccountConfig.compile(mapper.createObjectNode()
+                        .set("attributes", mapper.createObjectNode()
+                                .set("badv", mapper.createObjectNode()
+                                        .set("action-overrides", mapper.createObjectNode()
+                                                .set("blocked-adomain", mapper.createArrayNode()
+                                                        .add(mapper.createObjectNode()
+                                                                .set("conditions", mapper.createObjectNode()
+                                                                        .set("bidders", mapper.createArrayNode()
+                                                                                .add("bidder1"))))
+                                                        .add(mapper.createObjectNode()
+                                                                .set("conditions", mapper.createObjectNode())))))))
+                .attributeConfig("badv");
+
+        // when and then
+        assertThatThrownBy(() -> badv.arrayField("blocked-adomain", String.class, "bidder1", singleton("banner")))
+                .isInstanceOf(InvalidAccountConfigurationException.class)
+                .hasMessage("override field in account configuration is missing");
+        assertThatThrownBy(() -> badv.arrayField("blocked-adomain", String.class, "bidder2", singleton("banner")))
+                .isInstanceOf(InvalidAccountConfigurationException.class)
+                .hasMessage("conditions field in account configuration must contain at least one of bidders or "
+                        + "media-type");
+    }
+
+    private static AttributeConfig attributeConfig(Attributes attributes, String attribute) {
+        final ObjectNode accountConfig = mapper.valueToTree(ModuleConfig.of(attributes));
+        return CompiledAccountConfig.compile(accountConfig).attributeConfig(attribute);
+    }
+}
@@ -93,6 +93,8 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ListUtil;
 import org.prebid.server.util.PbsUtil;
 import org.prebid.server.util.StreamUtil;
+import org.prebid.server.validation.model.ValidationMemo;
+import org.prebid.server.validation.model.ValidationStage;
 
 import java.math.BigDecimal;
 import java.time.Clock;
@@ -642,6 +644,9 @@ public class ExchangeService {
             AuctionContext context) {
 
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(bidRequest);
+        final Map<String, SupplyChain> bidderToSchain = supplyChainResolver.resolveForBidders(
+                bidderPrivacyResults.stream().map(BidderPrivacyResult::getRequestBidder).toList(),
+                bidRequest);
         final List<AuctionParticipation> bidderRequests = bidderPrivacyResults.stream()
                 // for each bidder create a new request that is a copy of original request except buyerid, imp
                 // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
@@ -653,12 +658,16 @@ public class ExchangeService {
                         bidderToMultiBid,
                         biddersToConfigs,
                         bidderToPrebidBidders,
+                        bidderToSchain,
                         aliases,
                         context))
                 // Can't be removed after we prepare workflow to filter blocked
                 .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
                 .collect(Collectors.toCollection(ArrayList::new));
 
+        metrics.updateSkippedValidationsMetric(ValidationStage.imp_override,
+                context.getValidationMemo().skippedValidations(ValidationStage.imp_override));
+
         Collections.shuffle(bidderRequests);
         return bidderRequests;
     }
@@ -690,6 +699,7 @@ public class ExchangeService {
             Map<String, MultiBidConfig> bidderToMultiBid,
             Map<String, ExtBidderConfigOrtb> biddersToConfigs,
             Map<String, JsonNode> bidderToPrebidBidders,
+            Map<String, SupplyChain> bidderToSchain,
             BidderAliases bidderAliases,
             AuctionContext context) {
 
@@ -719,6 +729,7 @@ public class ExchangeService {
                 bidderToMultiBid,
                 biddersToConfigs,
                 bidderToPrebidBidders,
+                bidderToSchain,
                 bidderAliases,
                 context);
 
@@ -727,6 +738,7 @@ public class ExchangeService {
                 .ortbVersion(ortbVersion)
                 .storedResponse(storedBidResponse)
                 .bidRequest(preparedBidRequest)
+                .sharedFragments(context.getSharedFragments())
                 .build();
 
         return AuctionParticipation.builder()
@@ -746,6 +758,7 @@ public class ExchangeService {
                                          Map<String, MultiBidConfig> bidderToMultiBid,
                                          Map<String, ExtBidderConfigOrtb> biddersToConfigs,
                                          Map<String, JsonNode> bidderToPrebidBidders,
+                                         Map<String, SupplyChain> bidderToSchain,
                                          BidderAliases bidderAliases,
                                          AuctionContext context) {
 
@@ -808,6 +821,7 @@ public class ExchangeService {
                 useFirstPartyData,
                 context.getAccount(),
                 bidderAliases,
+                context.getValidationMemo(),
                 context.getDebugWarnings());
 
         return bidRequest.toBuilder()
@@ -818,7 +832,7 @@ public class ExchangeService {
                 .app(isApp ? preparedApp : null)
                 .dooh(isDooh ? preparedDooh : null)
                 .site(isSite ? preparedSite : null)
-                .source(prepareSource(bidder, bidRequest, transmitTid))
+                .source(prepareSource(bidRequest, bidderToSchain.get(bidder), transmitTid))
                 .ext(prepareExt(bidder, bidderToPrebidBidders, bidderToMultiBid, bidRequest.getExt()))
                 .build();
     }
@@ -846,12 +860,13 @@ public class ExchangeService {
                                   boolean useFirstPartyData,
                                   Account account,
                                   BidderAliases bidderAliases,
+                                  ValidationMemo validationMemo,
                                   List<String> debugWarnings) {
 
         return bidRequest.getImp().stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
                 .map(imp -> imp.toBuilder().ext(imp.getExt().deepCopy()).build())
-                .map(imp -> impAdjuster.adjust(imp, bidder, bidderAliases, debugWarnings))
+                .map(imp -> impAdjuster.adjust(imp, bidder, bidderAliases, validationMemo, debugWarnings))
                 .map(imp -> prepareImp(imp, bidder, bidRequest, transmitTid, useFirstPartyData, account, debugWarnings))
                 .toList();
     }
@@ -979,11 +994,9 @@ public class ExchangeService {
         return updatedContent.isEmpty() ? null : updatedContent;
     }
 
-    private Source prepareSource(String bidder, BidRequest bidRequest, boolean transmitTid) {
+    private static Source prepareSource(BidRequest bidRequest, SupplyChain bidderSchain, boolean transmitTid) {
         final Source receivedSource = bidRequest.getSource();
 
-        final SupplyChain bidderSchain = supplyChainResolver.resolveForBidder(bidder, bidRequest);
-
         if (bidderSchain == null && (transmitTid || receivedSource == null)) {
             return receivedSource;
         }
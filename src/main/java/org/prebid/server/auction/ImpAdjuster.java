@@ -1,18 +1,40 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.iab.openrtb.request.Audio;
+import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Metric;
+import com.iab.openrtb.request.Native;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.request.Qty;
+import com.iab.openrtb.request.Refresh;
+import com.iab.openrtb.request.Video;
 import org.prebid.server.json.JacksonMapper;
-import org.prebid.server.json.JsonMerger;
 import org.prebid.server.validation.ImpValidator;
+import org.prebid.server.validation.ValidationException;
+import org.prebid.server.validation.model.ValidationMemo;
 
+import java.math.BigDecimal;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
+/**
+ * Applies bidder specific imp overrides from imp.ext.prebid.imp.BIDDER with JSON merge patch semantics
+ * (RFC 7386), field by field, so imp fields untouched by the override are kept as they are.
+ * <p>
+ * Original imp and its ext are never modified, changed JSON nodes are copied on write.
+ */
 public class ImpAdjuster {
 
     private static final String IMP_EXT = "ext";
@@ -23,78 +45,133 @@ public class ImpAdjuster {
     private static final String EXT_PREBID_IMP = "imp";
 
     private final ImpValidator impValidator;
-    private final JacksonMapper jacksonMapper;
-    private final JsonMerger jsonMerger;
-
-    public ImpAdjuster(JacksonMapper jacksonMapper,
-                       JsonMerger jsonMerger,
-                       ImpValidator impValidator) {
+    private final ObjectMapper mapper;
+    private final Map<String, ImpField<?>> impFields;
 
+    public ImpAdjuster(JacksonMapper jacksonMapper, ImpValidator impValidator) {
         this.impValidator = Objects.requireNonNull(impValidator);
-        this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
-        this.jsonMerger = Objects.requireNonNull(jsonMerger);
+        this.mapper = Objects.requireNonNull(jacksonMapper).mapper();
+
+        impFields = impFields(mapper.getTypeFactory());
+        checkAllImpPropertiesCovered(mapper, impFields);
     }
 
-    public Imp adjust(Imp originalImp, String bidder, BidderAliases bidderAliases, List<String> debugMessages) {
-        setAeParams(originalImp.getExt());
+    /**
+     * Fields are marked as validated when {@link ImpValidator#validateImp(Imp)} checks them,
+     * overriding any of them makes resulting imp to be validated again.
+     */
+    private static Map<String, ImpField<?>> impFields(TypeFactory typeFactory) {
+        final JavaType string = typeFactory.constructType(String.class);
+        final JavaType integer = typeFactory.constructType(Integer.class);
 
-        final JsonNode impExtPrebidImp = bidderParamsFromImpExtPrebidImp(originalImp.getExt());
-        if (impExtPrebidImp == null) {
-            return originalImp;
-        }
+        return Map.ofEntries(
+                field("id", Imp::getId, Imp.ImpBuilder::id, string, true),
+                field("metric", Imp::getMetric, Imp.ImpBuilder::metric,
+                        typeFactory.constructCollectionType(List.class, Metric.class), true),
+                field("banner", Imp::getBanner, Imp.ImpBuilder::banner, typeFactory.constructType(Banner.class), true),
+                field("video", Imp::getVideo, Imp.ImpBuilder::video, typeFactory.constructType(Video.class), true),
+                field("audio", Imp::getAudio, Imp.ImpBuilder::audio, typeFactory.constructType(Audio.class), true),
+                field("native", Imp::getXNative, Imp.ImpBuilder::xNative,
+                        typeFactory.constructType(Native.class), true),
+                field("pmp", Imp::getPmp, Imp.ImpBuilder::pmp, typeFactory.constructType(Pmp.class), true),
+                field("displaymanager", Imp::getDisplaymanager, Imp.ImpBuilder::displaymanager, string, false),
+                field("displaymanagerver", Imp::getDisplaymanagerver, Imp.ImpBuilder::displaymanagerver,
+                        string, false),
+                field("instl", Imp::getInstl, Imp.ImpBuilder::instl, integer, true),
+                field("tagid", Imp::getTagid, Imp.ImpBuilder::tagid, string, false),
+                field("bidfloor", Imp::getBidfloor, Imp.ImpBuilder::bidfloor,
+                        typeFactory.constructType(BigDecimal.class), false),
+                field("bidfloorcur", Imp::getBidfloorcur, Imp.ImpBuilder::bidfloorcur, string, false),
+                field("clickbrowser", Imp::getClickbrowser, Imp.ImpBuilder::clickbrowser, integer, false),
+                field("secure", Imp::getSecure, Imp.ImpBuilder::secure, integer, false),
+                field("iframebuster", Imp::getIframebuster, Imp.ImpBuilder::iframebuster,
+                        typeFactory.constructCollectionType(List.class, String.class), false),
+                field("rwdd", Imp::getRwdd, Imp.ImpBuilder::rwdd, integer, false),
+                field("ssai", Imp::getSsai, Imp.ImpBuilder::ssai, integer, false),
+                field("exp", Imp::getExp, Imp.ImpBuilder::exp, integer, false),
+                field("refresh", Imp::getRefresh, Imp.ImpBuilder::refresh,
+                        typeFactory.constructType(Refresh.class), false),
+                field("qty", Imp::getQty, Imp.ImpBuilder::qty, typeFactory.constructType(Qty.class), false),
+                field("dt", Imp::getDt, Imp.ImpBuilder::dt, typeFactory.constructType(Double.class), false));
+    }
 
-        final JsonNode bidderNode = getBidderNode(bidder, bidderAliases, impExtPrebidImp);
+    /**
+     * Fails fast when a property added to {@link Imp} is missing from the fields above, instead of silently dropping
+     * it from bidder overrides.
+     */
+    private static void checkAllImpPropertiesCovered(ObjectMapper mapper, Map<String, ImpField<?>> impFields) {
+        final List<String> uncoveredProperties = mapper.getSerializationConfig()
+                .introspect(mapper.constructType(Imp.class))
+                .findProperties()
+                .stream()
+                .map(BeanPropertyDefinition::getName)
+                .filter(name -> !IMP_EXT.equals(name) && !impFields.containsKey(name))
+                .toList();
 
-        if (bidderNode == null || bidderNode.isEmpty()) {
-            removeImpExtPrebidImp(originalImp.getExt());
-            return originalImp;
+        if (!uncoveredProperties.isEmpty()) {
+            throw new IllegalStateException("Imp properties are not supported by bidder imp overrides: "
+                    + uncoveredProperties);
         }
+    }
 
-        removeExtPrebidBidder(bidderNode);
+    private static <T> Map.Entry<String, ImpField<?>> field(String name,
+                                                           Function<Imp, T> getter,
+                                                           BiConsumer<Imp.ImpBuilder, T> setter,
+                                                           JavaType type,
+                                                           boolean validated) {
 
-        try {
-            final JsonNode originalImpNode = jacksonMapper.mapper().valueToTree(originalImp);
-            final JsonNode mergedImpNode = jsonMerger.merge(bidderNode, originalImpNode);
+        return Map.entry(name, new ImpField<>(getter, setter, type, validated));
+    }
+
+    public Imp adjust(Imp originalImp,
+                      String bidder,
+                      BidderAliases bidderAliases,
+                      ValidationMemo validationMemo,
+                      List<String> debugMessages) {
+
+        final ObjectNode ext = withIgsAe(originalImp.getExt());
 
-            removeImpExtPrebidImp(mergedImpNode.get(IMP_EXT));
+        final JsonNode impExtPrebidImp = bidderParamsFromImpExtPrebidImp(ext);
+        if (impExtPrebidImp == null) {
+            return withExt(originalImp, ext);
+        }
 
-            final Imp resultImp = jacksonMapper.mapper().convertValue(mergedImpNode, Imp.class);
+        final Imp imp = withExt(originalImp, withoutImpExtPrebidImp(ext));
 
-            impValidator.validateImp(resultImp);
-            return resultImp;
+        final JsonNode bidderNode = getBidderNode(bidder, bidderAliases, impExtPrebidImp);
+        if (bidderNode == null || bidderNode.isEmpty()) {
+            return imp;
+        }
+
+        try {
+            return merge(imp, bidderNode, validationMemo);
         } catch (Exception e) {
             debugMessages.add("imp.ext.prebid.imp.%s can not be merged into original imp [id=%s], reason: %s"
                     .formatted(bidder, originalImp.getId(), e.getMessage()));
-            removeImpExtPrebidImp(originalImp.getExt());
-            return originalImp;
+            return imp;
         }
     }
 
-    private void setAeParams(ObjectNode ext) {
-        final int extAe = Optional.ofNullable(ext)
-                .map(extNode -> extNode.get(EXT_AE))
-                .filter(JsonNode::isInt)
-                .map(JsonNode::asInt)
-                .orElse(-1);
-
-        final boolean extIgsAePresent = Optional.ofNullable(ext)
-                .map(extNode -> extNode.get(EXT_IGS))
-                .map(igsNode -> igsNode.get(EXT_AE))
-                .isPresent();
-
-        if (!extIgsAePresent && (extAe == 0 || extAe == 1)) {
-            final ObjectNode igsNode = jacksonMapper.mapper().createObjectNode()
-                    .set(EXT_AE, IntNode.valueOf(extAe));
+    private ObjectNode withIgsAe(ObjectNode ext) {
+        final JsonNode extAe = ext != null ? ext.get(EXT_AE) : null;
+        final boolean aeApplicable = extAe != null && extAe.isInt() && (extAe.asInt() == 0 || extAe.asInt() == 1);
+        if (!aeApplicable) {
+            return ext;
+        }
 
-            ext.set(EXT_IGS, igsNode);
+        final JsonNode igsNode = ext.get(EXT_IGS);
+        if (igsNode != null && igsNode.get(EXT_AE) != null) {
+            return ext;
         }
+
+        final ObjectNode result = copy(ext);
+        result.set(EXT_IGS, mapper.createObjectNode().set(EXT_AE, IntNode.valueOf(extAe.asInt())));
+        return result;
     }
 
     private static JsonNode bidderParamsFromImpExtPrebidImp(ObjectNode ext) {
-        return Optional.ofNullable(ext)
-                .map(extNode -> extNode.get(EXT_PREBID))
-                .map(prebidNode -> prebidNode.get(EXT_PREBID_IMP))
-                .orElse(null);
+        final JsonNode prebidNode = ext != null ? ext.get(EXT_PREBID) : null;
+        return prebidNode != null ? prebidNode.get(EXT_PREBID_IMP) : null;
     }
 
     private static JsonNode getBidderNode(String bidderName, BidderAliases bidderAliases, JsonNode node) {
@@ -108,16 +185,126 @@ public class ImpAdjuster {
         return null;
     }
 
-    private static void removeExtPrebidBidder(JsonNode bidderNode) {
-        Optional.ofNullable(bidderNode.get(IMP_EXT))
-                .map(extNode -> extNode.get(EXT_PREBID))
-                .map(ObjectNode.class::cast)
-                .ifPresent(ext -> ext.remove(EXT_PREBID_BIDDER));
+    private static Imp withExt(Imp imp, ObjectNode ext) {
+        return ext != imp.getExt() ? imp.toBuilder().ext(ext).build() : imp;
+    }
+
+    private Imp merge(Imp imp, JsonNode bidderNode, ValidationMemo validationMemo) throws ValidationException {
+        if (!bidderNode.isObject()) {
+            throw new IllegalArgumentException("bidder imp must be an object");
+        }
+
+        final Imp.ImpBuilder impBuilder = imp.toBuilder();
+        boolean validationRequired = false;
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = bidderNode.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String fieldName = field.getKey();
+
+            if (IMP_EXT.equals(fieldName)) {
+                impBuilder.ext(mergeExt(imp.getExt(), field.getValue()));
+                continue;
+            }
+
+            final ImpField<?> impField = impFields.get(fieldName);
+            if (impField != null) {
+                mergeField(impField, imp, field.getValue(), impBuilder);
+                validationRequired |= impField.validated();
+            }
+        }
+
+        final Imp resultImp = impBuilder.build();
+        if (validationRequired) {
+            impValidator.validateImp(resultImp, validationMemo);
+        }
+        return resultImp;
+    }
+
+    private <T> void mergeField(ImpField<T> impField, Imp imp, JsonNode patch, Imp.ImpBuilder impBuilder) {
+        final T value = impField.getter().apply(imp);
+        final JsonNode valueNode = patch.isObject() && value != null ? mapper.valueToTree(value) : null;
+        final JsonNode mergedNode = mergePatch(patch, valueNode);
+
+        final T mergedValue = mergedNode != null ? mapper.convertValue(mergedNode, impField.type()) : null;
+        impField.setter().accept(impBuilder, mergedValue);
+    }
+
+    /**
+     * Bidder is not allowed to override imp.ext.prebid.bidder, and merged ext never contains imp.ext.prebid.imp.
+     */
+    private ObjectNode mergeExt(ObjectNode ext, JsonNode patch) {
+        final JsonNode mergedExt = mergePatch(withoutExtPrebidBidder(patch), ext);
+        if (mergedExt == null || !mergedExt.isObject()) {
+            throw new IllegalArgumentException("imp.ext must be an object");
+        }
+
+        final JsonNode mergedPrebid = mergedExt.get(EXT_PREBID);
+        if (mergedPrebid != null && !mergedPrebid.isObject()) {
+            throw new IllegalArgumentException("imp.ext.prebid must be an object");
+        }
+
+        return withoutImpExtPrebidImp((ObjectNode) mergedExt);
+    }
+
+    private JsonNode withoutExtPrebidBidder(JsonNode extPatch) {
+        final JsonNode prebidPatch = extPatch.get(EXT_PREBID);
+        if (prebidPatch == null || !prebidPatch.isObject() || !prebidPatch.has(EXT_PREBID_BIDDER)) {
+            return extPatch;
+        }
+
+        final ObjectNode result = copy((ObjectNode) extPatch);
+        result.set(EXT_PREBID, copy((ObjectNode) prebidPatch).without(EXT_PREBID_BIDDER));
+        return result;
+    }
+
+    private ObjectNode withoutImpExtPrebidImp(ObjectNode ext) {
+        final JsonNode prebid = ext.get(EXT_PREBID);
+        if (prebid == null || !prebid.has(EXT_PREBID_IMP)) {
+            return ext;
+        }
+
+        final ObjectNode result = copy(ext);
+        result.set(EXT_PREBID, copy((ObjectNode) prebid).without(EXT_PREBID_IMP));
+        return result;
+    }
+
+    /**
+     * Applies JSON merge patch without modifying the target: objects on the patched paths are copied,
+     * all other nodes are shared with the target. Returns null if patch removes the target.
+     */
+    private JsonNode mergePatch(JsonNode patch, JsonNode target) {
+        if (patch.isNull()) {
+            return null;
+        }
+        if (!patch.isObject()) {
+            return patch.deepCopy();
+        }
+
+        final ObjectNode result = target != null && target.isObject()
+                ? copy((ObjectNode) target)
+                : mapper.createObjectNode();
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode mergedValue = mergePatch(field.getValue(), result.get(field.getKey()));
+            if (mergedValue != null) {
+                result.set(field.getKey(), mergedValue);
+            } else {
+                result.remove(field.getKey());
+            }
+        }
+        return result;
+    }
+
+    private ObjectNode copy(ObjectNode node) {
+        return mapper.createObjectNode().setAll(node);
     }
 
-    private static void removeImpExtPrebidImp(JsonNode impExt) {
-        Optional.ofNullable(impExt.get(EXT_PREBID))
-                .map(ObjectNode.class::cast)
-                .ifPresent(prebid -> prebid.remove(EXT_PREBID_IMP));
+    private record ImpField<T>(Function<Imp, T> getter,
+                               BiConsumer<Imp.ImpBuilder, T> setter,
+                               JavaType type,
+                               boolean validated) {
     }
 }
@@ -4,6 +4,7 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Source;
 import com.iab.openrtb.request.SupplyChain;
 import com.iab.openrtb.request.SupplyChainNode;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -18,8 +19,14 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidSchain;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 public class SupplyChainResolver {
@@ -36,19 +43,54 @@ public class SupplyChainResolver {
         return new SupplyChainResolver(globalNodeOrNull(globalNodeString, Objects.requireNonNull(mapper)));
     }
 
-    public SupplyChain resolveForBidder(String bidder, BidRequest bidRequest) {
+    /**
+     * Resolves schains for all given bidders in one pass over ext.prebid.schains.
+     * <p>
+     * Bidders resolved to the same schain entry (or to none of them) share one {@link SupplyChain} instance,
+     * so the global node is appended once per distinct schain rather than once per bidder.
+     */
+    public Map<String, SupplyChain> resolveForBidders(Collection<String> bidders, BidRequest bidRequest) {
+        final Map<String, SupplyChain> bidderToSchainEntry = bidderToSchainEntry(bidRequest);
+        final SupplyChain catchAllSchain = bidderToSchainEntry.get("*");
+
+        final Map<SupplyChain, SupplyChain> enrichedSchains = new IdentityHashMap<>();
+        final Map<String, SupplyChain> bidderToSchain = new HashMap<>();
+        for (String bidder : bidders) {
+            final SupplyChain schain = ObjectUtils.defaultIfNull(bidderToSchainEntry.get(bidder), catchAllSchain);
+            bidderToSchain.put(bidder, enrichedSchains.computeIfAbsent(schain, key -> enrich(key, bidRequest)));
+        }
+
+        return bidderToSchain;
+    }
+
+    /**
+     * Returns schain entry bidder (ignoring case) to its schain, bidders defined more than once are rejected.
+     */
+    private static Map<String, SupplyChain> bidderToSchainEntry(BidRequest bidRequest) {
         final ExtRequest requestExt = bidRequest.getExt();
         final ExtRequestPrebid prebid = requestExt == null ? null : requestExt.getPrebid();
         final List<ExtRequestPrebidSchain> schains = prebid == null ? null : prebid.getSchains();
+        if (CollectionUtils.isEmpty(schains)) {
+            return Collections.emptyMap();
+        }
 
-        SupplyChain bidderSchain = null;
-        SupplyChain catchAllSchain = null;
-        for (ExtRequestPrebidSchain schain : ListUtils.emptyIfNull(schains)) {
-            catchAllSchain = existingSchainOrNull("*", catchAllSchain, schain);
-            bidderSchain = existingSchainOrNull(bidder, bidderSchain, schain);
+        final Map<String, SupplyChain> bidderToSchainEntry = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (ExtRequestPrebidSchain schainEntry : schains) {
+            final Set<String> entryBidders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            Stream.ofNullable(schainEntry)
+                    .map(ExtRequestPrebidSchain::getBidders)
+                    .filter(Objects::nonNull)
+                    .flatMap(Collection::stream)
+                    .filter(Objects::nonNull)
+                    .forEach(entryBidders::add);
+
+            for (String bidder : entryBidders) {
+                final SupplyChain existingSchain = bidderToSchainEntry.get(bidder);
+                bidderToSchainEntry.put(bidder, existingSchainOrNull(bidder, existingSchain, schainEntry));
+            }
         }
 
-        return enrich(ObjectUtils.defaultIfNull(bidderSchain, catchAllSchain), bidRequest);
+        return bidderToSchainEntry;
     }
 
     private static SupplyChainNode globalNodeOrNull(String globalNodeString, JacksonMapper mapper) {
@@ -63,13 +105,9 @@ public class SupplyChainResolver {
         }
     }
 
-    private SupplyChain existingSchainOrNull(String bidder,
-                                             SupplyChain existingSchain,
-                                             ExtRequestPrebidSchain schainEntry) {
-
-        if (!containsBidder(schainEntry, bidder)) {
-            return existingSchain;
-        }
+    private static SupplyChain existingSchainOrNull(String bidder,
+                                                    SupplyChain existingSchain,
+                                                    ExtRequestPrebidSchain schainEntry) {
 
         if (existingSchain != null) {
             logger.debug("Schain bidder {} is rejected since it was defined more than once", bidder);
@@ -79,14 +117,6 @@ public class SupplyChainResolver {
         return schainEntry.getSchain();
     }
 
-    private static boolean containsBidder(ExtRequestPrebidSchain schainEntry, String bidder) {
-        return Stream.ofNullable(schainEntry)
-                .map(ExtRequestPrebidSchain::getBidders)
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .anyMatch(schainEntryBidder -> StringUtils.equalsIgnoreCase(schainEntryBidder, bidder));
-    }
-
     private SupplyChain enrich(SupplyChain bidderSpecificSchain, BidRequest bidRequest) {
         if (globalNode == null) {
             return bidderSpecificSchain;
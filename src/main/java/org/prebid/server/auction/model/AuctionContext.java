@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.auction.gpp.model.GppContext;
@@ -13,10 +15,12 @@ import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.json.SharedFragments;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.validation.model.ValidationMemo;
 
 import java.util.Collections;
 import java.util.List;
@@ -77,6 +81,18 @@ public class AuctionContext {
     @Builder.Default
     BidAdjustments bidAdjustments = BidAdjustments.of(Collections.emptyMap());
 
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Builder.Default
+    ValidationMemo validationMemo = new ValidationMemo();
+
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Builder.Default
+    SharedFragments sharedFragments = new SharedFragments();
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -1,9 +1,13 @@
 package org.prebid.server.auction.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.json.SharedFragments;
 
 @Builder(toBuilder = true)
 @Value
@@ -17,6 +21,11 @@ public class BidderRequest {
 
     BidRequest bidRequest;
 
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    SharedFragments sharedFragments;
+
     public BidderRequest with(BidRequest bidRequest) {
         return toBuilder().bidRequest(bidRequest).build();
     }
@@ -419,6 +419,7 @@ public class AmpRequestFactory {
                         resolvedBidRequest,
                         auctionContext.getHttpRequest(),
                         auctionContext.getDebugContext(),
+                        auctionContext.getValidationMemo(),
                         auctionContext.getDebugWarnings()));
     }
 
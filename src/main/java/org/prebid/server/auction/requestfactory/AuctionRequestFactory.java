@@ -242,7 +242,12 @@ public class AuctionRequestFactory {
         return storedRequestProcessor.processAuctionRequest(account.getId(), auctionContext.getBidRequest())
                 .compose(auctionStoredResult -> updateBidRequest(auctionStoredResult, auctionContext))
                 .compose(bidRequest -> ortb2RequestFactory.validateRequest(
-                        account, bidRequest, httpRequest, auctionContext.getDebugContext(), debugWarnings))
+                        account,
+                        bidRequest,
+                        httpRequest,
+                        auctionContext.getDebugContext(),
+                        auctionContext.getValidationMemo(),
+                        debugWarnings))
                 .map(interstitialProcessor::process);
     }
 
@@ -72,6 +72,7 @@ import org.prebid.server.settings.model.DefaultDsa;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.validation.RequestValidator;
+import org.prebid.server.validation.model.ValidationMemo;
 import org.prebid.server.validation.model.ValidationResult;
 
 import java.util.ArrayList;
@@ -196,10 +197,11 @@ public class Ortb2RequestFactory {
                                               BidRequest bidRequest,
                                               HttpRequestContext httpRequestContext,
                                               DebugContext debugContext,
+                                              ValidationMemo validationMemo,
                                               List<String> warnings) {
 
         final ValidationResult validationResult = requestValidator.validate(
-                account, bidRequest, httpRequestContext, debugContext);
+                account, bidRequest, httpRequestContext, debugContext, validationMemo);
 
         if (validationResult.hasWarnings()) {
             warnings.addAll(validationResult.getWarnings());
@@ -124,6 +124,7 @@ public class VideoRequestFactory {
                                 auctionContext.getBidRequest(),
                                 auctionContext.getHttpRequest(),
                                 auctionContext.getDebugContext(),
+                                auctionContext.getValidationMemo(),
                                 auctionContext.getDebugWarnings())
                         .map(auctionContext::with))
 
@@ -9,14 +9,6 @@ import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustmentsRule;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.util.BidderUtil;
-import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
-import org.prebid.server.util.dsl.config.PrebidConfigParameter;
-import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
-import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
-import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
-import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -29,12 +21,28 @@ public class BidAdjustmentsResolver {
     public static final String WILDCARD = "*";
     public static final String DELIMITER = "|";
 
-    private final PrebidConfigMatchingStrategy matchingStrategy;
+    private static final int MEDIA_TYPE_WILDCARD = 0b100;
+    private static final int BIDDER_WILDCARD = 0b010;
+    private static final int DEAL_ID_WILDCARD = 0b001;
+
+    /**
+     * Wildcarded conditions from the most to the least accurate rule, in the same order
+     * as {@link org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy} tries them.
+     */
+    private static final int[] WILDCARD_COMBINATIONS = {
+            0,
+            DEAL_ID_WILDCARD,
+            BIDDER_WILDCARD,
+            MEDIA_TYPE_WILDCARD,
+            BIDDER_WILDCARD | DEAL_ID_WILDCARD,
+            MEDIA_TYPE_WILDCARD | DEAL_ID_WILDCARD,
+            MEDIA_TYPE_WILDCARD | BIDDER_WILDCARD,
+            MEDIA_TYPE_WILDCARD | BIDDER_WILDCARD | DEAL_ID_WILDCARD};
+
     private final CurrencyConversionService currencyService;
 
     public BidAdjustmentsResolver(CurrencyConversionService currencyService) {
         this.currencyService = Objects.requireNonNull(currencyService);
-        this.matchingStrategy = new MostAccurateCombinationStrategy();
     }
 
     public Price resolve(Price initialPrice,
@@ -58,21 +66,40 @@ public class BidAdjustmentsResolver {
                                                          String targetBidder,
                                                          String targetDealId) {
 
-        final Map<String, List<ExtRequestBidAdjustmentsRule>> rules = bidAdjustments.getRules();
-        final PrebidConfigSource source = SimpleSource.of(WILDCARD, DELIMITER, rules.keySet());
-        final PrebidConfigParameters parameters = createParameters(targetMediaType, targetBidder, targetDealId);
+        final Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> rulesTable =
+                bidAdjustments.getRules();
+        if (rulesTable.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String mediaType = targetMediaType.toString();
+        final String bidder = StringUtils.defaultString(targetBidder);
+        final String dealId = StringUtils.isNotBlank(targetDealId) ? targetDealId : WILDCARD;
+
+        for (int wildcards : WILDCARD_COMBINATIONS) {
+            final List<ExtRequestBidAdjustmentsRule> rules = findRules(
+                    rulesTable,
+                    (wildcards & MEDIA_TYPE_WILDCARD) != 0 ? WILDCARD : mediaType,
+                    (wildcards & BIDDER_WILDCARD) != 0 ? WILDCARD : bidder,
+                    (wildcards & DEAL_ID_WILDCARD) != 0 ? WILDCARD : dealId);
+
+            if (rules != null) {
+                return rules;
+            }
+        }
 
-        final String rule = matchingStrategy.match(source, parameters);
-        return rule == null ? Collections.emptyList() : rules.get(rule);
+        return Collections.emptyList();
     }
 
-    private PrebidConfigParameters createParameters(ImpMediaType mediaType, String bidder, String dealId) {
-        final List<PrebidConfigParameter> conditionsMatchers = List.of(
-                SimpleDirectParameter.of(mediaType.toString()),
-                SimpleDirectParameter.of(bidder),
-                StringUtils.isNotBlank(dealId) ? SimpleDirectParameter.of(dealId) : PrebidConfigParameter.wildcard());
+    private static List<ExtRequestBidAdjustmentsRule> findRules(
+            Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> rulesTable,
+            String mediaType,
+            String bidder,
+            String dealId) {
 
-        return SimpleParameters.of(conditionsMatchers);
+        final Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>> bidders = rulesTable.get(mediaType);
+        final Map<String, List<ExtRequestBidAdjustmentsRule>> deals = bidders != null ? bidders.get(bidder) : null;
+        return deals != null ? deals.get(dealId) : null;
     }
 
     private Price adjustPrice(Price price,
@@ -2,7 +2,10 @@ package org.prebid.server.bidadjustments;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.bidadjustments.model.BidAdjustments;
 import org.prebid.server.json.JacksonMapper;
@@ -27,10 +30,17 @@ public class BidAdjustmentsRetriever {
     private static final Logger logger = LoggerFactory.getLogger(BidAdjustmentsRetriever.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
+    private static final int ACCOUNT_BID_ADJUSTMENTS_CACHE_SIZE = 10_000;
+    private static final BidAdjustments EMPTY_BID_ADJUSTMENTS = BidAdjustments.of(Collections.emptyMap());
+
     private final ObjectMapper mapper;
     private final JsonMerger jsonMerger;
     private final double samplingRate;
 
+    private final Cache<String, AccountBidAdjustments> accountBidAdjustmentsCache = Caffeine.newBuilder()
+            .maximumSize(ACCOUNT_BID_ADJUSTMENTS_CACHE_SIZE)
+            .build();
+
     public BidAdjustmentsRetriever(JacksonMapper mapper,
                                    JsonMerger jsonMerger,
                                    double samplingRate) {
@@ -40,47 +50,91 @@ public class BidAdjustmentsRetriever {
     }
 
     public BidAdjustments retrieve(AuctionContext auctionContext) {
-        final List<String> debugWarnings = auctionContext.getDebugWarnings();
-        final boolean debugEnabled = auctionContext.getDebugContext().isDebugEnabled();
+        final List<String> debugWarnings = auctionContext.getDebugContext().isDebugEnabled()
+                ? auctionContext.getDebugWarnings()
+                : null;
 
         final JsonNode requestBidAdjustmentsNode = Optional.ofNullable(auctionContext.getBidRequest())
                 .map(BidRequest::getExt)
                 .map(ExtRequest::getPrebid)
                 .map(ExtRequestPrebid::getBidadjustments)
-                .orElseGet(mapper::createObjectNode);
+                .orElse(null);
 
-        final JsonNode accountBidAdjustmentsNode = Optional.ofNullable(auctionContext.getAccount())
+        final Account account = auctionContext.getAccount();
+        final JsonNode accountBidAdjustmentsNode = Optional.ofNullable(account)
                 .map(Account::getAuction)
                 .map(AccountAuctionConfig::getBidAdjustments)
-                .orElseGet(mapper::createObjectNode);
+                .orElse(null);
 
-        final JsonNode mergedBidAdjustmentsNode = jsonMerger.merge(
-                requestBidAdjustmentsNode,
-                accountBidAdjustmentsNode);
+        if (requestBidAdjustmentsNode == null || requestBidAdjustmentsNode.isEmpty()) {
+            return accountBidAdjustments(account, accountBidAdjustmentsNode, debugWarnings);
+        }
 
-        final List<String> resolvedWarnings = debugEnabled ? debugWarnings : null;
-        return convertAndValidate(mergedBidAdjustmentsNode, resolvedWarnings, "request")
-                .or(() -> convertAndValidate(accountBidAdjustmentsNode, resolvedWarnings, "account"))
-                .orElse(BidAdjustments.of(Collections.emptyMap()));
-    }
+        final JsonNode mergedBidAdjustmentsNode = accountBidAdjustmentsNode != null
+                ? jsonMerger.merge(requestBidAdjustmentsNode, accountBidAdjustmentsNode)
+                : requestBidAdjustmentsNode;
 
-    private Optional<BidAdjustments> convertAndValidate(JsonNode bidAdjustmentsNode,
-                                                        List<String> debugWarnings,
-                                                        String errorLocation) {
         try {
-            final ExtRequestBidAdjustments accountBidAdjustments = mapper.convertValue(
-                    bidAdjustmentsNode,
-                    ExtRequestBidAdjustments.class);
+            return convertAndValidate(mergedBidAdjustmentsNode);
+        } catch (IllegalArgumentException | ValidationException e) {
+            reportInvalid("request", e.getMessage(), debugWarnings);
+            return accountBidAdjustments(account, accountBidAdjustmentsNode, debugWarnings);
+        }
+    }
 
-            BidAdjustmentRulesValidator.validate(accountBidAdjustments);
-            return Optional.of(BidAdjustments.of(accountBidAdjustments));
+    /**
+     * Converts and validates account bid adjustments once per account config, config is considered changed
+     * when its content differs from the cached one.
+     */
+    private BidAdjustments accountBidAdjustments(Account account,
+                                                 JsonNode accountBidAdjustmentsNode,
+                                                 List<String> debugWarnings) {
+
+        if (accountBidAdjustmentsNode == null) {
+            return EMPTY_BID_ADJUSTMENTS;
+        }
+
+        final String accountId = StringUtils.defaultString(account.getId());
+        AccountBidAdjustments accountBidAdjustments = accountBidAdjustmentsCache.getIfPresent(accountId);
+        if (accountBidAdjustments == null || !accountBidAdjustments.source().equals(accountBidAdjustmentsNode)) {
+            accountBidAdjustments = toAccountBidAdjustments(accountBidAdjustmentsNode);
+            accountBidAdjustmentsCache.put(accountId, accountBidAdjustments);
+        }
+
+        if (accountBidAdjustments.error() != null) {
+            reportInvalid("account", accountBidAdjustments.error(), debugWarnings);
+            return EMPTY_BID_ADJUSTMENTS;
+        }
+
+        return accountBidAdjustments.bidAdjustments();
+    }
+
+    private AccountBidAdjustments toAccountBidAdjustments(JsonNode accountBidAdjustmentsNode) {
+        final JsonNode source = accountBidAdjustmentsNode.deepCopy();
+        try {
+            return new AccountBidAdjustments(source, convertAndValidate(source), null);
         } catch (IllegalArgumentException | ValidationException e) {
-            final String message = "bid adjustment from " + errorLocation + " was invalid: " + e.getMessage();
-            if (debugWarnings != null) {
-                debugWarnings.add(message);
-            }
-            conditionalLogger.error(message, samplingRate);
-            return Optional.empty();
+            return new AccountBidAdjustments(source, null, e.getMessage());
+        }
+    }
+
+    private BidAdjustments convertAndValidate(JsonNode bidAdjustmentsNode) throws ValidationException {
+        final ExtRequestBidAdjustments bidAdjustments = mapper.convertValue(
+                bidAdjustmentsNode,
+                ExtRequestBidAdjustments.class);
+
+        BidAdjustmentRulesValidator.validate(bidAdjustments);
+        return BidAdjustments.of(bidAdjustments);
+    }
+
+    private void reportInvalid(String errorLocation, String error, List<String> debugWarnings) {
+        final String message = "bid adjustment from " + errorLocation + " was invalid: " + error;
+        if (debugWarnings != null) {
+            debugWarnings.add(message);
         }
+        conditionalLogger.error(message, samplingRate);
+    }
+
+    private record AccountBidAdjustments(JsonNode source, BidAdjustments bidAdjustments, String error) {
     }
 }
@@ -3,7 +3,6 @@ package org.prebid.server.bidadjustments.model;
 import lombok.Value;
 import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.bidadjustments.BidAdjustmentRulesValidator;
-import org.prebid.server.bidadjustments.BidAdjustmentsResolver;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustments;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustmentsRule;
 
@@ -15,18 +14,16 @@ import java.util.Map;
 @Value(staticConstructor = "of")
 public class BidAdjustments {
 
-    private static final String RULE_SCHEME =
-            "%s" + BidAdjustmentsResolver.DELIMITER + "%s" + BidAdjustmentsResolver.DELIMITER + "%s";
-
-    Map<String, List<ExtRequestBidAdjustmentsRule>> rules;
+    /**
+     * Rules keyed by media type, bidder and deal id, so they can be looked up without building rule strings.
+     */
+    Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> rules;
 
     public static BidAdjustments of(ExtRequestBidAdjustments bidAdjustments) {
         if (bidAdjustments == null) {
             return BidAdjustments.of(Collections.emptyMap());
         }
 
-        final Map<String, List<ExtRequestBidAdjustmentsRule>> rules = new HashMap<>();
-
         final Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> mediatypes =
                 bidAdjustments.getMediatype();
 
@@ -34,19 +31,22 @@ public class BidAdjustments {
             return BidAdjustments.of(Collections.emptyMap());
         }
 
+        final Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> rules = new HashMap<>();
         for (String mediatype : mediatypes.keySet()) {
             if (BidAdjustmentRulesValidator.SUPPORTED_MEDIA_TYPES.contains(mediatype)) {
-                final Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>> bidders = mediatypes.get(mediatype);
-                for (String bidder : bidders.keySet()) {
-                    final Map<String, List<ExtRequestBidAdjustmentsRule>> deals = bidders.get(bidder);
-                    for (String dealId : deals.keySet()) {
-                        rules.put(RULE_SCHEME.formatted(mediatype, bidder, dealId), deals.get(dealId));
+                final Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>> bidders = new HashMap<>();
+                mediatypes.get(mediatype).forEach((bidder, deals) -> {
+                    if (!deals.isEmpty()) {
+                        bidders.put(bidder, MapUtils.unmodifiableMap(new HashMap<>(deals)));
                     }
+                });
+
+                if (!bidders.isEmpty()) {
+                    rules.put(mediatype, MapUtils.unmodifiableMap(bidders));
                 }
             }
         }
 
         return BidAdjustments.of(MapUtils.unmodifiableMap(rules));
     }
-
 }
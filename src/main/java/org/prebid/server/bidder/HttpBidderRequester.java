@@ -29,6 +29,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -71,6 +72,7 @@ public class HttpBidderRequester {
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
     private final JacksonMapper mapper;
+    private final Metrics metrics;
     private final double logSamplingRate;
 
     public HttpBidderRequester(HttpClient httpClient,
@@ -78,6 +80,7 @@ public class HttpBidderRequester {
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
                                JacksonMapper mapper,
+                               Metrics metrics,
                                double logSamplingRate) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
@@ -85,6 +88,7 @@ public class HttpBidderRequester {
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
         this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
         this.logSamplingRate = logSamplingRate;
     }
 
@@ -102,10 +106,15 @@ public class HttpBidderRequester {
         final String bidderName = bidderRequest.getBidder();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
-        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
+        final long buildStart = System.nanoTime();
+        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = mapper.withSharedFragments(
+                bidderRequest.getSharedFragments(), () -> bidder.makeHttpRequests(bidRequest));
+        final long buildNanos = System.nanoTime() - buildStart;
+
         final List<BidderError> errors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests = enrichRequests(
                 bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest);
+        updateRequestBuildMetrics(bidderName, aliases, httpRequests, buildNanos);
 
         rejectErrors(bidRejectionTracker, errors, BidRejectionReason.REQUEST_BLOCKED_GENERAL);
 
@@ -151,6 +160,25 @@ public class HttpBidderRequester {
                 .toList();
     }
 
+    private <T> void updateRequestBuildMetrics(String bidderName,
+                                               BidderAliases aliases,
+                                               List<HttpRequest<T>> httpRequests,
+                                               long buildNanos) {
+
+        if (CollectionUtils.isEmpty(httpRequests)) {
+            return;
+        }
+
+        final long requestSize = httpRequests.stream()
+                .map(HttpRequest::getBody)
+                .filter(Objects::nonNull)
+                .mapToLong(body -> body.length)
+                .sum();
+        final String bidder = aliases != null ? aliases.resolveBidder(bidderName) : bidderName;
+
+        metrics.updateAdapterRequestBuildMetrics(bidder, requestSize, buildNanos);
+    }
+
     private static void rejectErrors(BidRejectionTracker bidRejectionTracker,
                                      List<BidderError> bidderErrors,
                                      BidRejectionReason reason) {
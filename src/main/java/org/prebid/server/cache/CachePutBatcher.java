@@ -0,0 +1,284 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Merges Prebid Cache put requests of concurrent auctions submitted within a short window into one HTTP request.
+ * <p>
+ * Each submitter gets back on its own context a response holding only the cache objects at positions of its puts.
+ * Merged request uses the largest timeout left among its submitters, so a submitter with a short timeout does not
+ * cut the request short for others. Each submitter is failed on its own timeout, submitters whose timeout expired
+ * while waiting for the window are failed without being sent.
+ */
+public class CachePutBatcher {
+
+    private static final String PUTS_PREFIX = "{\"puts\":[";
+    private static final String PUTS_SUFFIX = "]}";
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+    private final long windowMs;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private final Map<String, Batch> batches = new HashMap<>();
+
+    public CachePutBatcher(Vertx vertx,
+                           HttpClient httpClient,
+                           Metrics metrics,
+                           Clock clock,
+                           JacksonMapper mapper,
+                           long windowMs,
+                           int maxBatchSize) {
+
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Adds put request body with the given number of put objects to the pending batch of the given url.
+     * Batch is sent when the window passes or it reaches max size in put objects.
+     */
+    public Future<HttpClientResponse> post(String url, MultiMap headers, String body, int putCount, long timeoutMs) {
+        if (!body.startsWith(PUTS_PREFIX) || !body.endsWith(PUTS_SUFFIX)) {
+            return Future.failedFuture(new IllegalArgumentException("Unexpected cache request body: " + body));
+        }
+
+        final long now = clock.millis();
+        final PendingPut pendingPut = new PendingPut(body, putCount, now, now + timeoutMs,
+                vertx.getOrCreateContext());
+
+        final Batch fullBatch;
+        synchronized (lock) {
+            Batch batch = batches.get(url);
+            if (batch == null) {
+                batch = new Batch(url, headers);
+                batches.put(url, batch);
+                scheduleFlush(batch);
+            }
+
+            batch.puts.add(pendingPut);
+            batch.putCount += putCount;
+            fullBatch = batch.putCount >= maxBatchSize ? detach(batch) : null;
+        }
+
+        if (fullBatch != null) {
+            send(fullBatch);
+        }
+
+        return pendingPut.promise.future();
+    }
+
+    private void scheduleFlush(Batch batch) {
+        if (windowMs > 0) {
+            vertx.setTimer(windowMs, ignored -> flush(batch));
+        } else {
+            vertx.runOnContext(ignored -> flush(batch));
+        }
+    }
+
+    private Batch detach(Batch batch) {
+        return batches.remove(batch.url, batch) ? batch : null;
+    }
+
+    private void flush(Batch batch) {
+        final Batch detached;
+        synchronized (lock) {
+            detached = detach(batch);
+        }
+
+        if (detached != null) {
+            send(detached);
+        }
+    }
+
+    private void send(Batch batch) {
+        final long now = clock.millis();
+
+        final List<PendingPut> puts = new ArrayList<>(batch.puts.size());
+        long deadline = 0L;
+        int putCount = 0;
+        for (PendingPut put : batch.puts) {
+            metrics.updateCacheBatchWaitTimeMetric(now - put.submittedAt);
+
+            if (put.deadline <= now) {
+                put.complete(Future.failedFuture(new TimeoutException("Timeout has been exceeded")));
+            } else {
+                puts.add(put);
+                deadline = Math.max(deadline, put.deadline);
+                putCount += put.putCount;
+            }
+        }
+
+        if (puts.isEmpty()) {
+            return;
+        }
+
+        metrics.updateCacheBatchSizeMetric(putCount);
+
+        for (PendingPut put : puts) {
+            if (put.deadline < deadline) {
+                put.timerId = vertx.setTimer(put.deadline - now, ignored -> put.complete(
+                        Future.failedFuture(new TimeoutException("Timeout has been exceeded"))));
+            }
+        }
+
+        final String body = puts.size() == 1 ? puts.getFirst().body : mergeBodies(puts);
+        httpClient.post(batch.url, batch.headers, body, deadline - now)
+                .onComplete(result -> {
+                    puts.forEach(this::cancelTimeout);
+                    fanOut(puts, result);
+                });
+    }
+
+    private void cancelTimeout(PendingPut put) {
+        if (put.timerId != null) {
+            vertx.cancelTimer(put.timerId);
+        }
+    }
+
+    private static String mergeBodies(List<PendingPut> puts) {
+        final StringBuilder body = new StringBuilder(PUTS_PREFIX);
+        boolean first = true;
+        for (PendingPut put : puts) {
+            if (put.putCount == 0) {
+                continue;
+            }
+
+            if (!first) {
+                body.append(',');
+            }
+            body.append(put.body, PUTS_PREFIX.length(), put.body.length() - PUTS_SUFFIX.length());
+            first = false;
+        }
+        return body.append(PUTS_SUFFIX).toString();
+    }
+
+    private void fanOut(List<PendingPut> puts, AsyncResult<HttpClientResponse> result) {
+        if (result.failed() || puts.size() == 1) {
+            puts.forEach(put -> put.complete(result));
+            return;
+        }
+
+        final HttpClientResponse response = result.result();
+        final List<CacheObject> cacheObjects = cacheObjects(response, puts);
+        if (cacheObjects == null) {
+            // let each submitter fail on the response as if it was sent alone
+            puts.forEach(put -> put.complete(result));
+            return;
+        }
+
+        int position = 0;
+        for (PendingPut put : puts) {
+            final List<CacheObject> putCacheObjects = cacheObjects.subList(position, position + put.putCount);
+            position += put.putCount;
+
+            final String body = mapper.encodeToString(BidCacheResponse.of(putCacheObjects));
+            put.complete(Future.succeededFuture(
+                    HttpClientResponse.of(response.getStatusCode(), response.getHeaders(), body)));
+        }
+    }
+
+    private List<CacheObject> cacheObjects(HttpClientResponse response, List<PendingPut> puts) {
+        if (response.getStatusCode() != 200) {
+            return null;
+        }
+
+        final BidCacheResponse bidCacheResponse;
+        try {
+            bidCacheResponse = mapper.decodeValue(response.getBody(), BidCacheResponse.class);
+        } catch (DecodeException e) {
+            return null;
+        }
+
+        final List<CacheObject> cacheObjects = bidCacheResponse.getResponses();
+        final int expectedSize = puts.stream().mapToInt(put -> put.putCount).sum();
+        return cacheObjects != null && cacheObjects.size() == expectedSize ? cacheObjects : null;
+    }
+
+    private static class Batch {
+
+        private final String url;
+
+        private final MultiMap headers;
+
+        private final List<PendingPut> puts = new ArrayList<>();
+
+        private int putCount;
+
+        Batch(String url, MultiMap headers) {
+            this.url = url;
+            this.headers = headers;
+        }
+    }
+
+    private static class PendingPut {
+
+        private final String body;
+
+        private final int putCount;
+
+        private final long submittedAt;
+
+        private final long deadline;
+
+        private final Context context;
+
+        private final Promise<HttpClientResponse> promise = Promise.promise();
+
+        private volatile Long timerId;
+
+        PendingPut(String body, int putCount, long submittedAt, long deadline, Context context) {
+            this.body = body;
+            this.putCount = putCount;
+            this.submittedAt = submittedAt;
+            this.deadline = deadline;
+            this.context = context;
+        }
+
+        /**
+         * Completes submitter with the first result, later ones (response after own timeout) are ignored.
+         */
+        void complete(AsyncResult<HttpClientResponse> result) {
+            context.runOnContext(ignored -> {
+                if (result.succeeded()) {
+                    promise.tryComplete(result.result());
+                } else {
+                    promise.tryFail(result.cause());
+                }
+            });
+        }
+    }
+}
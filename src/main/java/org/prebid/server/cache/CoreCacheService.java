@@ -68,6 +68,7 @@ public class CoreCacheService {
     private static final int MAX_DATACENTER_REGION_LENGTH = 4;
 
     private final HttpClient httpClient;
+    private final CachePutBatcher cachePutBatcher;
     private final URL endpointUrl;
     private final String cachedAssetUrlTemplate;
     private final long expectedCacheTimeMs;
@@ -86,6 +87,7 @@ public class CoreCacheService {
 
     public CoreCacheService(
             HttpClient httpClient,
+            CachePutBatcher cachePutBatcher,
             URL endpointUrl,
             String cachedAssetUrlTemplate,
             long expectedCacheTimeMs,
@@ -101,6 +103,7 @@ public class CoreCacheService {
             JacksonMapper mapper) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.cachePutBatcher = cachePutBatcher;
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
         this.expectedCacheTimeMs = expectedCacheTimeMs;
@@ -178,16 +181,18 @@ public class CoreCacheService {
         }
 
         final long startTime = clock.millis();
-        return httpClient.post(
-                        endpointUrl.toString(),
-                        cacheHeaders,
-                        mapper.encodeToString(bidCacheRequest),
-                        remainingTimeout)
+        return post(endpointUrl.toString(), mapper.encodeToString(bidCacheRequest), bidCount, remainingTimeout)
                 .map(response -> toBidCacheResponse(
                         response.getStatusCode(), response.getBody(), bidCount, accountId, startTime))
                 .recover(exception -> failResponse(exception, accountId, startTime));
     }
 
+    private Future<HttpClientResponse> post(String url, String body, int putCount, long timeout) {
+        return cachePutBatcher != null
+                ? cachePutBatcher.post(url, cacheHeaders, body, putCount, timeout)
+                : httpClient.post(url, cacheHeaders, body, timeout);
+    }
+
     private Future<BidCacheResponse> failResponse(Throwable exception, String accountId, long startTime) {
         metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
 
@@ -313,7 +318,7 @@ public class CoreCacheService {
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
 
         final long startTime = clock.millis();
-        return httpClient.post(url, cacheHeaders, body, remainingTimeout)
+        return post(url, body, cachedCreatives.size(), remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
                         cachedCreatives.size(),
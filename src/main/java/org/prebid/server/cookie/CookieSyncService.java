@@ -5,6 +5,7 @@ import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.SetUtils;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.Activity;
@@ -48,6 +49,7 @@ import org.prebid.server.util.StreamUtil;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -71,6 +73,8 @@ public class CookieSyncService {
     private final CoopSyncProvider coopSyncProvider;
     private final Metrics metrics;
 
+    private final Map<String, BidderEligibility> bidderEligibilities;
+
     public CookieSyncService(String externalUrl,
                              int defaultLimit,
                              int maxLimit,
@@ -92,6 +96,38 @@ public class CookieSyncService {
         this.uidsCookieService = Objects.requireNonNull(uidsCookieService);
         this.coopSyncProvider = Objects.requireNonNull(coopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
+
+        bidderEligibilities = bidderEligibilities(bidderCatalog);
+    }
+
+    /**
+     * Resolves once everything about bidders that depends only on the configuration, so per-request filtering
+     * of invalid, disabled and not syncable bidders is reduced to a single lookup.
+     */
+    private static Map<String, BidderEligibility> bidderEligibilities(BidderCatalog bidderCatalog) {
+        final Map<String, BidderEligibility> eligibilities = new CaseInsensitiveMap<>();
+        for (String bidder : bidderCatalog.names()) {
+            final Usersyncer usersyncer = bidderCatalog.usersyncerByName(bidder).orElse(null);
+            final RejectionReason rejectionReason;
+            if (!bidderCatalog.isActive(bidder)) {
+                rejectionReason = RejectionReason.DISABLED_BIDDER;
+            } else if (usersyncer == null) {
+                rejectionReason = RejectionReason.UNCONFIGURED_USERSYNC;
+            } else if (!usersyncer.isEnabled()) {
+                rejectionReason = RejectionReason.DISABLED_USERSYNC;
+            } else {
+                rejectionReason = null;
+            }
+
+            eligibilities.put(bidder, new BidderEligibility(
+                    rejectionReason,
+                    bidderCatalog.cookieFamilyName(bidder).orElse(null),
+                    bidderCatalog.isAlias(bidder)
+                            && usersyncer != null
+                            && usersyncer.getCookieFamilySource() == CookieFamilySource.ROOT));
+        }
+
+        return eligibilities;
     }
 
     private static void validateLimits(int limit, int maxLimit) {
@@ -107,10 +143,7 @@ public class CookieSyncService {
                 .map(this::validateCookieSyncContext)
                 .map(this::resolveLimit)
                 .map(this::resolveBiddersToSync)
-                .map(this::filterInvalidBidders)
-                .map(this::filterDisabledBidders)
-                .map(this::filterBiddersWithoutUsersync)
-                .map(this::filterBiddersWithDisabledUsersync)
+                .map(this::filterIneligibleBidders)
                 .map(this::applyRequestFilterSettings)
                 .compose(this::applyPrivacyFilteringRules)
                 .map(this::filterInSyncBidders);
@@ -174,32 +207,31 @@ public class CookieSyncService {
         return cookieSyncContext.with(updatedContext);
     }
 
-    private CookieSyncContext filterInvalidBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isValidName(bidder),
-                RejectionReason.INVALID_BIDDER);
-    }
+    /**
+     * Rejects invalid and disabled bidders along with bidders without enabled usersync, each bidder gets the reason
+     * of the first failed check.
+     */
+    private CookieSyncContext filterIneligibleBidders(CookieSyncContext cookieSyncContext) {
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
 
-    private CookieSyncContext filterDisabledBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isActive(bidder),
-                RejectionReason.DISABLED_BIDDER);
-    }
+        final Map<RejectionReason, Set<String>> rejectedBidders = new EnumMap<>(RejectionReason.class);
+        for (String bidder : biddersContext.allowedBidders()) {
+            final BidderEligibility eligibility = bidderEligibilities.get(bidder);
+            final RejectionReason reason = eligibility != null
+                    ? eligibility.rejectionReason()
+                    : RejectionReason.INVALID_BIDDER;
 
-    private CookieSyncContext filterBiddersWithoutUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder).isEmpty(),
-                RejectionReason.UNCONFIGURED_USERSYNC);
-    }
+            if (reason != null) {
+                rejectedBidders.computeIfAbsent(reason, key -> new HashSet<>()).add(bidder);
+            }
+        }
 
-    private CookieSyncContext filterBiddersWithDisabledUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.usersyncerByName(bidder).orElseThrow().isEnabled(),
-                RejectionReason.DISABLED_USERSYNC);
+        BiddersContext updatedBiddersContext = biddersContext;
+        for (Map.Entry<RejectionReason, Set<String>> entry : rejectedBidders.entrySet()) {
+            updatedBiddersContext = updatedBiddersContext.withRejectedBidders(entry.getValue(), entry.getKey());
+        }
+
+        return cookieSyncContext.with(updatedBiddersContext);
     }
 
     /**
@@ -214,7 +246,7 @@ public class CookieSyncService {
 
     private boolean isBidderInSync(CookieSyncContext cookieSyncContext, String bidder) {
         final RoutingContext routingContext = cookieSyncContext.getRoutingContext();
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = cookieFamilyName(bidder);
         final String uidFromHostCookie = uidsCookieService.hostCookieUidToSync(routingContext, cookieFamilyName);
 
         return StringUtils.isEmpty(uidFromHostCookie)
@@ -364,7 +396,7 @@ public class CookieSyncService {
 
         while (cookieFamiliesToSync.size() < cookieSyncContext.getLimit() && biddersIterator.hasNext()) {
             final String bidder = biddersIterator.next();
-            final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+            final String cookieFamilyName = cookieFamilyName(bidder);
 
             cookieFamiliesToSync.add(cookieFamilyName);
             biddersToSync.add(bidder);
@@ -385,7 +417,7 @@ public class CookieSyncService {
 
     private List<BidderUsersyncStatus> validStatuses(Set<String> biddersToSync, CookieSyncContext cookieSyncContext) {
         return biddersToSync.stream()
-                .filter(StreamUtil.distinctBy(bidder -> bidderCatalog.cookieFamilyName(bidder).orElseThrow()))
+                .filter(StreamUtil.distinctBy(this::cookieFamilyName))
                 .map(bidder -> validStatus(bidder, cookieSyncContext))
                 .toList();
     }
@@ -393,7 +425,7 @@ public class CookieSyncService {
     private BidderUsersyncStatus validStatus(String bidder, CookieSyncContext cookieSyncContext) {
         final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
         final RoutingContext routingContext = cookieSyncContext.getRoutingContext();
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = cookieFamilyName(bidder);
 
         final UsersyncMethod usersyncMethod = biddersContext.bidderUsersyncMethod().get(bidder);
         final Privacy privacy = cookieSyncContext.getPrivacyContext().getPrivacy();
@@ -452,7 +484,7 @@ public class CookieSyncService {
     }
 
     private BidderUsersyncStatus rejectionStatus(String bidder, RejectionReason reason, BiddersContext biddersContext) {
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElse(bidder);
+        final String cookieFamilyName = ObjectUtils.defaultIfNull(cookieFamilyName(bidder), bidder);
         BidderUsersyncStatus.BidderUsersyncStatusBuilder builder = BidderUsersyncStatus.builder()
                 .bidder(cookieFamilyName);
 
@@ -480,7 +512,7 @@ public class CookieSyncService {
 
         return droppedDueToLimitBidders.stream()
                 .map(bidder -> BidderUsersyncStatus.builder()
-                        .bidder(bidderCatalog.cookieFamilyName(bidder).orElseThrow())
+                        .bidder(cookieFamilyName(bidder))
                         .error("limit reached")
                         .build())
                 .toList();
@@ -499,30 +531,37 @@ public class CookieSyncService {
     }
 
     private boolean isAliasSyncedAsRootFamily(String bidder) {
-        return bidderCatalog.isAlias(bidder)
-                && bidderCatalog.usersyncerByName(bidder)
-                .map(Usersyncer::getCookieFamilySource)
-                .filter(source -> source == CookieFamilySource.ROOT)
-                .isPresent();
+        final BidderEligibility eligibility = bidderEligibilities.get(bidder);
+        return eligibility != null && eligibility.aliasSyncedAsRoot();
     }
 
     private BidderUsersyncStatus warningForAliasSyncedAsRootFamily(String bidder) {
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = cookieFamilyName(bidder);
         return BidderUsersyncStatus.builder()
                 .bidder(bidder)
                 .error("synced as " + cookieFamilyName)
                 .build();
     }
 
+    private String cookieFamilyName(String bidder) {
+        final BidderEligibility eligibility = bidderEligibilities.get(bidder);
+        return eligibility != null ? eligibility.cookieFamilyName() : null;
+    }
+
     private void updateCookieSyncTcfMetrics(BiddersContext biddersContext) {
         biddersContext.rejectedBidders().entrySet().stream()
                 .filter(entry -> entry.getValue() == RejectionReason.REJECTED_BY_TCF)
                 .map(Map.Entry::getKey)
                 .forEach(bidder -> metrics.updateCookieSyncTcfBlockedMetric(
-                        bidderCatalog.isValidName(bidder) ? bidder : "unknown"));
+                        bidderEligibilities.containsKey(bidder) ? bidder : "unknown"));
     }
 
     private static <T> T rethrowAsCookieSyncException(Throwable error, TcfContext tcfContext) {
         throw new CookieSyncException(error, tcfContext);
     }
+
+    private record BidderEligibility(RejectionReason rejectionReason,
+                                     String cookieFamilyName,
+                                     boolean aliasSyncedAsRoot) {
+    }
 }
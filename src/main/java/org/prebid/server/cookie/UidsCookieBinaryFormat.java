@@ -0,0 +1,313 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact binary representation of {@link Uids} used as an alternative to Base64 encoded JSON.
+ * <p>
+ * Layout of the decoded value:
+ * <ul>
+ * <li>version byte, never equal to '{' so binary values are distinguishable from JSON ones</li>
+ * <li>flags byte, the lowest bit is 'optout'</li>
+ * <li>UIDs till the end of value, each one is a varint family id (zero is followed by inline family name),
+ * length-prefixed UTF-8 uid and 4 bytes of expiration epoch seconds</li>
+ * </ul>
+ * Family ids are stable across deployments: they are taken from append-only {@code cookie-family-ids.csv}
+ * resource, families absent there are written inline. UIDs with family ids unknown to this instance are dropped
+ * on decode, all other UIDs survive.
+ */
+public class UidsCookieBinaryFormat {
+
+    private static final byte VERSION = 2;
+    private static final int OPTOUT_FLAG = 1;
+    private static final int HEADER_SIZE = 2;
+    private static final int EXPIRES_SIZE = 4;
+    private static final int INLINE_FAMILY_ID = 0;
+
+    private final Map<String, Integer> familyIds;
+    private final Map<Integer, String> families;
+
+    public UidsCookieBinaryFormat(Map<String, Integer> familyIds) {
+        this.familyIds = Map.copyOf(Objects.requireNonNull(familyIds));
+        families = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : this.familyIds.entrySet()) {
+            final int familyId = entry.getValue();
+            if (familyId <= INLINE_FAMILY_ID) {
+                throw new IllegalArgumentException("Cookie family id must be positive: " + entry.getKey());
+            }
+            if (families.put(familyId, entry.getKey()) != null) {
+                throw new IllegalArgumentException("Duplicated cookie family id: " + familyId);
+            }
+        }
+    }
+
+    /**
+     * Creates format from CSV of {@code id,family} rows, blank rows and rows starting with '#' are skipped.
+     */
+    public static UidsCookieBinaryFormat create(String familyIdsCsv) {
+        final Map<String, Integer> familyIds = new HashMap<>();
+        for (String row : familyIdsCsv.split("\n")) {
+            final String trimmedRow = row.strip();
+            if (trimmedRow.isEmpty() || trimmedRow.startsWith("#")) {
+                continue;
+            }
+
+            final String[] tokens = trimmedRow.split(",");
+            if (tokens.length != 2 || familyIds.put(tokens[1].strip(), Integer.parseInt(tokens[0].strip())) != null) {
+                throw new IllegalArgumentException("Invalid cookie family id row: " + trimmedRow);
+            }
+        }
+
+        return new UidsCookieBinaryFormat(familyIds);
+    }
+
+    /**
+     * Checks if decoded cookie value is in binary format.
+     */
+    public static boolean isBinary(byte[] value) {
+        return value.length > 0 && value[0] == VERSION;
+    }
+
+    public static int headerSize() {
+        return HEADER_SIZE;
+    }
+
+    /**
+     * Returns the exact number of bytes the given UID takes in decoded cookie value.
+     */
+    public int uidSize(String family, UidWithExpiry uidWithExpiry) {
+        final Integer familyId = familyIds.get(family);
+        final int familySize = familyId != null
+                ? varintSize(familyId)
+                : varintSize(INLINE_FAMILY_ID) + lengthPrefixedSize(utf8Length(family));
+
+        return familySize + lengthPrefixedSize(utf8Length(uidWithExpiry.getUid())) + EXPIRES_SIZE;
+    }
+
+    /**
+     * Returns the length of Base64 representation of the given number of bytes.
+     */
+    public static int base64Size(int size) {
+        return (size + 2) / 3 * 4;
+    }
+
+    /**
+     * Encodes UIDs into Base64 cookie value.
+     */
+    public String encode(Map<String, UidWithExpiry> uids, boolean optout) {
+        int size = HEADER_SIZE;
+        for (Map.Entry<String, UidWithExpiry> entry : uids.entrySet()) {
+            size += uidSize(entry.getKey(), entry.getValue());
+        }
+
+        final byte[] value = new byte[size];
+        value[0] = VERSION;
+        value[1] = (byte) (optout ? OPTOUT_FLAG : 0);
+        int offset = HEADER_SIZE;
+
+        for (Map.Entry<String, UidWithExpiry> entry : uids.entrySet()) {
+            final String family = entry.getKey();
+            final Integer familyId = familyIds.get(family);
+            if (familyId != null) {
+                offset = writeVarint(familyId, value, offset);
+            } else {
+                offset = writeVarint(INLINE_FAMILY_ID, value, offset);
+                offset = writeString(family, value, offset);
+            }
+
+            final UidWithExpiry uidWithExpiry = entry.getValue();
+            offset = writeString(uidWithExpiry.getUid(), value, offset);
+
+            final ZonedDateTime expires = uidWithExpiry.getExpires();
+            offset = writeInt(expires != null ? (int) expires.toEpochSecond() : 0, value, offset);
+        }
+
+        return Base64.getUrlEncoder().encodeToString(value);
+    }
+
+    /**
+     * Decodes UIDs from the binary cookie value previously checked by {@link #isBinary(byte[])}.
+     *
+     * @throws IllegalArgumentException if value is malformed
+     */
+    public Uids decode(byte[] value) {
+        if (value.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("Binary uids cookie is too short");
+        }
+
+        final boolean optout = (value[1] & OPTOUT_FLAG) != 0;
+
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        final Reader reader = new Reader(value, HEADER_SIZE);
+        while (reader.hasRemaining()) {
+            final int familyId = reader.readVarint();
+            final String family = familyId == INLINE_FAMILY_ID ? reader.readString() : families.get(familyId);
+            final String uid = reader.readString();
+            final long expires = Integer.toUnsignedLong(reader.readInt());
+
+            if (family != null) {
+                uids.put(family, uidWithExpiry(uid, expires));
+            }
+        }
+
+        return Uids.builder().uids(uids).optout(optout).build();
+    }
+
+    private static UidWithExpiry uidWithExpiry(String uid, long expiresEpochSecond) {
+        return new UidWithExpiry(uid, ZonedDateTime.ofInstant(Instant.ofEpochSecond(expiresEpochSecond),
+                ZoneOffset.UTC));
+    }
+
+    private static int lengthPrefixedSize(int length) {
+        return varintSize(length) + length;
+    }
+
+    private static int varintSize(int value) {
+        return value < 0x80 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+    }
+
+    private static int writeVarint(int value, byte[] target, int offset) {
+        int remaining = value;
+        while (remaining >= 0x80) {
+            target[offset++] = (byte) (remaining | 0x80);
+            remaining >>>= 7;
+        }
+        target[offset++] = (byte) remaining;
+        return offset;
+    }
+
+    private static int writeInt(int value, byte[] target, int offset) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+        return offset + 4;
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return (source[offset] & 0xFF) << 24
+                | (source[offset + 1] & 0xFF) << 16
+                | (source[offset + 2] & 0xFF) << 8
+                | source[offset + 3] & 0xFF;
+    }
+
+    /**
+     * Returns the number of bytes of UTF-8 encoded string, lone surrogates are counted as '?' like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    private static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (isSurrogatePair(value, i)) {
+                length += 4;
+                i++;
+            } else {
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+    private static int writeString(String value, byte[] target, int offset) {
+        int position = writeVarint(utf8Length(value), target, offset);
+        if (value == null) {
+            return position;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                target[position++] = (byte) c;
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | c >> 6);
+                target[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (isSurrogatePair(value, i)) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target[position++] = (byte) (0xF0 | codePoint >> 18);
+                target[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                target[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                target[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                target[position++] = '?';
+            } else {
+                target[position++] = (byte) (0xE0 | c >> 12);
+                target[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                target[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return position;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index))
+                && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    private static class Reader {
+
+        private final byte[] source;
+        private int position;
+
+        Reader(byte[] source, int position) {
+            this.source = source;
+            this.position = position;
+        }
+
+        boolean hasRemaining() {
+            return position < source.length;
+        }
+
+        int readVarint() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                final byte current = source[checkAvailable(1)];
+                position++;
+                result |= (current & 0x7F) << shift;
+                if (current >= 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in binary uids cookie");
+        }
+
+        String readString() {
+            final int length = readVarint();
+            final int start = checkAvailable(length);
+            position += length;
+            return new String(source, start, length, StandardCharsets.UTF_8);
+        }
+
+        int readInt() {
+            final int start = checkAvailable(EXPIRES_SIZE);
+            position += EXPIRES_SIZE;
+            return UidsCookieBinaryFormat.readInt(source, start);
+        }
+
+        private int checkAvailable(int length) {
+            if (length < 0 || length > source.length - position) {
+                throw new IllegalArgumentException("Binary uids cookie is truncated");
+            }
+            return position;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.prebid.server.cookie;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
@@ -8,6 +9,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.cookie.model.UidWithExpiry;
 import org.prebid.server.cookie.proto.Uids;
 import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -16,6 +18,10 @@ import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.model.UpdateResult;
 import org.prebid.server.util.HttpUtil;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -41,6 +47,9 @@ public class UidsCookieService {
     private static final int MIN_COOKIE_SIZE_BYTES = 500;
     private static final int MIN_NUMBER_OF_UID_COOKIES = 1;
     private static final int MAX_NUMBER_OF_UID_COOKIES = 30;
+    private static final int VALUE_BUFFER_INITIAL_SIZE = 4096;
+    private static final String UIDS_FIELD = "tempUIDs";
+    private static final String OPTOUT_FIELD = "optout";
 
     private final String optOutCookieName;
     private final String optOutCookieValue;
@@ -51,8 +60,10 @@ public class UidsCookieService {
 
     private final int maxCookieSizeBytes;
     private final int numberOfUidCookies;
+    private final boolean binaryFormatEnabled;
 
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
+    private final UidsCookieBinaryFormat binaryFormat;
     private final Metrics metrics;
     private final JacksonMapper mapper;
 
@@ -64,7 +75,9 @@ public class UidsCookieService {
                              int ttlDays,
                              int maxCookieSizeBytes,
                              int numberOfUidCookies,
+                             boolean binaryFormatEnabled,
                              PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
+                             UidsCookieBinaryFormat binaryFormat,
                              Metrics metrics,
                              JacksonMapper mapper) {
 
@@ -87,7 +100,9 @@ public class UidsCookieService {
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
         this.numberOfUidCookies = numberOfUidCookies;
+        this.binaryFormatEnabled = binaryFormatEnabled;
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
+        this.binaryFormat = Objects.requireNonNull(binaryFormat);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -99,6 +114,7 @@ public class UidsCookieService {
      * <ul>
      * <li>Legacy cookies - had UIDs without expiration dates</li>
      * <li>Current cookies - always include UIDs with expiration dates</li>
+     * <li>Binary cookies - see {@link UidsCookieBinaryFormat}</li>
      * </ul>
      * If request contains 'legacy' UIDs cookie format then it will be interpreted as already expired and forced
      * to re-sync
@@ -144,8 +160,10 @@ public class UidsCookieService {
             }
 
             try {
-                final Uids parsedUids = mapper.decodeValue(
-                        Buffer.buffer(Base64.getUrlDecoder().decode(cookie.getValue())), Uids.class);
+                final byte[] decodedValue = Base64.getUrlDecoder().decode(cookie.getValue());
+                final Uids parsedUids = UidsCookieBinaryFormat.isBinary(decodedValue)
+                        ? binaryFormat.decode(decodedValue)
+                        : mapper.decodeValue(Buffer.buffer(decodedValue), Uids.class);
                 if (parsedUids != null && parsedUids.getUids() != null) {
                     parsedUids.getUids().forEach((key, value) -> uids.merge(key, value, (newValue, oldValue) ->
                             newValue.getExpires().compareTo(oldValue.getExpires()) > 0 ? newValue : oldValue));
@@ -159,11 +177,13 @@ public class UidsCookieService {
     }
 
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
-     * as a value.
+     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string (or binary value if enabled)
+     * representing supplied {@link UidsCookie} as a value.
      */
     public Cookie aliveCookie(String cookieName, UidsCookie uidsCookie) {
-        final String value = Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes());
+        final String value = binaryFormatEnabled
+                ? binaryFormat.encode(uidsCookie.getCookieUids().getUids(), !uidsCookie.allowsSync())
+                : Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes());
         return makeCookie(cookieName, value, ttlSeconds);
     }
 
@@ -273,59 +293,74 @@ public class UidsCookieService {
         return updatedCookie;
     }
 
+    /**
+     * Splits UIDs into the configured number of cookies according to family priority and expiration.
+     * <p>
+     * Chunk boundaries are decided by {@link UidsCookieSize} before anything is serialized, so JSON of each
+     * chunk is written exactly once, straight through a Base64 encoder into a buffer shared by all chunks.
+     * Binary values are sized exactly, see {@link UidsCookieBinaryFormat}.
+     */
     public List<Cookie> splitUidsIntoCookies(UidsCookie uidsCookie) {
-        final Uids cookieUids = uidsCookie.getCookieUids();
-        final Map<String, UidWithExpiry> uids = cookieUids.getUids();
         final boolean hasOptout = !uidsCookie.allowsSync();
 
-        final Iterator<String> cookieFamilies = cookieFamilyNamesByDescPriorityAndExpiration(uidsCookie);
-        final List<Cookie> splitCookies = new ArrayList<>();
+        final Iterator<Map.Entry<String, UidWithExpiry>> cookieUids =
+                cookieUidsByDescPriorityAndExpiration(uidsCookie);
+        final List<Cookie> splitCookies = new ArrayList<>(numberOfUidCookies);
+        final ByteArrayOutputStream valueBuffer = new ByteArrayOutputStream(VALUE_BUFFER_INITIAL_SIZE);
 
         final int cookieSchemaSize = UidsCookieSize.schemaSize(makeCookie(COOKIE_NAME, StringUtils.EMPTY, ttlSeconds));
-        String nextCookieFamily = null;
+        Map.Entry<String, UidWithExpiry> nextCookieUid = null;
         for (int i = 0; i < numberOfUidCookies; i++) {
             final int digits = i < 10 ? Integer.signum(i) : 2;
             final UidsCookieSize uidsCookieSize = new UidsCookieSize(cookieSchemaSize + digits, maxCookieSizeBytes);
+            int binarySize = UidsCookieBinaryFormat.headerSize();
 
+            // iteration order of this map defines the order of UIDs in cookie value
             final Map<String, UidWithExpiry> tempUids = new HashMap<>();
-            while (nextCookieFamily != null || cookieFamilies.hasNext()) {
-                nextCookieFamily = nextCookieFamily == null ? cookieFamilies.next() : nextCookieFamily;
-                final UidWithExpiry uidWithExpiry = uids.get(nextCookieFamily);
-
-                uidsCookieSize.addUid(nextCookieFamily, uidWithExpiry.getUid());
-                if (!uidsCookieSize.isValid()) {
-                    break;
+            while (nextCookieUid != null || cookieUids.hasNext()) {
+                nextCookieUid = nextCookieUid == null ? cookieUids.next() : nextCookieUid;
+
+                if (binaryFormatEnabled) {
+                    binarySize += binaryFormat.uidSize(nextCookieUid.getKey(), nextCookieUid.getValue());
+                    if (!isValidSize(cookieSchemaSize + digits + UidsCookieBinaryFormat.base64Size(binarySize))) {
+                        break;
+                    }
+                } else {
+                    uidsCookieSize.addUid(nextCookieUid.getKey(), nextCookieUid.getValue().getUid());
+                    if (!uidsCookieSize.isValid()) {
+                        break;
+                    }
                 }
 
-                tempUids.put(nextCookieFamily, uidWithExpiry);
-                nextCookieFamily = null;
+                tempUids.put(nextCookieUid.getKey(), nextCookieUid.getValue());
+                nextCookieUid = null;
             }
 
             final String uidsName = i == 0 ? COOKIE_NAME : COOKIE_NAME_FORMAT.formatted(i + 1);
 
-            if (tempUids.isEmpty()) {
-                splitCookies.add(expiredCookie(uidsName));
-            } else {
-                splitCookies.add(aliveCookie(
-                        uidsName,
-                        new UidsCookie(Uids.builder().uids(tempUids).optout(hasOptout).build(), mapper)));
-            }
+            splitCookies.add(tempUids.isEmpty()
+                    ? expiredCookie(uidsName)
+                    : makeCookie(uidsName, encodeCookieValue(tempUids, hasOptout, valueBuffer), ttlSeconds));
         }
 
-        if (nextCookieFamily != null) {
-            updateSyncSizeMetrics(nextCookieFamily);
+        if (nextCookieUid != null) {
+            updateSyncSizeMetrics(nextCookieUid.getKey());
         }
 
-        cookieFamilies.forEachRemaining(this::updateSyncSizeMetrics);
+        cookieUids.forEachRemaining(cookieUid -> updateSyncSizeMetrics(cookieUid.getKey()));
 
         return splitCookies;
     }
 
-    private Iterator<String> cookieFamilyNamesByDescPriorityAndExpiration(UidsCookie uidsCookie) {
-        return uidsCookie.getCookieUids().getUids().entrySet().stream()
-                .sorted(this::compareCookieFamilyNames)
-                .map(Map.Entry::getKey)
-                .iterator();
+    private boolean isValidSize(int cookieSize) {
+        return maxCookieSizeBytes <= 0 || cookieSize <= maxCookieSizeBytes;
+    }
+
+    private Iterator<Map.Entry<String, UidWithExpiry>> cookieUidsByDescPriorityAndExpiration(UidsCookie uidsCookie) {
+        final List<Map.Entry<String, UidWithExpiry>> cookieUids =
+                new ArrayList<>(uidsCookie.getCookieUids().getUids().entrySet());
+        cookieUids.sort(this::compareCookieFamilyNames);
+        return cookieUids.iterator();
     }
 
     private int compareCookieFamilyNames(Map.Entry<String, UidWithExpiry> left,
@@ -343,6 +378,30 @@ public class UidsCookieService {
         }
     }
 
+    /**
+     * Writes the same value as {@link #aliveCookie(String, UidsCookie)} would produce for given UIDs,
+     * without building intermediate {@link UidsCookie} and JSON string.
+     */
+    private String encodeCookieValue(Map<String, UidWithExpiry> uids, boolean optout, ByteArrayOutputStream buffer) {
+        if (binaryFormatEnabled) {
+            return binaryFormat.encode(uids, optout);
+        }
+
+        buffer.reset();
+        try (OutputStream base64Stream = Base64.getUrlEncoder().wrap(buffer);
+                JsonGenerator generator = mapper.mapper().createGenerator(base64Stream)) {
+
+            generator.writeStartObject();
+            generator.writeObjectField(UIDS_FIELD, uids);
+            generator.writeBooleanField(OPTOUT_FIELD, optout);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode uids cookie: " + e.getMessage());
+        }
+
+        return buffer.toString(StandardCharsets.ISO_8859_1);
+    }
+
     private void updateSyncSizeMetrics(String nextCookieFamily) {
         if (prioritizedCoopSyncProvider.isPrioritizedFamily(nextCookieFamily)) {
             metrics.updateUserSyncSizedOutMetric(nextCookieFamily);
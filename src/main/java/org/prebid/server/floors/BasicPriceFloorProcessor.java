@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -27,6 +28,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountPriceFloorsConfig;
+import org.prebid.server.settings.model.BidderFloorsProjection;
 import org.prebid.server.util.BidderUtil;
 import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.util.algorithms.random.RandomPositiveWeightedEntrySupplier;
@@ -34,10 +36,14 @@ import org.prebid.server.util.algorithms.random.RandomWeightedEntrySupplier;
 
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
 public class BasicPriceFloorProcessor implements PriceFloorProcessor {
 
@@ -83,7 +89,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
         }
 
         final PriceFloorRules floors = resolveFloors(account, bidRequest, errors);
-        return updateBidRequestWithFloors(bidRequest, bidder, floors, errors, warnings);
+        return updateBidRequestWithFloors(bidRequest, account, bidder, floors, errors, warnings);
     }
 
     private static boolean isPriceFloorsDisabled(Account account, BidRequest bidRequest) {
@@ -261,6 +267,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
     }
 
     private BidRequest updateBidRequestWithFloors(BidRequest bidRequest,
+                                                  Account account,
                                                   String bidder,
                                                   PriceFloorRules floors,
                                                   List<String> errors,
@@ -269,10 +276,15 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
         final Integer requestSkipRate = extractSkipRate(floors);
         final boolean skipFloors = shouldSkipFloors(requestSkipRate);
 
+        final Set<String> enforcedRules = new HashSet<>();
         final List<Imp> imps = skipFloors
                 ? bidRequest.getImp()
-                : updateImpsWithFloors(floors, bidRequest, bidder, errors, warnings);
-        final ExtRequest extRequest = updateExtRequestWithFloors(bidRequest, floors, requestSkipRate, skipFloors);
+                : updateImpsWithFloors(floors, bidRequest, bidder, enforcedRules, errors, warnings);
+        final PriceFloorRules bidderFloors = shouldProjectFloors(account, bidder)
+                ? projectFloors(floors, enforcedRules)
+                : floors;
+        final ExtRequest extRequest = updateExtRequestWithFloors(
+                bidRequest, bidderFloors, requestSkipRate, skipFloors);
 
         return bidRequest.toBuilder()
                 .imp(imps)
@@ -312,6 +324,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
     private List<Imp> updateImpsWithFloors(PriceFloorRules effectiveFloors,
                                            BidRequest bidRequest,
                                            String bidder,
+                                           Set<String> enforcedRules,
                                            List<String> errors,
                                            List<String> warnings) {
 
@@ -328,7 +341,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
         }
 
         return CollectionUtils.emptyIfNull(imps).stream()
-                .map(imp -> updateImpWithFloors(imp, bidder, floors, bidRequest, errors, warnings))
+                .map(imp -> updateImpWithFloors(imp, bidder, floors, bidRequest, enforcedRules, errors, warnings))
                 .toList();
     }
 
@@ -343,6 +356,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
                                     String bidder,
                                     PriceFloorRules floorRules,
                                     BidRequest bidRequest,
+                                    Set<String> enforcedRules,
                                     List<String> errors,
                                     List<String> warnings) {
 
@@ -358,6 +372,10 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
             return imp;
         }
 
+        if (priceFloorResult.getFloorRule() != null) {
+            enforcedRules.add(priceFloorResult.getFloorRule());
+        }
+
         return imp.toBuilder()
                 .bidfloor(priceFloorResult.getFloorValue())
                 .bidfloorcur(priceFloorResult.getCurrency())
@@ -365,6 +383,51 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
                 .build();
     }
 
+    private static boolean shouldProjectFloors(Account account, String bidder) {
+        final AccountPriceFloorsConfig priceFloors = ObjectUtil.getIfNotNull(account.getAuction(),
+                AccountAuctionConfig::getPriceFloors);
+        final BidderFloorsProjection projection =
+                ObjectUtil.getIfNotNull(priceFloors, AccountPriceFloorsConfig::getBidderFloorsProjection);
+        if (projection != BidderFloorsProjection.enforced) {
+            return false;
+        }
+
+        final List<String> fullFloorsBidders = priceFloors.getFullFloorsBidders();
+        return fullFloorsBidders == null || fullFloorsBidders.stream().noneMatch(bidder::equalsIgnoreCase);
+    }
+
+    /**
+     * Leaves only rules enforced on the bidder imps in the selected model group,
+     * so bidders which do not resolve floors themselves are not sent the whole rule set.
+     */
+    private static PriceFloorRules projectFloors(PriceFloorRules floors, Set<String> enforcedRules) {
+        final PriceFloorModelGroup modelGroup = extractFloorModelGroup(floors);
+        if (modelGroup == null || MapUtils.isEmpty(modelGroup.getValues())) {
+            return floors;
+        }
+
+        final Map<String, BigDecimal> enforcedValues = modelGroup.getValues().entrySet().stream()
+                .filter(entry -> enforcedRules.contains(entry.getKey().toLowerCase()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        final PriceFloorModelGroup projectedModelGroup = PriceFloorModelGroup.builder()
+                .currency(modelGroup.getCurrency())
+                .skipRate(modelGroup.getSkipRate())
+                .modelVersion(modelGroup.getModelVersion())
+                .modelWeight(modelGroup.getModelWeight())
+                .schema(modelGroup.getSchema())
+                .values(enforcedValues)
+                .defaultFloor(modelGroup.getDefaultFloor())
+                .noFloorSignalBidders(modelGroup.getNoFloorSignalBidders())
+                .build();
+
+        return floors.toBuilder()
+                .data(floors.getData().toBuilder()
+                        .modelGroups(Collections.singletonList(projectedModelGroup))
+                        .build())
+                .build();
+    }
+
     private ObjectNode updateImpExtWithFloors(ObjectNode ext, PriceFloorResult priceFloorResult) {
         final JsonNode extPrebid = ext.path("prebid");
         final ObjectNode extPrebidAsObject = extPrebid.isObject()
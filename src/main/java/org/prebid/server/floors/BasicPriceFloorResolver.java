@@ -59,7 +59,6 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -93,18 +92,21 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private final CountryCodeMapper countryCodeMapper;
     private final Metrics metrics;
     private final JacksonMapper mapper;
+    private final PriceFloorRulesIndex rulesIndex;
 
     private final PrebidConfigMatchingStrategy matchingStrategy;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
                                    Metrics metrics,
-                                   JacksonMapper mapper) {
+                                   JacksonMapper mapper,
+                                   PriceFloorRulesIndex rulesIndex) {
 
         this.currencyConversionService = Objects.requireNonNull(currencyConversionService);
         this.countryCodeMapper = Objects.requireNonNull(countryCodeMapper);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
+        this.rulesIndex = Objects.requireNonNull(rulesIndex);
 
         matchingStrategy = new MostAccurateCombinationStrategy();
     }
@@ -137,7 +139,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
+        final Map<String, BigDecimal> values = rulesIndex.values(modelGroup);
         final PrebidConfigSource source = SimpleSource.of(
                 WILDCARD_CATCH_ALL,
                 ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
@@ -188,14 +190,6 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
-    private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
-        return map.entrySet().stream()
-                .collect(
-                        HashMap::new,
-                        (hashMap, entry) -> hashMap.put(entry.getKey().toLowerCase(), entry.getValue()),
-                        HashMap::putAll);
-    }
-
     private PrebidConfigParameters createParameters(PriceFloorSchema schema,
                                                     BidRequest bidRequest,
                                                     Imp imp,
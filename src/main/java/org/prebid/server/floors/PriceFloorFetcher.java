@@ -3,6 +3,7 @@ package org.prebid.server.floors;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.netty.channel.ConnectTimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.impl.ConcurrentHashSet;
@@ -47,7 +48,6 @@ public class PriceFloorFetcher {
     private static final Logger logger = LoggerFactory.getLogger(PriceFloorFetcher.class);
 
     private static final int ACCOUNT_FETCH_TIMEOUT_MS = 5000;
-    private static final int MAXIMUM_CACHE_SIZE = 300;
     private static final int MIN_MAX_AGE_SEC_VALUE = 600;
     private static final int MAX_AGE_SEC_VALUE = Integer.MAX_VALUE;
     private static final Pattern CACHE_CONTROL_HEADER_PATTERN = Pattern.compile("^.*max-age=(\\d+).*$");
@@ -59,9 +59,11 @@ public class PriceFloorFetcher {
     private final HttpClient httpClient;
     private final JacksonMapper mapper;
     private final PriceFloorDebugProperties debugProperties;
+    private final PriceFloorRulesIndex rulesIndex;
 
     private final Set<String> fetchInProgress;
     private final Map<String, AccountFetchContext> fetchedData;
+    private final Map<String, ConditionalFetchContext> conditionalFetchData;
 
     public PriceFloorFetcher(ApplicationSettings applicationSettings,
                              Metrics metrics,
@@ -69,7 +71,9 @@ public class PriceFloorFetcher {
                              TimeoutFactory timeoutFactory,
                              HttpClient httpClient,
                              PriceFloorDebugProperties debugProperties,
-                             JacksonMapper mapper) {
+                             JacksonMapper mapper,
+                             PriceFloorRulesIndex rulesIndex,
+                             int cacheSize) {
 
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.metrics = Objects.requireNonNull(metrics);
@@ -78,12 +82,17 @@ public class PriceFloorFetcher {
         this.httpClient = Objects.requireNonNull(httpClient);
         this.debugProperties = debugProperties;
         this.mapper = Objects.requireNonNull(mapper);
+        this.rulesIndex = Objects.requireNonNull(rulesIndex);
 
         fetchInProgress = new ConcurrentHashSet<>();
         fetchedData = Caffeine.newBuilder()
-                .maximumSize(MAXIMUM_CACHE_SIZE)
+                .maximumSize(cacheSize)
                 .<String, AccountFetchContext>build()
                 .asMap();
+        conditionalFetchData = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<String, ConditionalFetchContext>build()
+                .asMap();
     }
 
     public FetchResult fetch(Account account) {
@@ -147,8 +156,8 @@ public class PriceFloorFetcher {
         final String fetchUrl = fetchConfig.getUrl();
 
         fetchInProgress.add(accountId);
-        httpClient.get(fetchUrl, timeout, resolveMaxFileSize(maxFetchFileSizeKb))
-                .map(httpClientResponse -> parseFloorResponse(httpClientResponse, fetchConfig, accountId))
+        httpClient.get(fetchUrl, conditionalHeaders(accountId), timeout, resolveMaxFileSize(maxFetchFileSizeKb))
+                .compose(httpClientResponse -> processFloorResponse(httpClientResponse, fetchConfig, accountId))
                 .recover(throwable -> recoverFromFailedFetching(throwable, fetchUrl, accountId))
                 .map(cacheInfo -> updateCache(cacheInfo, fetchConfig, accountId))
                 .map(priceFloorData -> createPeriodicTimerForRulesFetch(priceFloorData, fetchConfig, accountId));
@@ -158,6 +167,46 @@ public class PriceFloorFetcher {
         return Objects.equals(maxSizeInKBytes, 0L) ? Long.MAX_VALUE : maxSizeInKBytes * 1024;
     }
 
+    private MultiMap conditionalHeaders(String accountId) {
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        final ConditionalFetchContext conditionalFetchContext = conditionalFetchData.get(accountId);
+        if (conditionalFetchContext == null) {
+            return headers;
+        }
+
+        final String etag = conditionalFetchContext.getEtag();
+        if (etag != null) {
+            headers.add(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        final String lastModified = conditionalFetchContext.getLastModified();
+        if (lastModified != null) {
+            headers.add(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+
+        return headers;
+    }
+
+    /**
+     * Reuses previously fetched data when provider responds it is not modified,
+     * otherwise parses and validates the response body on a worker thread as floors files can be large.
+     */
+    private Future<ResponseCacheInfo> processFloorResponse(HttpClientResponse httpClientResponse,
+                                                           AccountPriceFloorsFetchConfig fetchConfig,
+                                                           String accountId) {
+
+        final ConditionalFetchContext conditionalFetchContext = conditionalFetchData.get(accountId);
+        if (httpClientResponse.getStatusCode() == HttpStatus.SC_NOT_MODIFIED && conditionalFetchContext != null) {
+            return Future.succeededFuture(ResponseCacheInfo.of(
+                    conditionalFetchContext.getRulesData(),
+                    FetchStatus.success,
+                    cacheTtlFromResponse(httpClientResponse, fetchConfig.getUrl()),
+                    conditionalFetchContext.getEtag(),
+                    conditionalFetchContext.getLastModified()));
+        }
+
+        return vertx.executeBlocking(() -> parseFloorResponse(httpClientResponse, fetchConfig, accountId), false);
+    }
+
     private ResponseCacheInfo parseFloorResponse(HttpClientResponse httpClientResponse,
                                                  AccountPriceFloorsFetchConfig fetchConfig,
                                                  String accountId) {
@@ -180,10 +229,14 @@ public class PriceFloorFetcher {
                 priceFloorData,
                 PriceFloorsConfigResolver.resolveMaxValue(fetchConfig.getMaxRules()),
                 PriceFloorsConfigResolver.resolveMaxValue(fetchConfig.getMaxSchemaDims()));
+        rulesIndex.compile(priceFloorData);
 
+        final MultiMap headers = httpClientResponse.getHeaders();
         return ResponseCacheInfo.of(priceFloorData,
                 FetchStatus.success,
-                cacheTtlFromResponse(httpClientResponse, fetchConfig.getUrl()));
+                cacheTtlFromResponse(httpClientResponse, fetchConfig.getUrl()),
+                headers.get(HttpHeaders.ETAG),
+                headers.get(HttpHeaders.LAST_MODIFIED));
     }
 
     private PriceFloorData parsePriceFloorData(String body, String accountId) {
@@ -227,6 +280,13 @@ public class PriceFloorFetcher {
             fetchedData.put(accountId, fetchContext);
         }
 
+        if (cacheInfo.getEtag() != null || cacheInfo.getLastModified() != null) {
+            conditionalFetchData.put(accountId, ConditionalFetchContext.of(
+                    cacheInfo.getRulesData(), cacheInfo.getEtag(), cacheInfo.getLastModified()));
+        } else if (cacheInfo.getFetchStatus() == FetchStatus.success) {
+            conditionalFetchData.remove(accountId);
+        }
+
         fetchInProgress.remove(accountId);
 
         return fetchContext.getRulesData();
@@ -321,6 +381,16 @@ public class PriceFloorFetcher {
         Long maxAgeTimerId;
     }
 
+    @Value(staticConstructor = "of")
+    private static class ConditionalFetchContext {
+
+        PriceFloorData rulesData;
+
+        String etag;
+
+        String lastModified;
+    }
+
     @Value(staticConstructor = "of")
     private static class ResponseCacheInfo {
 
@@ -330,8 +400,12 @@ public class PriceFloorFetcher {
 
         Long cacheTtl;
 
+        String etag;
+
+        String lastModified;
+
         public static ResponseCacheInfo withStatus(FetchStatus status) {
-            return ResponseCacheInfo.of(null, status, null);
+            return ResponseCacheInfo.of(null, status, null, null, null);
         }
     }
 }
@@ -0,0 +1,50 @@
+package org.prebid.server.floors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps model group values keyed by lower-cased rule, so rules are not re-indexed for every resolved imp.
+ * <p>
+ * Indexes are bound to model group instances and are dropped once the model group is no longer referenced
+ * or the cache size is exceeded.
+ */
+public class PriceFloorRulesIndex {
+
+    private final Cache<PriceFloorModelGroup, Map<String, BigDecimal>> indexes;
+
+    public PriceFloorRulesIndex(int cacheSize) {
+        indexes = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * Builds indexes for all model groups of the given floors data ahead of their first use.
+     */
+    public void compile(PriceFloorData priceFloorData) {
+        final List<PriceFloorModelGroup> modelGroups = priceFloorData != null ? priceFloorData.getModelGroups() : null;
+        CollectionUtils.emptyIfNull(modelGroups).forEach(this::values);
+    }
+
+    public Map<String, BigDecimal> values(PriceFloorModelGroup modelGroup) {
+        return indexes.get(modelGroup, PriceFloorRulesIndex::keysToLowerCase);
+    }
+
+    private static Map<String, BigDecimal> keysToLowerCase(PriceFloorModelGroup modelGroup) {
+        final Map<String, BigDecimal> values = modelGroup.getValues();
+        final Map<String, BigDecimal> index = new HashMap<>(values.size() * 4 / 3 + 1);
+        values.forEach((rule, value) -> index.put(rule.toLowerCase(), value));
+
+        return index;
+    }
+}
@@ -4,6 +4,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import lombok.Value;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
@@ -13,6 +14,8 @@ import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.InvocationResult;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -22,6 +25,8 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private final Vertx vertx;
     private final Clock clock;
     private final Map<String, Boolean> modulesExecution;
+    private final List<HookInvocation<PAYLOAD>> hookInvocations = new ArrayList<>();
+    private final List<Promise<?>> pendingInvocations = new ArrayList<>();
 
     private ExecutionGroup group;
     private PAYLOAD initialPayload;
@@ -29,6 +34,7 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
+    private Long timeoutTimerId;
 
     private GroupExecutor(Vertx vertx, Clock clock, Map<String, Boolean> modulesExecution) {
         this.vertx = vertx;
@@ -76,23 +82,44 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
-    public Future<GroupResult<PAYLOAD>> execute() {
-        final GroupResult<PAYLOAD> initialGroupResult = GroupResult.of(initialPayload, rejectAllowed);
-        Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
-
+    /**
+     * Starts all hooks of the group with the initial payload. Their results are not applied until
+     * {@link #applyTo(Object)} is called.
+     */
+    public GroupExecutor<PAYLOAD, CONTEXT> invoke() {
         for (final HookId hookId : group.getHookSequence()) {
             if (!modulesExecution.get(hookId.getModuleCode())) {
                 continue;
             }
 
-            final Future<Hook<PAYLOAD, CONTEXT>> hookFuture = hook(hookId);
-
             final long startTime = clock.millis();
-            final Future<InvocationResult<PAYLOAD>> invocationResult = hookFuture
-                    .compose(hook -> executeHook(hook, group.getTimeout(), initialGroupResult, hookId));
+            final Future<InvocationResult<PAYLOAD>> invocationResult = hook(hookId)
+                    .compose(hook -> executeHook(hook, group.getTimeout(), initialPayload, hookId));
+
+            hookInvocations.add(HookInvocation.of(hookId, startTime, invocationResult));
+        }
+
+        // all hooks of the group are started at once and share the same deadline, so a single timer is enough
+        if (!pendingInvocations.isEmpty()) {
+            timeoutTimerId = vertx.setTimer(group.getTimeout(), id -> failPendingWithTimeout());
+        }
+
+        return this;
+    }
+
+    /**
+     * Applies results of the started hooks in declaration order on top of the given payload.
+     */
+    public Future<GroupResult<PAYLOAD>> applyTo(PAYLOAD payload) {
+        Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(GroupResult.of(payload, rejectAllowed));
+
+        for (final HookInvocation<PAYLOAD> hookInvocation : hookInvocations) {
+            groupFuture = groupFuture.compose(groupResult -> applyInvocationResult(hookInvocation, groupResult));
+        }
 
-            groupFuture = groupFuture.compose(groupResult ->
-                    applyInvocationResult(invocationResult, hookId, startTime, groupResult));
+        if (timeoutTimerId != null) {
+            final long timerId = timeoutTimerId;
+            groupFuture = groupFuture.onComplete(ignored -> vertx.cancelTimer(timerId));
         }
 
         return groupFuture.recover(GroupExecutor::restoreResultFromRejection);
@@ -108,24 +135,29 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private Future<InvocationResult<PAYLOAD>> executeHook(Hook<PAYLOAD, CONTEXT> hook,
                                                           Long timeout,
-                                                          GroupResult<PAYLOAD> groupResult,
+                                                          PAYLOAD payload,
                                                           HookId hookId) {
 
         final CONTEXT invocationContext = invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId));
-        return executeWithTimeout(() -> hook.call(groupResult.payload(), invocationContext), timeout);
+        return executeWithTimeout(() -> hook.call(payload, invocationContext));
     }
 
-    private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
+    private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action) {
         final Promise<T> promise = Promise.promise();
 
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
+        executeSafely(action).onComplete(result -> completeWithActionResult(promise, result));
 
-        executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
+        if (!promise.future().isComplete()) {
+            pendingInvocations.add(promise);
+        }
 
         return promise.future();
     }
 
+    private void failPendingWithTimeout() {
+        pendingInvocations.forEach(GroupExecutor::failWithTimeout);
+    }
+
     private static <T> void failWithTimeout(Promise<T> promise) {
         // no need for synchronization since timer is fired on the same event loop thread
         if (!promise.future().isComplete()) {
@@ -142,9 +174,7 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         }
     }
 
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
-
+    private static <T> void completeWithActionResult(Promise<T> promise, AsyncResult<T> result) {
         // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
         if (!promise.future().isComplete()) {
             promise.handle(result);
@@ -155,13 +185,13 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return clock.millis() - startTime;
     }
 
-    private Future<GroupResult<PAYLOAD>> applyInvocationResult(
-            Future<InvocationResult<PAYLOAD>> invocationResult,
-            HookId hookId,
-            long startTime,
-            GroupResult<PAYLOAD> groupResult) {
+    private Future<GroupResult<PAYLOAD>> applyInvocationResult(HookInvocation<PAYLOAD> hookInvocation,
+                                                               GroupResult<PAYLOAD> groupResult) {
+
+        final HookId hookId = hookInvocation.getHookId();
+        final long startTime = hookInvocation.getStartTime();
 
-        return invocationResult
+        return hookInvocation.getResult()
                 .map(result -> {
                     saveModuleContext(hookId, result);
                     return groupResult.applyInvocationResult(result, hookId, executionTime(startTime));
@@ -192,4 +222,14 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
         return Future.failedFuture(throwable);
     }
+
+    @Value(staticConstructor = "of")
+    private static class HookInvocation<PAYLOAD> {
+
+        HookId hookId;
+
+        long startTime;
+
+        Future<InvocationResult<PAYLOAD>> result;
+    }
 }
@@ -2,11 +2,13 @@ package org.prebid.server.hooks.execution;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.map.DefaultedMap;
@@ -62,6 +64,7 @@ import org.prebid.server.settings.model.HooksAdminConfig;
 import java.time.Clock;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +81,7 @@ public class HookStageExecutor {
     private static final String ENTITY_AUCTION_RESPONSE = "auction-response";
     private static final String ENTITY_ALL_PROCESSED_BID_RESPONSES = "all-processed-bid-responses";
     private static final Account EMPTY_ACCOUNT = Account.empty(StringUtils.EMPTY);
+    private static final int MAX_COMPILED_ACCOUNT_PLANS = 10_000;
 
     private final ExecutionPlan hostExecutionPlan;
     private final ExecutionPlan defaultAccountExecutionPlan;
@@ -89,6 +93,11 @@ public class HookStageExecutor {
     private final ObjectMapper mapper;
     private final boolean isConfigToInvokeRequired;
 
+    private final Map<String, Boolean> entrypointModulesExecution;
+    private final Map<Endpoint, StageExecutionPlan> entrypointPlans;
+    private final List<ABTest> entrypointAbTests;
+    private final Map<AccountPlanKey, CompiledAccountPlan> compiledAccountPlans;
+
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
                               Map<String, Boolean> hostModuleExecution,
@@ -108,6 +117,17 @@ public class HookStageExecutor {
         this.mapper = mapper;
         this.isConfigToInvokeRequired = isConfigToInvokeRequired;
         this.hostModuleExecution = hostModuleExecution;
+
+        entrypointModulesExecution = DefaultedMap.defaultedMap(hostModuleExecution, true);
+        entrypointPlans = compileStagePlans(ExecutionPlan.empty(), Stage.entrypoint);
+        entrypointAbTests = abTestsForEntrypointStage();
+
+        // keyed by account hooks config instance rather than account instance, since hooks config instance is kept
+        // by the cached account and its copies made during request processing
+        compiledAccountPlans = Caffeine.newBuilder()
+                .maximumSize(MAX_COMPILED_ACCOUNT_PLANS)
+                .<AccountPlanKey, CompiledAccountPlan>build()
+                .asMap();
     }
 
     public static HookStageExecutor create(String hostExecutionPlan,
@@ -190,7 +210,7 @@ public class HookStageExecutor {
                 .withHookProvider(hookProviderForEntrypointStage(context))
                 .withInitialPayload(EntrypointPayloadImpl.of(queryParams, headers, body))
                 .withInvocationContextProvider(invocationContextProvider(endpoint))
-                .withModulesExecution(DefaultedMap.defaultedMap(hostModuleExecution, true))
+                .withModulesExecution(entrypointModulesExecution)
                 .withRejectAllowed(true)
                 .execute();
     }
@@ -356,10 +376,64 @@ public class HookStageExecutor {
             Account account,
             Endpoint endpoint) {
 
+        final CompiledAccountPlan accountPlan = compiledAccountPlans.computeIfAbsent(
+                AccountPlanKey.of(account.getId(), account.getHooks()),
+                ignored -> compileAccountPlan(account));
+
         return stageExecutor(stage, entity, context)
-                .withModulesExecution(modulesExecutionForAccount(account))
-                .withExecutionPlan(planForStage(account, endpoint, stage.stage()))
-                .withHookProvider(hookProvider(stage, account, context));
+                .withModulesExecution(accountPlan.getModulesExecution())
+                .withExecutionPlan(accountPlan.planFor(endpoint, stage.stage()))
+                .withHookProvider(hookProvider(stage, accountPlan.getAbTests(), context));
+    }
+
+    private CompiledAccountPlan compileAccountPlan(Account account) {
+        final ExecutionPlan accountExecutionPlan = effectiveExecutionPlanFor(account);
+
+        final Map<Stage, Map<Endpoint, StageExecutionPlan>> stagePlans = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            stagePlans.put(stage, compileStagePlans(accountExecutionPlan, stage));
+        }
+
+        return CompiledAccountPlan.of(modulesExecutionForAccount(account), abTests(account), stagePlans);
+    }
+
+    private Map<Endpoint, StageExecutionPlan> compileStagePlans(ExecutionPlan accountExecutionPlan, Stage stage) {
+        final Map<Endpoint, StageExecutionPlan> endpointPlans = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            final StageExecutionPlan plan = effectiveStagePlanFrom(accountExecutionPlan, endpoint, stage);
+            if (!plan.isEmpty()) {
+                endpointPlans.put(endpoint, withParallelGroupsResolved(plan, stage));
+            }
+        }
+
+        return endpointPlans;
+    }
+
+    private StageExecutionPlan withParallelGroupsResolved(StageExecutionPlan plan, Stage stage) {
+        final List<ExecutionGroup> groups = plan.getGroups();
+        if (groups.stream().map(ExecutionGroup::getParallel).noneMatch(Boolean.TRUE::equals)) {
+            return plan;
+        }
+
+        return StageExecutionPlan.of(groups.stream()
+                .map(group -> canRunInParallel(group, stage)
+                        ? group
+                        : ExecutionGroup.of(group.getTimeout(), group.getHookSequence()))
+                .toList());
+    }
+
+    private boolean canRunInParallel(ExecutionGroup group, Stage stage) {
+        return Boolean.TRUE.equals(group.getParallel())
+                && group.getHookSequence().stream().allMatch(hookId -> isPayloadIndependent(hookId, stage));
+    }
+
+    private boolean isPayloadIndependent(HookId hookId, Stage stage) {
+        try {
+            final Hook<?, ?> hook = hookCatalog.hookById(hookId, StageWithHookType.forStage(stage));
+            return hook != null && hook.isPayloadIndependent();
+        } catch (Throwable e) {
+            return false;
+        }
     }
 
     private Map<String, Boolean> modulesExecutionForAccount(Account account) {
@@ -384,11 +458,7 @@ public class HookStageExecutor {
     }
 
     private StageExecutionPlan planForEntrypointStage(Endpoint endpoint) {
-        return effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
-    }
-
-    private StageExecutionPlan planForStage(Account account, Endpoint endpoint, Stage stage) {
-        return effectiveStagePlanFrom(effectiveExecutionPlanFor(account), endpoint, stage);
+        return entrypointPlans.getOrDefault(endpoint, StageExecutionPlan.empty());
     }
 
     private StageExecutionPlan effectiveStagePlanFrom(
@@ -432,19 +502,19 @@ public class HookStageExecutor {
 
         return new ABTestHookProvider<>(
                 defaultHookProvider(StageWithHookType.ENTRYPOINT),
-                abTestsForEntrypointStage(),
+                entrypointAbTests,
                 context,
                 mapper);
     }
 
     private <PAYLOAD, CONTEXT extends InvocationContext> HookProvider<PAYLOAD, CONTEXT> hookProvider(
             StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage,
-            Account account,
+            List<ABTest> abTests,
             HookExecutionContext context) {
 
         return new ABTestHookProvider<>(
                 defaultHookProvider(stage),
-                abTests(account),
+                abTests,
                 context,
                 mapper);
     }
@@ -543,4 +613,42 @@ public class HookStageExecutor {
         final Set<String> accounts = abTest.getAccounts();
         return CollectionUtils.isEmpty(accounts) || accounts.contains(account);
     }
+
+    /**
+     * Everything compiled account plan depends on. Hooks config is compared by identity, so key lookup does not
+     * walk through modules config on every stage.
+     */
+    @Value(staticConstructor = "of")
+    private static class AccountPlanKey {
+
+        String accountId;
+
+        AccountHooksConfiguration hooks;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof AccountPlanKey other
+                    && Objects.equals(accountId, other.accountId)
+                    && hooks == other.hooks;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(accountId) + System.identityHashCode(hooks);
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledAccountPlan {
+
+        Map<String, Boolean> modulesExecution;
+
+        List<ABTest> abTests;
+
+        Map<Stage, Map<Endpoint, StageExecutionPlan>> stagePlans;
+
+        StageExecutionPlan planFor(Endpoint endpoint, Stage stage) {
+            return stagePlans.get(stage).getOrDefault(endpoint, StageExecutionPlan.empty());
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.apache.commons.lang3.BooleanUtils;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
@@ -13,6 +14,7 @@ import org.prebid.server.hooks.v1.InvocationContext;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
@@ -92,11 +94,8 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
-        for (final ExecutionGroup group : executionPlan.getGroups()) {
-            stageFuture = stageFuture.compose(stageResult ->
-                    executeGroup(group, stageResult.payload())
-                            .map(stageResult::applyGroupResult)
-                            .compose(StageExecutor::propagateRejection));
+        for (final List<ExecutionGroup> concurrentGroups : concurrentGroups(executionPlan.getGroups())) {
+            stageFuture = stageFuture.compose(stageResult -> executeGroups(concurrentGroups, stageResult));
         }
 
         return stageFuture
@@ -104,15 +103,46 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
                 .map(this::toHookStageExecutionResult);
     }
 
-    private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
+    /**
+     * Splits groups into runs where each group marked as parallel joins the run of its preceding group.
+     */
+    private static List<List<ExecutionGroup>> concurrentGroups(List<ExecutionGroup> groups) {
+        final List<List<ExecutionGroup>> result = new ArrayList<>();
+
+        for (final ExecutionGroup group : groups) {
+            if (result.isEmpty() || BooleanUtils.isNotTrue(group.getParallel())) {
+                result.add(new ArrayList<>());
+            }
+            result.getLast().add(group);
+        }
+
+        return result;
+    }
+
+    private Future<StageResult<PAYLOAD>> executeGroups(List<ExecutionGroup> groups, StageResult<PAYLOAD> stageResult) {
+        final PAYLOAD payload = stageResult.payload();
+        Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(stageResult);
+
+        for (final ExecutionGroup group : groups) {
+            final GroupExecutor<PAYLOAD, CONTEXT> groupExecutor = groupExecutor(group, payload).invoke();
+
+            stageFuture = stageFuture.compose(result ->
+                    groupExecutor.applyTo(result.payload())
+                            .map(result::applyGroupResult)
+                            .compose(StageExecutor::propagateRejection));
+        }
+
+        return stageFuture;
+    }
+
+    private GroupExecutor<PAYLOAD, CONTEXT> groupExecutor(ExecutionGroup group, PAYLOAD initialPayload) {
         return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, modulesExecution)
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
                 .withHookProvider(hookProvider)
                 .withInvocationContextProvider(invocationContextProvider)
                 .withHookExecutionContext(hookExecutionContext)
-                .withRejectAllowed(rejectAllowed)
-                .execute();
+                .withRejectAllowed(rejectAllowed);
     }
 
     private static <PAYLOAD> Future<StageResult<PAYLOAD>> propagateRejection(StageResult<PAYLOAD> stageResult) {
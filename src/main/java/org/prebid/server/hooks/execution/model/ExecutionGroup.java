@@ -14,4 +14,13 @@ public class ExecutionGroup {
     @JsonProperty("hook-sequence")
     @JsonAlias("hook_sequence")
     List<HookId> hookSequence;
+
+    /**
+     * Allows the group to run concurrently with the preceding group when all its hooks are payload-independent.
+     */
+    Boolean parallel;
+
+    public static ExecutionGroup of(Long timeout, List<HookId> hookSequence) {
+        return of(timeout, hookSequence, null);
+    }
 }
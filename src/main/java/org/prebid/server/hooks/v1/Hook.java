@@ -7,4 +7,15 @@ public interface Hook<PAYLOAD, CONTEXT extends InvocationContext> {
     Future<InvocationResult<PAYLOAD>> call(PAYLOAD payload, CONTEXT invocationContext);
 
     String code();
+
+    /**
+     * Declares that the hook does not depend on payload changes made by hooks of preceding groups,
+     * and that its payload update, if any, is built from the payload it is applied to.
+     * <p>
+     * Such hooks may be started concurrently with the preceding group if execution plan marks their group
+     * as parallel. Their results are still applied in declaration order.
+     */
+    default boolean isPayloadIndependent() {
+        return false;
+    }
 }
@@ -1,19 +1,27 @@
 package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class JacksonMapper {
 
     private static final String FAILED_TO_DECODE = "Failed to decode: %s";
+
+    // static, since bidders may encode their requests with another mapper instance than the one opened the scope
+    private static final ThreadLocal<Map<Object, SerializedString>> SCOPED_FRAGMENTS = new ThreadLocal<>();
+
     private final ObjectMapper mapper;
 
     public JacksonMapper(ObjectMapper mapper) {
@@ -32,14 +40,45 @@ public class JacksonMapper {
         }
     }
 
+    /**
+     * Encodes object to bytes. Within {@link #withSharedFragments(SharedFragments, Supplier)} reuses serialized
+     * fragments of request objects which were already encoded as a part of another object, e.g. site or device
+     * shared between bidder requests of one auction.
+     */
     public <T> byte[] encodeToBytes(T obj) throws EncodeException {
+        final Map<Object, SerializedString> fragments = SCOPED_FRAGMENTS.get();
+        final ObjectWriter writer = fragments != null
+                ? mapper.writer().withAttribute(SharedFragmentsModule.FRAGMENTS, fragments)
+                : mapper.writer();
+
         try {
-            return mapper.writeValueAsBytes(obj);
+            return writer.writeValueAsBytes(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
         }
     }
 
+    /**
+     * Runs given encoding on the calling thread with {@link #encodeToBytes(Object)} using the given fragments.
+     */
+    public <T> T withSharedFragments(SharedFragments sharedFragments, Supplier<T> encoding) {
+        if (sharedFragments == null) {
+            return encoding.get();
+        }
+
+        final Map<Object, SerializedString> previousFragments = SCOPED_FRAGMENTS.get();
+        SCOPED_FRAGMENTS.set(sharedFragments.asMap());
+        try {
+            return encoding.get();
+        } finally {
+            if (previousFragments != null) {
+                SCOPED_FRAGMENTS.set(previousFragments);
+            } else {
+                SCOPED_FRAGMENTS.remove();
+            }
+        }
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -0,0 +1,23 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Serialized fragments of request objects shared between bidder requests of one auction.
+ * <p>
+ * Lives as long as the auction, so an object modified after the auction is never written from a stale fragment.
+ *
+ * @see JacksonMapper#withSharedFragments(SharedFragments, java.util.function.Supplier)
+ */
+public class SharedFragments {
+
+    private final Map<Object, SerializedString> fragments = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    Map<Object, SerializedString> asMap() {
+        return fragments;
+    }
+}
@@ -0,0 +1,170 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes request objects which are usually shared as is between bidder requests of one auction
+ * from fragments serialized once.
+ * <p>
+ * Fragments are looked up by object identity in the map passed as {@link #FRAGMENTS} serialization attribute,
+ * objects are serialized as usual when the attribute is absent.
+ */
+class SharedFragmentsModule extends SimpleModule {
+
+    static final Object FRAGMENTS = new Object();
+
+    private static final Set<Class<?>> SHARED_TYPES = Set.of(
+            Site.class,
+            App.class,
+            Dooh.class,
+            Device.class,
+            Source.class,
+            Regs.class,
+            ExtRequestTargeting.class,
+            PriceFloorRules.class,
+            PriceFloorModelGroup.class);
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+
+        final JsonFactory factory = context.<ObjectMapper>getOwner().getFactory();
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+
+                return SHARED_TYPES.contains(beanDesc.getBeanClass())
+                        ? new SharedFragmentSerializer(serializer, factory)
+                        : serializer;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static class SharedFragmentSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        private final JsonFactory factory;
+
+        SharedFragmentSerializer(JsonSerializer<?> delegate, JsonFactory factory) {
+            this.delegate = (JsonSerializer<Object>) delegate;
+            this.factory = factory;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            final Map<Object, SerializedString> fragments =
+                    (Map<Object, SerializedString>) provider.getAttribute(FRAGMENTS);
+            if (fragments == null || generator instanceof TokenBuffer || generator.getPrettyPrinter() != null) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            SerializedString fragment = fragments.get(value);
+            if (fragment == null) {
+                fragment = serializeFragment(value, generator, provider);
+                fragments.put(value, fragment);
+            }
+
+            generator.writeRawValue(fragment);
+        }
+
+        private SerializedString serializeFragment(Object value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+
+            final StringWriter writer = new StringWriter();
+            try (JsonGenerator fragmentGenerator = factory.createGenerator(writer)) {
+                fragmentGenerator.overrideStdFeatures(generator.getFeatureMask(), ~0);
+                fragmentGenerator.setCharacterEscapes(generator.getCharacterEscapes());
+                provider.getConfig().initialize(fragmentGenerator);
+
+                delegate.serialize(value, fragmentGenerator, provider);
+            }
+
+            return new SerializedString(writer.toString());
+        }
+
+        @Override
+        public void serializeWithType(Object value,
+                                      JsonGenerator generator,
+                                      SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            if (!(delegate instanceof ContextualSerializer contextualDelegate)) {
+                return this;
+            }
+
+            final JsonSerializer<?> contextual = contextualDelegate.createContextual(provider, property);
+            return contextual == delegate ? this : new SharedFragmentSerializer(contextual, factory);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvableDelegate) {
+                resolvableDelegate.resolve(provider);
+            }
+        }
+
+        @Override
+        public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+            return delegate.unwrappingSerializer(unwrapper);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public boolean usesObjectId() {
+            return delegate.usesObjectId();
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+    }
+}
@@ -5,33 +5,85 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.ObjectUtil;
 
+import java.time.Clock;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Logs HTTP interactions matching {@link HttpLogSpec} set by operator.
+ * <p>
+ * Calling thread only checks the spec and rate limits and captures immutable interaction data: raw request body
+ * {@link Buffer}, response body and bid request value. Serialization and writing happen on a dedicated thread,
+ * interactions which do not fit into its bounded queue or fail to be written are dropped and counted.
+ * Dropped interactions still count against the spec limit and rate limits.
+ */
 public class HttpInteractionLogger {
 
     private static final String HTTP_INTERACTION_LOGGER_NAME = "http-interaction";
     private final Logger logger = LoggerFactory.getLogger(HTTP_INTERACTION_LOGGER_NAME);
 
     private final JacksonMapper mapper;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final int maxPerSecond;
+    private final Executor executor;
 
     private final AtomicReference<SpecWithCounter> specWithCounter = new AtomicReference<>();
 
-    public HttpInteractionLogger(JacksonMapper mapper) {
+    public HttpInteractionLogger(JacksonMapper mapper,
+                                 Metrics metrics,
+                                 Clock clock,
+                                 int queueCapacity,
+                                 int maxPerSecond) {
+
+        this(mapper, metrics, clock, maxPerSecond, writingExecutor(queueCapacity));
+    }
+
+    HttpInteractionLogger(JacksonMapper mapper, Metrics metrics, Clock clock, int maxPerSecond, Executor executor) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.maxPerSecond = maxPerSecond;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    private static Executor writingExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, HTTP_INTERACTION_LOGGER_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
     public void setSpec(HttpLogSpec spec) {
@@ -43,19 +95,27 @@ public class HttpInteractionLogger {
                                         int statusCode,
                                         String responseBody) {
 
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
-            logger.info(
+        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)
+                && tryAcquire(accountIdOf(auctionContext))) {
+
+            final String uri = routingContext.request().uri();
+            final RequestBody requestBody = routingContext.body();
+            final Buffer body = requestBody != null ? requestBody.buffer() : null;
+
+            write(() -> logger.info(
                     "Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
-                    toOneLineString(routingContext.getBodyAsString()),
+                    uri,
+                    toOneLineString(body != null ? body.toString() : null),
                     statusCode,
-                    responseBody);
-
-            incLoggedInteractions();
+                    responseBody));
         }
     }
 
     private String toOneLineString(String value) {
+        if (value == null) {
+            return null;
+        }
+
         try {
             return mapper.encodeToString(mapper.mapper().readTree(value));
         } catch (JsonProcessingException e) {
@@ -68,26 +128,42 @@ public class HttpInteractionLogger {
                                     int statusCode,
                                     String responseBody) {
 
-        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
-            logger.info(
+        if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)
+                && tryAcquire(accountIdOf(auctionContext))) {
+
+            final String uri = routingContext.request().uri();
+
+            write(() -> logger.info(
                     "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
+                    uri,
                     statusCode,
-                    responseBody);
-
-            incLoggedInteractions();
+                    responseBody));
         }
     }
 
     public void maybeLogBidderRequest(AuctionContext context, BidderRequest bidderRequest) {
         final String bidder = bidderRequest.getBidder();
-        if (interactionSatisfiesSpec(context, bidder)) {
+        if (interactionSatisfiesSpec(context, bidder) && tryAcquire(bidder)) {
             final BidRequest bidRequest = bidderRequest.getBidRequest();
-            final BidRequest updatedBidRequest = bidRequestWithBidderName(bidder, bidRequest);
-            final String jsonBidRequest = mapper.encodeToString(updatedBidRequest);
-            logger.info("Request body to {}: \"{}\"", bidder, jsonBidRequest);
 
-            incLoggedInteractions();
+            write(() -> logger.info("Request body to {}: \"{}\"",
+                    bidder,
+                    mapper.encodeToString(bidRequestWithBidderName(bidder, bidRequest))));
+        }
+    }
+
+    private void write(Runnable writing) {
+        try {
+            executor.execute(() -> {
+                try {
+                    writing.run();
+                } catch (Exception e) {
+                    logger.warn("Failed to write HTTP interaction", e);
+                    metrics.updateHttpInteractionLogDroppedMetric();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.updateHttpInteractionLogDroppedMetric();
         }
     }
 
@@ -100,8 +176,7 @@ public class HttpInteractionLogger {
             return false;
         }
 
-        final Account requestAccount = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
-        final String requestAccountId = ObjectUtil.getIfNotNull(requestAccount, Account::getId);
+        final String requestAccountId = accountIdOf(auctionContext);
 
         final HttpLogSpec spec = specWithCounter.getSpec();
         final HttpLogSpec.Endpoint endpoint = spec.getEndpoint();
@@ -122,8 +197,7 @@ public class HttpInteractionLogger {
 
         final HttpLogSpec.Endpoint requestEndpoint =
                 parseHttpLogEndpoint(ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getRequestTypeMetric));
-        final Account requestAccount = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
-        final String requestAccountId = requestAccount != null ? requestAccount.getId() : null;
+        final String requestAccountId = accountIdOf(auctionContext);
 
         final HttpLogSpec spec = specWithCounter.getSpec();
         final HttpLogSpec.Endpoint endpoint = spec.getEndpoint();
@@ -149,12 +223,34 @@ public class HttpInteractionLogger {
         return null;
     }
 
-    private void incLoggedInteractions() {
+    private static String accountIdOf(AuctionContext auctionContext) {
+        final Account account = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
+        return ObjectUtil.getIfNotNull(account, Account::getId);
+    }
+
+    /**
+     * Counts interaction against the spec limit and the rate limit of the given account or bidder, before any
+     * interaction data is captured. Interaction dropped afterwards is not refunded.
+     */
+    private boolean tryAcquire(String rateLimitKey) {
         final SpecWithCounter specWithCounter = this.specWithCounter.get();
-        if (specWithCounter != null
-                && specWithCounter.getLoggedInteractions().incrementAndGet() >= specWithCounter.getSpec().getLimit()) {
-            this.specWithCounter.set(null);
+        if (specWithCounter == null) {
+            return false;
         }
+
+        if (maxPerSecond > 0 && !specWithCounter.getRateLimits()
+                .computeIfAbsent(StringUtils.defaultString(rateLimitKey), key -> new RateLimit())
+                .tryAcquire(clock.millis(), maxPerSecond)) {
+
+            return false;
+        }
+
+        final long loggedInteractions = specWithCounter.getLoggedInteractions().incrementAndGet();
+        if (loggedInteractions >= specWithCounter.getSpec().getLimit()) {
+            this.specWithCounter.compareAndSet(specWithCounter, null);
+        }
+
+        return loggedInteractions <= specWithCounter.getSpec().getLimit();
     }
 
     private BidRequest bidRequestWithBidderName(String bidder, BidRequest bidRequest) {
@@ -192,5 +288,23 @@ public class HttpInteractionLogger {
         HttpLogSpec spec;
 
         AtomicLong loggedInteractions = new AtomicLong(0);
+
+        Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+    }
+
+    private static class RateLimit {
+
+        private final AtomicLong secondStart = new AtomicLong();
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int maxPerSecond) {
+            final long start = secondStart.get();
+            if (now - start >= 1000L && secondStart.compareAndSet(start, now)) {
+                count.set(0);
+            }
+
+            return count.incrementAndGet() <= maxPerSecond;
+        }
     }
 }
@@ -2,5 +2,5 @@ package org.prebid.server.metric;
 
 public enum CounterType {
 
-    counter, flushingCounter, meter
+    counter, flushingCounter, meter, shardedCounter
 }
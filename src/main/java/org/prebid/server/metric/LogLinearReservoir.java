@@ -0,0 +1,285 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reservoir counting every recorded value in log-linear buckets, the way HdrHistogram does.
+ * <p>
+ * Values below 64 are counted exactly, larger values fall into buckets which are at most 1/32 of their lower bound
+ * wide, so any reported percentile is within ~1.6% of the real one. Values are recorded with a single atomic
+ * increment, without locks and allocations. Snapshot merges the current interval with the previous one, so it always
+ * covers at least one full interval no matter how often it is taken and by how many reporters.
+ * <p>
+ * Buckets of an interval are allocated on its first recorded value, so timers and histograms which recorded nothing
+ * within the last two intervals take no memory for them.
+ */
+public class LogLinearReservoir implements Reservoir {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT << 1;
+
+    // covers more than 18 minutes in nanoseconds, larger values are counted in the last bucket
+    private static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final long intervalNanos;
+    private final Clock clock;
+
+    private final AtomicReference<Interval> interval;
+
+    public LogLinearReservoir(long intervalMs) {
+        this(intervalMs, Clock.defaultClock());
+    }
+
+    public LogLinearReservoir(long intervalMs, Clock clock) {
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("intervalMs must be positive");
+        }
+
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+        this.clock = clock;
+        this.interval = new AtomicReference<>(new Interval(clock.getTick(), new Recording(), new Recording()));
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        actualInterval().current.record(value);
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        final Interval actual = actualInterval();
+        final Recording current = actual.current;
+        final Recording previous = actual.previous;
+
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = current.count(i) + previous.count(i);
+        }
+
+        return new LogLinearSnapshot(
+                counts,
+                Math.min(current.min.get(), previous.min.get()),
+                Math.max(current.max.get(), previous.max.get()));
+    }
+
+    private Interval actualInterval() {
+        final long tick = clock.getTick();
+
+        Interval actual = interval.get();
+        while (tick - actual.start >= intervalNanos) {
+            final Interval next = tick - actual.start >= intervalNanos * 2
+                    ? new Interval(tick, new Recording(), new Recording())
+                    : new Interval(actual.start + intervalNanos, new Recording(), actual.current);
+
+            actual = interval.compareAndSet(actual, next) ? next : interval.get();
+        }
+
+        return actual;
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT
+                + (int) ((value >>> shift) - SUB_BUCKET_HALF_COUNT);
+    }
+
+    private static long bucketMedianValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        final long mantissa = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return (mantissa << shift) + (((1L << shift) - 1) >> 1);
+    }
+
+    private static class Interval {
+
+        private final long start;
+
+        private final Recording current;
+
+        private final Recording previous;
+
+        Interval(long start, Recording current, Recording previous) {
+            this.start = start;
+            this.current = current;
+            this.previous = previous;
+        }
+    }
+
+    private static class Recording {
+
+        private final AtomicReference<AtomicLongArray> counts = new AtomicReference<>();
+
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        void record(long value) {
+            final long trackable = Math.max(value, 0L);
+            counts().incrementAndGet(bucketIndex(Math.min(trackable, MAX_TRACKABLE_VALUE)));
+
+            if (trackable < min.get()) {
+                min.accumulateAndGet(trackable, Math::min);
+            }
+            if (trackable > max.get()) {
+                max.accumulateAndGet(trackable, Math::max);
+            }
+        }
+
+        long count(int index) {
+            final AtomicLongArray actual = counts.get();
+            return actual != null ? actual.get(index) : 0L;
+        }
+
+        private AtomicLongArray counts() {
+            final AtomicLongArray actual = counts.get();
+            if (actual != null) {
+                return actual;
+            }
+
+            final AtomicLongArray created = new AtomicLongArray(BUCKET_COUNT);
+            return counts.compareAndSet(null, created) ? created : counts.get();
+        }
+    }
+
+    private static class LogLinearSnapshot extends Snapshot {
+
+        private final long[] counts;
+
+        private final long count;
+
+        private final long min;
+
+        private final long max;
+
+        LogLinearSnapshot(long[] counts, long min, long max) {
+            long count = 0;
+            for (long bucketCount : counts) {
+                count += bucketCount;
+            }
+
+            this.counts = counts;
+            this.count = count;
+            this.min = count > 0 ? min : 0;
+            this.max = count > 0 ? max : 0;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+
+            if (count == 0) {
+                return 0.0;
+            }
+
+            final long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return valueOf(i);
+                }
+            }
+
+            return max;
+        }
+
+        @Override
+        public long[] getValues() {
+            final long[] values = new long[size()];
+            int position = 0;
+            for (int i = 0; i < counts.length && position < values.length; i++) {
+                final long value = valueOf(i);
+                for (long j = 0; j < counts[i] && position < values.length; j++) {
+                    values[position++] = value;
+                }
+            }
+
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(count, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public double getMean() {
+            if (count == 0) {
+                return 0.0;
+            }
+
+            double sum = 0.0;
+            for (int i = 0; i < counts.length; i++) {
+                sum += (double) valueOf(i) * counts[i];
+            }
+
+            return sum / count;
+        }
+
+        @Override
+        public long getMin() {
+            return min;
+        }
+
+        @Override
+        public double getStdDev() {
+            if (count <= 1) {
+                return 0.0;
+            }
+
+            final double mean = getMean();
+            double sum = 0.0;
+            for (int i = 0; i < counts.length; i++) {
+                final double diff = valueOf(i) - mean;
+                sum += diff * diff * counts[i];
+            }
+
+            return Math.sqrt(sum / (count - 1));
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (long value : getValues()) {
+                    out.printf("%d%n", value);
+                }
+            }
+        }
+
+        private long valueOf(int index) {
+            return Math.min(Math.max(bucketMedianValue(index), min), max);
+        }
+    }
+}
@@ -16,6 +16,12 @@ public enum MetricName {
 
     // database
     db_query_time,
+    db_pool_wait_time,
+    prometheus_scrape_time,
+    prometheus_series,
+    http_interaction_logs_dropped,
+    batch_size,
+    batch_wait_time,
 
     // geo location
     geolocation_requests,
@@ -29,6 +35,8 @@ public enum MetricName {
     app_requests,
     no_cookie_requests,
     request_time,
+    request_size,
+    request_build_time,
     prices,
     imps_requested,
     imps_banner,
@@ -116,6 +124,9 @@ public enum MetricName {
     stored_imps_found,
     stored_imps_missing,
 
+    // request validation
+    skipped,
+
     // cache creative types
     json,
     xml,
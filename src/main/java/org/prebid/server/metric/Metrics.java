@@ -10,6 +10,7 @@ import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.validation.model.ValidationStage;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -18,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -39,6 +41,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<ValidationStage, SpecificValidationMetrics> validationStageMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -58,6 +61,7 @@ public class Metrics extends UpdatableMetrics {
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<ValidationStage, SpecificValidationMetrics> validationStageMetrics;
     private final HooksMetrics hooksMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
@@ -79,6 +83,8 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        validationStageMetricsCreator = stage -> new SpecificValidationMetrics(
+                metricRegistry, counterType, "validation", stage.name());
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
@@ -96,6 +102,7 @@ public class Metrics extends UpdatableMetrics {
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        validationStageMetrics = new EnumMap<>(ValidationStage.class);
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
     }
 
@@ -163,6 +170,10 @@ public class Metrics extends UpdatableMetrics {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    SpecificValidationMetrics forValidationStage(ValidationStage stage) {
+        return validationStageMetrics.computeIfAbsent(stage, validationStageMetricsCreator);
+    }
+
     HooksMetrics hooks() {
         return hooksMetrics;
     }
@@ -303,6 +314,12 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterRequestBuildMetrics(String bidder, long requestSize, long buildNanos) {
+        final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
+        adapterTypeMetrics.updateHistogram(MetricName.request_size, requestSize);
+        adapterTypeMetrics.updateTimer(MetricName.request_build_time, buildNanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateAdapterRequestNobidMetrics(String bidder, Account account) {
         forAdapter(bidder).request().incCounter(MetricName.nobid);
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -382,6 +399,12 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).response().validation().secure().incCounter(type);
     }
 
+    public void updateSkippedValidationsMetric(ValidationStage stage, int count) {
+        if (count > 0) {
+            forValidationStage(stage).incCounter(MetricName.skipped, count);
+        }
+    }
+
     public void updateUserSyncOptoutMetric() {
         userSync().incCounter(MetricName.opt_outs);
     }
@@ -553,6 +576,22 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(MetricName.db_query_time, millis);
     }
 
+    public void updateDatabasePoolWaitTimeMetric(long millis) {
+        updateHistogram(MetricName.db_pool_wait_time, millis);
+    }
+
+    public void updatePrometheusScrapeTimeMetric(long millis) {
+        updateTimer(MetricName.prometheus_scrape_time, millis);
+    }
+
+    public void createPrometheusSeriesGauge(LongSupplier seriesSupplier) {
+        createGauge(MetricName.prometheus_series, seriesSupplier);
+    }
+
+    public void updateHttpInteractionLogDroppedMetric() {
+        incCounter(MetricName.http_interaction_logs_dropped);
+    }
+
     public void createDatabaseCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.db)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -612,6 +651,14 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().requests().updateTimer(MetricName.err, timeElapsed);
     }
 
+    public void updateCacheBatchSizeMetric(int batchSize) {
+        cache().updateHistogram(MetricName.batch_size, batchSize);
+    }
+
+    public void updateCacheBatchWaitTimeMetric(long millis) {
+        cache().updateTimer(MetricName.batch_wait_time, millis);
+    }
+
     public void updateCacheCreativeSize(String accountId, int creativeSize, MetricName creativeType) {
         cache().creativeSize().updateHistogram(creativeType, creativeSize);
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
@@ -641,6 +688,10 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsBatchSizeMetric(MetricName cacheType, int batchSize) {
+        forSettingsCacheType(cacheType).updateHistogram(MetricName.batch_size, batchSize);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
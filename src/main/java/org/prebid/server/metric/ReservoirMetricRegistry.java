@@ -0,0 +1,39 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Timer;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricRegistry} creating histograms and timers with reservoirs of the given factory instead of
+ * exponentially decaying ones, including metrics registered by Vert.x itself.
+ */
+public class ReservoirMetricRegistry extends MetricRegistry {
+
+    private final Supplier<Reservoir> reservoirFactory;
+
+    public ReservoirMetricRegistry(Supplier<Reservoir> reservoirFactory) {
+        this.reservoirFactory = Objects.requireNonNull(reservoirFactory);
+    }
+
+    public static MetricRegistry create(ReservoirType reservoirType, long intervalMs) {
+        return switch (reservoirType) {
+            case exponentiallyDecaying -> new MetricRegistry();
+            case logLinear -> new ReservoirMetricRegistry(() -> new LogLinearReservoir(intervalMs));
+        };
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histogram(name, () -> new Histogram(reservoirFactory.get()));
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return timer(name, () -> new Timer(reservoirFactory.get()));
+    }
+}
@@ -0,0 +1,178 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Counter;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.vertx.core.Context;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter which every Vert.x event loop thread increments in its own memory with plain writes, so event loops never
+ * touch cache lines of each other. Count is summed up over all event loops on read. Increments from other threads
+ * go to shared {@link LongAdder}.
+ * <p>
+ * Number of sharded counters is bounded, counters created above the bound count in shared {@link LongAdder} only.
+ * Index of garbage collected counter is reused by the next created one. Counts of stopped event loops are kept
+ * in retired shard, so stopped event loops do not pile up.
+ */
+class ShardedCounter extends Counter {
+
+    private static final int MAX_SHARDED_COUNTERS = 65_536;
+    private static final int NO_INDEX = -1;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+    private static final Queue<Integer> RELEASED_INDICES = new ConcurrentLinkedQueue<>();
+    private static final List<Shard> SHARDS = new CopyOnWriteArrayList<>();
+    private static final Shard RETIRED_SHARD = new Shard();
+    private static final FastThreadLocal<Shard> THREAD_SHARD = new FastThreadLocal<>() {
+
+        @Override
+        protected Shard initialValue() {
+            if (!Context.isOnEventLoopThread()) {
+                return null;
+            }
+
+            final Shard shard = new Shard();
+            SHARDS.add(shard);
+            return shard;
+        }
+
+        @Override
+        protected void onRemoval(Shard shard) {
+            if (shard != null) {
+                retire(shard);
+            }
+        }
+    };
+
+    private final int index;
+    private final long initialCount;
+    private final LongAdder sharedCount = new LongAdder();
+
+    ShardedCounter() {
+        index = acquireIndex();
+        if (index != NO_INDEX) {
+            initialCount = lockedShardsCount(index);
+            CLEANER.register(this, releaseIndex(index));
+        } else {
+            initialCount = 0L;
+        }
+    }
+
+    private static int acquireIndex() {
+        final Integer releasedIndex = RELEASED_INDICES.poll();
+        if (releasedIndex != null) {
+            return releasedIndex;
+        }
+
+        final int index = NEXT_INDEX.getAndUpdate(next -> next < MAX_SHARDED_COUNTERS ? next + 1 : next);
+        return index < MAX_SHARDED_COUNTERS ? index : NO_INDEX;
+    }
+
+    /**
+     * Released index keeps counts of its previous counter, so the next counter starts from {@code initialCount}.
+     */
+    private static Runnable releaseIndex(int index) {
+        return () -> RELEASED_INDICES.add(index);
+    }
+
+    private static long lockedShardsCount(int index) {
+        synchronized (RETIRED_SHARD) {
+            return shardsCount(index);
+        }
+    }
+
+    private static long shardsCount(int index) {
+        long count = RETIRED_SHARD.get(index);
+        for (Shard shard : SHARDS) {
+            count += shard.get(index);
+        }
+
+        return count;
+    }
+
+    private static void retire(Shard shard) {
+        synchronized (RETIRED_SHARD) {
+            RETIRED_SHARD.addAll(shard);
+            SHARDS.remove(shard);
+        }
+    }
+
+    @Override
+    public void inc() {
+        inc(1);
+    }
+
+    @Override
+    public void inc(long n) {
+        final Shard shard = index != NO_INDEX ? THREAD_SHARD.get() : null;
+        if (shard != null) {
+            shard.add(index, n);
+        } else {
+            sharedCount.add(n);
+        }
+    }
+
+    @Override
+    public void dec() {
+        inc(-1);
+    }
+
+    @Override
+    public void dec(long n) {
+        inc(-n);
+    }
+
+    @Override
+    public long getCount() {
+        final long count = sharedCount.sum();
+        return index != NO_INDEX ? count + shardsCount(index) - initialCount : count;
+    }
+
+    /**
+     * Counts of all sharded counters of one event loop thread, indexed by counter. Written by owning thread only,
+     * retired shard is written under its lock.
+     */
+    private static class Shard {
+
+        private static final int INITIAL_SIZE = 1024;
+        private static final VarHandle COUNTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+        private volatile long[] counts = new long[INITIAL_SIZE];
+
+        void add(int index, long n) {
+            long[] current = counts;
+            if (index >= current.length) {
+                current = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+                counts = current;
+            }
+
+            COUNTS.setOpaque(current, index, (long) COUNTS.getOpaque(current, index) + n);
+        }
+
+        void addAll(Shard other) {
+            final long[] otherCounts = other.counts;
+            for (int i = 0; i < otherCounts.length; i++) {
+                final long count = (long) COUNTS.getOpaque(otherCounts, i);
+                if (count != 0L) {
+                    add(i, count);
+                }
+            }
+        }
+
+        long get(int index) {
+            final long[] current = counts;
+            return index < current.length ? (long) COUNTS.getOpaque(current, index) : 0L;
+        }
+    }
+}
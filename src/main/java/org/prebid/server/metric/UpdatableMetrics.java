@@ -30,6 +30,8 @@ class UpdatableMetrics {
                     registry.counter(metricName, ResettingCounter::new).inc(value);
             case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
             case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+            case shardedCounter -> (registry, metricName, value) ->
+                    registry.counter(metricName, ShardedCounter::new).inc(value);
         };
     }
 
@@ -51,14 +53,21 @@ class UpdatableMetrics {
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value in a given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        metricRegistry.timer(name(metricName)).update(duration, unit);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+        // reservoir of histograms and timers is chosen by the registry, see ReservoirMetricRegistry
         metricRegistry.histogram(name(metricName)).update(value);
     }
 
@@ -0,0 +1,453 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Sampling;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.metric.MetricName;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Writes metrics of {@link MetricRegistry} in Prometheus text format the same way
+ * {@link io.prometheus.client.dropwizard.DropwizardExports} does.
+ * <p>
+ * Names, labels and help of all series are built once and reused until a metric is added to or removed from
+ * the registry, so a scrape only reads metric values and passes the output on in chunks.
+ * <p>
+ * When the number of accounts is capped, accounts with the most requests are exposed as is and metrics of the rest
+ * are summed up as metrics of {@code other} account. Accounts are ranked once per rank interval, accounts first seen
+ * between rankings take free slots if any. When ranking moves an account in or out of top, its series appear or
+ * disappear and series of {@code other} account go backwards, which Prometheus treats as a counter reset.
+ * Summaries of accounts summed up expose their count only, as quantiles of different accounts cannot be summed up.
+ */
+public class PrometheusExposition {
+
+    private static final String ACCOUNT_PREFIX = "account.";
+    private static final String ACCOUNT_REQUESTS_SUFFIX = "." + MetricName.requests;
+    private static final String OTHER_ACCOUNT = "other";
+
+    private static final List<String> QUANTILE_LABEL_NAMES = List.of("quantile");
+    private static final List<Double> QUANTILES = List.of(0.5, 0.75, 0.95, 0.98, 0.99, 0.999);
+    private static final double NANOS_TO_SECONDS = 1.0 / TimeUnit.SECONDS.toNanos(1L);
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final MetricRegistry metricRegistry;
+    private final SampleBuilder sampleBuilder;
+    private final int maxAccounts;
+    private final long rankIntervalMs;
+    private final Clock clock;
+
+    private volatile boolean layoutOutdated = true;
+    private long nextRankAt;
+    private volatile int seriesCount;
+    private List<Family> layout = Collections.emptyList();
+    private final Set<String> topAccounts = new HashSet<>();
+    private final Set<String> assignedAccounts = new HashSet<>();
+
+    /**
+     * Accounts are ranked only once, when their metrics are first exposed, if {@code rankIntervalMs} is not positive.
+     */
+    public PrometheusExposition(MetricRegistry metricRegistry,
+                                SampleBuilder sampleBuilder,
+                                int maxAccounts,
+                                long rankIntervalMs,
+                                Clock clock) {
+
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+        this.sampleBuilder = Objects.requireNonNull(sampleBuilder);
+        this.maxAccounts = maxAccounts;
+        this.rankIntervalMs = rankIntervalMs;
+        this.clock = Objects.requireNonNull(clock);
+
+        metricRegistry.addListener(new LayoutInvalidatingListener());
+    }
+
+    /**
+     * Writes all series to the given output in chunks.
+     */
+    public synchronized void write(Consumer<Buffer> output) {
+        if (maxAccounts > 0 && rankIntervalMs > 0 && clock.millis() >= nextRankAt) {
+            nextRankAt = clock.millis() + rankIntervalMs;
+            rankAccounts();
+        }
+
+        if (layoutOutdated) {
+            layoutOutdated = false;
+            assignNewAccounts();
+            layout = buildLayout();
+            seriesCount = layout.stream().mapToInt(family -> family.series.size()).sum();
+        }
+
+        final SnapshotHolder snapshotHolder = new SnapshotHolder();
+
+        Buffer chunk = Buffer.buffer(CHUNK_SIZE);
+        for (Family family : layout) {
+            chunk.appendString(family.header);
+
+            for (Series series : family.series) {
+                double value = 0.0;
+                for (Metric metric : series.metrics) {
+                    value += series.valueOf(metric, snapshotHolder);
+                }
+
+                chunk.appendString(series.prefix)
+                        .appendString(Collector.doubleToGoString(value))
+                        .appendByte((byte) '\n');
+                if (chunk.length() >= CHUNK_SIZE) {
+                    output.accept(chunk);
+                    chunk = Buffer.buffer(CHUNK_SIZE);
+                }
+            }
+        }
+
+        if (chunk.length() > 0) {
+            output.accept(chunk);
+        }
+    }
+
+    /**
+     * Returns the number of series exposed at the last scrape.
+     */
+    public int getSeriesCount() {
+        return seriesCount;
+    }
+
+    /**
+     * Assigns all accounts again, in order of their requests, and invalidates layout if top accounts changed.
+     */
+    private void rankAccounts() {
+        final Set<String> previousTopAccounts = new HashSet<>(topAccounts);
+        topAccounts.clear();
+        assignedAccounts.clear();
+
+        assignNewAccounts();
+
+        if (!topAccounts.equals(previousTopAccounts)) {
+            layoutOutdated = true;
+        }
+    }
+
+    /**
+     * Assigns accounts which were not seen before, in order of their requests, to free top slots and the rest
+     * to {@code other} account.
+     */
+    private void assignNewAccounts() {
+        if (maxAccounts <= 0) {
+            return;
+        }
+
+        final Map<String, Long> newAccountRequests = new HashMap<>();
+        metricRegistry.getMetrics().forEach((name, metric) -> {
+            final String account = accountOf(name);
+            if (account != null && !assignedAccounts.contains(account)) {
+                final boolean requests = name.equals(ACCOUNT_PREFIX + account + ACCOUNT_REQUESTS_SUFFIX)
+                        && metric instanceof Counting;
+                newAccountRequests.merge(account, requests ? ((Counting) metric).getCount() : 0L, Long::sum);
+            }
+        });
+
+        newAccountRequests.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .forEach(account -> {
+                    assignedAccounts.add(account);
+                    if (topAccounts.size() < maxAccounts) {
+                        topAccounts.add(account);
+                    }
+                });
+    }
+
+    private List<Family> buildLayout() {
+        final Map<String, Family> families = new LinkedHashMap<>();
+
+        metricRegistry.getGauges().forEach((name, gauge) -> addGauge(families, name, gauge));
+        metricRegistry.getCounters().forEach((name, counter) ->
+                addSample(families, name, "", Collector.Type.GAUGE, counter, SampleValue.count()));
+        metricRegistry.getHistograms().forEach((name, histogram) -> addSummary(families, name, histogram, 1.0));
+        metricRegistry.getTimers().forEach((name, timer) -> addSummary(families, name, timer, NANOS_TO_SECONDS));
+        metricRegistry.getMeters().forEach((name, meter) ->
+                addSample(families, name, "_total", Collector.Type.COUNTER, meter, SampleValue.count()));
+
+        return new ArrayList<>(families.values());
+    }
+
+    private void addGauge(Map<String, Family> families, String name, Gauge<?> gauge) {
+        final Object value = gauge.getValue();
+        if (value instanceof Number || value instanceof Boolean) {
+            addSample(families, name, "", Collector.Type.GAUGE, gauge, SampleValue.gauge());
+        }
+    }
+
+    private void addSample(Map<String, Family> families,
+                           String name,
+                           String nameSuffix,
+                           Collector.Type type,
+                           Metric metric,
+                           SampleValue sampleValue) {
+
+        final Sample sample = sampleBuilder.createSample(
+                exposedName(name), nameSuffix, Collections.emptyList(), Collections.emptyList(), 0.0);
+        final String familyName = type == Collector.Type.COUNTER && sample.name.endsWith("_total")
+                ? sample.name.substring(0, sample.name.length() - "_total".length())
+                : sample.name;
+
+        addSeries(families, familyName, type, name, metric, sample, sampleValue);
+    }
+
+    private void addSummary(Map<String, Family> families, String name, Metric metric, double factor) {
+        final String exposedName = exposedName(name);
+        final List<Sample> quantileSamples = QUANTILES.stream()
+                .map(quantile -> sampleBuilder.createSample(
+                        exposedName, "", QUANTILE_LABEL_NAMES, List.of(quantile.toString()), 0.0))
+                .toList();
+        final String familyName = quantileSamples.getFirst().name;
+
+        if (!isAggregated(name)) {
+            for (int i = 0; i < QUANTILES.size(); i++) {
+                addSeries(families, familyName, Collector.Type.SUMMARY, name, metric, quantileSamples.get(i),
+                        SampleValue.quantile(QUANTILES.get(i), factor));
+            }
+        }
+
+        final Sample countSample = sampleBuilder.createSample(
+                exposedName, "_count", Collections.emptyList(), Collections.emptyList(), 0.0);
+        addSeries(families, familyName, Collector.Type.SUMMARY, name, metric, countSample, SampleValue.count());
+    }
+
+    private void addSeries(Map<String, Family> families,
+                           String familyName,
+                           Collector.Type type,
+                           String name,
+                           Metric metric,
+                           Sample sample,
+                           SampleValue sampleValue) {
+
+        final Family family = families.computeIfAbsent(familyName,
+                key -> new Family(header(familyName, type, helpMessage(name, metric))));
+        final String prefix = seriesPrefix(sample);
+        final boolean aggregated = isAggregated(name);
+
+        Series series = aggregated ? family.aggregatedSeries.get(prefix) : null;
+        if (series == null) {
+            series = new Series(prefix, sampleValue);
+            family.series.add(series);
+            if (aggregated) {
+                family.aggregatedSeries.put(prefix, series);
+            }
+        }
+
+        series.metrics.add(metric);
+    }
+
+    private String exposedName(String name) {
+        return isAggregated(name)
+                ? ACCOUNT_PREFIX + OTHER_ACCOUNT + name.substring(ACCOUNT_PREFIX.length() + accountOf(name).length())
+                : name;
+    }
+
+    private boolean isAggregated(String name) {
+        final String account = accountOf(name);
+        return maxAccounts > 0 && account != null && !topAccounts.contains(account);
+    }
+
+    private static String accountOf(String name) {
+        if (!name.startsWith(ACCOUNT_PREFIX)) {
+            return null;
+        }
+
+        final int accountEnd = name.indexOf('.', ACCOUNT_PREFIX.length());
+        return accountEnd > ACCOUNT_PREFIX.length() ? name.substring(ACCOUNT_PREFIX.length(), accountEnd) : null;
+    }
+
+    private static String helpMessage(String name, Metric metric) {
+        return "Generated from Dropwizard metric import (metric=%s, type=%s)"
+                .formatted(name, metric.getClass().getName());
+    }
+
+    private static String header(String familyName, Collector.Type type, String help) {
+        final String name = type == Collector.Type.COUNTER ? familyName + "_total" : familyName;
+        final String typeName = switch (type) {
+            case COUNTER -> "counter";
+            case GAUGE -> "gauge";
+            case SUMMARY -> "summary";
+            default -> "untyped";
+        };
+
+        return "# HELP " + name + ' ' + escapeHelp(help) + '\n'
+                + "# TYPE " + name + ' ' + typeName + '\n';
+    }
+
+    private static String seriesPrefix(Sample sample) {
+        final StringBuilder prefix = new StringBuilder(sample.name);
+        if (!sample.labelNames.isEmpty()) {
+            prefix.append('{');
+            for (int i = 0; i < sample.labelNames.size(); i++) {
+                prefix.append(sample.labelNames.get(i))
+                        .append("=\"")
+                        .append(escapeLabelValue(sample.labelValues.get(i)))
+                        .append("\",");
+            }
+            prefix.append('}');
+        }
+
+        return prefix.append(' ').toString();
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static class Family {
+
+        private final String header;
+
+        private final List<Series> series = new ArrayList<>();
+
+        private final Map<String, Series> aggregatedSeries = new HashMap<>();
+
+        Family(String header) {
+            this.header = header;
+        }
+    }
+
+    private static class Series {
+
+        private final String prefix;
+
+        private final SampleValue sampleValue;
+
+        private final List<Metric> metrics = new ArrayList<>(1);
+
+        Series(String prefix, SampleValue sampleValue) {
+            this.prefix = prefix;
+            this.sampleValue = sampleValue;
+        }
+
+        double valueOf(Metric metric, SnapshotHolder snapshotHolder) {
+            return sampleValue.valueOf(metric, snapshotHolder);
+        }
+    }
+
+    private interface SampleValue {
+
+        double valueOf(Metric metric, SnapshotHolder snapshotHolder);
+
+        static SampleValue count() {
+            return (metric, snapshotHolder) -> ((Counting) metric).getCount();
+        }
+
+        static SampleValue gauge() {
+            return (metric, snapshotHolder) -> switch (((Gauge<?>) metric).getValue()) {
+                case Number number -> number.doubleValue();
+                case Boolean bool -> bool ? 1.0 : 0.0;
+                case null, default -> Double.NaN;
+            };
+        }
+
+        static SampleValue quantile(double quantile, double factor) {
+            return (metric, snapshotHolder) -> snapshotHolder.snapshotOf((Sampling) metric).getValue(quantile) * factor;
+        }
+    }
+
+    /**
+     * Keeps snapshot of the last sampling metric, so all quantiles of a summary are taken from one snapshot.
+     */
+    private static class SnapshotHolder {
+
+        private Sampling metric;
+
+        private Snapshot snapshot;
+
+        Snapshot snapshotOf(Sampling sampling) {
+            if (metric != sampling) {
+                metric = sampling;
+                snapshot = sampling.getSnapshot();
+            }
+
+            return snapshot;
+        }
+    }
+
+    private class LayoutInvalidatingListener extends MetricRegistryListener.Base {
+
+        @Override
+        public void onGaugeAdded(String name, Gauge<?> gauge) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onGaugeRemoved(String name) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onCounterAdded(String name, Counter counter) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onCounterRemoved(String name) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onHistogramAdded(String name, Histogram histogram) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onHistogramRemoved(String name) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onMeterAdded(String name, Meter meter) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onMeterRemoved(String name) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onTimerAdded(String name, Timer timer) {
+            layoutOutdated = true;
+        }
+
+        @Override
+        public void onTimerRemoved(String name) {
+            layoutOutdated = true;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.prebid.server.metric.prometheus;
+
+import io.prometheus.client.exporter.common.TextFormat;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Streams metrics exposed by {@link PrometheusExposition} to Prometheus scrape request.
+ */
+public class PrometheusMetricsHandler implements Handler<RoutingContext> {
+
+    private static final String ENDPOINT = "/metrics";
+
+    private final PrometheusExposition prometheusExposition;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public PrometheusMetricsHandler(PrometheusExposition prometheusExposition, Metrics metrics, Clock clock) {
+        this.prometheusExposition = Objects.requireNonNull(prometheusExposition);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final long startTime = clock.millis();
+
+        HttpUtil.executeSafely(routingContext, ENDPOINT, response -> {
+            response.setChunked(true).putHeader(HttpUtil.CONTENT_TYPE_HEADER, TextFormat.CONTENT_TYPE_004);
+            prometheusExposition.write(response::write);
+            response.end();
+        });
+
+        metrics.updatePrometheusScrapeTimeMetric(clock.millis() - startTime);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -42,6 +43,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
     private final SettingsCache videoCache;
     private final Metrics metrics;
 
+    private final Set<String> unverifiedAccountIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> unverifiedCategoryKeys = ConcurrentHashMap.newKeySet();
+
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
                                       SettingsCache ampCache,
@@ -77,6 +81,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                unverifiedAccountIds,
                 StringUtils.isBlank(accountId) ? StringUtils.EMPTY : accountId,
                 timeout,
                 delegate::getAccountById,
@@ -130,13 +135,15 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 ? "%s_%s".formatted(primaryAdServer, publisher)
                 : primaryAdServer;
 
-        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, compoundKey, timeout,
+        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, unverifiedCategoryKeys,
+                compoundKey, timeout,
                 (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
                 CachingApplicationSettings::noOp);
     }
 
     private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
                                                         Map<String, String> accountToErrorCache,
+                                                        Set<String> unverifiedKeys,
                                                         String key,
                                                         Timeout timeout,
                                                         BiFunction<String, Timeout, Future<T>> retriever,
@@ -146,6 +153,10 @@ public class CachingApplicationSettings implements ApplicationSettings {
         if (cachedValue != null) {
             metricUpdater.accept(MetricName.hit);
 
+            if (unverifiedKeys.remove(key)) {
+                verifyRestoredValue(cache, accountToErrorCache, unverifiedKeys, key, timeout, retriever);
+            }
+
             return Future.succeededFuture(cachedValue);
         }
 
@@ -193,6 +204,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
         final Map<String, String> storedIdToImp = getFromCacheOrAddMissedIds(normalizedAccountId, impIds, impCache,
                 missedImpIds);
 
+        verifyRestoredStoredData(cache, normalizedAccountId, storedIdToRequest.keySet(), storedIdToImp.keySet(),
+                timeout, retriever);
+
         if (missedRequestIds.isEmpty() && missedImpIds.isEmpty()) {
             return Future.succeededFuture(
                     StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList()));
@@ -216,6 +230,90 @@ public class CachingApplicationSettings implements ApplicationSettings {
         });
     }
 
+    /**
+     * Verifies value restored from snapshot against original source in background, caller gets the restored one.
+     * Key is claimed from unverified ones for the time of verification and is returned back if original source
+     * could not give a definitive answer (e.g. timed out), so verification is retried on next use.
+     */
+    private static <T> void verifyRestoredValue(Map<String, T> cache,
+                                                Map<String, String> accountToErrorCache,
+                                                Set<String> unverifiedKeys,
+                                                String key,
+                                                Timeout timeout,
+                                                BiFunction<String, Timeout, Future<T>> retriever) {
+
+        retriever.apply(key, timeout)
+                .onSuccess(value -> cache.put(key, value))
+                .onFailure(throwable -> {
+                    if (throwable instanceof PreBidException) {
+                        cache.remove(key);
+                        accountToErrorCache.put(key, throwable.getMessage());
+                    } else {
+                        unverifiedKeys.add(key);
+                    }
+                });
+    }
+
+    /**
+     * Verifies stored items restored from snapshot against original source in background. Stored items of the account
+     * absent in original source are evicted, stored items of other accounts are kept. If original source fails,
+     * stored items stay unverified until next use.
+     */
+    private static void verifyRestoredStoredData(
+            SettingsCache cache,
+            String accountId,
+            Set<String> foundRequestIds,
+            Set<String> foundImpIds,
+            Timeout timeout,
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever) {
+
+        final Set<String> requestIds = removeUnverified(foundRequestIds, cache.getUnverifiedRequestIds());
+        final Set<String> impIds = removeUnverified(foundImpIds, cache.getUnverifiedImpIds());
+        if (requestIds.isEmpty() && impIds.isEmpty()) {
+            return;
+        }
+
+        retriever.apply(accountId, requestIds, impIds, timeout).onSuccess(result -> {
+            final Map<String, String> storedIdToRequest = result.getStoredIdToRequest();
+            for (String requestId : requestIds) {
+                final String request = storedIdToRequest.get(requestId);
+                if (request != null) {
+                    cache.refreshRequestCache(accountId, requestId, request);
+                } else {
+                    cache.evictRequestCache(accountId, requestId);
+                }
+            }
+
+            final Map<String, String> storedIdToImp = result.getStoredIdToImp();
+            for (String impId : impIds) {
+                final String imp = storedIdToImp.get(impId);
+                if (imp != null) {
+                    cache.refreshImpCache(accountId, impId, imp);
+                } else {
+                    cache.evictImpCache(accountId, impId);
+                }
+            }
+        }).onFailure(ignored -> {
+            cache.getUnverifiedRequestIds().addAll(requestIds);
+            cache.getUnverifiedImpIds().addAll(impIds);
+        });
+    }
+
+    private static Set<String> removeUnverified(Set<String> ids, Set<String> unverifiedIds) {
+        if (unverifiedIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> result = new HashSet<>();
+        for (String id : ids) {
+            if (unverifiedIds.remove(id)) {
+                result.add(id);
+            }
+        }
+
+        return result;
+    }
+
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
                                                             String key,
                                                             Map<String, String> cache) {
@@ -246,6 +344,39 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return idToStoredItem;
     }
 
+    Map<String, Account> getAccountCache() {
+        return accountCache;
+    }
+
+    Map<String, Map<String, String>> getCategoryConfigCache() {
+        return categoryConfigCache;
+    }
+
+    SettingsCache getCache() {
+        return cache;
+    }
+
+    SettingsCache getAmpCache() {
+        return ampCache;
+    }
+
+    SettingsCache getVideoCache() {
+        return videoCache;
+    }
+
+    /**
+     * Puts account restored from snapshot, which is verified against original source on first use.
+     */
+    void restoreAccount(String accountId, Account account) {
+        accountCache.put(accountId, account);
+        unverifiedAccountIds.add(accountId);
+    }
+
+    void restoreCategories(String key, Map<String, String> categories) {
+        categoryConfigCache.put(key, categories);
+        unverifiedCategoryKeys.add(key);
+    }
+
     public void invalidateAccountCache(String accountId) {
         accountCache.remove(accountId);
         accountToErrorCache.remove(accountId);
@@ -10,10 +10,13 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.settings.helper.DatabaseStoredDataResultMapper;
 import org.prebid.server.settings.helper.DatabaseStoredResponseResultMapper;
+import org.prebid.server.settings.helper.LookupBatcher;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataLookup;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 import org.prebid.server.util.ObjectUtil;
@@ -22,6 +25,8 @@ import org.prebid.server.vertx.database.DatabaseClient;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -42,6 +47,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
     private final DatabaseClient databaseClient;
     private final JacksonMapper mapper;
     private final ParametrizedQueryHelper parametrizedQueryHelper;
+    private final LookupBatcher lookupBatcher;
 
     /**
      * Query to select account by ids.
@@ -88,7 +94,8 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                        String selectAccountQuery,
                                        String selectStoredRequestsQuery,
                                        String selectAmpStoredRequestsQuery,
-                                       String selectStoredResponsesQuery) {
+                                       String selectStoredResponsesQuery,
+                                       LookupBatcher lookupBatcher) {
 
         this.databaseClient = Objects.requireNonNull(databaseClient);
         this.mapper = Objects.requireNonNull(mapper);
@@ -98,6 +105,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         this.selectStoredRequestsQuery = Objects.requireNonNull(selectStoredRequestsQuery);
         this.selectAmpStoredRequestsQuery = Objects.requireNonNull(selectAmpStoredRequestsQuery);
         this.selectStoredResponsesQuery = Objects.requireNonNull(selectStoredResponsesQuery);
+        this.lookupBatcher = lookupBatcher;
     }
 
     /**
@@ -158,7 +166,8 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                   Timeout timeout) {
-        return fetchStoredData(selectStoredRequestsQuery, accountId, requestIds, impIds, timeout);
+        return fetchStoredData(
+                selectStoredRequestsQuery, MetricName.stored_request, accountId, requestIds, impIds, timeout);
     }
 
     /**
@@ -168,7 +177,8 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getAmpStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                      Timeout timeout) {
-        return fetchStoredData(selectAmpStoredRequestsQuery, accountId, requestIds, Collections.emptySet(), timeout);
+        return fetchStoredData(selectAmpStoredRequestsQuery, MetricName.amp_stored_request, accountId, requestIds,
+                Collections.emptySet(), timeout);
     }
 
     /**
@@ -178,7 +188,8 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getVideoStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                        Timeout timeout) {
-        return fetchStoredData(selectStoredRequestsQuery, accountId, requestIds, impIds, timeout);
+        return fetchStoredData(
+                selectStoredRequestsQuery, MetricName.stored_request, accountId, requestIds, impIds, timeout);
     }
 
     /**
@@ -205,13 +216,22 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
     /**
      * Fetches stored requests from database for the given query.
      */
-    private Future<StoredDataResult> fetchStoredData(String query, String accountId, Set<String> requestIds,
-                                                     Set<String> impIds, Timeout timeout) {
+    private Future<StoredDataResult> fetchStoredData(String query, MetricName type, String accountId,
+                                                     Set<String> requestIds, Set<String> impIds, Timeout timeout) {
         final Future<StoredDataResult> future;
 
         if (CollectionUtils.isEmpty(requestIds) && CollectionUtils.isEmpty(impIds)) {
             future = Future.succeededFuture(
                     StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
+        } else if (lookupBatcher != null) {
+            future = lookupBatcher.submit(
+                            this,
+                            type,
+                            query + '\u0000' + accountId,
+                            StoredDataLookup.of(accountId, requestIds, impIds, timeout),
+                            lookups -> fetchStoredDataBatch(query, lookups))
+                    .map(rowSet -> DatabaseStoredDataResultMapper.map(rowSet, accountId, requestIds, impIds))
+                    .map(result -> withoutOtherLookupsData(result, requestIds, impIds));
         } else {
             final List<Object> idsQueryParameters = new ArrayList<>();
             IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER))
@@ -231,4 +251,47 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
 
         return future;
     }
+
+    /**
+     * Drops stored data of the kind not requested by the lookup, since result mapper returns all fetched
+     * data of a kind when no ids of that kind are given.
+     */
+    private static StoredDataResult withoutOtherLookupsData(StoredDataResult result,
+                                                            Set<String> requestIds,
+                                                            Set<String> impIds) {
+
+        return StoredDataResult.of(
+                CollectionUtils.isEmpty(requestIds) ? Collections.emptyMap() : result.getStoredIdToRequest(),
+                CollectionUtils.isEmpty(impIds) ? Collections.emptyMap() : result.getStoredIdToImp(),
+                result.getErrors());
+    }
+
+    /**
+     * Fetches stored requests of all given lookups with one query, leaving result mapping to each lookup.
+     */
+    private Future<RowSet<Row>> fetchStoredDataBatch(String query, List<StoredDataLookup> lookups) {
+        final Set<String> requestIds = new LinkedHashSet<>();
+        final Set<String> impIds = new LinkedHashSet<>();
+        lookups.forEach(lookup -> {
+            requestIds.addAll(lookup.getRequestIds());
+            impIds.addAll(lookup.getImpIds());
+        });
+        final Timeout timeout = lookups.stream()
+                .map(StoredDataLookup::getTimeout)
+                .max(Comparator.comparingLong(Timeout::getDeadline))
+                .orElseThrow();
+
+        final List<Object> idsQueryParameters = new ArrayList<>();
+        IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER))
+                .forEach(i -> idsQueryParameters.addAll(requestIds));
+        IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.IMP_ID_PLACEHOLDER))
+                .forEach(i -> idsQueryParameters.addAll(impIds));
+
+        final String parametrizedQuery = parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(
+                query,
+                requestIds.size(),
+                impIds.size());
+
+        return databaseClient.executeQuery(parametrizedQuery, idsQueryParameters, Function.identity(), timeout);
+    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -14,8 +15,11 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.settings.helper.LookupBatcher;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.Category;
+import org.prebid.server.settings.model.StoredDataLookup;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredDataType;
 import org.prebid.server.settings.model.StoredResponseDataResult;
@@ -27,8 +31,10 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -76,25 +82,55 @@ public class HttpApplicationSettings implements ApplicationSettings {
     private final String categoryEndpoint;
     private final HttpClient httpClient;
     private final JacksonMapper mapper;
+    private final LookupBatcher lookupBatcher;
 
     public HttpApplicationSettings(HttpClient httpClient, JacksonMapper mapper, String endpoint, String ampEndpoint,
-                                   String videoEndpoint, String categoryEndpoint) {
+                                   String videoEndpoint, String categoryEndpoint, LookupBatcher lookupBatcher) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
         this.mapper = Objects.requireNonNull(mapper);
         this.endpoint = HttpUtil.validateUrl(Objects.requireNonNull(endpoint));
         this.ampEndpoint = HttpUtil.validateUrl(Objects.requireNonNull(ampEndpoint));
         this.videoEndpoint = HttpUtil.validateUrl(Objects.requireNonNull(videoEndpoint));
         this.categoryEndpoint = HttpUtil.validateUrl(Objects.requireNonNull(categoryEndpoint));
+        this.lookupBatcher = lookupBatcher;
     }
 
     @Override
     public Future<Account> getAccountById(String accountId, Timeout timeout) {
+        if (lookupBatcher != null) {
+            return lookupBatcher.submit(
+                            this,
+                            MetricName.account,
+                            endpoint,
+                            AccountLookup.of(accountId, timeout),
+                            this::fetchAccounts)
+                    .map(accounts -> accounts.stream()
+                            .filter(account -> Objects.equals(account.getId(), accountId))
+                            .findFirst()
+                            .orElseThrow(() -> accountNotFound(accountId)));
+        }
 
         return fetchAccountsByIds(Collections.singleton(accountId), timeout)
                 .map(accounts -> accounts.stream()
                         .findFirst()
-                        .orElseThrow(() ->
-                                new PreBidException("Account with id : %s not found".formatted(accountId))));
+                        .orElseThrow(() -> accountNotFound(accountId)));
+    }
+
+    private static PreBidException accountNotFound(String accountId) {
+        return new PreBidException("Account with id : %s not found".formatted(accountId));
+    }
+
+    private Future<Set<Account>> fetchAccounts(List<AccountLookup> lookups) {
+        final Set<String> accountIds = lookups.stream()
+                .map(AccountLookup::getAccountId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        final Timeout timeout = lookups.stream()
+                .map(AccountLookup::getTimeout)
+                .max(Comparator.comparingLong(Timeout::getDeadline))
+                .orElseThrow();
+
+        return fetchAccountsByIds(accountIds, timeout);
     }
 
     private Future<Set<Account>> fetchAccountsByIds(Set<String> accountIds, Timeout timeout) {
@@ -152,7 +188,7 @@ public class HttpApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                   Timeout timeout) {
-        return fetchStoredData(endpoint, requestIds, impIds, timeout);
+        return fetchStoredData(endpoint, MetricName.stored_request, requestIds, impIds, timeout);
     }
 
     /**
@@ -162,7 +198,7 @@ public class HttpApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getAmpStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                      Timeout timeout) {
-        return fetchStoredData(ampEndpoint, requestIds, Collections.emptySet(), timeout);
+        return fetchStoredData(ampEndpoint, MetricName.amp_stored_request, requestIds, Collections.emptySet(), timeout);
     }
 
     /**
@@ -171,7 +207,7 @@ public class HttpApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getVideoStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                        Timeout timeout) {
-        return fetchStoredData(videoEndpoint, requestIds, impIds, timeout);
+        return fetchStoredData(videoEndpoint, MetricName.stored_request, requestIds, impIds, timeout);
     }
 
     /**
@@ -223,13 +259,26 @@ public class HttpApplicationSettings implements ApplicationSettings {
         return new PreBidException("Failed to fetch categories from url '%s'. Reason: %s".formatted(url, reason));
     }
 
-    private Future<StoredDataResult> fetchStoredData(String endpoint, Set<String> requestIds, Set<String> impIds,
-                                                     Timeout timeout) {
+    private Future<StoredDataResult> fetchStoredData(String endpoint, MetricName type, Set<String> requestIds,
+                                                     Set<String> impIds, Timeout timeout) {
         if (CollectionUtils.isEmpty(requestIds) && CollectionUtils.isEmpty(impIds)) {
             return Future.succeededFuture(
                     StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
         }
 
+        if (lookupBatcher != null) {
+            return lookupBatcher.submit(
+                            this,
+                            type,
+                            endpoint,
+                            StoredDataLookup.of(null, requestIds, impIds, timeout),
+                            lookups -> fetchStoredDataBatch(endpoint, lookups))
+                    .map(response -> parseResponse(requestIds, impIds, HttpFetcherResponse.of(
+                            subset(response.getRequests(), requestIds),
+                            subset(response.getImps(), impIds))))
+                    .recover(exception -> failStoredDataResponse(exception, requestIds, impIds));
+        }
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failStoredDataResponse(new TimeoutException("Timeout has been exceeded"), requestIds, impIds);
@@ -240,6 +289,56 @@ public class HttpApplicationSettings implements ApplicationSettings {
                 .recover(exception -> failStoredDataResponse(exception, requestIds, impIds));
     }
 
+    private Future<HttpFetcherResponse> fetchStoredDataBatch(String endpoint, List<StoredDataLookup> lookups) {
+        final Set<String> requestIds = new LinkedHashSet<>();
+        final Set<String> impIds = new LinkedHashSet<>();
+        lookups.forEach(lookup -> {
+            requestIds.addAll(lookup.getRequestIds());
+            impIds.addAll(lookup.getImpIds());
+        });
+
+        final long remainingTimeout = lookups.stream()
+                .mapToLong(lookup -> lookup.getTimeout().remaining())
+                .max()
+                .orElse(0L);
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+        }
+
+        return httpClient.get(storeRequestUrlFrom(endpoint, requestIds, impIds), HttpUtil.headers(), remainingTimeout)
+                .map(this::toHttpFetcherResponse);
+    }
+
+    private HttpFetcherResponse toHttpFetcherResponse(HttpClientResponse response) {
+        final int statusCode = response.getStatusCode();
+        if (statusCode != HttpResponseStatus.OK.code()) {
+            throw new PreBidException("HTTP status code " + statusCode);
+        }
+
+        try {
+            return mapper.decodeValue(response.getBody(), HttpFetcherResponse.class);
+        } catch (DecodeException e) {
+            throw new PreBidException("parsing json failed for response: %s with message: %s"
+                    .formatted(response.getBody(), e.getMessage()));
+        }
+    }
+
+    private static Map<String, ObjectNode> subset(Map<String, ObjectNode> storedData, Set<String> ids) {
+        if (storedData == null) {
+            return null;
+        }
+
+        final Map<String, ObjectNode> result = new HashMap<>(ids.size());
+        for (String id : ids) {
+            final ObjectNode data = storedData.get(id);
+            if (data != null) {
+                result.put(id, data);
+            }
+        }
+
+        return result;
+    }
+
     private static String storeRequestUrlFrom(String endpoint, Set<String> requestIds, Set<String> impIds) {
         final StringBuilder url = new StringBuilder(endpoint);
         url.append(endpoint.contains("?") ? "&" : "?");
@@ -265,7 +364,7 @@ public class HttpApplicationSettings implements ApplicationSettings {
     private static Future<StoredDataResult> failStoredDataResponse(Throwable throwable, Set<String> requestIds,
                                                                    Set<String> impIds) {
         return Future.succeededFuture(
-                toFailedStoredDataResult(requestIds, impIds, throwable.getMessage()));
+                toFailedStoredDataResult(requestIds, impIds, "%s", throwable.getMessage()));
     }
 
     private Future<StoredDataResult> processStoredDataResponse(HttpClientResponse response, Set<String> requestIds,
@@ -352,4 +451,12 @@ public class HttpApplicationSettings implements ApplicationSettings {
 
         return result;
     }
+
+    @Value(staticConstructor = "of")
+    private static class AccountLookup {
+
+        String accountId;
+
+        Timeout timeout;
+    }
 }
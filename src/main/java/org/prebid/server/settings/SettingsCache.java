@@ -11,7 +11,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -21,6 +23,8 @@ public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final Set<String> unverifiedRequestIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> unverifiedImpIds = ConcurrentHashMap.newKeySet();
 
     public SettingsCache(int ttl, int size, int jitter) {
         if (ttl <= 0 || size <= 0) {
@@ -63,6 +67,49 @@ public class SettingsCache implements CacheNotificationListener {
         saveCachedValue(impCache, accountId, impId, impValue);
     }
 
+    /**
+     * Replaces cached value of the given account, keeping values of other accounts.
+     */
+    void refreshRequestCache(String accountId, String requestId, String requestValue) {
+        refreshCachedValue(requestCache, accountId, requestId, requestValue);
+    }
+
+    void refreshImpCache(String accountId, String impId, String impValue) {
+        refreshCachedValue(impCache, accountId, impId, impValue);
+    }
+
+    /**
+     * Removes cached value of the given account, keeping values of other accounts.
+     */
+    void evictRequestCache(String accountId, String requestId) {
+        evictCachedValue(requestCache, accountId, requestId);
+    }
+
+    void evictImpCache(String accountId, String impId) {
+        evictCachedValue(impCache, accountId, impId);
+    }
+
+    /**
+     * Puts stored requests restored from snapshot, which should be verified against origin source on first use.
+     */
+    void restoreRequestCache(String requestId, Set<StoredItem> storedItems) {
+        requestCache.put(requestId, storedItems);
+        unverifiedRequestIds.add(requestId);
+    }
+
+    void restoreImpCache(String impId, Set<StoredItem> storedItems) {
+        impCache.put(impId, storedItems);
+        unverifiedImpIds.add(impId);
+    }
+
+    Set<String> getUnverifiedRequestIds() {
+        return unverifiedRequestIds;
+    }
+
+    Set<String> getUnverifiedImpIds() {
+        return unverifiedImpIds;
+    }
+
     private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
                                         String accountId,
                                         String id,
@@ -73,6 +120,40 @@ public class SettingsCache implements CacheNotificationListener {
         cache.put(id, values);
     }
 
+    private static void refreshCachedValue(Map<String, Set<StoredItem>> cache,
+                                           String accountId,
+                                           String id,
+                                           String value) {
+
+        final Set<StoredItem> values = new HashSet<>();
+        final Set<StoredItem> cachedValues = cache.get(id);
+        if (cachedValues != null) {
+            cachedValues.stream()
+                    .filter(storedItem -> !Objects.equals(storedItem.getAccountId(), accountId))
+                    .forEach(values::add);
+        }
+        values.add(StoredItem.of(accountId, value));
+        cache.put(id, values);
+    }
+
+    private static void evictCachedValue(Map<String, Set<StoredItem>> cache, String accountId, String id) {
+        final Set<StoredItem> cachedValues = cache.get(id);
+        if (cachedValues == null) {
+            return;
+        }
+
+        final Set<StoredItem> values = new HashSet<>();
+        cachedValues.stream()
+                .filter(storedItem -> !Objects.equals(storedItem.getAccountId(), accountId))
+                .forEach(values::add);
+
+        if (values.isEmpty()) {
+            cache.remove(id);
+        } else {
+            cache.put(id, values);
+        }
+    }
+
     /**
      * Saves given stored requests and imps for NULL account.
      * <p>
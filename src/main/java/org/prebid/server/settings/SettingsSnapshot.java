@@ -0,0 +1,219 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.SettingsSnapshotEntry;
+import org.prebid.server.settings.model.SettingsSnapshotEntryType;
+import org.prebid.server.settings.model.StoredItem;
+import org.prebid.server.vertx.Initializable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps local snapshot of {@link CachingApplicationSettings} caches, so a new instance starts with warm caches.
+ * <p>
+ * Snapshot is a file with one JSON {@link SettingsSnapshotEntry} per line. It is restored once on creation, before
+ * instance starts serving requests, and is rewritten periodically afterward. Restored entries are served as is and
+ * verified against original source on first use. Missing snapshot is ignored, malformed lines are skipped.
+ */
+public class SettingsSnapshot implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettingsSnapshot.class);
+
+    private static final TypeReference<Map<String, String>> CATEGORIES_REFERENCE = new TypeReference<>() {
+    };
+    private static final TypeReference<Set<StoredItem>> STORED_ITEMS_REFERENCE = new TypeReference<>() {
+    };
+
+    private final CachingApplicationSettings cachingApplicationSettings;
+    private final Path path;
+    private final long writePeriod;
+    private final int maxEntries;
+    private final Vertx vertx;
+    private final ObjectMapper mapper;
+
+    public SettingsSnapshot(CachingApplicationSettings cachingApplicationSettings,
+                            String path,
+                            long writePeriod,
+                            int maxEntries,
+                            Vertx vertx,
+                            JacksonMapper mapper) {
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+
+        this.cachingApplicationSettings = Objects.requireNonNull(cachingApplicationSettings);
+        this.path = Paths.get(Objects.requireNonNull(StringUtils.stripToNull(path)));
+        this.writePeriod = writePeriod;
+        this.maxEntries = maxEntries;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.mapper = Objects.requireNonNull(mapper).mapper();
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        if (writePeriod > 0) {
+            vertx.setPeriodic(writePeriod, ignored -> write());
+        }
+
+        initializePromise.tryComplete();
+    }
+
+    /**
+     * Restores caches from snapshot file and returns the number of restored entries.
+     */
+    public int restore() {
+        int restored = 0;
+        int skipped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (StringUtils.isBlank(line)) {
+                    continue;
+                }
+
+                if (restoreEntry(line)) {
+                    restored++;
+                } else {
+                    skipped++;
+                }
+            }
+        } catch (NoSuchFileException e) {
+            logger.info("Settings snapshot {} not found, starting with empty caches", path);
+            return 0;
+        } catch (IOException e) {
+            logger.warn("Error occurred while reading settings snapshot {}", e, path);
+        }
+
+        if (skipped > 0) {
+            logger.warn("Skipped {} malformed entries of settings snapshot {}", skipped, path);
+        }
+        logger.info("Restored {} entries from settings snapshot {}", restored, path);
+
+        return restored;
+    }
+
+    private boolean restoreEntry(String line) {
+        try {
+            final SettingsSnapshotEntry entry = mapper.readValue(line, SettingsSnapshotEntry.class);
+            final String id = entry.getId();
+            if (entry.getType() == null || id == null || entry.getValue() == null) {
+                return false;
+            }
+
+            switch (entry.getType()) {
+                case account -> cachingApplicationSettings.restoreAccount(id, toValue(entry, Account.class));
+                case categories -> cachingApplicationSettings.restoreCategories(id, toCategories(entry));
+                case request -> cachingApplicationSettings.getCache().restoreRequestCache(id, toStoredItems(entry));
+                case imp -> cachingApplicationSettings.getCache().restoreImpCache(id, toStoredItems(entry));
+                case amp_request -> cachingApplicationSettings.getAmpCache()
+                        .restoreRequestCache(id, toStoredItems(entry));
+                case amp_imp -> cachingApplicationSettings.getAmpCache().restoreImpCache(id, toStoredItems(entry));
+                case video_request -> cachingApplicationSettings.getVideoCache()
+                        .restoreRequestCache(id, toStoredItems(entry));
+                case video_imp -> cachingApplicationSettings.getVideoCache()
+                        .restoreImpCache(id, toStoredItems(entry));
+            }
+
+            return true;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private <T> T toValue(SettingsSnapshotEntry entry, Class<T> type) throws JsonProcessingException {
+        return mapper.treeToValue(entry.getValue(), type);
+    }
+
+    private Map<String, String> toCategories(SettingsSnapshotEntry entry) {
+        return mapper.convertValue(entry.getValue(), CATEGORIES_REFERENCE);
+    }
+
+    private Set<StoredItem> toStoredItems(SettingsSnapshotEntry entry) {
+        return new HashSet<>(mapper.convertValue(entry.getValue(), STORED_ITEMS_REFERENCE));
+    }
+
+    /**
+     * Writes caches to snapshot file off the event loop. File is replaced atomically, so a reader never sees
+     * a partially written snapshot.
+     */
+    public Future<Void> write() {
+        return vertx.<Void>executeBlocking(this::writeSnapshot, false)
+                .onFailure(throwable -> logger.warn("Error occurred while writing settings snapshot {}",
+                        throwable, path));
+    }
+
+    private Void writeSnapshot() throws IOException {
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        final Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writeEntries(writer, SettingsSnapshotEntryType.account, cachingApplicationSettings.getAccountCache());
+                writeEntries(writer, SettingsSnapshotEntryType.categories,
+                        cachingApplicationSettings.getCategoryConfigCache());
+                writeEntries(writer, SettingsSnapshotEntryType.request,
+                        cachingApplicationSettings.getCache().getRequestCache());
+                writeEntries(writer, SettingsSnapshotEntryType.imp,
+                        cachingApplicationSettings.getCache().getImpCache());
+                writeEntries(writer, SettingsSnapshotEntryType.amp_request,
+                        cachingApplicationSettings.getAmpCache().getRequestCache());
+                writeEntries(writer, SettingsSnapshotEntryType.amp_imp,
+                        cachingApplicationSettings.getAmpCache().getImpCache());
+                writeEntries(writer, SettingsSnapshotEntryType.video_request,
+                        cachingApplicationSettings.getVideoCache().getRequestCache());
+                writeEntries(writer, SettingsSnapshotEntryType.video_imp,
+                        cachingApplicationSettings.getVideoCache().getImpCache());
+            }
+
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+
+        return null;
+    }
+
+    private void writeEntries(BufferedWriter writer, SettingsSnapshotEntryType type, Map<String, ?> cache)
+            throws IOException {
+
+        int written = 0;
+        for (Map.Entry<String, ?> cacheEntry : cache.entrySet()) {
+            if (written >= maxEntries) {
+                break;
+            }
+
+            final SettingsSnapshotEntry entry = SettingsSnapshotEntry.of(
+                    type, cacheEntry.getKey(), mapper.valueToTree(cacheEntry.getValue()));
+            writer.write(mapper.writeValueAsString(entry));
+            writer.newLine();
+            written++;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Merges settings lookups submitted within a short window into one call to the settings backend.
+ * <p>
+ * Lookups are grouped by owner and key: all lookups of a group are passed to the loader at once and each submitter
+ * gets the loader result back on its own context, picking its part of it. When window is not positive,
+ * lookups submitted within the same event loop tick are merged.
+ */
+public class LookupBatcher {
+
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final long windowMs;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private final Map<BatchKey, Batch<?, ?>> batches = new HashMap<>();
+
+    public LookupBatcher(Vertx vertx, Metrics metrics, long windowMs, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Adds lookup to the pending batch of the given owner, type and key, creating one when needed.
+     * Loader of the first lookup of a batch is used to load the whole batch.
+     */
+    @SuppressWarnings("unchecked")
+    public <Q, R> Future<R> submit(Object owner,
+                                   MetricName type,
+                                   String key,
+                                   Q lookup,
+                                   Function<List<Q>, Future<R>> loader) {
+
+        final BatchKey batchKey = BatchKey.of(owner, type, key);
+        final PendingLookup<Q, R> pendingLookup = new PendingLookup<>(lookup, vertx.getOrCreateContext());
+
+        final Batch<Q, R> fullBatch;
+        synchronized (lock) {
+            Batch<Q, R> batch = (Batch<Q, R>) batches.get(batchKey);
+            if (batch == null) {
+                batch = new Batch<>(type, loader);
+                batches.put(batchKey, batch);
+                scheduleFlush(batchKey, batch);
+            }
+
+            batch.lookups.add(pendingLookup);
+            fullBatch = batch.lookups.size() >= maxBatchSize ? detach(batchKey, batch) : null;
+        }
+
+        if (fullBatch != null) {
+            run(fullBatch);
+        }
+
+        return pendingLookup.promise.future();
+    }
+
+    private void scheduleFlush(BatchKey batchKey, Batch<?, ?> batch) {
+        if (windowMs > 0) {
+            vertx.setTimer(windowMs, ignored -> flush(batchKey, batch));
+        } else {
+            vertx.runOnContext(ignored -> flush(batchKey, batch));
+        }
+    }
+
+    private <Q, R> Batch<Q, R> detach(BatchKey batchKey, Batch<Q, R> batch) {
+        return batches.remove(batchKey, batch) ? batch : null;
+    }
+
+    private void flush(BatchKey batchKey, Batch<?, ?> batch) {
+        final Batch<?, ?> detached;
+        synchronized (lock) {
+            detached = detach(batchKey, batch);
+        }
+
+        if (detached != null) {
+            run(detached);
+        }
+    }
+
+    private <Q, R> void run(Batch<Q, R> batch) {
+        metrics.updateSettingsBatchSizeMetric(batch.type, batch.lookups.size());
+
+        final List<Q> lookups = batch.lookups.stream().map(pendingLookup -> pendingLookup.lookup).toList();
+
+        Future<R> result;
+        try {
+            result = batch.loader.apply(lookups);
+        } catch (Exception e) {
+            result = Future.failedFuture(e);
+        }
+
+        result.onComplete(loaded -> batch.lookups.forEach(pendingLookup -> pendingLookup.complete(loaded)));
+    }
+
+    @Value(staticConstructor = "of")
+    private static class BatchKey {
+
+        Object owner;
+
+        MetricName type;
+
+        String key;
+    }
+
+    private static class Batch<Q, R> {
+
+        private final MetricName type;
+
+        private final Function<List<Q>, Future<R>> loader;
+
+        private final List<PendingLookup<Q, R>> lookups = new ArrayList<>();
+
+        Batch(MetricName type, Function<List<Q>, Future<R>> loader) {
+            this.type = type;
+            this.loader = loader;
+        }
+    }
+
+    private static class PendingLookup<Q, R> {
+
+        private final Q lookup;
+
+        private final Context context;
+
+        private final Promise<R> promise = Promise.promise();
+
+        PendingLookup(Q lookup, Context context) {
+            this.lookup = lookup;
+            this.context = context;
+        }
+
+        void complete(AsyncResult<R> result) {
+            context.runOnContext(ignored -> promise.handle(result));
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.Builder;
 import lombok.Value;
 
+import java.util.List;
+
 @Builder
 @Value
 public class AccountPriceFloorsConfig {
@@ -29,4 +31,10 @@ public class AccountPriceFloorsConfig {
 
     @JsonAlias("max-schema-dims")
     Long maxSchemaDims;
+
+    @JsonAlias("bidder-floors-projection")
+    BidderFloorsProjection bidderFloorsProjection;
+
+    @JsonAlias("full-floors-bidders")
+    List<String> fullFloorsBidders;
 }
@@ -0,0 +1,6 @@
+package org.prebid.server.settings.model;
+
+public enum BidderFloorsProjection {
+
+    full, enforced
+}
@@ -0,0 +1,17 @@
+package org.prebid.server.settings.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Value;
+
+/**
+ * Describes one line of settings snapshot file.
+ */
+@Value(staticConstructor = "of")
+public class SettingsSnapshotEntry {
+
+    SettingsSnapshotEntryType type;
+
+    String id;
+
+    JsonNode value;
+}
@@ -0,0 +1,9 @@
+package org.prebid.server.settings.model;
+
+/**
+ * Defines the cache an entry of settings snapshot is restored to.
+ */
+public enum SettingsSnapshotEntryType {
+
+    account, categories, request, imp, amp_request, amp_imp, video_request, video_imp
+}
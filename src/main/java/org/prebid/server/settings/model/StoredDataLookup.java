@@ -0,0 +1,18 @@
+package org.prebid.server.settings.model;
+
+import lombok.Value;
+import org.prebid.server.execution.timeout.Timeout;
+
+import java.util.Set;
+
+@Value(staticConstructor = "of")
+public class StoredDataLookup {
+
+    String accountId;
+
+    Set<String> requestIds;
+
+    Set<String> impIds;
+
+    Timeout timeout;
+}
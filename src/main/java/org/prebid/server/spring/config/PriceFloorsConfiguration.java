@@ -14,12 +14,14 @@ import org.prebid.server.floors.PriceFloorEnforcer;
 import org.prebid.server.floors.PriceFloorFetcher;
 import org.prebid.server.floors.PriceFloorProcessor;
 import org.prebid.server.floors.PriceFloorResolver;
+import org.prebid.server.floors.PriceFloorRulesIndex;
 import org.prebid.server.floors.model.PriceFloorDebugProperties;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.vertx.httpclient.HttpClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -38,7 +40,9 @@ public class PriceFloorsConfiguration {
             TimeoutFactory timeoutFactory,
             HttpClient httpClient,
             PriceFloorDebugProperties debugProperties,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            PriceFloorRulesIndex priceFloorRulesIndex,
+            @Value("${price-floors.cache-size:300}") int cacheSize) {
 
         return new PriceFloorFetcher(
                 applicationSettings,
@@ -47,7 +51,17 @@ public class PriceFloorsConfiguration {
                 timeoutFactory,
                 httpClient,
                 debugProperties,
-                mapper);
+                mapper,
+                priceFloorRulesIndex,
+                cacheSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "price-floors", name = "enabled", havingValue = "true")
+    PriceFloorRulesIndex priceFloorRulesIndex(
+            @Value("${price-floors.rules-index-cache-size:1000}") int cacheSize) {
+
+        return new PriceFloorRulesIndex(cacheSize);
     }
 
     @Bean
@@ -69,9 +83,11 @@ public class PriceFloorsConfiguration {
     PriceFloorResolver basicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                                CountryCodeMapper countryCodeMapper,
                                                Metrics metrics,
-                                               JacksonMapper mapper) {
+                                               JacksonMapper mapper,
+                                               PriceFloorRulesIndex priceFloorRulesIndex) {
 
-        return new BasicPriceFloorResolver(currencyConversionService, countryCodeMapper, metrics, mapper);
+        return new BasicPriceFloorResolver(
+                currencyConversionService, countryCodeMapper, metrics, mapper, priceFloorRulesIndex);
     }
 
     @Bean
@@ -74,6 +74,7 @@ import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
+import org.prebid.server.cache.CachePutBatcher;
 import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cache.PbcStorageService;
 import org.prebid.server.cache.model.CacheTtl;
@@ -82,6 +83,7 @@ import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
 import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
+import org.prebid.server.cookie.UidsCookieBinaryFormat;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
@@ -112,6 +114,7 @@ import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.util.ResourceUtil;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
 import org.prebid.server.validation.BidderParamValidator;
@@ -169,12 +172,14 @@ public class ServiceConfiguration {
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
+            @Autowired(required = false) CachePutBatcher cachePutBatcher,
             Metrics metrics,
             Clock clock,
             JacksonMapper mapper) {
 
         return new CoreCacheService(
                 httpClient,
+                cachePutBatcher,
                 CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
                 CacheServiceUtil.getCachedAssetUrlTemplate(scheme, host, path, query),
                 expectedCacheTimeMs,
@@ -190,6 +195,19 @@ public class ServiceConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.batching", name = "enabled", havingValue = "true")
+    CachePutBatcher cachePutBatcher(Vertx vertx,
+                                    HttpClient httpClient,
+                                    Metrics metrics,
+                                    Clock clock,
+                                    JacksonMapper mapper,
+                                    @Value("${cache.batching.window-ms:2}") long windowMs,
+                                    @Value("${cache.batching.max-batch-size:100}") int maxBatchSize) {
+
+        return new CachePutBatcher(vertx, httpClient, metrics, clock, mapper, windowMs, maxBatchSize);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "cache.module", name = "enabled", havingValue = "false", matchIfMissing = true)
     PbcStorageService noOpModuleCacheService() {
@@ -259,8 +277,8 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    ImpAdjuster impAdjuster(ImpValidator impValidator, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
-        return new ImpAdjuster(jacksonMapper, jsonMerger, impValidator);
+    ImpAdjuster impAdjuster(ImpValidator impValidator, JacksonMapper jacksonMapper) {
+        return new ImpAdjuster(jacksonMapper, impValidator);
     }
 
     @Bean
@@ -663,9 +681,10 @@ public class ServiceConfiguration {
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
             @Value("${setuid.number-of-uid-cookies:1}") int numberOfUidCookies,
+            @Value("${host-cookie.binary-format-enabled:false}") boolean binaryFormatEnabled,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
             Metrics metrics,
-            JacksonMapper mapper) {
+            JacksonMapper mapper) throws IOException {
 
         return new UidsCookieService(
                 optOutCookieName,
@@ -676,7 +695,9 @@ public class ServiceConfiguration {
                 ttlDays,
                 maxCookieSizeBytes,
                 numberOfUidCookies,
+                binaryFormatEnabled,
                 prioritizedCoopSyncProvider,
+                UidsCookieBinaryFormat.create(ResourceUtil.readFromClasspath("cookie-family-ids.csv")),
                 metrics,
                 mapper);
     }
@@ -760,7 +781,8 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            Metrics metrics) {
 
         return new HttpBidderRequester(
                 httpClient,
@@ -768,6 +790,7 @@ public class ServiceConfiguration {
                 bidderErrorNotifier,
                 requestEnricher,
                 mapper,
+                metrics,
                 logSamplingRate);
     }
 
@@ -1167,8 +1190,14 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper) {
-        return new HttpInteractionLogger(mapper);
+    HttpInteractionLogger httpInteractionLogger(
+            JacksonMapper mapper,
+            Metrics metrics,
+            Clock clock,
+            @Value("${logging.http-interaction.queue-capacity}") int queueCapacity,
+            @Value("${logging.http-interaction.max-per-second}") int maxPerSecond) {
+
+        return new HttpInteractionLogger(mapper, metrics, clock, queueCapacity, maxPerSecond);
     }
 
     @Bean
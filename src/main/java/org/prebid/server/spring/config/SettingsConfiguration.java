@@ -22,6 +22,8 @@ import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
 import org.prebid.server.settings.S3ApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.settings.SettingsSnapshot;
+import org.prebid.server.settings.helper.LookupBatcher;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.service.DatabasePeriodicRefreshService;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
@@ -90,7 +92,8 @@ public class SettingsConfiguration {
                 @Value("${settings.database.stored-responses-query}") String storedResponsesQuery,
                 ParametrizedQueryHelper parametrizedQueryHelper,
                 DatabaseClient databaseClient,
-                JacksonMapper jacksonMapper) {
+                JacksonMapper jacksonMapper,
+                @Autowired(required = false) LookupBatcher lookupBatcher) {
 
             return new DatabaseApplicationSettings(
                     databaseClient,
@@ -99,7 +102,22 @@ public class SettingsConfiguration {
                     accountQuery,
                     storedRequestsQuery,
                     ampStoredRequestsQuery,
-                    storedResponsesQuery);
+                    storedResponsesQuery,
+                    lookupBatcher);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "settings.batching", name = "enabled", havingValue = "true")
+    static class LookupBatcherConfiguration {
+
+        @Bean
+        LookupBatcher lookupBatcher(Vertx vertx,
+                                    Metrics metrics,
+                                    @Value("${settings.batching.window-ms}") long windowMs,
+                                    @Value("${settings.batching.max-batch-size}") int maxBatchSize) {
+
+            return new LookupBatcher(vertx, metrics, windowMs, maxBatchSize);
         }
     }
 
@@ -114,10 +132,11 @@ public class SettingsConfiguration {
                 @Value("${settings.http.endpoint}") String endpoint,
                 @Value("${settings.http.amp-endpoint}") String ampEndpoint,
                 @Value("${settings.http.video-endpoint}") String videoEndpoint,
-                @Value("${settings.http.category-endpoint}") String categoryEndpoint) {
+                @Value("${settings.http.category-endpoint}") String categoryEndpoint,
+                @Autowired(required = false) LookupBatcher lookupBatcher) {
 
             return new HttpApplicationSettings(httpClient, mapper, endpoint, ampEndpoint, videoEndpoint,
-                    categoryEndpoint);
+                    categoryEndpoint, lookupBatcher);
         }
     }
 
@@ -177,6 +196,10 @@ public class SettingsConfiguration {
         @Autowired
         DatabaseClient databaseClient;
 
+        @Autowired(required = false)
+        @Qualifier("refreshDatabaseClient")
+        DatabaseClient refreshDatabaseClient;
+
         @Autowired
         TimeoutFactory timeoutFactory;
 
@@ -200,7 +223,7 @@ public class SettingsConfiguration {
                     MetricName.stored_request,
                     settingsCache,
                     vertx,
-                    databaseClient,
+                    ObjectUtils.defaultIfNull(refreshDatabaseClient, databaseClient),
                     timeoutFactory,
                     metrics,
                     clock);
@@ -220,7 +243,7 @@ public class SettingsConfiguration {
                     MetricName.amp_stored_request,
                     ampSettingsCache,
                     vertx,
-                    databaseClient,
+                    ObjectUtils.defaultIfNull(refreshDatabaseClient, databaseClient),
                     timeoutFactory,
                     metrics,
                     clock);
@@ -408,6 +431,23 @@ public class SettingsConfiguration {
                     cacheProperties.getCacheSize(),
                     cacheProperties.getJitterSeconds());
         }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "settings.in-memory-cache.snapshot", name = "path")
+        SettingsSnapshot settingsSnapshot(
+                CachingApplicationSettings cachingApplicationSettings,
+                @Value("${settings.in-memory-cache.snapshot.path}") String path,
+                @Value("${settings.in-memory-cache.snapshot.write-period-ms:60000}") long writePeriodMs,
+                @Value("${settings.in-memory-cache.snapshot.max-entries:10000}") int maxEntries,
+                Vertx vertx,
+                JacksonMapper mapper) {
+
+            final SettingsSnapshot settingsSnapshot = new SettingsSnapshot(
+                    cachingApplicationSettings, path, writePeriodMs, maxEntries, vertx, mapper);
+            settingsSnapshot.restore();
+
+            return settingsSnapshot;
+        }
     }
 
     @Configuration
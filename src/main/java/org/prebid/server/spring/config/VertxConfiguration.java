@@ -14,6 +14,7 @@ import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 
 @Configuration
 public class VertxConfiguration {
@@ -21,6 +22,7 @@ public class VertxConfiguration {
     private static final Logger logger = LoggerFactory.getLogger(VertxConfiguration.class);
 
     @Bean
+    @DependsOn("metricRegistry")
     Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize,
                 @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics,
                 @Value("${metrics.jmx.enabled}") boolean jmxEnabled) {
@@ -13,6 +13,7 @@ import org.prebid.server.settings.helper.ParametrizedQueryMySqlHelper;
 import org.prebid.server.settings.helper.ParametrizedQueryPostgresHelper;
 import org.prebid.server.spring.config.database.model.ConnectionPoolSettings;
 import org.prebid.server.spring.config.database.model.DatabaseAddress;
+import org.prebid.server.spring.config.database.model.DatabaseType;
 import org.prebid.server.spring.config.database.properties.DatabaseConfigurationProperties;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.vertx.ContextRunner;
@@ -24,6 +25,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.Clock;
@@ -78,28 +80,7 @@ public class DatabaseConfiguration {
                              DatabaseAddress databaseAddress,
                              ConnectionPoolSettings connectionPoolSettings) {
 
-        final MySQLConnectOptions sqlConnectOptions = new MySQLConnectOptions()
-                .setHost(databaseAddress.getHost())
-                .setPort(databaseAddress.getPort())
-                .setDatabase(databaseAddress.getDatabaseName())
-                .setUser(connectionPoolSettings.getUser())
-                .setPassword(connectionPoolSettings.getPassword())
-                .setSsl(false)
-                .setTcpKeepAlive(true)
-                .setCachePreparedStatements(connectionPoolSettings.getEnablePreparedStatementCaching())
-                .setPreparedStatementCacheMaxSize(connectionPoolSettings.getMaxPreparedStatementCacheSize())
-                .setIdleTimeout(connectionPoolSettings.getIdleTimeout())
-                .setIdleTimeoutUnit(TimeUnit.SECONDS);
-
-        final PoolOptions poolOptions = new PoolOptions()
-                .setMaxSize(connectionPoolSettings.getPoolSize());
-
-        return MySQLBuilder
-                .pool()
-                .with(poolOptions)
-                .connectingTo(sqlConnectOptions)
-                .using(vertx)
-                .build();
+        return createMysqlPool(vertx, databaseAddress, connectionPoolSettings, connectionPoolSettings.getPoolSize());
     }
 
     @Bean
@@ -108,28 +89,7 @@ public class DatabaseConfiguration {
                                 DatabaseAddress databaseAddress,
                                 ConnectionPoolSettings connectionPoolSettings) {
 
-        final PgConnectOptions sqlConnectOptions = new PgConnectOptions()
-                .setHost(databaseAddress.getHost())
-                .setPort(databaseAddress.getPort())
-                .setDatabase(databaseAddress.getDatabaseName())
-                .setUser(connectionPoolSettings.getUser())
-                .setPassword(connectionPoolSettings.getPassword())
-                .setSsl(false)
-                .setTcpKeepAlive(true)
-                .setCachePreparedStatements(connectionPoolSettings.getEnablePreparedStatementCaching())
-                .setPreparedStatementCacheMaxSize(connectionPoolSettings.getMaxPreparedStatementCacheSize())
-                .setIdleTimeout(connectionPoolSettings.getIdleTimeout())
-                .setIdleTimeoutUnit(TimeUnit.SECONDS);
-
-        final PoolOptions poolOptions = new PoolOptions()
-                .setMaxSize(connectionPoolSettings.getPoolSize());
-
-        return PgBuilder
-                .pool()
-                .with(poolOptions)
-                .connectingTo(sqlConnectOptions)
-                .using(vertx)
-                .build();
+        return createPostgresPool(vertx, databaseAddress, connectionPoolSettings, connectionPoolSettings.getPoolSize());
     }
 
     @Bean
@@ -140,6 +100,7 @@ public class DatabaseConfiguration {
     }
 
     @Bean
+    @Primary
     @ConditionalOnProperty(prefix = "settings.database.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
     BasicDatabaseClient basicDatabaseClient(Pool pool, Metrics metrics, Clock clock, ContextRunner contextRunner) {
@@ -148,6 +109,7 @@ public class DatabaseConfiguration {
     }
 
     @Bean
+    @Primary
     @ConditionalOnProperty(prefix = "settings.database.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredDatabaseClient circuitBreakerSecuredAsyncDatabaseClient(
             Vertx vertx,
@@ -168,6 +130,30 @@ public class DatabaseConfiguration {
                 clock);
     }
 
+    /**
+     * Client over separate bounded pool, so periodic refresh of in-memory cache does not compete
+     * with request processing for connections. Connections are opened on first use.
+     * <p>
+     * Not secured by circuit breaker on purpose: refresh runs in background with its own period and timeout,
+     * and its failures should not open the circuit for request processing.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "settings.database", name = "refresh-pool-size")
+    BasicDatabaseClient refreshDatabaseClient(Vertx vertx,
+                                              DatabaseAddress databaseAddress,
+                                              ConnectionPoolSettings connectionPoolSettings,
+                                              DatabaseConfigurationProperties databaseConfigurationProperties,
+                                              Metrics metrics,
+                                              Clock clock) {
+
+        final int poolSize = databaseConfigurationProperties.getRefreshPoolSize();
+        final Pool pool = connectionPoolSettings.getDatabaseType() == DatabaseType.mysql
+                ? createMysqlPool(vertx, databaseAddress, connectionPoolSettings, poolSize)
+                : createPostgresPool(vertx, databaseAddress, connectionPoolSettings, poolSize);
+
+        return new BasicDatabaseClient(pool, metrics, clock);
+    }
+
     private static BasicDatabaseClient createBasicDatabaseClient(Pool pool,
                                                                  Metrics metrics,
                                                                  Clock clock,
@@ -179,4 +165,62 @@ public class DatabaseConfiguration {
 
         return basicDatabaseClient;
     }
+
+    private static Pool createMysqlPool(Vertx vertx,
+                                        DatabaseAddress databaseAddress,
+                                        ConnectionPoolSettings connectionPoolSettings,
+                                        int poolSize) {
+
+        final MySQLConnectOptions sqlConnectOptions = new MySQLConnectOptions()
+                .setHost(databaseAddress.getHost())
+                .setPort(databaseAddress.getPort())
+                .setDatabase(databaseAddress.getDatabaseName())
+                .setUser(connectionPoolSettings.getUser())
+                .setPassword(connectionPoolSettings.getPassword())
+                .setSsl(false)
+                .setTcpKeepAlive(true)
+                .setCachePreparedStatements(connectionPoolSettings.getEnablePreparedStatementCaching())
+                .setPreparedStatementCacheMaxSize(connectionPoolSettings.getMaxPreparedStatementCacheSize())
+                .setIdleTimeout(connectionPoolSettings.getIdleTimeout())
+                .setIdleTimeoutUnit(TimeUnit.SECONDS);
+
+        final PoolOptions poolOptions = new PoolOptions()
+                .setMaxSize(poolSize);
+
+        return MySQLBuilder
+                .pool()
+                .with(poolOptions)
+                .connectingTo(sqlConnectOptions)
+                .using(vertx)
+                .build();
+    }
+
+    private static Pool createPostgresPool(Vertx vertx,
+                                           DatabaseAddress databaseAddress,
+                                           ConnectionPoolSettings connectionPoolSettings,
+                                           int poolSize) {
+
+        final PgConnectOptions sqlConnectOptions = new PgConnectOptions()
+                .setHost(databaseAddress.getHost())
+                .setPort(databaseAddress.getPort())
+                .setDatabase(databaseAddress.getDatabaseName())
+                .setUser(connectionPoolSettings.getUser())
+                .setPassword(connectionPoolSettings.getPassword())
+                .setSsl(false)
+                .setTcpKeepAlive(true)
+                .setCachePreparedStatements(connectionPoolSettings.getEnablePreparedStatementCaching())
+                .setPreparedStatementCacheMaxSize(connectionPoolSettings.getMaxPreparedStatementCacheSize())
+                .setIdleTimeout(connectionPoolSettings.getIdleTimeout())
+                .setIdleTimeoutUnit(TimeUnit.SECONDS);
+
+        final PoolOptions poolOptions = new PoolOptions()
+                .setMaxSize(poolSize);
+
+        return PgBuilder
+                .pool()
+                .with(poolOptions)
+                .connectingTo(sqlConnectOptions)
+                .using(vertx)
+                .build();
+    }
 }
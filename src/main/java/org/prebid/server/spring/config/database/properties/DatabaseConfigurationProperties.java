@@ -18,6 +18,8 @@ public class DatabaseConfigurationProperties {
     @NotNull
     @Min(1)
     private Integer poolSize;
+    @Min(1)
+    private Integer refreshPoolSize;
     @NotNull
     @PositiveOrZero
     private Integer idleConnectionTimeout;
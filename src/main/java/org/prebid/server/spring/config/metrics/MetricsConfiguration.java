@@ -20,6 +20,8 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.metric.AccountMetricsVerbosityResolver;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirMetricRegistry;
+import org.prebid.server.metric.ReservoirType;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -115,8 +117,15 @@ public class MetricsConfiguration {
     }
 
     @Bean
-    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled) {
+    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled,
+                                  @Value("${metrics.reservoir.type}") ReservoirType reservoirType,
+                                  @Value("${metrics.reservoir.interval-ms}") long reservoirIntervalMs) {
+
         final boolean alreadyExists = SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME);
+        if (!alreadyExists) {
+            SharedMetricRegistries.add(
+                    METRIC_REGISTRY_NAME, ReservoirMetricRegistry.create(reservoirType, reservoirIntervalMs));
+        }
         final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
 
         if (!alreadyExists && jmxEnabled) {
@@ -1,21 +1,21 @@
 package org.prebid.server.spring.config.metrics;
 
 import com.codahale.metrics.MetricRegistry;
-import io.prometheus.client.CollectorRegistry;
-import io.prometheus.client.dropwizard.DropwizardExports;
 import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
 import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
-import io.prometheus.client.vertx.MetricsHandler;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.web.Router;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.metric.prometheus.NamespaceSubsystemSampleBuilder;
+import org.prebid.server.metric.prometheus.PrometheusExposition;
+import org.prebid.server.metric.prometheus.PrometheusMetricsHandler;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -25,8 +25,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @ConditionalOnProperty(prefix = "metrics.prometheus", name = "enabled", havingValue = "true")
@@ -38,10 +41,7 @@ public class PrometheusConfiguration {
     @Bean
     public VerticleDefinition prometheusHttpServerVerticleDefinition(
             PrometheusConfigurationProperties prometheusConfigurationProperties,
-            Router prometheusRouter,
-            DropwizardExports dropwizardExports) {
-
-        CollectorRegistry.defaultRegistry.register(dropwizardExports);
+            Router prometheusRouter) {
 
         return VerticleDefinition.ofSingleInstance(
                 () -> new ServerVerticle(
@@ -61,18 +61,32 @@ public class PrometheusConfiguration {
     }
 
     @Bean
-    DropwizardExports dropwizardExports(Metrics metrics, MetricRegistry metricRegistry, SampleBuilder sampleBuilder) {
+    PrometheusExposition prometheusExposition(PrometheusConfigurationProperties prometheusConfigurationProperties,
+                                              Metrics metrics,
+                                              MetricRegistry metricRegistry,
+                                              SampleBuilder sampleBuilder,
+                                              Clock clock) {
+
         if (metrics.getCounterType() == CounterType.flushingCounter) {
             logger.warn("Prometheus metric system: Metric type is flushingCounter.");
         }
 
-        return new DropwizardExports(metricRegistry, sampleBuilder);
+        final PrometheusExposition prometheusExposition = new PrometheusExposition(
+                metricRegistry,
+                sampleBuilder,
+                ObjectUtils.defaultIfNull(prometheusConfigurationProperties.getMaxAccounts(), 0),
+                TimeUnit.SECONDS.toMillis(ObjectUtils.defaultIfNull(
+                        prometheusConfigurationProperties.getAccountsRankIntervalSeconds(), 3600)),
+                clock);
+        metrics.createPrometheusSeriesGauge(prometheusExposition::getSeriesCount);
+
+        return prometheusExposition;
     }
 
     @Bean
-    Router prometheusRouter(Vertx vertx) {
+    Router prometheusRouter(Vertx vertx, PrometheusExposition prometheusExposition, Metrics metrics, Clock clock) {
         final Router router = Router.router(vertx);
-        router.route("/metrics").handler(new MetricsHandler());
+        router.route("/metrics").handler(new PrometheusMetricsHandler(prometheusExposition, metrics, clock));
         return router;
     }
 
@@ -90,5 +104,11 @@ public class PrometheusConfiguration {
         String namespace;
 
         String subsystem;
+
+        @Min(0)
+        Integer maxAccounts;
+
+        @Min(0)
+        Integer accountsRankIntervalSeconds;
     }
 }
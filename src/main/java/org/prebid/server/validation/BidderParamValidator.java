@@ -14,6 +14,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +24,9 @@ import java.util.stream.Collectors;
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Schemas are compiled into plain Java checks where possible (see {@link CompiledJsonSchema}), the schema engine
+ * is used only to produce validation messages for invalid params and for schemas which can not be compiled.
  */
 public class BidderParamValidator {
 
@@ -31,10 +35,15 @@ public class BidderParamValidator {
     private static final String FILE_SEP = "/";
 
     private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, CompiledJsonSchema> compiledBidderSchemas;
     private final String schemas;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas,
+                                 Map<String, CompiledJsonSchema> compiledBidderSchemas,
+                                 String schemas) {
+
         this.bidderSchemas = bidderSchemas;
+        this.compiledBidderSchemas = compiledBidderSchemas;
         this.schemas = schemas;
     }
 
@@ -42,6 +51,11 @@ public class BidderParamValidator {
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
+        final CompiledJsonSchema compiledSchema = compiledBidderSchemas.get(bidder);
+        if (compiledSchema != null && compiledSchema.isValid(jsonNode)) {
+            return Collections.emptySet();
+        }
+
         return bidderSchemas.get(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
@@ -89,7 +103,10 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(bidderCatalog, schemaDirectory, bidder, mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas),
+                toCompiledBidderSchemas(bidderRawSchemas),
+                toSchemas(bidderRawSchemas, mapper));
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -101,6 +118,17 @@ public class BidderParamValidator {
                         CaseInsensitiveMap::new));
     }
 
+    private static Map<String, CompiledJsonSchema> toCompiledBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
+        final Map<String, CompiledJsonSchema> compiledBidderSchemas = new CaseInsensitiveMap<>();
+        bidderRawSchemas.forEach((bidder, schema) -> {
+            final CompiledJsonSchema compiledSchema = CompiledJsonSchema.compile(schema);
+            if (compiledSchema != null) {
+                compiledBidderSchemas.put(bidder, compiledSchema);
+            }
+        });
+        return compiledBidderSchemas;
+    }
+
     private static String toSchemas(Map<String, JsonNode> bidderRawSchemas, JacksonMapper mapper) {
         try {
             return mapper.encodeToString(bidderRawSchemas);
@@ -0,0 +1,331 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * JSON schema (draft 4) compiled into plain Java checks, which only tell whether a node is valid and do not collect
+ * validation messages.
+ * <p>
+ * Only keywords used by bidder params schemas are supported, {@link #compile(JsonNode)} returns null for a schema
+ * having any other keyword, so the caller can fall back to the full schema engine.
+ */
+final class CompiledJsonSchema {
+
+    private static final Set<String> ANNOTATION_KEYWORDS = Set.of(
+            "$schema", "id", "title", "description", "default", "examples");
+
+    private final Predicate<JsonNode> validator;
+
+    private CompiledJsonSchema(Predicate<JsonNode> validator) {
+        this.validator = validator;
+    }
+
+    static CompiledJsonSchema compile(JsonNode schema) {
+        try {
+            return new CompiledJsonSchema(compileSchema(schema));
+        } catch (UnsupportedSchemaException e) {
+            return null;
+        }
+    }
+
+    boolean isValid(JsonNode node) {
+        return validator.test(node);
+    }
+
+    private static Predicate<JsonNode> compileSchema(JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Predicate<JsonNode>> checks = new ArrayList<>();
+        final Iterator<Map.Entry<String, JsonNode>> keywords = schema.fields();
+        while (keywords.hasNext()) {
+            final Map.Entry<String, JsonNode> keyword = keywords.next();
+            final JsonNode value = keyword.getValue();
+
+            switch (keyword.getKey()) {
+                case "type" -> checks.add(typeCheck(value));
+                case "enum" -> checks.add(enumCheck(value));
+                case "required" -> checks.add(requiredCheck(value));
+                case "properties" -> checks.add(propertiesCheck(value));
+                case "additionalProperties" -> checks.add(additionalPropertiesCheck(value, schema.get("properties")));
+                case "minLength" -> checks.add(minLengthCheck(intValue(value)));
+                case "maxLength" -> checks.add(maxLengthCheck(intValue(value)));
+                case "pattern" -> checks.add(patternCheck(value));
+                case "minimum" -> checks.add(minimumCheck(decimalValue(value), exclusive(schema, "exclusiveMinimum")));
+                case "maximum" -> checks.add(maximumCheck(decimalValue(value), exclusive(schema, "exclusiveMaximum")));
+                case "exclusiveMinimum", "exclusiveMaximum" -> exclusive(schema, keyword.getKey());
+                case "items" -> checks.add(itemsCheck(compileSchema(value)));
+                case "minItems" -> checks.add(minItemsCheck(intValue(value)));
+                case "maxItems" -> checks.add(maxItemsCheck(intValue(value)));
+                case "allOf" -> checks.add(allOf(compileSchemas(value)));
+                case "anyOf" -> checks.add(anyOf(compileSchemas(value)));
+                case "oneOf" -> checks.add(oneOf(compileSchemas(value)));
+                case "not" -> checks.add(compileSchema(value).negate());
+                default -> {
+                    if (!ANNOTATION_KEYWORDS.contains(keyword.getKey())) {
+                        throw new UnsupportedSchemaException();
+                    }
+                }
+            }
+        }
+
+        return checks.size() == 1 ? checks.getFirst() : allOf(checks);
+    }
+
+    private static List<Predicate<JsonNode>> compileSchemas(JsonNode schemas) {
+        if (!schemas.isArray() || schemas.isEmpty()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Predicate<JsonNode>> result = new ArrayList<>(schemas.size());
+        schemas.forEach(schema -> result.add(compileSchema(schema)));
+        return result;
+    }
+
+    private static Predicate<JsonNode> typeCheck(JsonNode type) {
+        if (type.isTextual()) {
+            return typeCheck(type.textValue());
+        }
+        if (!type.isArray() || type.isEmpty()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Predicate<JsonNode>> typeChecks = new ArrayList<>(type.size());
+        type.forEach(typeName -> typeChecks.add(typeCheck(textValue(typeName))));
+        return anyOf(typeChecks);
+    }
+
+    private static Predicate<JsonNode> typeCheck(String type) {
+        return switch (type) {
+            case "object" -> JsonNode::isObject;
+            case "array" -> JsonNode::isArray;
+            case "string" -> JsonNode::isTextual;
+            case "boolean" -> JsonNode::isBoolean;
+            case "null" -> JsonNode::isNull;
+            case "number" -> JsonNode::isNumber;
+            case "integer" -> JsonNode::isIntegralNumber;
+            default -> throw new UnsupportedSchemaException();
+        };
+    }
+
+    private static Predicate<JsonNode> enumCheck(JsonNode values) {
+        if (!values.isArray() || values.isEmpty()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final Set<String> allowedValues = new HashSet<>();
+        values.forEach(value -> allowedValues.add(textValue(value)));
+        return node -> node.isTextual() && allowedValues.contains(node.textValue());
+    }
+
+    private static Predicate<JsonNode> requiredCheck(JsonNode required) {
+        if (!required.isArray()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<String> requiredProperties = new ArrayList<>(required.size());
+        required.forEach(property -> requiredProperties.add(textValue(property)));
+        return node -> {
+            if (!node.isObject()) {
+                return true;
+            }
+            for (String property : requiredProperties) {
+                if (!node.has(property)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<JsonNode> propertiesCheck(JsonNode properties) {
+        if (!properties.isObject()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Map.Entry<String, Predicate<JsonNode>>> propertyChecks = new ArrayList<>(properties.size());
+        properties.fields().forEachRemaining(property ->
+                propertyChecks.add(Map.entry(property.getKey(), compileSchema(property.getValue()))));
+
+        return node -> {
+            if (!node.isObject()) {
+                return true;
+            }
+            for (Map.Entry<String, Predicate<JsonNode>> propertyCheck : propertyChecks) {
+                final JsonNode propertyValue = node.get(propertyCheck.getKey());
+                if (propertyValue != null && !propertyCheck.getValue().test(propertyValue)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<JsonNode> additionalPropertiesCheck(JsonNode additionalProperties, JsonNode properties) {
+        final Predicate<JsonNode> additionalPropertyCheck = additionalProperties.isBoolean()
+                ? node -> additionalProperties.booleanValue()
+                : compileSchema(additionalProperties);
+
+        return node -> {
+            if (!node.isObject()) {
+                return true;
+            }
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                final boolean additional = properties == null || !properties.has(field.getKey());
+                if (additional && !additionalPropertyCheck.test(field.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<JsonNode> minLengthCheck(int minLength) {
+        return node -> !node.isTextual() || codePointCount(node.textValue()) >= minLength;
+    }
+
+    private static Predicate<JsonNode> maxLengthCheck(int maxLength) {
+        return node -> !node.isTextual() || codePointCount(node.textValue()) <= maxLength;
+    }
+
+    private static int codePointCount(String value) {
+        return value.codePointCount(0, value.length());
+    }
+
+    private static Predicate<JsonNode> patternCheck(JsonNode pattern) {
+        final Pattern compiledPattern;
+        try {
+            compiledPattern = Pattern.compile(textValue(pattern));
+        } catch (PatternSyntaxException e) {
+            throw new UnsupportedSchemaException();
+        }
+
+        return node -> !node.isTextual() || compiledPattern.matcher(node.textValue()).find();
+    }
+
+    private static Predicate<JsonNode> minimumCheck(BigDecimal minimum, boolean exclusive) {
+        return node -> {
+            if (!node.isNumber()) {
+                return true;
+            }
+            final int comparison = node.decimalValue().compareTo(minimum);
+            return exclusive ? comparison > 0 : comparison >= 0;
+        };
+    }
+
+    private static Predicate<JsonNode> maximumCheck(BigDecimal maximum, boolean exclusive) {
+        return node -> {
+            if (!node.isNumber()) {
+                return true;
+            }
+            final int comparison = node.decimalValue().compareTo(maximum);
+            return exclusive ? comparison < 0 : comparison <= 0;
+        };
+    }
+
+    private static boolean exclusive(JsonNode schema, String keyword) {
+        final JsonNode exclusive = schema.get(keyword);
+        if (exclusive != null && !exclusive.isBoolean()) {
+            throw new UnsupportedSchemaException();
+        }
+        return exclusive != null && exclusive.booleanValue();
+    }
+
+    private static Predicate<JsonNode> itemsCheck(Predicate<JsonNode> itemCheck) {
+        return node -> {
+            if (!node.isArray()) {
+                return true;
+            }
+            for (JsonNode item : node) {
+                if (!itemCheck.test(item)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<JsonNode> minItemsCheck(int minItems) {
+        return node -> !node.isArray() || node.size() >= minItems;
+    }
+
+    private static Predicate<JsonNode> maxItemsCheck(int maxItems) {
+        return node -> !node.isArray() || node.size() <= maxItems;
+    }
+
+    private static Predicate<JsonNode> allOf(List<Predicate<JsonNode>> checks) {
+        return node -> {
+            for (Predicate<JsonNode> check : checks) {
+                if (!check.test(node)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<JsonNode> anyOf(List<Predicate<JsonNode>> checks) {
+        return node -> {
+            for (Predicate<JsonNode> check : checks) {
+                if (check.test(node)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static Predicate<JsonNode> oneOf(List<Predicate<JsonNode>> checks) {
+        return node -> {
+            int matched = 0;
+            for (Predicate<JsonNode> check : checks) {
+                if (check.test(node) && ++matched > 1) {
+                    return false;
+                }
+            }
+            return matched == 1;
+        };
+    }
+
+    private static String textValue(JsonNode node) {
+        if (!node.isTextual()) {
+            throw new UnsupportedSchemaException();
+        }
+        return node.textValue();
+    }
+
+    private static int intValue(JsonNode node) {
+        if (!node.isInt() || node.intValue() < 0) {
+            throw new UnsupportedSchemaException();
+        }
+        return node.intValue();
+    }
+
+    private static BigDecimal decimalValue(JsonNode node) {
+        if (!node.isNumber()) {
+            throw new UnsupportedSchemaException();
+        }
+        return node.decimalValue();
+    }
+
+    private static class UnsupportedSchemaException extends RuntimeException {
+
+        UnsupportedSchemaException() {
+            super(null, null, false, false);
+        }
+    }
+}
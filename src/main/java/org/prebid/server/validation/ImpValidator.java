@@ -35,6 +35,8 @@ import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredAuctionResponse;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredBidResponse;
 import org.prebid.server.util.StreamUtil;
+import org.prebid.server.validation.model.ValidationMemo;
+import org.prebid.server.validation.model.ValidationStage;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -65,28 +67,45 @@ public class ImpValidator {
         this.mapper = Objects.requireNonNull(mapper);
     }
 
+    public void validateImps(List<Imp> imps, Map<String, String> aliases, List<String> warnings)
+            throws ValidationException {
+
+        validateImps(imps, aliases, warnings, null);
+    }
+
     public void validateImps(List<Imp> imps,
                              Map<String, String> aliases,
-                             List<String> warnings) throws ValidationException {
+                             List<String> warnings,
+                             ValidationMemo validationMemo) throws ValidationException {
 
         for (int i = 0; i < imps.size(); i++) {
             final Imp imp = imps.get(i);
-            validateImp(imp, "request.imp[%d]".formatted(i));
+            validateImp(imp, "request.imp[%d]".formatted(i), validationMemo, ValidationStage.request);
             fillAndValidateNative(imp.getXNative(), i);
             validateImpExt(imp.getExt(), aliases, i, warnings);
         }
     }
 
     public void validateImp(Imp imp) throws ValidationException {
-        validateImp(imp, "imp[id=%s]".formatted(imp.getId()));
+        validateImp(imp, (ValidationMemo) null);
     }
 
-    private void validateImp(Imp imp, String msgPrefix) throws ValidationException {
+    /**
+     * Validates imp modified by bidder specific imp overrides, skipping its parts proven valid before.
+     */
+    public void validateImp(Imp imp, ValidationMemo validationMemo) throws ValidationException {
+        validateImp(imp, "imp[id=%s]".formatted(imp.getId()), validationMemo, ValidationStage.imp_override);
+    }
+
+    private void validateImp(Imp imp, String msgPrefix, ValidationMemo validationMemo, ValidationStage stage)
+            throws ValidationException {
+
         if (StringUtils.isBlank(imp.getId())) {
             throw new ValidationException("%s missing required field: \"id\"", msgPrefix);
         }
         if (imp.getMetric() != null && !imp.getMetric().isEmpty()) {
-            validateMetrics(imp.getMetric(), msgPrefix);
+            validateOnce(imp.getMetric(), null, validationMemo, stage,
+                    metrics -> validateMetrics(metrics, msgPrefix));
         }
         if (imp.getBanner() == null && imp.getVideo() == null && imp.getAudio() == null && imp.getXNative() == null) {
             throw new ValidationException(
@@ -95,10 +114,28 @@ public class ImpValidator {
         }
 
         final boolean isInterstitialImp = Objects.equals(imp.getInstl(), 1);
-        validateBanner(imp.getBanner(), isInterstitialImp, msgPrefix);
-        validateVideoMimes(imp.getVideo(), msgPrefix);
-        validateAudioMimes(imp.getAudio(), msgPrefix);
-        validatePmp(imp.getPmp(), msgPrefix);
+        validateOnce(imp.getBanner(), isInterstitialImp, validationMemo, stage,
+                banner -> validateBanner(banner, isInterstitialImp, msgPrefix));
+        validateOnce(imp.getVideo(), null, validationMemo, stage, video -> validateVideoMimes(video, msgPrefix));
+        validateOnce(imp.getAudio(), null, validationMemo, stage, audio -> validateAudioMimes(audio, msgPrefix));
+        validateOnce(imp.getPmp(), null, validationMemo, stage, pmp -> validatePmp(pmp, msgPrefix));
+    }
+
+    private static <T> void validateOnce(T object,
+                                         Object condition,
+                                         ValidationMemo validationMemo,
+                                         ValidationStage stage,
+                                         ObjectValidator<T> validator) throws ValidationException {
+
+        if (validationMemo != null && validationMemo.isValid(object, condition, stage)) {
+            return;
+        }
+
+        validator.validate(object);
+
+        if (validationMemo != null) {
+            validationMemo.markValid(object, condition);
+        }
     }
 
     private void fillAndValidateNative(Native xNative, int impIndex) throws ValidationException {
@@ -666,4 +703,9 @@ public class ImpValidator {
         return value != null && value > 0;
     }
 
+    @FunctionalInterface
+    private interface ObjectValidator<T> {
+
+        void validate(T object) throws ValidationException;
+    }
 }
@@ -43,7 +43,9 @@ import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.validation.model.ValidationMemo;
 import org.prebid.server.validation.model.ValidationResult;
+import org.prebid.server.validation.model.ValidationStage;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -100,14 +102,26 @@ public class RequestValidator {
         this.failOnUnknownBidders = failOnUnknownBidders;
     }
 
+    public ValidationResult validate(Account account,
+                                     BidRequest bidRequest,
+                                     HttpRequestContext httpRequestContext,
+                                     DebugContext debugContext) {
+
+        return validate(account, bidRequest, httpRequestContext, debugContext, null);
+    }
+
     /**
      * Validates the {@link BidRequest} against a list of validation checks, however, reports only one problem
      * at a time.
+     * <p>
+     * Imp parts proven valid are recorded to the given {@link ValidationMemo}, if any, to not validate them again
+     * in later auction stages.
      */
     public ValidationResult validate(Account account,
                                      BidRequest bidRequest,
                                      HttpRequestContext httpRequestContext,
-                                     DebugContext debugContext) {
+                                     DebugContext debugContext,
+                                     ValidationMemo validationMemo) {
 
         final List<String> warnings = new ArrayList<>();
         final boolean isDebugEnabled = debugContext != null && debugContext.isDebugEnabled();
@@ -162,7 +176,11 @@ public class RequestValidator {
                 throw new ValidationException(String.join(System.lineSeparator(), errors));
             }
 
-            impValidator.validateImps(bidRequest.getImp(), aliases, warnings);
+            impValidator.validateImps(bidRequest.getImp(), aliases, warnings, validationMemo);
+            if (validationMemo != null) {
+                metrics.updateSkippedValidationsMetric(
+                        ValidationStage.request, validationMemo.skippedValidations(ValidationStage.request));
+            }
 
             final List<String> channels = new ArrayList<>();
             Optional.ofNullable(bidRequest.getApp()).ifPresent(ignored -> channels.add("request.app"));
@@ -0,0 +1,43 @@
+package org.prebid.server.validation.model;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Request scoped record of objects already proven valid, so later auction stages do not validate them again.
+ * <p>
+ * Objects are looked up by identity: a replaced object is validated again even if it is equal to the valid one.
+ * Not thread-safe, as the other request scoped state of the auction context it belongs to.
+ */
+public class ValidationMemo {
+
+    private final Map<Object, Object> validObjects = new IdentityHashMap<>();
+    private final Map<ValidationStage, Integer> skippedValidations = new EnumMap<>(ValidationStage.class);
+
+    /**
+     * Returns true if the object was proven valid under the same condition (e.g. the flag of interstitial imp for
+     * banner), counting the skipped validation for the given stage.
+     */
+    public boolean isValid(Object object, Object condition, ValidationStage stage) {
+        if (object == null || !validObjects.containsKey(object)
+                || !Objects.equals(validObjects.get(object), condition)) {
+
+            return false;
+        }
+
+        skippedValidations.merge(stage, 1, Integer::sum);
+        return true;
+    }
+
+    public void markValid(Object object, Object condition) {
+        if (object != null) {
+            validObjects.put(object, condition);
+        }
+    }
+
+    public int skippedValidations(ValidationStage stage) {
+        return skippedValidations.getOrDefault(stage, 0);
+    }
+}
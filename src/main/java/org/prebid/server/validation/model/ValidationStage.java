@@ -0,0 +1,7 @@
+package org.prebid.server.validation.model;
+
+public enum ValidationStage {
+
+    request,
+    imp_override
+}
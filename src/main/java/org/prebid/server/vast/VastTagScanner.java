@@ -0,0 +1,186 @@
+package org.prebid.server.vast;
+
+/**
+ * Finds where impression tracker should be inserted into VAST XML in one forward pass, without regexes.
+ * <p>
+ * Tags are recognized the same way as case-insensitive {@code <\s*name(?:>|\s.*?>)} regexes (with optional slash
+ * after '<' for closing tags) did: name is compared ignoring ASCII case, and attributes must be closed by '>'
+ * before the end of line.
+ * Tracker goes after the last {@code </Impression>} following the first {@code <InLine>} or, if there are none,
+ * before the {@code </InLine>}. {@code <Wrapper>} is looked up the same way when there is no {@code <InLine>}.
+ */
+final class VastTagScanner {
+
+    static final int NO_AD_ELEMENT = -1;
+    static final int NO_INSERTION_POINT = -2;
+
+    private VastTagScanner() {
+    }
+
+    /**
+     * Returns index to insert impression tracker at, {@link #NO_INSERTION_POINT} if ad element is not closed
+     * or {@link #NO_AD_ELEMENT} if there is neither InLine nor Wrapper.
+     */
+    static int impressionInsertionIndex(String vastXml) {
+        final AdElement inline = new AdElement();
+        final AdElement wrapper = new AdElement();
+
+        final int length = vastXml.length();
+        for (int start = vastXml.indexOf('<'); start >= 0; start = vastXml.indexOf('<', start + 1)) {
+            int position = skipWhitespaces(vastXml, start + 1);
+            final boolean closing = position < length && vastXml.charAt(position) == '/';
+            if (closing) {
+                position = skipWhitespaces(vastXml, position + 1);
+            }
+
+            final Tag tag = tag(vastXml, position);
+            final int end = tag != null ? tagEnd(vastXml, position + tag.name.length()) : -1;
+            if (end < 0) {
+                continue;
+            }
+
+            if (tag == Tag.IMPRESSION) {
+                if (closing) {
+                    inline.onImpressionClose(start, end);
+                    wrapper.onImpressionClose(start, end);
+                }
+            } else {
+                final AdElement element = tag == Tag.INLINE ? inline : wrapper;
+                if (closing) {
+                    element.onClose(start);
+                } else {
+                    element.onOpen(end);
+                }
+            }
+        }
+
+        return inline.isPresent() ? inline.insertionIndex() : wrapper.insertionIndex();
+    }
+
+    private static Tag tag(String vastXml, int position) {
+        if (position >= vastXml.length()) {
+            return null;
+        }
+
+        return switch (vastXml.charAt(position)) {
+            case 'i', 'I' -> regionMatches(vastXml, position, Tag.INLINE.name) ? Tag.INLINE
+                    : regionMatches(vastXml, position, Tag.IMPRESSION.name) ? Tag.IMPRESSION
+                    : null;
+            case 'w', 'W' -> regionMatches(vastXml, position, Tag.WRAPPER.name) ? Tag.WRAPPER : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * Compares ignoring ASCII case only, as regexes without {@code UNICODE_CASE} flag do.
+     */
+    private static boolean regionMatches(String vastXml, int position, String lowerCaseName) {
+        if (vastXml.length() - position < lowerCaseName.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < lowerCaseName.length(); i++) {
+            final char c = vastXml.charAt(position + i);
+            if ((c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c) != lowerCaseName.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int tagEnd(String vastXml, int position) {
+        final int length = vastXml.length();
+        if (position >= length) {
+            return -1;
+        }
+
+        final char next = vastXml.charAt(position);
+        if (next == '>') {
+            return position + 1;
+        }
+        if (!isWhitespace(next)) {
+            return -1;
+        }
+
+        for (int i = position + 1; i < length; i++) {
+            final char c = vastXml.charAt(i);
+            if (c == '>') {
+                return i + 1;
+            }
+            if (isLineTerminator(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespaces(String vastXml, int position) {
+        int result = position;
+        while (result < vastXml.length() && isWhitespace(vastXml.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private enum Tag {
+
+        INLINE("inline"),
+        WRAPPER("wrapper"),
+        IMPRESSION("impression");
+
+        private final String name;
+
+        Tag(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class AdElement {
+
+        private int openTagEnd = -1;
+
+        private int closeTagStart = -1;
+
+        private int lastImpressionEnd = -1;
+
+        boolean isPresent() {
+            return openTagEnd >= 0;
+        }
+
+        void onOpen(int end) {
+            if (openTagEnd < 0) {
+                openTagEnd = end;
+            }
+        }
+
+        void onClose(int start) {
+            if (isPresent() && closeTagStart < 0 && start >= openTagEnd) {
+                closeTagStart = start;
+            }
+        }
+
+        void onImpressionClose(int start, int end) {
+            if (isPresent() && start >= openTagEnd) {
+                lastImpressionEnd = end;
+            }
+        }
+
+        int insertionIndex() {
+            if (!isPresent()) {
+                return NO_AD_ELEMENT;
+            }
+            if (lastImpressionEnd >= 0) {
+                return lastImpressionEnd;
+            }
+            return closeTagStart >= 0 ? closeTagStart : NO_INSERTION_POINT;
+        }
+    }
+}
@@ -60,6 +60,7 @@ public class BasicDatabaseClient implements DatabaseClient {
         final long startTime = clock.millis();
 
         return pool.getConnection()
+                .onSuccess(ignored -> metrics.updateDatabasePoolWaitTimeMetric(clock.millis() - startTime))
                 .recover(BasicDatabaseClient::logConnectionError)
                 .compose(connection -> makeQuery(connection, query, params))
                 .timeout(remainingTimeout, TimeUnit.MILLISECONDS)
@@ -82,7 +83,7 @@ public class BasicDatabaseClient implements DatabaseClient {
     }
 
     /**
-     * Performs query to DB.
+     * Performs query to DB. Statement is taken from connection's prepared statement cache when caching is enabled.
      */
     private static Future<RowSet<Row>> makeQuery(SqlConnection connection, String query, List<Object> params) {
         return connection.preparedQuery(query).execute(Tuple.tuple(params)).onComplete(ignored -> connection.close());
@@ -30,6 +30,10 @@ public interface HttpClient {
         return request(HttpMethod.GET, url, null, (String) null, timeoutMs, maxResponseSize);
     }
 
+    default Future<HttpClientResponse> get(String url, MultiMap headers, long timeoutMs, long maxResponseSize) {
+        return request(HttpMethod.GET, url, headers, (String) null, timeoutMs, maxResponseSize);
+    }
+
     default Future<HttpClientResponse> get(String url, MultiMap headers, long timeoutMs) {
         return request(HttpMethod.GET, url, headers, (String) null, timeoutMs);
     }
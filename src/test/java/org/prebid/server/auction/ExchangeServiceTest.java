@@ -332,9 +332,10 @@ public class ExchangeServiceTest extends VertxTest {
         given(fpdResolver.resolveImpExt(any(), anyBoolean()))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
-        given(impAdjuster.adjust(any(), any(), any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(impAdjuster.adjust(any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
 
-        given(supplyChainResolver.resolveForBidder(anyString(), any())).willReturn(null);
+        given(supplyChainResolver.resolveForBidders(any(), any())).willReturn(emptyMap());
 
         given(hookStageExecutor.executeBidderRequestStage(any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
@@ -488,7 +489,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         final ObjectNode adjustedExt = givenImp.getExt().deepCopy();
         final Imp adjustedImp = givenImp.toBuilder().ext(adjustedExt).build();
-        given(impAdjuster.adjust(any(), any(), any(), any())).willReturn(adjustedImp);
+        given(impAdjuster.adjust(any(), any(), any(), any(), any())).willReturn(adjustedImp);
 
         // when
         target.holdAuction(givenRequestContext(bidRequest));
@@ -509,7 +510,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .build());
 
         final ArgumentCaptor<Imp> impCaptor = forClass(Imp.class);
-        verify(impAdjuster).adjust(impCaptor.capture(), eq("someBidder"), any(), any());
+        verify(impAdjuster).adjust(impCaptor.capture(), eq("someBidder"), any(), any(), any());
 
         final Imp actualImp = impCaptor.getValue();
         assertThat(actualImp).isNotSameAs(givenImp);
@@ -775,9 +776,10 @@ public class ExchangeServiceTest extends VertxTest {
                         givenImp(singletonMap(bidder3Name, 3), identity())),
                 builder -> builder.ext(extRequest));
 
-        given(supplyChainResolver.resolveForBidder(eq("bidder1"), any())).willReturn(specificSchain);
-        given(supplyChainResolver.resolveForBidder(eq("bidder2"), any())).willReturn(specificSchain);
-        given(supplyChainResolver.resolveForBidder(eq("bidder3"), any())).willReturn(generalSchain);
+        given(supplyChainResolver.resolveForBidders(any(), any())).willReturn(Map.of(
+                bidder1Name, specificSchain,
+                bidder2Name, specificSchain,
+                bidder3Name, generalSchain));
 
         // when
         target.holdAuction(givenRequestContext(bidRequest));
@@ -3680,8 +3682,8 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext auctionContext = givenRequestContext(bidRequest);
 
         final SupplyChain givenSourceSchain = SupplyChain.of(1, singletonList(null), "", null);
-        given(supplyChainResolver.resolveForBidder(any(), any()))
-                .willReturn(givenSourceSchain);
+        given(supplyChainResolver.resolveForBidders(any(), any()))
+                .willReturn(singletonMap("bidderName", givenSourceSchain));
 
         given(privacyEnforcementService.mask(any(), anyMap(), any()))
                 .willReturn(Future.succeededFuture(singletonList(BidderPrivacyResult.builder()
@@ -1,8 +1,11 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.Deal;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Pmp;
@@ -13,19 +16,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.validation.ImpValidator;
 import org.prebid.server.validation.ValidationException;
+import org.prebid.server.validation.model.ValidationMemo;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,11 +50,25 @@ public class ImpAdjusterTest extends VertxTest {
 
     private BidderAliases bidderAliases;
 
+    private ValidationMemo validationMemo;
+
     @BeforeEach
     public void setUp() {
-        target = new ImpAdjuster(jacksonMapper, new JsonMerger(jacksonMapper), impValidator);
+        target = new ImpAdjuster(jacksonMapper, impValidator);
         bidderAliases = BidderAliases.of(
                 Map.of("someBidderAlias", "someBidder"), Collections.emptyMap(), bidderCatalog);
+        validationMemo = new ValidationMemo();
+    }
+
+    @Test
+    public void creationShouldFailWhenImpPropertyIsNotSupportedByOverrides() {
+        // given
+        final ObjectMapper mapperWithRenamedProperty = mapper.copy().addMixIn(Imp.class, RenamedTagidMixin.class);
+
+        // when and then
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new ImpAdjuster(new JacksonMapper(mapperWithRenamedProperty), impValidator))
+                .withMessage("Imp properties are not supported by bidder imp overrides: [renamedtagid]");
     }
 
     @Test
@@ -55,7 +78,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         assertThat(result).isSameAs(givenImp);
@@ -71,7 +94,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         assertThat(result).isSameAs(givenImp);
@@ -89,7 +112,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         assertThat(result.getExt().get("igs").get("ae")).isEqualTo(IntNode.valueOf(0));
@@ -107,7 +130,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         assertThat(result.getExt().get("igs").get("ae")).isEqualTo(IntNode.valueOf(1));
@@ -125,7 +148,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         assertThat(result.getExt().get("igs")).isNull();
@@ -144,7 +167,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         assertThat(result.getExt().get("igs").get("ae")).isEqualTo(IntNode.valueOf(123));
@@ -161,7 +184,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         final Imp expectedImp = givenImp.toBuilder()
@@ -185,7 +208,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         final Imp expectedImp = givenImp.toBuilder()
@@ -195,7 +218,7 @@ public class ImpAdjusterTest extends VertxTest {
                         .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")))
                 .build();
 
-        verify(impValidator).validateImp(expectedImp);
+        verify(impValidator).validateImp(expectedImp, validationMemo);
         assertThat(result).isEqualTo(expectedImp);
         assertThat(debugMessages).isEmpty();
     }
@@ -213,7 +236,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "SOMEbiDDer", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "SOMEbiDDer", bidderAliases, validationMemo, debugMessages);
 
         // then
         final Imp expectedImp = givenImp.toBuilder()
@@ -223,7 +246,7 @@ public class ImpAdjusterTest extends VertxTest {
                         .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")))
                 .build();
 
-        verify(impValidator).validateImp(expectedImp);
+        verify(impValidator).validateImp(expectedImp, validationMemo);
         assertThat(result).isEqualTo(expectedImp);
         assertThat(debugMessages).isEmpty();
     }
@@ -241,7 +264,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "SOMEbiDDer", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "SOMEbiDDer", bidderAliases, validationMemo, debugMessages);
 
         // then
         final Imp expectedImp = givenImp.toBuilder()
@@ -251,7 +274,7 @@ public class ImpAdjusterTest extends VertxTest {
                         .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")))
                 .build();
 
-        verify(impValidator).validateImp(expectedImp);
+        verify(impValidator).validateImp(expectedImp, validationMemo);
         assertThat(result).isEqualTo(expectedImp);
         assertThat(debugMessages).isEmpty();
     }
@@ -259,7 +282,7 @@ public class ImpAdjusterTest extends VertxTest {
     @Test
     public void resolveImpShouldReturnImpWithoutExpImpWhenResultingImpValidationFailed() throws ValidationException {
         // given
-        doThrow(new ValidationException("imp validation failed")).when(impValidator).validateImp(any());
+        doThrow(new ValidationException("imp validation failed")).when(impValidator).validateImp(any(), any());
 
         final ObjectNode givenBidderImp = mapper.createObjectNode()
                 .put("bidfloor", "2.0")
@@ -271,7 +294,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         final Imp expectedImp = givenImp.toBuilder()
@@ -296,7 +319,7 @@ public class ImpAdjusterTest extends VertxTest {
         final List<String> debugMessages = new ArrayList<>();
 
         // when
-        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
 
         // then
         final Imp expectedImp = givenImp.toBuilder()
@@ -311,6 +334,131 @@ public class ImpAdjusterTest extends VertxTest {
                                 + " reason: Cannot construct instance of `com.iab.openrtb.request.Pmp`"));
     }
 
+    @Test
+    public void adjustShouldNotValidateImpWhenOnlyNotValidatedFieldsAreOverridden() throws ValidationException {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode()
+                .put("bidfloor", "2.0")
+                .put("tagid", "bidderTagId");
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp);
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
+
+        // then
+        assertThat(result.getBidfloor()).isEqualTo(new BigDecimal("2.0"));
+        assertThat(result.getTagid()).isEqualTo("bidderTagId");
+        verify(impValidator, never()).validateImp(any(), any());
+        assertThat(debugMessages).isEmpty();
+    }
+
+    @Test
+    public void adjustShouldProduceSameImpAsJsonMergeOfWholeImp() throws IOException {
+        // given
+        final List<String> givenBidderImps = List.of(
+                "{\"bidfloor\": 2.5, \"bidfloorcur\": \"EUR\"}",
+                "{\"bidfloor\": null}",
+                "{\"tagid\": null, \"secure\": 0, \"iframebuster\": null}",
+                "{\"banner\": {\"w\": 320, \"h\": null, \"format\": [{\"w\": 320, \"h\": 50}]}}",
+                "{\"banner\": null, \"video\": {\"mimes\": [\"video/mp4\"], \"w\": 640}}",
+                "{\"pmp\": {\"deals\": [{\"id\": \"dealId2\", \"bidfloor\": 1.5}]}}",
+                "{\"pmp\": {\"private_auction\": 1, \"deals\": null}}",
+                "{\"iframebuster\": [\"first\", \"second\"], \"unknown\": {\"field\": 1}}",
+                "{\"metric\": [{\"type\": \"viewability\", \"value\": 0.5}], \"dt\": 123.0}",
+                "{\"native\": {\"request\": \"{}\", \"ver\": \"1.2\"}, \"refresh\": {\"count\": 2}}",
+                "{\"qty\": {\"multiplier\": 1.5}, \"instl\": 1, \"rwdd\": 1, \"ssai\": 2, \"exp\": 30}",
+                "{\"clickbrowser\": 1, \"displaymanager\": \"dm\", \"displaymanagerver\": \"1.0\"}",
+                "{\"ext\": {\"originAttr\": null, \"added\": {\"first\": 1, \"second\": null}}}",
+                "{\"ext\": {\"prebid\": {\"bidder\": {\"other\": {}}, \"storedrequest\": {\"id\": \"id\"}}}}",
+                "{\"ext\": {\"prebid\": {\"imp\": {\"other\": {\"tagid\": \"other\"}}}}}",
+                "{\"ext\": {\"igs\": {\"ae\": 0}}}",
+                "{\"ext\": {\"data\": [1, null, {\"nested\": null}]}, \"id\": \"otherImpId\"}",
+                "{\"pmp\": 3}",
+                "{\"banner\": \"invalid\"}",
+                "{\"ext\": 5}",
+                "{\"ext\": null}");
+
+        for (String givenBidderImp : givenBidderImps) {
+            final Imp givenImp = givenImpWithAe("someBidder", (ObjectNode) mapper.readTree(givenBidderImp));
+            final ObjectNode givenImpExtCopy = givenImp.getExt().deepCopy();
+            final List<String> debugMessages = new ArrayList<>();
+            final List<String> expectedDebugMessages = new ArrayList<>();
+
+            // when
+            final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
+
+            // then
+            final Imp expectedImp = adjustByJsonMerge(givenImp.toBuilder().ext(givenImp.getExt().deepCopy()).build(),
+                    "someBidder", expectedDebugMessages);
+
+            assertThat(result).describedAs(givenBidderImp).isEqualTo(expectedImp);
+            assertThat(debugMessages).describedAs(givenBidderImp).hasSameSizeAs(expectedDebugMessages);
+            assertThat(givenImp.getExt()).describedAs(givenBidderImp).isEqualTo(givenImpExtCopy);
+        }
+    }
+
+    @Test
+    public void adjustShouldReturnImpWithoutExtPrebidImpAndAddDebugMessageWhenExtPrebidOverrideIsNotAnObject()
+            throws IOException {
+
+        // given
+        final ObjectNode givenBidderImp = (ObjectNode) mapper.readTree("{\"ext\": {\"prebid\": \"invalid\"}}");
+        final Imp givenImp = givenImp("someBidder", givenBidderImp);
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, validationMemo, debugMessages);
+
+        // then
+        assertThat(result.getExt().get("prebid").has("imp")).isFalse();
+        assertThat(debugMessages).containsExactly("imp.ext.prebid.imp.someBidder can not be merged into original imp "
+                + "[id=impId], reason: imp.ext.prebid must be an object");
+    }
+
+    /**
+     * Reference implementation merging the whole imp as JSON tree.
+     */
+    private Imp adjustByJsonMerge(Imp originalImp, String bidder, List<String> debugMessages) {
+        final ObjectNode ext = originalImp.getExt();
+        final int extAe = ext.get("ae").asInt();
+        if (ext.path("igs").get("ae") == null && (extAe == 0 || extAe == 1)) {
+            ext.set("igs", mapper.createObjectNode().set("ae", IntNode.valueOf(extAe)));
+        }
+
+        final JsonNode bidderNode = ext.get("prebid").get("imp").get(bidder);
+        Optional.ofNullable(bidderNode.get("ext"))
+                .map(extNode -> extNode.get("prebid"))
+                .map(ObjectNode.class::cast)
+                .ifPresent(prebid -> prebid.remove("bidder"));
+
+        try {
+            final JsonNode mergedImpNode = new JsonMerger(jacksonMapper)
+                    .merge(bidderNode, mapper.valueToTree(originalImp));
+            Optional.ofNullable(mergedImpNode.get("ext").get("prebid"))
+                    .map(ObjectNode.class::cast)
+                    .ifPresent(prebid -> prebid.remove("imp"));
+
+            return mapper.convertValue(mergedImpNode, Imp.class);
+        } catch (Exception e) {
+            debugMessages.add(e.getMessage());
+            ((ObjectNode) ext.get("prebid")).remove("imp");
+            return originalImp;
+        }
+    }
+
+    private static Imp givenImpWithAe(String bidder, ObjectNode bidderImpNode) {
+        final Imp imp = givenImp(bidder, bidderImpNode);
+        imp.getExt().put("ae", 1).set("bidder", mapper.createObjectNode().put("param", "value"));
+        ((ObjectNode) imp.getExt().get("prebid")).set("bidder", mapper.createObjectNode()
+                .set(bidder, mapper.createObjectNode().put("param", "value")));
+
+        return imp.toBuilder()
+                .banner(Banner.builder().w(300).h(250).build())
+                .build();
+    }
+
     private static Imp givenImp(String bidder, ObjectNode bidderImpNode) {
         final JsonNode givenExtPrebid = mapper.createObjectNode()
                 .put("prebidOriginAttr", "prebidOriginValue")
@@ -328,4 +476,9 @@ public class ImpAdjusterTest extends VertxTest {
                 .build();
     }
 
+    private abstract static class RenamedTagidMixin {
+
+        @JsonProperty("renamedtagid")
+        String tagid;
+    }
 }
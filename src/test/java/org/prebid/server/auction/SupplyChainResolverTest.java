@@ -11,6 +11,10 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidSchain;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,10 +46,14 @@ public class SupplyChainResolverTest extends VertxTest {
                         .build()))
                 .build();
 
-        // when and then
-        assertThat(supplyChainResolver.resolveForBidder("bidder1", bidRequest)).isSameAs(specificSchain);
-        assertThat(supplyChainResolver.resolveForBidder("bidDER2", bidRequest)).isSameAs(specificSchain);
-        assertThat(supplyChainResolver.resolveForBidder("bidder3", bidRequest)).isSameAs(generalSchain);
+        // when
+        final Map<String, SupplyChain> result = supplyChainResolver.resolveForBidders(
+                asList("bidder1", "bidDER2", "bidder3"), bidRequest);
+
+        // then
+        assertThat(result.get("bidder1")).isSameAs(specificSchain);
+        assertThat(result.get("bidDER2")).isSameAs(specificSchain);
+        assertThat(result.get("bidder3")).isSameAs(generalSchain);
     }
 
     @Test
@@ -63,7 +71,8 @@ public class SupplyChainResolverTest extends VertxTest {
                 .build();
 
         // when and then
-        assertThat(supplyChainResolver.resolveForBidder("bidder2", bidRequest)).isNull();
+        assertThat(supplyChainResolver.resolveForBidders(singletonList("bidder2"), bidRequest).get("bidder2"))
+                .isNull();
     }
 
     @Test
@@ -81,7 +90,8 @@ public class SupplyChainResolverTest extends VertxTest {
                 .build();
 
         // when and then
-        assertThat(supplyChainResolver.resolveForBidder("bidder", bidRequest)).isNull();
+        assertThat(supplyChainResolver.resolveForBidders(singletonList("bidder"), bidRequest).get("bidder"))
+                .isNull();
     }
 
     @Test
@@ -105,7 +115,8 @@ public class SupplyChainResolverTest extends VertxTest {
         final SupplyChainNode globalNode = SupplyChainNode.of(
                 "pbshostcompany.com", "00001", null, null, null, null, null);
         final SupplyChain expectedSchain = SupplyChain.of(1, asList(node, globalNode), "ver", null);
-        assertThat(supplyChainResolver.resolveForBidder("bidder", bidRequest)).isEqualTo(expectedSchain);
+        assertThat(supplyChainResolver.resolveForBidders(singletonList("bidder"), bidRequest).get("bidder"))
+                .isEqualTo(expectedSchain);
     }
 
     @Test
@@ -121,7 +132,8 @@ public class SupplyChainResolverTest extends VertxTest {
         final SupplyChainNode globalNode = SupplyChainNode.of(
                 "pbshostcompany.com", "00001", null, null, null, null, null);
         final SupplyChain expectedSchain = SupplyChain.of(null, singletonList(globalNode), null, null);
-        assertThat(supplyChainResolver.resolveForBidder("bidder", bidRequest)).isEqualTo(expectedSchain);
+        assertThat(supplyChainResolver.resolveForBidders(singletonList("bidder"), bidRequest).get("bidder"))
+                .isEqualTo(expectedSchain);
     }
 
     @Test
@@ -144,6 +156,87 @@ public class SupplyChainResolverTest extends VertxTest {
         final SupplyChainNode globalNode = SupplyChainNode.of(
                 "pbshostcompany.com", "00001", null, null, null, null, null);
         final SupplyChain expectedSchain = SupplyChain.of(1, asList(node, globalNode), "ver", null);
-        assertThat(supplyChainResolver.resolveForBidder("bidder", bidRequest)).isEqualTo(expectedSchain);
+        assertThat(supplyChainResolver.resolveForBidders(singletonList("bidder"), bidRequest).get("bidder"))
+                .isEqualTo(expectedSchain);
+    }
+
+    @Test
+    public void shouldFallbackToCatchAllWhenBidderSchainIsDuplicated() {
+        // given
+        final ExtRequestPrebidSchain schain1 = ExtRequestPrebidSchain.of(
+                singletonList("bidder"), SupplyChain.of(null, null, "ver1", null));
+        final ExtRequestPrebidSchain schain2 = ExtRequestPrebidSchain.of(
+                singletonList("BIDDER"), SupplyChain.of(null, null, "ver2", null));
+        final SupplyChain generalSchain = SupplyChain.of(null, null, "general", null);
+        final ExtRequestPrebidSchain allSchain = ExtRequestPrebidSchain.of(singletonList("*"), generalSchain);
+
+        final BidRequest bidRequest = BidRequest.builder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .schains(asList(schain1, allSchain, schain2))
+                        .build()))
+                .build();
+
+        // when and then
+        assertThat(supplyChainResolver.resolveForBidders(singletonList("bidder"), bidRequest).get("bidder"))
+                .isSameAs(generalSchain);
+    }
+
+    @Test
+    public void shouldNotRejectBidderListedTwiceInSameSchainEntry() {
+        // given
+        final SupplyChain schain = SupplyChain.of(null, null, "ver", null);
+        final BidRequest bidRequest = BidRequest.builder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .schains(singletonList(ExtRequestPrebidSchain.of(asList("bidder", "Bidder"), schain)))
+                        .build()))
+                .build();
+
+        // when and then
+        assertThat(supplyChainResolver.resolveForBidders(singletonList("bidder"), bidRequest).get("bidder"))
+                .isSameAs(schain);
+    }
+
+    @Test
+    public void shouldShareResolvedSchainBetweenBiddersOfSameGroup() {
+        // given
+        supplyChainResolver = SupplyChainResolver.create(
+                "{\"asi\": \"pbshostcompany.com\", \"sid\":\"00001\"}",
+                jacksonMapper);
+
+        final SupplyChainNode node = SupplyChainNode.of("asi", "sid", "rid", "name", "domain", 1, null);
+        final SupplyChain firstSchain = SupplyChain.of(1, singletonList(node), "first", null);
+        final SupplyChain secondSchain = SupplyChain.of(1, singletonList(node), "second", null);
+        final SupplyChain requestSchain = SupplyChain.of(1, singletonList(node), "request", null);
+
+        final List<String> bidders = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            bidders.add("bidder" + i);
+        }
+
+        final BidRequest bidRequest = BidRequest.builder()
+                .source(Source.builder().schain(requestSchain).build())
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .schains(asList(
+                                ExtRequestPrebidSchain.of(bidders.subList(0, 7), firstSchain),
+                                ExtRequestPrebidSchain.of(bidders.subList(7, 14), secondSchain)))
+                        .build()))
+                .build();
+
+        // when
+        final Map<String, SupplyChain> result = supplyChainResolver.resolveForBidders(bidders, bidRequest);
+
+        // then
+        final SupplyChainNode globalNode = SupplyChainNode.of(
+                "pbshostcompany.com", "00001", null, null, null, null, null);
+        assertThat(result).hasSize(20);
+        assertThat(result.get("bidder0")).isEqualTo(SupplyChain.of(1, asList(node, globalNode), "first", null));
+        assertThat(result.get("bidder7")).isEqualTo(SupplyChain.of(1, asList(node, globalNode), "second", null));
+        assertThat(result.get("bidder14")).isEqualTo(SupplyChain.of(1, asList(node, globalNode), "request", null));
+        assertThat(bidders.subList(0, 7)).allSatisfy(bidder -> assertThat(result.get(bidder))
+                .isSameAs(result.get("bidder0")));
+        assertThat(bidders.subList(7, 14)).allSatisfy(bidder -> assertThat(result.get(bidder))
+                .isSameAs(result.get("bidder7")));
+        assertThat(bidders.subList(14, 20)).allSatisfy(bidder -> assertThat(result.get(bidder))
+                .isSameAs(result.get("bidder14")));
     }
 }
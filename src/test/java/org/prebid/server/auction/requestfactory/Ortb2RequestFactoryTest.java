@@ -76,6 +76,7 @@ import org.prebid.server.settings.model.AccountTargetingConfig;
 import org.prebid.server.settings.model.DefaultDsa;
 import org.prebid.server.settings.model.DsaTransparency;
 import org.prebid.server.validation.RequestValidator;
+import org.prebid.server.validation.model.ValidationMemo;
 import org.prebid.server.validation.model.ValidationResult;
 
 import java.util.ArrayList;
@@ -659,7 +660,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
     @Test
     public void validateRequestShouldThrowInvalidRequestExceptionIfRequestIsInvalid() {
         // given
-        given(requestValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.error("error"));
+        given(requestValidator.validate(any(), any(), any(), any(), any())).willReturn(ValidationResult.error("error"));
 
         final BidRequest bidRequest = givenBidRequest(identity());
 
@@ -669,6 +670,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 bidRequest,
                 HttpRequestContext.builder().build(),
                 DebugContext.empty(),
+                new ValidationMemo(),
                 new ArrayList<>());
 
         // then
@@ -677,13 +679,13 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
 
-        verify(requestValidator).validate(any(), eq(bidRequest), any(), any());
+        verify(requestValidator).validate(any(), eq(bidRequest), any(), any(), any());
     }
 
     @Test
     public void validateRequestShouldReturnSameBidRequest() {
         // given
-        given(requestValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success());
+        given(requestValidator.validate(any(), any(), any(), any(), any())).willReturn(ValidationResult.success());
 
         final BidRequest bidRequest = givenBidRequest(identity());
 
@@ -693,10 +695,11 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 bidRequest,
                 HttpRequestContext.builder().build(),
                 DebugContext.empty(),
+                new ValidationMemo(),
                 new ArrayList<>()).result();
 
         // then
-        verify(requestValidator).validate(any(), eq(bidRequest), any(), any());
+        verify(requestValidator).validate(any(), eq(bidRequest), any(), any(), any());
 
         assertThat(result).isSameAs(bidRequest);
     }
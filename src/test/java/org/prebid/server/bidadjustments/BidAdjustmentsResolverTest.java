@@ -12,8 +12,15 @@ import org.prebid.server.bidder.model.Price;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustmentsRule;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
+import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
+import org.prebid.server.util.dsl.config.impl.SimpleParameters;
+import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -48,7 +55,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldPickAndApplyRulesBySpecificMediaType() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "banner|*|*", List.of(givenStatic("15", "EUR")),
                 "*|*|*", List.of(givenStatic("25", "UAH"))));
 
@@ -69,7 +76,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldPickAndApplyRulesByWildcardMediaType() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "banner|*|*", List.of(givenCpm("15", "EUR")),
                 "*|*|*", List.of(givenCpm("25", "UAH"))));
 
@@ -92,7 +99,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldPickAndApplyRulesBySpecificBidder() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "*|bidderName|*", List.of(givenMultiplier("15")),
                 "*|*|*", List.of(givenMultiplier("25"))));
 
@@ -113,7 +120,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldPickAndApplyRulesByWildcardBidder() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "*|bidderName|*", List.of(givenStatic("15", "EUR"), givenMultiplier("15")),
                 "*|*|*", List.of(givenStatic("25", "UAH"), givenMultiplier("25"))));
 
@@ -134,7 +141,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldPickAndApplyRulesBySpecificDealId() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "*|*|dealId", List.of(givenCpm("15", "JPY"), givenStatic("15", "EUR")),
                 "*|*|*", List.of(givenCpm("25", "JPY"), givenStatic("25", "UAH"))));
         final BidRequest givenBidRequest = BidRequest.builder().build();
@@ -156,7 +163,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldPickAndApplyRulesByWildcardDealId() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "*|*|dealId", List.of(givenMultiplier("15"), givenCpm("15", "EUR")),
                 "*|*|*", List.of(givenMultiplier("25"), givenCpm("25", "UAH"))));
         final BidRequest givenBidRequest = BidRequest.builder().build();
@@ -178,7 +185,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldPickAndApplyRulesByWildcardDealIdWhenDealIdIsNull() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "*|*|dealId", List.of(givenCpm("15", "EUR"), givenCpm("15", "JPY")),
                 "*|*|*", List.of(givenCpm("25", "UAH"), givenCpm("25", "JPY"))));
         final BidRequest givenBidRequest = BidRequest.builder().build();
@@ -201,7 +208,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     @Test
     public void resolveShouldReturnEmptyListWhenNoMatchFound() {
         // given
-        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+        final BidAdjustments givenBidAdjustments = givenBidAdjustments(Map.of(
                 "*|*|dealId", List.of(givenStatic("15", "EUR"))));
 
         // when
@@ -218,6 +225,60 @@ public class BidAdjustmentsResolverTest extends VertxTest {
         verifyNoInteractions(currencyService);
     }
 
+    @Test
+    public void resolveShouldPickSameRulesAsMostAccurateCombinationStrategy() {
+        // given
+        final List<String> candidateRules = List.of(
+                "banner|bidderName|dealId", "banner|bidderName|*", "banner|*|dealId", "*|bidderName|dealId",
+                "banner|*|*", "*|bidderName|*", "*|*|dealId", "*|*|*");
+        final MostAccurateCombinationStrategy strategy = new MostAccurateCombinationStrategy();
+
+        for (int subset = 0; subset < 1 << candidateRules.size(); subset++) {
+            final Map<String, List<ExtRequestBidAdjustmentsRule>> rules = new HashMap<>();
+            for (int i = 0; i < candidateRules.size(); i++) {
+                if ((subset & 1 << i) != 0) {
+                    rules.put(candidateRules.get(i), List.of(givenStatic(String.valueOf(i + 2), "EUR")));
+                }
+            }
+
+            for (String dealId : Arrays.asList("dealId", null)) {
+                final String expectedRule = strategy.match(
+                        SimpleSource.of("*", "|", rules.keySet()),
+                        SimpleParameters.of(List.of(
+                                SimpleDirectParameter.of("banner"),
+                                SimpleDirectParameter.of("bidderName"),
+                                dealId != null ? SimpleDirectParameter.of(dealId) : PrebidConfigParameter.wildcard())));
+
+                // when
+                final Price actual = target.resolve(
+                        Price.of("USD", BigDecimal.ONE),
+                        BidRequest.builder().build(),
+                        givenBidAdjustments(rules),
+                        ImpMediaType.banner,
+                        "bidderName",
+                        dealId);
+
+                // then
+                final Price expected = expectedRule != null
+                        ? Price.of("EUR", rules.get(expectedRule).getFirst().getValue())
+                        : Price.of("USD", BigDecimal.ONE);
+                assertThat(actual).describedAs("rules %s, deal %s", rules.keySet(), dealId).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static BidAdjustments givenBidAdjustments(Map<String, List<ExtRequestBidAdjustmentsRule>> rules) {
+        final Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> rulesTable = new HashMap<>();
+        rules.forEach((rule, adjustmentRules) -> {
+            final String[] conditions = rule.split("\\|");
+            rulesTable.computeIfAbsent(conditions[0], key -> new HashMap<>())
+                    .computeIfAbsent(conditions[1], key -> new HashMap<>())
+                    .put(conditions[2], adjustmentRules);
+        });
+
+        return BidAdjustments.of(rulesTable);
+    }
+
     private static ExtRequestBidAdjustmentsRule givenStatic(String value, String currency) {
         return ExtRequestBidAdjustmentsRule.builder()
                 .adjType(STATIC)
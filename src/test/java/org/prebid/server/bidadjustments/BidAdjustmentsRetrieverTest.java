@@ -118,12 +118,12 @@ public class BidAdjustmentsRetrieverTest extends VertxTest {
 
         // then
         final BidAdjustments expected = BidAdjustments.of(Map.of(
-                "banner|*|*",
-                List.of(ExtRequestBidAdjustmentsRule.builder()
-                        .adjType(CPM)
-                        .currency("USD")
-                        .value(new BigDecimal("0.1"))
-                        .build())));
+                "banner", Map.of("*", Map.of("*",
+                        List.of(ExtRequestBidAdjustmentsRule.builder()
+                                .adjType(CPM)
+                                .currency("USD")
+                                .value(new BigDecimal("0.1"))
+                                .build())))));
 
         assertThat(actual).isEqualTo(expected);
         assertThat(debugMessages).isEmpty();
@@ -180,12 +180,12 @@ public class BidAdjustmentsRetrieverTest extends VertxTest {
 
         // then
         final BidAdjustments expected = BidAdjustments.of(Map.of(
-                "audio|bidder|*",
-                List.of(ExtRequestBidAdjustmentsRule.builder()
-                        .adjType(STATIC)
-                        .currency("USD")
-                        .value(new BigDecimal("0.1"))
-                        .build())));
+                "audio", Map.of("bidder", Map.of("*",
+                        List.of(ExtRequestBidAdjustmentsRule.builder()
+                                .adjType(STATIC)
+                                .currency("USD")
+                                .value(new BigDecimal("0.1"))
+                                .build())))));
 
         assertThat(actual).isEqualTo(expected);
         assertThat(debugMessages)
@@ -359,23 +359,72 @@ public class BidAdjustmentsRetrieverTest extends VertxTest {
 
         // then
         final BidAdjustments expected = BidAdjustments.of(Map.of(
-                "banner|*|dealId",
-                List.of(ExtRequestBidAdjustmentsRule.builder()
-                        .adjType(CPM)
-                        .currency("USD")
-                        .value(new BigDecimal("0.3"))
-                        .build()),
-                "banner|*|*",
-                List.of(ExtRequestBidAdjustmentsRule.builder()
-                        .adjType(CPM)
-                        .currency("USD")
-                        .value(new BigDecimal("0.1"))
-                        .build())));
+                "banner", Map.of("*", Map.of(
+                        "dealId",
+                        List.of(ExtRequestBidAdjustmentsRule.builder()
+                                .adjType(CPM)
+                                .currency("USD")
+                                .value(new BigDecimal("0.3"))
+                                .build()),
+                        "*",
+                        List.of(ExtRequestBidAdjustmentsRule.builder()
+                                .adjType(CPM)
+                                .currency("USD")
+                                .value(new BigDecimal("0.1"))
+                                .build())))));
 
         assertThat(actual).isEqualTo(expected);
         assertThat(debugMessages).isEmpty();
     }
 
+    @Test
+    public void retrieveShouldReuseAccountBidAdjustmentsUntilAccountConfigChanges() throws JsonProcessingException {
+        // given
+        final ObjectNode givenAccountAdjustments = (ObjectNode) mapper.readTree("""
+                {"mediatype": {"banner": {"*": {"*": [{"adjtype": "cpm", "value": 0.1, "currency": "USD"}]}}}}
+                """);
+        final BidAdjustments first = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments, new ArrayList<>(), true));
+
+        // when
+        final BidAdjustments second = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments.deepCopy(), new ArrayList<>(), true));
+
+        ((ObjectNode) givenAccountAdjustments.get("mediatype").get("banner").get("*").get("*").get(0))
+                .put("value", 0.2);
+        final BidAdjustments third = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments, new ArrayList<>(), true));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third.getRules().get("banner").get("*").get("*"))
+                .extracting(ExtRequestBidAdjustmentsRule::getValue)
+                .containsExactly(new BigDecimal("0.2"));
+    }
+
+    @Test
+    public void retrieveShouldReportInvalidAccountBidAdjustmentsOnEveryCall() throws JsonProcessingException {
+        // given
+        final ObjectNode givenAccountAdjustments = (ObjectNode) mapper.readTree("""
+                {"mediatype": {"banner": {"*": {"*": [{"adjtype": "invalid", "value": 0.1, "currency": "USD"}]}}}}
+                """);
+        final List<String> firstDebugMessages = new ArrayList<>();
+        final List<String> secondDebugMessages = new ArrayList<>();
+
+        // when
+        final BidAdjustments first = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments, firstDebugMessages, true));
+        final BidAdjustments second = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments, secondDebugMessages, true));
+
+        // then
+        assertThat(first).isEqualTo(BidAdjustments.of(Collections.emptyMap()));
+        assertThat(second).isEqualTo(BidAdjustments.of(Collections.emptyMap()));
+        assertThat(firstDebugMessages).containsExactly("bid adjustment from account was invalid: the found rule "
+                + "[adjtype=UNKNOWN, value=0.1, currency=USD] in banner.*.* is invalid");
+        assertThat(secondDebugMessages).isEqualTo(firstDebugMessages);
+    }
+
     private static AuctionContext givenAuctionContext(ObjectNode requestBidAdjustments,
                                                       ObjectNode accountBidAdjustments,
                                                       List<String> debugWarnings,
@@ -42,14 +42,16 @@ public class BidAdjustmentsTest {
 
         // then
         final BidAdjustments expected = BidAdjustments.of(Map.of(
-                "audio|bidderName|dealId", givenRules,
-                "native|bidderName|dealId", givenRules,
-                "video-instream|bidderName|dealId", givenRules,
-                "video-outstream|bidderName|dealId", givenRules,
-                "banner|bidderName|dealId", givenRules,
-                "*|*|*", givenRules,
-                "*|bidderName|*", givenRules,
-                "*|bidderName|dealId", givenRules));
+                "audio", givenRulesMap,
+                "native", givenRulesMap,
+                "video-instream", givenRulesMap,
+                "video-outstream", givenRulesMap,
+                "banner", givenRulesMap,
+                "*", Map.of(
+                        "*", Map.of("*", givenRules),
+                        "bidderName", Map.of(
+                                "*", givenRules,
+                                "dealId", givenRules))));
 
         assertThat(actual).isEqualTo(expected);
 
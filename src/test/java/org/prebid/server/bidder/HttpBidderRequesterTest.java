@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
@@ -35,6 +36,7 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -99,6 +101,10 @@ public class HttpBidderRequesterTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest httpServerRequest;
+    @Mock
+    private Metrics metrics;
+    @Captor
+    private ArgumentCaptor<BidderCall<BidRequest>> httpCallArgumentCaptor;
 
     private HttpBidderRequester target;
 
@@ -119,8 +125,8 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
-        given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, metrics, 0.0);
+        given(bidder.makeBidderResponse(any(), any(BidRequest.class))).willCallRealMethod();
     }
 
     @Test
@@ -187,6 +193,59 @@ public class HttpBidderRequesterTest extends VertxTest {
         verifyNoInteractions(bidRejectionTracker);
     }
 
+    @Test
+    public void shouldUpdateAdapterRequestBuildMetricsWithResolvedBidderAndRequestsSize() {
+        // given
+        givenHttpClientResponse(200, null);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(asList(
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder.body("{\"id\":1}".getBytes())),
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder.body("{}".getBytes()))),
+                emptyList()));
+        given(bidderAliases.resolveBidder("alias")).willReturn("bidder");
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("alias")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(metrics).updateAdapterRequestBuildMetrics(eq("bidder"), eq(10L), anyLong());
+    }
+
+    @Test
+    public void shouldNotUpdateAdapterRequestBuildMetricsWhenBidderReturnsNoHttpRequests() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void shouldPassStoredResponseToBidderMakeBidsMethodAndReturnSeatBids() {
         // given
@@ -220,8 +279,6 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         verifyNoInteractions(httpClient);
-        final ArgumentCaptor<BidderCall<BidRequest>> httpCallArgumentCaptor =
-                ArgumentCaptor.forClass(BidderCall.class);
         verify(bidder).makeBidderResponse(httpCallArgumentCaptor.capture(), any());
         assertThat(httpCallArgumentCaptor.getValue().getResponse())
                 .extracting(HttpResponse::getBody)
@@ -558,6 +615,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 bidderErrorNotifier,
                 requestEnricher,
                 jacksonMapper,
+                metrics,
                 0.0);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
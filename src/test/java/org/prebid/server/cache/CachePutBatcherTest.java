@@ -0,0 +1,197 @@
+package org.prebid.server.cache;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.BasicHttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(VertxExtension.class)
+public class CachePutBatcherTest extends VertxTest {
+
+    @RegisterExtension
+    static final WireMockExtension WIRE_MOCK = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private Vertx vertx;
+
+    private Metrics metrics;
+
+    private String url;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        metrics = mock(Metrics.class);
+        url = WIRE_MOCK.baseUrl() + "/cache";
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxBatchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> givenBatcher(10L, 0));
+    }
+
+    @Test
+    public void postShouldMergeRequestsWithinWindowAndReturnEachOwnResponses() throws Exception {
+        // given
+        WIRE_MOCK.stubFor(post(urlPathEqualTo("/cache")).willReturn(aResponse().withBody("""
+                {"responses":[{"uuid":"1"},{"uuid":"2"},{"uuid":"3"},{"uuid":"4"}]}""")));
+
+        final CachePutBatcher target = givenBatcher(200L, 100);
+
+        // when
+        final Future<HttpClientResponse> first = target.post(url, HttpUtil.headers(), puts("a"), 1, 5000L);
+        final Future<HttpClientResponse> second = target.post(url, HttpUtil.headers(), puts("b", "c"), 2, 5000L);
+        final Future<HttpClientResponse> third = target.post(url, HttpUtil.headers(), puts("d"), 1, 5000L);
+
+        // then
+        assertThat(await(first).getBody()).isEqualTo("{\"responses\":[{\"uuid\":\"1\"}]}");
+        assertThat(await(second).getBody()).isEqualTo("{\"responses\":[{\"uuid\":\"2\"},{\"uuid\":\"3\"}]}");
+        assertThat(await(third).getBody()).isEqualTo("{\"responses\":[{\"uuid\":\"4\"}]}");
+
+        WIRE_MOCK.verify(1, postRequestedFor(urlPathEqualTo("/cache"))
+                .withRequestBody(equalToJson(puts("a", "b", "c", "d"))));
+        verify(metrics).updateCacheBatchSizeMetric(4);
+        verify(metrics, times(3)).updateCacheBatchWaitTimeMetric(anyLong());
+    }
+
+    @Test
+    public void postShouldSendBatchWithoutWaitingForWindowWhenMaxBatchSizeReached() throws Exception {
+        // given
+        WIRE_MOCK.stubFor(post(urlPathEqualTo("/cache")).willReturn(aResponse().withBody("""
+                {"responses":[{"uuid":"1"},{"uuid":"2"}]}""")));
+
+        final CachePutBatcher target = givenBatcher(60_000L, 2);
+
+        // when
+        final Future<HttpClientResponse> first = target.post(url, HttpUtil.headers(), puts("a"), 1, 5000L);
+        final Future<HttpClientResponse> second = target.post(url, HttpUtil.headers(), puts("b"), 1, 5000L);
+
+        // then
+        assertThat(await(first).getBody()).isEqualTo("{\"responses\":[{\"uuid\":\"1\"}]}");
+        assertThat(await(second).getBody()).isEqualTo("{\"responses\":[{\"uuid\":\"2\"}]}");
+        WIRE_MOCK.verify(1, postRequestedFor(urlPathEqualTo("/cache")));
+    }
+
+    @Test
+    public void postShouldFailRequestsWhoseTimeoutExpiredInWindowWithoutSendingThem() {
+        // given
+        final CachePutBatcher target = givenBatcher(50L, 100);
+
+        // when
+        final Future<HttpClientResponse> result = target.post(url, HttpUtil.headers(), puts("a"), 1, 0L);
+
+        // then
+        assertThatThrownBy(() -> await(result)).hasCauseInstanceOf(TimeoutException.class);
+        WIRE_MOCK.verify(0, postRequestedFor(urlPathEqualTo("/cache")));
+    }
+
+    @Test
+    public void postShouldSendBatchWithLargestTimeoutAndFailEachRequestOnItsOwnTimeout() throws Exception {
+        // given
+        WIRE_MOCK.stubFor(post(urlPathEqualTo("/cache")).willReturn(aResponse().withFixedDelay(500).withBody("""
+                {"responses":[{"uuid":"1"},{"uuid":"2"}]}""")));
+
+        final CachePutBatcher target = givenBatcher(50L, 100);
+
+        // when
+        final Future<HttpClientResponse> shortTimeout = target.post(url, HttpUtil.headers(), puts("a"), 1, 200L);
+        final Future<HttpClientResponse> longTimeout = target.post(url, HttpUtil.headers(), puts("b"), 1, 5000L);
+
+        // then
+        assertThatThrownBy(() -> await(shortTimeout)).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(await(longTimeout).getBody()).isEqualTo("{\"responses\":[{\"uuid\":\"2\"}]}");
+        WIRE_MOCK.verify(1, postRequestedFor(urlPathEqualTo("/cache")));
+    }
+
+    @Test
+    public void postShouldPassUnsuccessfulResponseToAllRequests() throws Exception {
+        // given
+        WIRE_MOCK.stubFor(post(urlPathEqualTo("/cache")).willReturn(aResponse().withStatus(500).withBody("down")));
+
+        final CachePutBatcher target = givenBatcher(100L, 100);
+
+        // when
+        final List<Future<HttpClientResponse>> results = List.of(
+                target.post(url, HttpUtil.headers(), puts("a"), 1, 5000L),
+                target.post(url, HttpUtil.headers(), puts("b"), 1, 5000L));
+
+        // then
+        for (Future<HttpClientResponse> result : results) {
+            assertThat(await(result)).extracting(HttpClientResponse::getStatusCode, HttpClientResponse::getBody)
+                    .containsExactly(500, "down");
+        }
+        WIRE_MOCK.verify(1, postRequestedFor(urlPathEqualTo("/cache")));
+    }
+
+    @Test
+    public void postShouldFailOnUnexpectedBody() {
+        // given
+        final CachePutBatcher target = givenBatcher(10L, 100);
+
+        // when
+        final Future<HttpClientResponse> result = target.post(url, HttpUtil.headers(), "{}", 1, 5000L);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CachePutBatcher givenBatcher(long windowMs, int maxBatchSize) {
+        return new CachePutBatcher(
+                vertx,
+                new BasicHttpClient(vertx, vertx.createHttpClient()),
+                metrics,
+                Clock.systemUTC(),
+                jacksonMapper,
+                windowMs,
+                maxBatchSize);
+    }
+
+    private static String puts(String... values) {
+        final StringBuilder body = new StringBuilder("{\"puts\":[");
+        for (int i = 0; i < values.length; i++) {
+            body.append(i > 0 ? "," : "").append("{\"type\":\"json\",\"value\":\"").append(values[i]).append("\"}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private static HttpClientResponse await(Future<HttpClientResponse> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+}
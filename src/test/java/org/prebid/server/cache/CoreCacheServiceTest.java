@@ -68,11 +68,13 @@ import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -107,6 +109,7 @@ public class CoreCacheServiceTest extends VertxTest {
 
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -383,6 +386,7 @@ public class CoreCacheServiceTest extends VertxTest {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -816,11 +820,60 @@ public class CoreCacheServiceTest extends VertxTest {
                 .containsExactly(modifiedFirstBidPutObject, modifiedSecondBidPutObject, modifiedThirdBidPutObject);
     }
 
+    @Test
+    public void cachePutObjectsShouldSendRequestThroughBatcherWhenConfigured() throws MalformedURLException {
+        // given
+        final CachePutBatcher cachePutBatcher = mock(CachePutBatcher.class);
+        given(cachePutBatcher.post(anyString(), any(), anyString(), anyInt(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null,
+                        "{\"responses\":[{\"uuid\":\"uuid1\"}]}")));
+
+        target = new CoreCacheService(
+                httpClient,
+                cachePutBatcher,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper);
+
+        final BidPutObject bidPutObject = BidPutObject.builder()
+                .type("json")
+                .bidid("bidId1")
+                .bidder("bidder1")
+                .timestamp(1L)
+                .value(new TextNode("vast"))
+                .build();
+
+        // when
+        final Future<BidCacheResponse> result = target.cachePutObjects(
+                singletonList(bidPutObject),
+                true,
+                singleton("bidder1"),
+                "account",
+                "pbjs",
+                timeout);
+
+        // then
+        verify(cachePutBatcher).post(eq("http://cache-service/cache"), any(), anyString(), eq(1), anyLong());
+        verifyNoInteractions(httpClient);
+        assertThat(result.result().getResponses()).extracting(CacheObject::getUuid).containsExactly("uuid1");
+    }
+
     @Test
     public void cachePutObjectsShouldUseApiKeyWhenProvided() throws MalformedURLException {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -862,6 +915,7 @@ public class CoreCacheServiceTest extends VertxTest {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -931,6 +985,7 @@ public class CoreCacheServiceTest extends VertxTest {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -1000,6 +1055,7 @@ public class CoreCacheServiceTest extends VertxTest {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -1050,6 +1106,7 @@ public class CoreCacheServiceTest extends VertxTest {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -1097,6 +1154,7 @@ public class CoreCacheServiceTest extends VertxTest {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -1144,6 +1202,7 @@ public class CoreCacheServiceTest extends VertxTest {
         // given
         target = new CoreCacheService(
                 httpClient,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -43,10 +43,12 @@ import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -88,10 +90,14 @@ public class CookieSyncServiceTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private ActivityInfrastructure activityInfrastructure;
 
+    private Set<String> bidderNames;
+
     private CookieSyncService target;
 
     @BeforeEach
     public void setUp() {
+        bidderNames = new HashSet<>();
+        given(bidderCatalog.names()).willReturn(bidderNames);
         given(uidsCookie.allowsSync()).willReturn(true);
         given(hostVendorTcfDefinerService.isAllowedForHostVendorId(any()))
                 .willReturn(Future.succeededFuture(HostVendorTcfResponse.allowedVendor()));
@@ -333,6 +339,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder", "invalid-bidder")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -349,7 +357,7 @@ public class CookieSyncServiceTest extends VertxTest {
         // given
         givenCoopSyncBidders("coop-sync-bidder");
 
-        given(bidderCatalog.isValidName("disabled-bidder")).willReturn(true);
+        bidderNames.add("disabled-bidder");
         givenValidActiveBidders("requested-bidder", "coop-sync-bidder");
         givenUsersyncersForBidders("requested-bidder", "coop-sync-bidder");
 
@@ -358,6 +366,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder", "disabled-bidder")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -382,6 +392,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder", "bidder-without-usersync")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -411,6 +423,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder", "bidder-with-disabled-usersync")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -437,6 +451,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -467,6 +483,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -493,6 +511,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -523,6 +543,8 @@ public class CookieSyncServiceTest extends VertxTest {
         final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
                 builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder")));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final Future<CookieSyncContext> result = target.processContext(cookieSyncContext);
 
@@ -576,6 +598,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .coopSyncBidders(singleton("coop-sync-bidder"))
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -599,6 +623,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .coopSyncBidders(singleton("coop-sync-bidder"))
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -625,6 +651,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(Map.of("requested-bidder", RejectionReason.REJECTED_BY_TCF))
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -651,6 +679,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(Map.of("requested-bidder", RejectionReason.REJECTED_BY_TCF))
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -679,6 +709,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(Map.of("requested-bidder", RejectionReason.REJECTED_BY_TCF))
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -707,6 +739,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(biddersRejectionReasons)
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -736,6 +770,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(biddersRejectionReasons)
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -765,6 +801,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(biddersRejectionReasons)
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -795,6 +833,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(biddersRejectionReasons)
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -848,6 +888,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(biddersRejectionReasons)
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -878,6 +920,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .rejectedBidders(biddersRejectionReasons)
                         .bidderUsersyncMethod(bidderUsersyncMethods));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse cookieSyncResponse = target.prepareResponse(cookieSyncContext);
 
@@ -889,7 +933,7 @@ public class CookieSyncServiceTest extends VertxTest {
     @Test
     public void prepareResponseShouldReturnWarningForAliasesSyncedAsRootCookieFamilyWhenDebugTrue() {
         // given
-        given(bidderCatalog.isValidName("alias")).willReturn(true);
+        bidderNames.add("alias");
         given(bidderCatalog.isActive("alias")).willReturn(true);
         given(bidderCatalog.isAlias("alias")).willReturn(true);
         givenUsersyncerForBidder(true, "alias", "root-cookie-family", CookieFamilySource.ROOT);
@@ -900,6 +944,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .requestedBidders(singleton("alias"))
                         .bidderUsersyncMethod(Map.of("alias", givenUsersyncMethod("alias"))));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse result = target.prepareResponse(cookieSyncContext);
 
@@ -917,7 +963,7 @@ public class CookieSyncServiceTest extends VertxTest {
     @Test
     public void prepareResponseShouldNotReturnWarningForAliasesSyncedAsAliasCookieFamilyWhenDebugFalse() {
         // given
-        given(bidderCatalog.isValidName("alias")).willReturn(true);
+        bidderNames.add("alias");
         given(bidderCatalog.isActive("alias")).willReturn(true);
         given(bidderCatalog.isAlias("alias")).willReturn(true);
         givenUsersyncerForBidder(true, "alias", "alias-cookie-family", CookieFamilySource.ALIAS);
@@ -928,6 +974,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .requestedBidders(singleton("alias"))
                         .bidderUsersyncMethod(Map.of("alias", givenUsersyncMethod("alias"))));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse result = target.prepareResponse(cookieSyncContext);
 
@@ -955,6 +1003,8 @@ public class CookieSyncServiceTest extends VertxTest {
                                 Map.of("bidder1", givenUsersyncMethod("bidder1"),
                                         "bidder2", givenUsersyncMethod("bidder2"))));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse result = target.prepareResponse(cookieSyncContext);
 
@@ -984,6 +1034,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .requestedBidders(singleton("host-bidder"))
                         .bidderUsersyncMethod(Map.of("host-bidder", givenUsersyncMethod("alias"))));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse result = target.prepareResponse(cookieSyncContext);
 
@@ -1022,6 +1074,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .requestedBidders(singleton("host-bidder"))
                         .bidderUsersyncMethod(Map.of("host-bidder", givenUsersyncMethod("alias"))));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse result = target.prepareResponse(cookieSyncContext);
 
@@ -1061,6 +1115,8 @@ public class CookieSyncServiceTest extends VertxTest {
                         .requestedBidders(singleton("host-bidder"))
                         .bidderUsersyncMethod(Map.of("host-bidder", givenUsersyncMethod("alias"))));
 
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
         // when
         final CookieSyncResponse result = target.prepareResponse(cookieSyncContext);
 
@@ -1105,7 +1161,7 @@ public class CookieSyncServiceTest extends VertxTest {
     }
 
     private void givenValidActiveBidder(String bidder) {
-        given(bidderCatalog.isValidName(bidder)).willReturn(true);
+        bidderNames.add(bidder);
         given(bidderCatalog.isActive(bidder)).willReturn(true);
     }
 
@@ -1140,6 +1196,7 @@ public class CookieSyncServiceTest extends VertxTest {
         final Usersyncer usersyncer = Usersyncer.of(
                 enabled, cookieFamilyName, cookieFamilySource, usersyncMethod, null);
 
+        bidderNames.add(bidder);
         given(bidderCatalog.usersyncerByName(eq(bidder))).willReturn(Optional.of(usersyncer));
         given(bidderCatalog.cookieFamilyName(eq(bidder))).willReturn(Optional.of(cookieFamilyName));
         given(usersyncMethodChooser.choose(eq(usersyncer), eq(bidder))).willReturn(usersyncMethod);
@@ -0,0 +1,116 @@
+package org.prebid.server.cookie;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class UidsCookieBinaryFormatTest {
+
+    private static final ZonedDateTime EXPIRES = ZonedDateTime.parse("2030-01-01T10:20:30Z");
+
+    private final UidsCookieBinaryFormat target = new UidsCookieBinaryFormat(Map.of("rubicon", 1, "adnxs", 2));
+
+    @Test
+    public void decodeShouldReturnEncodedUids() {
+        // given
+        final Map<String, UidWithExpiry> uids = Map.of(
+                "rubicon", new UidWithExpiry("J5VLCWQP-26-CWFT", EXPIRES),
+                "unknown", new UidWithExpiry("uid with ü, € and 😀", EXPIRES));
+
+        // when
+        final Uids result = target.decode(decode(target.encode(uids, true)));
+
+        // then
+        assertThat(result.getUids()).isEqualTo(uids);
+        assertThat(result.getOptout()).isTrue();
+    }
+
+    @Test
+    public void encodeShouldProduceValueOfExactlyCalculatedSize() {
+        // given
+        final UidWithExpiry knownUid = new UidWithExpiry("12345", EXPIRES);
+        final UidWithExpiry unknownUid = new UidWithExpiry("€", EXPIRES);
+
+        // when
+        final byte[] result = decode(target.encode(Map.of("adnxs", knownUid, "unknown", unknownUid), false));
+
+        // then
+        assertThat(UidsCookieBinaryFormat.isBinary(result)).isTrue();
+        assertThat(result).hasSize(UidsCookieBinaryFormat.headerSize()
+                + target.uidSize("adnxs", knownUid)
+                + target.uidSize("unknown", unknownUid));
+        assertThat(target.uidSize("adnxs", knownUid)).isEqualTo(1 + 1 + 5 + 4);
+        assertThat(target.uidSize("unknown", unknownUid)).isEqualTo(1 + 1 + 7 + 1 + 3 + 4);
+    }
+
+    @Test
+    public void decodeShouldKeepUidsOfKnownFamiliesWhenOtherFamiliesAreAddedOrRemoved() {
+        // given
+        final String value = new UidsCookieBinaryFormat(Map.of("rubicon", 1, "removed", 3)).encode(Map.of(
+                "rubicon", new UidWithExpiry("uid1", EXPIRES),
+                "removed", new UidWithExpiry("uid2", EXPIRES),
+                "unknown", new UidWithExpiry("uid3", EXPIRES)), false);
+
+        // when
+        final Uids result = target.decode(decode(value));
+
+        // then
+        assertThat(result.getUids()).containsOnlyKeys("rubicon", "unknown");
+    }
+
+    @Test
+    public void createShouldReadFamilyIdsFromCsv() {
+        // given
+        final UidsCookieBinaryFormat format = UidsCookieBinaryFormat.create("# comment\n\n2,adnxs\n1,rubicon\n");
+
+        // when
+        final String value = format.encode(Map.of("adnxs", new UidWithExpiry("uid", EXPIRES)), false);
+
+        // then
+        assertThat(target.decode(decode(value)).getUids()).containsOnlyKeys("adnxs");
+    }
+
+    @Test
+    public void createShouldFailOnDuplicatedFamilyId() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> UidsCookieBinaryFormat.create("1,rubicon\n1,adnxs"))
+                .withMessage("Duplicated cookie family id: 1");
+    }
+
+    @Test
+    public void createShouldReadBundledFamilyIds() throws IOException {
+        // when and then
+        assertThat(UidsCookieBinaryFormat.create(ResourceUtil.readFromClasspath("cookie-family-ids.csv"))
+                .uidSize("rubicon", new UidWithExpiry("uid", EXPIRES)))
+                .isEqualTo(1 + 1 + 3 + 4);
+    }
+
+    @Test
+    public void isBinaryShouldReturnFalseForJsonValue() {
+        assertThat(UidsCookieBinaryFormat.isBinary("{\"tempUIDs\":{}}".getBytes())).isFalse();
+    }
+
+    @Test
+    public void decodeShouldFailOnTruncatedValue() {
+        // given
+        final byte[] value = decode(target.encode(Map.of("rubicon", new UidWithExpiry("uid", EXPIRES)), false));
+        final byte[] truncated = new byte[value.length - 1];
+        System.arraycopy(value, 0, truncated, 0, truncated.length);
+
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> target.decode(truncated));
+    }
+
+    private static byte[] decode(String value) {
+        return Base64.getUrlDecoder().decode(value);
+    }
+}
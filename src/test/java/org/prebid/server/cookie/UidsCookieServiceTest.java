@@ -18,19 +18,26 @@ import org.prebid.server.model.UpdateResult;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -56,10 +63,13 @@ public class UidsCookieServiceTest extends VertxTest {
     @Mock
     private Metrics metrics;
 
+    private UidsCookieBinaryFormat binaryFormat;
+
     private UidsCookieService target;
 
     @BeforeEach
     public void setUp() {
+        binaryFormat = new UidsCookieBinaryFormat(Map.of(RUBICON, 1, ADNXS, 2));
         target = new UidsCookieService(
                 "trp_optout",
                 "true",
@@ -69,7 +79,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
     }
@@ -320,7 +332,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
@@ -345,7 +359,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
@@ -370,7 +386,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(routingContext.cookieMap()).willReturn(singletonMap("khaos", Cookie.cookie("khaos", "abc123")));
@@ -394,7 +412,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
 
@@ -520,7 +540,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
 
@@ -562,7 +584,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
 
@@ -585,7 +609,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
 
@@ -619,7 +645,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
 
@@ -644,7 +672,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
 
@@ -736,7 +766,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 2,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
 
@@ -763,7 +795,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily("family")).willReturn(false);
@@ -799,7 +833,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(true);
@@ -833,7 +869,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 2,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(true);
@@ -869,7 +907,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 5,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(false);
@@ -920,7 +960,9 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 2,
+                false,
                 prioritizedCoopSyncProvider,
+                binaryFormat,
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.isPrioritizedFamily(any())).willReturn(false);
@@ -945,10 +987,209 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(decodeUids(result.getLast().getValue()).getOptout()).isTrue();
     }
 
+    @Test
+    public void splitUidsIntoCookiesShouldProduceSameCookiesAsSplittingThroughUidsCookie() {
+        // given
+        final Random random = new Random(42);
+        final String alphabet = "abcdefghijklmnopqrstuvwxyz0123456789-_\\\"ü€=+/ ";
+        final Set<String> prioritizedFamilies = new HashSet<>();
+        given(prioritizedCoopSyncProvider.isPrioritizedFamily(any()))
+                .willAnswer(invocation -> prioritizedFamilies.contains(invocation.<String>getArgument(0)));
+
+        for (int run = 0; run < 200; run++) {
+            final int maxCookieSize = random.nextBoolean() ? 0 : 500 + random.nextInt(3000);
+            final int numberOfCookies = 1 + random.nextInt(30);
+            target = new UidsCookieService(
+                    "trp_optout",
+                    "true",
+                    RUBICON,
+                    "khaos",
+                    "cookie-domain",
+                    90,
+                    maxCookieSize,
+                    numberOfCookies,
+                    false,
+                    prioritizedCoopSyncProvider,
+                    binaryFormat,
+                    metrics,
+                    jacksonMapper);
+
+            prioritizedFamilies.clear();
+            final Map<String, UidWithExpiry> uids = new HashMap<>();
+            final int familiesCount = random.nextInt(80);
+            for (int i = 0; i < familiesCount; i++) {
+                final String family = "family" + i + randomString(random, alphabet, random.nextInt(20));
+                final ZonedDateTime expires = ZonedDateTime.ofInstant(
+                        Instant.ofEpochSecond(1_700_000_000L + random.nextInt(1_000_000), random.nextInt(1_000)
+                                * 1_000_000L), random.nextBoolean() ? ZoneOffset.UTC : ZoneOffset.ofHours(2));
+                uids.put(family, new UidWithExpiry(randomString(random, alphabet, 1 + random.nextInt(60)), expires));
+                if (random.nextInt(4) == 0) {
+                    prioritizedFamilies.add(family);
+                }
+            }
+            final UidsCookie uidsCookie = new UidsCookie(
+                    Uids.builder().uids(uids).optout(random.nextBoolean()).build(), jacksonMapper);
+
+            // when
+            final List<Cookie> result = target.splitUidsIntoCookies(uidsCookie);
+
+            // then
+            assertThat(result)
+                    .usingRecursiveFieldByFieldElementComparatorOnFields("name", "value", "maxAge")
+                    .containsExactlyElementsOf(splitThroughUidsCookie(uidsCookie, maxCookieSize, numberOfCookies));
+        }
+    }
+
     private UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
         return new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
     }
 
+    @Test
+    public void shouldReturnUidsCookieFromBinaryCookieValue() {
+        // given
+        final ZonedDateTime expires = ZonedDateTime.parse("2030-01-01T00:00:00Z");
+        final Map<String, String> cookies = Map.of("uids", binaryFormat.encode(Map.of(
+                RUBICON, new UidWithExpiry("J5VLCWQP-26-CWFT", expires),
+                "unknown", new UidWithExpiry("12345", expires)), false));
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromCookies(cookies);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
+        assertThat(uidsCookie.uidFrom("unknown")).isEqualTo("12345");
+        assertThat(uidsCookie.getCookieUids().getUids().get(RUBICON).getExpires()).isEqualTo(expires);
+    }
+
+    @Test
+    public void splitUidsIntoCookiesShouldUpgradeJsonCookieToBinaryWhenBinaryFormatEnabled() throws IOException {
+        // given
+        target = givenBinaryFormatUidsCookieService(0, 1);
+        final Map<String, String> cookies = Map.of("uids", encodeUids(Uids.builder()
+                .uids(Map.of(
+                        RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"),
+                        ADNXS, UidWithExpiry.live("12345")))
+                .build()));
+
+        // when
+        final List<Cookie> result = target.splitUidsIntoCookies(target.parseFromCookies(cookies));
+
+        // then
+        final byte[] value = Base64.getUrlDecoder().decode(result.getFirst().getValue());
+        assertThat(UidsCookieBinaryFormat.isBinary(value)).isTrue();
+        assertThat(binaryFormat.decode(value).getUids())
+                .extractingFromEntries(Map.Entry::getKey, entry -> entry.getValue().getUid())
+                .containsOnly(tuple(RUBICON, "J5VLCWQP-26-CWFT"), tuple(ADNXS, "12345"));
+    }
+
+    @Test
+    public void splitUidsIntoCookiesShouldFitMoreFamiliesInBinaryFormatUnderSameSizeLimit() {
+        // given
+        final Map<String, Integer> familyIds = new HashMap<>();
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            final String family = "bidder" + i;
+            familyIds.put(family, i + 1);
+            uids.put(family, UidWithExpiry.live("7d2f4b1c-9e3a-4f5b-8c6d-%012d".formatted(i)));
+        }
+        binaryFormat = new UidsCookieBinaryFormat(familyIds);
+        final UidsCookie uidsCookie = givenUidsCookie(uids);
+
+        final UidsCookieService jsonTarget = new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                4096,
+                1,
+                false,
+                prioritizedCoopSyncProvider,
+                binaryFormat,
+                metrics,
+                jacksonMapper);
+        target = givenBinaryFormatUidsCookieService(4096, 1);
+
+        // when
+        final Cookie jsonCookie = jsonTarget.splitUidsIntoCookies(uidsCookie).getFirst();
+        final Cookie binaryCookie = target.splitUidsIntoCookies(uidsCookie).getFirst();
+
+        // then
+        final int jsonFamilies = decodeUids(jsonCookie.getValue()).getUids().size();
+        final int binaryFamilies = binaryFormat.decode(Base64.getUrlDecoder().decode(binaryCookie.getValue()))
+                .getUids().size();
+
+        assertThat(jsonFamilies).isEqualTo(28);
+        assertThat(binaryFamilies).isEqualTo(71);
+        assertThat(binaryCookie.encode().length()).isLessThanOrEqualTo(4096);
+    }
+
+    private UidsCookieService givenBinaryFormatUidsCookieService(int maxCookieSizeBytes, int numberOfUidCookies) {
+        return new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                maxCookieSizeBytes,
+                numberOfUidCookies,
+                true,
+                prioritizedCoopSyncProvider,
+                binaryFormat,
+                metrics,
+                jacksonMapper);
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            result.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Reference splitting which serializes each chunk as a separate {@link UidsCookie}.
+     */
+    private List<Cookie> splitThroughUidsCookie(UidsCookie uidsCookie, int maxCookieSize, int numberOfCookies) {
+        final Map<String, UidWithExpiry> uids = uidsCookie.getCookieUids().getUids();
+        final Iterator<String> families = uids.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, UidWithExpiry>, Boolean>comparing(
+                                entry -> !prioritizedCoopSyncProvider.isPrioritizedFamily(entry.getKey()))
+                        .thenComparing(entry -> entry.getValue().getExpires()))
+                .map(Map.Entry::getKey)
+                .iterator();
+
+        final int schemaSize = UidsCookieSize.schemaSize(target.aliveCookie(uidsCookie));
+        final List<Cookie> cookies = new ArrayList<>();
+        String nextFamily = null;
+        for (int i = 0; i < numberOfCookies; i++) {
+            final UidsCookieSize size = new UidsCookieSize(schemaSize + (i < 10 ? Integer.signum(i) : 2),
+                    maxCookieSize);
+            final Map<String, UidWithExpiry> tempUids = new HashMap<>();
+            while (nextFamily != null || families.hasNext()) {
+                nextFamily = nextFamily == null ? families.next() : nextFamily;
+                size.addUid(nextFamily, uids.get(nextFamily).getUid());
+                if (!size.isValid()) {
+                    break;
+                }
+                tempUids.put(nextFamily, uids.get(nextFamily));
+                nextFamily = null;
+            }
+
+            final String name = i == 0 ? "uids" : "uids" + (i + 1);
+            cookies.add(tempUids.isEmpty()
+                    ? target.expiredCookie(name)
+                    : target.aliveCookie(name, new UidsCookie(Uids.builder()
+                            .uids(tempUids)
+                            .optout(!uidsCookie.allowsSync())
+                            .build(), jacksonMapper)));
+        }
+        return cookies;
+    }
+
     private static String encodeUids(Uids uids) throws JsonProcessingException {
         return Base64.getUrlEncoder().encodeToString(mapper.writeValueAsBytes(uids));
     }
@@ -26,6 +26,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountPriceFloorsConfig;
+import org.prebid.server.settings.model.BidderFloorsProjection;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -683,6 +684,64 @@ public class BasicPriceFloorProcessorTest extends VertxTest {
                         .ext(ext.set("prebid", extPrebid.set("floors", extPrebidFloors)))));
     }
 
+    @Test
+    public void shouldForwardOnlyEnforcedRulesToBidderWhenBidderFloorsProjectionIsEnforced() {
+        // given
+        final PriceFloorModelGroup modelGroup = givenModelGroup(modelGroupBuilder -> modelGroupBuilder
+                .clearValues()
+                .value("Banner|300x250", BigDecimal.ONE)
+                .value("banner|728x90", BigDecimal.TEN)
+                .modelVersion("version")
+                .defaultFloor(BigDecimal.ZERO));
+        final PriceFloorRules requestFloors = givenFloors(floors -> floors
+                .data(givenFloorData(floorData -> floorData.modelGroups(singletonList(modelGroup)))));
+
+        given(floorResolver.resolve(any(), any(), any(), eq("bidder"), any()))
+                .willReturn(PriceFloorResult.of("banner|300x250", BigDecimal.ONE, BigDecimal.ONE, "USD"));
+
+        // when
+        final BidRequest result = target.enrichWithPriceFloors(
+                givenBidRequest(request -> request.imp(singletonList(givenImp(identity()))), requestFloors),
+                givenAccount(floorsConfig -> floorsConfig.bidderFloorsProjection(BidderFloorsProjection.enforced)),
+                "bidder",
+                new ArrayList<>(),
+                new ArrayList<>());
+
+        // then
+        assertThat(extractFloors(result).getData().getModelGroups()).containsExactly(givenModelGroup(
+                modelGroupBuilder -> modelGroupBuilder
+                        .clearValues()
+                        .value("Banner|300x250", BigDecimal.ONE)
+                        .modelVersion("version")
+                        .defaultFloor(BigDecimal.ZERO)));
+        assertThat(extractImps(result)).extracting(Imp::getBidfloor).containsExactly(BigDecimal.ONE);
+    }
+
+    @Test
+    public void shouldForwardAllRulesToFullFloorsBidderWhenBidderFloorsProjectionIsEnforced() {
+        // given
+        final PriceFloorModelGroup modelGroup = givenModelGroup(modelGroupBuilder -> modelGroupBuilder
+                .value("banner|728x90", BigDecimal.TEN));
+        final PriceFloorRules requestFloors = givenFloors(floors -> floors
+                .data(givenFloorData(floorData -> floorData.modelGroups(singletonList(modelGroup)))));
+
+        given(floorResolver.resolve(any(), any(), any(), eq("bidder"), any()))
+                .willReturn(PriceFloorResult.of("somekey", BigDecimal.ONE, BigDecimal.ONE, "USD"));
+
+        // when
+        final BidRequest result = target.enrichWithPriceFloors(
+                givenBidRequest(request -> request.imp(singletonList(givenImp(identity()))), requestFloors),
+                givenAccount(floorsConfig -> floorsConfig
+                        .bidderFloorsProjection(BidderFloorsProjection.enforced)
+                        .fullFloorsBidders(singletonList("BIDDER"))),
+                "bidder",
+                new ArrayList<>(),
+                new ArrayList<>());
+
+        // then
+        assertThat(extractFloors(result).getData().getModelGroups()).containsExactly(modelGroup);
+    }
+
     @Test
     public void shouldTolerateFloorResolvingError() {
         // given
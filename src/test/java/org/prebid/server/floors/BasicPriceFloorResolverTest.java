@@ -68,7 +68,8 @@ public class BasicPriceFloorResolverTest extends VertxTest {
 
     @BeforeEach
     public void setUp() {
-        target = new BasicPriceFloorResolver(currencyConversionService, countryCodeMapper, metrics, jacksonMapper);
+        target = new BasicPriceFloorResolver(
+                currencyConversionService, countryCodeMapper, metrics, jacksonMapper, new PriceFloorRulesIndex(100));
     }
 
     @Test
@@ -1,6 +1,7 @@
 package org.prebid.server.floors;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -8,6 +9,8 @@ import io.vertx.core.http.HttpHeaders;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
@@ -31,6 +34,7 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeoutException;
 import java.util.function.UnaryOperator;
 
@@ -38,10 +42,13 @@ import static java.util.Collections.singletonList;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -70,6 +77,9 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Mock
     private TimeoutFactory timeoutFactory;
 
+    @Captor
+    private ArgumentCaptor<Handler<Long>> periodicFetchCaptor;
+
     private PriceFloorFetcher priceFloorFetcher;
 
     @BeforeEach
@@ -82,14 +92,24 @@ public class PriceFloorFetcherTest extends VertxTest {
                 timeoutFactory,
                 httpClient,
                 debugProperties,
-                jacksonMapper);
+                jacksonMapper,
+                new PriceFloorRulesIndex(100),
+                300);
+
+        lenient().when(vertx.executeBlocking(anyCallable(), anyBoolean())).thenAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
+        });
     }
 
     @Test
     public void fetchShouldReturnPriceFloorFetchedFromProviderAndCache() {
         // given
         final Account givenAccount = givenAccount(identity());
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(),
                         jacksonMapper.encodeToString(givenPriceFloorData()))));
         // when
@@ -97,7 +117,7 @@ public class PriceFloorFetcherTest extends VertxTest {
 
         // then
         assertThat(fetchResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
-        verify(httpClient).get("http://test.host.com", 1300, 10240);
+        verify(httpClient).get(eq("http://test.host.com"), any(), eq(1300L), eq(10240L));
 
         verify(vertx).setTimer(eq(1200000L), any());
         verify(vertx).setTimer(eq(1500000L), any());
@@ -109,10 +129,46 @@ public class PriceFloorFetcherTest extends VertxTest {
 
     }
 
+    @Test
+    public void fetchShouldReuseFetchedDataWithoutParsingWhenProviderRespondsNotModified() {
+        // given
+        final Account givenAccount = givenAccount(identity());
+        given(applicationSettings.getAccountById(eq("1001"), any())).willReturn(Future.succeededFuture(givenAccount));
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap()
+                                .add(HttpHeaders.ETAG, "\"v1\"")
+                                .add(HttpHeaders.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT"),
+                        jacksonMapper.encodeToString(givenPriceFloorData()))))
+                .willReturn(Future.succeededFuture(
+                        HttpClientResponse.of(304, MultiMap.caseInsensitiveMultiMap(), null)));
+
+        priceFloorFetcher.fetch(givenAccount);
+        final PriceFloorData fetchedData = priceFloorFetcher.fetch(givenAccount).getRulesData();
+
+        verify(vertx).setTimer(eq(1200000L), periodicFetchCaptor.capture());
+
+        // when
+        periodicFetchCaptor.getValue().handle(1L);
+
+        // then
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient, times(2)).get(anyString(), headersCaptor.capture(), anyLong(), anyLong());
+        assertThat(headersCaptor.getAllValues().get(0).isEmpty()).isTrue();
+        final MultiMap conditionalHeaders = headersCaptor.getAllValues().get(1);
+        assertThat(conditionalHeaders.get(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"v1\"");
+        assertThat(conditionalHeaders.get(HttpHeaders.IF_MODIFIED_SINCE)).isEqualTo("Wed, 21 Oct 2015 07:28:00 GMT");
+
+        verify(vertx).executeBlocking(anyCallable(), eq(false));
+
+        final FetchResult fetchResult = priceFloorFetcher.fetch(givenAccount);
+        assertThat(fetchResult.getFetchStatus()).isEqualTo(FetchStatus.success);
+        assertThat(fetchResult.getRulesData()).isSameAs(fetchedData);
+    }
+
     @Test
     public void fetchShouldReturnEmptyRulesAndInProgressStatusForTheFirstInvocation() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.failedFuture(new PreBidException("failed")));
 
         // when
@@ -127,7 +183,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldReturnEmptyRulesAndInProgressStatusForTheFirstInvocationAndErrorStatusForSecond() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.failedFuture(new PreBidException("failed")));
 
         // when
@@ -146,7 +202,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldReturnEmptyRulesAndInProgressStatusForTheFirstInvocationAndTimeoutStatusForSecond() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.failedFuture(new TimeoutException("failed")));
 
         // when
@@ -165,7 +221,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldCacheResponseForTimeFromResponseCacheControlHeader() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap()
                                         .add(HttpHeaders.CACHE_CONTROL, "max-age=1700"),
@@ -181,7 +237,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldNotCacheResponseFoWithTimeFromResponseCacheControlHeaderIfLessThanMinValue() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap()
                                         .add(HttpHeaders.CACHE_CONTROL, "max-age=500"),
@@ -197,7 +253,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldNotCacheResponseFoWithTimeFromResponseCacheControlHeaderIfLessThanPeriodSec() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap()
                                         .add(HttpHeaders.CACHE_CONTROL, "max-age=900"),
@@ -213,7 +269,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldCacheResponseForTimeFromResponseCacheControlHeaderToleratingOtherHeaderData() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap()
                                         .add(HttpHeaders.CACHE_CONTROL,
@@ -231,7 +287,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     public void fetchShouldTakePrecedenceForTestingPropertyToCacheResponse() {
         // given
         debugProperties.setMinMaxAgeSec(1L);
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap()
                                         .add(HttpHeaders.CACHE_CONTROL, "max-age=700"),
@@ -249,7 +305,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     public void fetchShouldTakePrecedenceForTestingPropertyToCreatePeriodicTimer() {
         // given
         debugProperties.setMinPeriodSec(1L);
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(),
                                 jacksonMapper.encodeToString(givenPriceFloorData()))));
@@ -266,7 +322,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     public void fetchShouldTakePrecedenceForTestingPropertyToChooseRequestTimeout() {
         // given
         debugProperties.setMaxTimeoutMs(1L);
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(),
                                 jacksonMapper.encodeToString(givenPriceFloorData()))));
@@ -275,7 +331,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         priceFloorFetcher.fetch(givenAccount(identity()));
 
         // then
-        verify(httpClient).get(anyString(), eq(1L), anyLong());
+        verify(httpClient).get(anyString(), any(), eq(1L), anyLong());
     }
 
     @Test
@@ -283,7 +339,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         // given
         debugProperties.setMinTimeoutMs(1L);
         debugProperties.setMaxTimeoutMs(2L);
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(),
                                 jacksonMapper.encodeToString(givenPriceFloorData()))));
@@ -292,13 +348,13 @@ public class PriceFloorFetcherTest extends VertxTest {
         priceFloorFetcher.fetch(givenAccount(identity()));
 
         // then
-        verify(httpClient).get(anyString(), eq(1L), anyLong());
+        verify(httpClient).get(anyString(), any(), eq(1L), anyLong());
     }
 
     @Test
     public void fetchShouldSetDefaultCacheTimeWhenCacheControlHeaderCantBeParsed() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(200,
                         MultiMap.caseInsensitiveMultiMap().add(HttpHeaders.CACHE_CONTROL, "invalid"),
                         jacksonMapper.encodeToString(givenPriceFloorData()))));
@@ -361,7 +417,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldReturnEmptyRulesAndErrorStatusForSecondCallAndCreatePeriodicTimerWhenResponseIsNot200Ok() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(400, MultiMap.caseInsensitiveMultiMap(),
                         jacksonMapper.encodeToString(PriceFloorRules.builder().build()))));
 
@@ -369,7 +425,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult firstInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
 
         // then
-        verify(httpClient).get(anyString(), anyLong(), anyLong());
+        verify(httpClient).get(anyString(), any(), anyLong(), anyLong());
         assertThat(firstInvocationResult.getRulesData()).isNull();
         assertThat(firstInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
         verify(vertx).setTimer(eq(1200000L), any());
@@ -377,13 +433,14 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult secondInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
         assertThat(secondInvocationResult.getRulesData()).isNull();
         assertThat(secondInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.error);
+        verify(vertx).executeBlocking(anyCallable(), anyBoolean());
         verifyNoMoreInteractions(vertx);
     }
 
     @Test
     public void fetchShouldReturnEmptyRulesWithErrorStatusAndCreatePeriodicTimerWhenResponseHasInvalidFormat() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "{")));
 
@@ -391,7 +448,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult firstInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
 
         // then
-        verify(httpClient).get(anyString(), anyLong(), anyLong());
+        verify(httpClient).get(anyString(), any(), anyLong(), anyLong());
         assertThat(firstInvocationResult.getRulesData()).isNull();
         assertThat(firstInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
         verify(vertx).setTimer(eq(1200000L), any());
@@ -399,13 +456,14 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult secondInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
         assertThat(secondInvocationResult.getRulesData()).isNull();
         assertThat(secondInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.error);
+        verify(vertx).executeBlocking(anyCallable(), anyBoolean());
         verifyNoMoreInteractions(vertx);
     }
 
     @Test
     public void fetchShouldReturnEmptyRulesWithErrorStatusForSecondCallAndCreatePeriodicTimerWhenResponseBodyIsEmpty() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), null)));
 
@@ -413,7 +471,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult firstInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
 
         // then
-        verify(httpClient).get(anyString(), anyLong(), anyLong());
+        verify(httpClient).get(anyString(), any(), anyLong(), anyLong());
         assertThat(firstInvocationResult.getRulesData()).isNull();
         assertThat(firstInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
         verify(vertx).setTimer(eq(1200000L), any());
@@ -421,13 +479,14 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult secondInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
         assertThat(secondInvocationResult.getRulesData()).isNull();
         assertThat(secondInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.error);
+        verify(vertx).executeBlocking(anyCallable(), anyBoolean());
         verifyNoMoreInteractions(vertx);
     }
 
     @Test
     public void fetchShouldReturnEmptyRulesWithErrorStatusForSecondCallAndCreatePeriodicTimerWhenCantResolveRules() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(
                         HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), null)));
 
@@ -435,7 +494,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult firstInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
 
         // then
-        verify(httpClient).get(anyString(), anyLong(), anyLong());
+        verify(httpClient).get(anyString(), any(), anyLong(), anyLong());
         assertThat(firstInvocationResult.getRulesData()).isNull();
         assertThat(firstInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
         verify(vertx).setTimer(eq(1200000L), any());
@@ -443,6 +502,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult secondInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
         assertThat(secondInvocationResult.getRulesData()).isNull();
         assertThat(secondInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.error);
+        verify(vertx).executeBlocking(anyCallable(), anyBoolean());
         verifyNoMoreInteractions(vertx);
     }
 
@@ -450,14 +510,14 @@ public class PriceFloorFetcherTest extends VertxTest {
     public void fetchShouldNotCallPriceFloorProviderWhileFetchIsAlreadyInProgress() {
         // given
         final Promise<HttpClientResponse> fetchPromise = Promise.promise();
-        given(httpClient.get(anyString(), anyLong(), anyLong())).willReturn(fetchPromise.future());
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong())).willReturn(fetchPromise.future());
 
         // when
         priceFloorFetcher.fetch(givenAccount(identity()));
         final FetchResult secondFetch = priceFloorFetcher.fetch(givenAccount(identity()));
 
         // then
-        verify(httpClient).get(anyString(), anyLong(), anyLong());
+        verify(httpClient).get(anyString(), any(), anyLong(), anyLong());
         verifyNoMoreInteractions(httpClient);
 
         assertThat(secondFetch.getRulesData()).isNull();
@@ -475,7 +535,7 @@ public class PriceFloorFetcherTest extends VertxTest {
     @Test
     public void fetchShouldReturnNullAndCreatePeriodicTimerWhenResponseExceededRulesNumber() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(200,
                         MultiMap.caseInsensitiveMultiMap(),
                         jacksonMapper.encodeToString(PriceFloorData.builder()
@@ -489,7 +549,7 @@ public class PriceFloorFetcherTest extends VertxTest {
                 priceFloorFetcher.fetch(givenAccount(account -> account.maxRules(1L)));
 
         // then
-        verify(httpClient).get(anyString(), anyLong(), anyLong());
+        verify(httpClient).get(anyString(), any(), anyLong(), anyLong());
         assertThat(firstInvocationResult.getRulesData()).isNull();
         assertThat(firstInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
         verify(vertx).setTimer(eq(1200000L), any());
@@ -497,13 +557,14 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult secondInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
         assertThat(secondInvocationResult.getRulesData()).isNull();
         assertThat(secondInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.error);
+        verify(vertx).executeBlocking(anyCallable(), anyBoolean());
         verifyNoMoreInteractions(vertx);
     }
 
     @Test
     public void fetchShouldReturnNullAndCreatePeriodicTimerWhenResponseExceededDimensionsNumber() {
         // given
-        given(httpClient.get(anyString(), anyLong(), anyLong()))
+        given(httpClient.get(anyString(), any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(200,
                         MultiMap.caseInsensitiveMultiMap(),
                         jacksonMapper.encodeToString(PriceFloorData.builder()
@@ -517,7 +578,7 @@ public class PriceFloorFetcherTest extends VertxTest {
                 priceFloorFetcher.fetch(givenAccount(account -> account.maxSchemaDims(1L)));
 
         // then
-        verify(httpClient).get(anyString(), anyLong(), anyLong());
+        verify(httpClient).get(anyString(), any(), anyLong(), anyLong());
         assertThat(firstInvocationResult.getRulesData()).isNull();
         assertThat(firstInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
         verify(vertx).setTimer(eq(1200000L), any());
@@ -525,6 +586,7 @@ public class PriceFloorFetcherTest extends VertxTest {
         final FetchResult secondInvocationResult = priceFloorFetcher.fetch(givenAccount(identity()));
         assertThat(secondInvocationResult.getRulesData()).isNull();
         assertThat(secondInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.error);
+        verify(vertx).executeBlocking(anyCallable(), anyBoolean());
         verifyNoMoreInteractions(vertx);
     }
 
@@ -565,4 +627,8 @@ public class PriceFloorFetcherTest extends VertxTest {
                         .currency("EUR").build()))
                 .build();
     }
+
+    private static Callable<Object> anyCallable() {
+        return any();
+    }
 }
@@ -0,0 +1,50 @@
+package org.prebid.server.floors;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class PriceFloorRulesIndexTest {
+
+    private final PriceFloorRulesIndex target = new PriceFloorRulesIndex(100);
+
+    @Test
+    public void valuesShouldReturnValuesKeyedByLowerCasedRules() {
+        // given
+        final PriceFloorModelGroup modelGroup = PriceFloorModelGroup.builder()
+                .value("Banner|300x250", BigDecimal.ONE)
+                .value("VIDEO|*", BigDecimal.TEN)
+                .build();
+
+        // when
+        final Map<String, BigDecimal> result = target.values(modelGroup);
+
+        // then
+        assertThat(result).containsOnly(
+                entry("banner|300x250", BigDecimal.ONE),
+                entry("video|*", BigDecimal.TEN));
+    }
+
+    @Test
+    public void valuesShouldReuseIndexOfSameModelGroupInstance() {
+        // given
+        final PriceFloorModelGroup modelGroup = PriceFloorModelGroup.builder()
+                .value("Banner|300x250", BigDecimal.ONE)
+                .build();
+
+        // when
+        final Map<String, BigDecimal> first = target.values(modelGroup);
+        final Map<String, BigDecimal> second = target.values(modelGroup);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(target.values(PriceFloorModelGroup.builder()
+                .value("Banner|300x250", BigDecimal.ONE)
+                .build())).isNotSameAs(first);
+    }
+}
@@ -95,6 +95,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -110,9 +111,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -691,6 +695,189 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldExecuteEntrypointHooksWithSingleTimeoutTimerPerGroup(VertxTestContext context) {
+        // given
+        givenEntrypointHook("module-alpha", "hook-a", delayedHook(InvocationResultUtils.noAction(), 20));
+        givenEntrypointHook("module-alpha", "hook-b", delayedHook(InvocationResultUtils.noAction(), 20));
+        givenEntrypointHook("module-beta", "hook-a", delayedHook(InvocationResultUtils.noAction(), 20));
+        givenEntrypointHook("module-beta", "hook-b", delayedHook(InvocationResultUtils.noAction(), 20));
+
+        final Vertx executorVertx = spy(vertx);
+        final HookStageExecutor executor = HookStageExecutor.create(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.entrypoint, execPlanTwoGroupsTwoHooksEach())))),
+                null,
+                emptyMap(),
+                hookCatalog,
+                timeoutFactory,
+                executorVertx,
+                clock,
+                jacksonMapper,
+                false);
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                HookExecutionContext.of(Endpoint.openrtb2_auction));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(executorVertx, times(2)).setTimer(eq(200L), any());
+            verify(executorVertx, times(2)).cancelTimer(anyLong());
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldExecuteEntrypointHooksWithoutTimeoutTimerWhenHooksCompleteImmediately(
+            VertxTestContext context) {
+
+        // given
+        givenEntrypointHook("module-alpha", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+        givenEntrypointHook("module-alpha", "hook-b", immediateHook(InvocationResultUtils.noAction()));
+        givenEntrypointHook("module-beta", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+        givenEntrypointHook("module-beta", "hook-b", immediateHook(InvocationResultUtils.noAction()));
+
+        final Vertx executorVertx = spy(vertx);
+        final HookStageExecutor executor = HookStageExecutor.create(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.entrypoint, execPlanTwoGroupsTwoHooksEach())))),
+                null,
+                emptyMap(),
+                hookCatalog,
+                timeoutFactory,
+                executorVertx,
+                clock,
+                jacksonMapper,
+                false);
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                HookExecutionContext.of(Endpoint.openrtb2_auction));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(executorVertx, never()).setTimer(anyLong(), any());
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldExecuteParallelGroupConcurrentlyAndApplyResultsInDeclarationOrder(VertxTestContext context) {
+        // given
+        final AtomicBoolean alphaCompleted = new AtomicBoolean();
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    final Promise<InvocationResult<EntrypointPayload>> promise = Promise.promise();
+                    vertx.setTimer(50L, timerId -> {
+                        alphaCompleted.set(true);
+                        promise.complete(InvocationResultUtils.succeeded(updated -> EntrypointPayloadImpl.of(
+                                updated.queryParams(), updated.headers(), updated.body() + "-abc")));
+                    });
+                    return promise.future();
+                });
+
+        final AtomicBoolean alphaCompletedBeforeBeta = new AtomicBoolean();
+        final EntrypointHookImpl betaHook = spy(EntrypointHookImpl.of((payload, invocationContext) -> {
+            alphaCompletedBeforeBeta.set(alphaCompleted.get());
+            return Future.succeededFuture(InvocationResultUtils.succeeded(updated -> EntrypointPayloadImpl.of(
+                    updated.queryParams(), updated.headers(), updated.body() + "-def")));
+        }));
+        given(betaHook.isPayloadIndependent()).willReturn(true);
+        given(hookCatalog.hookById(eqHook("module-beta", "hook-a"), eq(StageWithHookType.ENTRYPOINT)))
+                .willReturn(betaHook);
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.entrypoint, execPlanTwoGroupsSecondParallel())))));
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                hookExecutionContext);
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(alphaCompletedBeforeBeta).isFalse();
+            assertThat(result.getPayload()).isNotNull().satisfies(payload ->
+                    assertThat(payload.body()).isEqualTo("body-abc-def"));
+
+            assertThat(hookExecutionContext.getStageOutcomes().get(Stage.entrypoint))
+                    .flatExtracting(StageExecutionOutcome::getGroups)
+                    .flatExtracting(GroupExecutionOutcome::getHooks)
+                    .extracting(HookExecutionOutcome::getHookId)
+                    .containsExactly(HookId.of("module-alpha", "hook-a"), HookId.of("module-beta", "hook-a"));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldExecuteParallelGroupSequentiallyWhenHookIsNotPayloadIndependent(VertxTestContext context) {
+        // given
+        final AtomicBoolean alphaCompleted = new AtomicBoolean();
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    final Promise<InvocationResult<EntrypointPayload>> promise = Promise.promise();
+                    vertx.setTimer(50L, timerId -> {
+                        alphaCompleted.set(true);
+                        promise.complete(InvocationResultUtils.succeeded(updated -> EntrypointPayloadImpl.of(
+                                updated.queryParams(), updated.headers(), updated.body() + "-abc")));
+                    });
+                    return promise.future();
+                });
+
+        final AtomicBoolean alphaCompletedBeforeBeta = new AtomicBoolean();
+        givenEntrypointHook(
+                "module-beta",
+                "hook-a",
+                (payload, invocationContext) -> {
+                    alphaCompletedBeforeBeta.set(alphaCompleted.get());
+                    return Future.succeededFuture(InvocationResultUtils.succeeded(updated -> EntrypointPayloadImpl.of(
+                            updated.queryParams(), updated.headers(), updated.body() + "-def")));
+                });
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.entrypoint, execPlanTwoGroupsSecondParallel())))));
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                HookExecutionContext.of(Endpoint.openrtb2_auction));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(alphaCompletedBeforeBeta).isTrue();
+            assertThat(result.getPayload()).isNotNull().satisfies(payload ->
+                    assertThat(payload.body()).isEqualTo("body-abc-def"));
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldExecuteEntrypointHooksHonoringStatusAndAction(VertxTestContext context) {
         // given
@@ -3252,6 +3439,126 @@ public class HookStageExecutorTest extends VertxTest {
                 ABTest.builder().enabled(true).build());
     }
 
+    @Test
+    public void shouldCompileAccountExecutionPlanOncePerAccount(VertxTestContext context) {
+        // given
+        givenRawAuctionRequestHook("module-alpha", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+        givenProcessedAuctionRequestHook("module-alpha", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+
+        final String hostPlan = executionPlan(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(Map.of(
+                        Stage.raw_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a"),
+                        Stage.processed_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a")))));
+        final HookStageExecutor executor = spy(createExecutor(hostPlan));
+
+        final Account account = Account.empty("accountId");
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(account)
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(auctionContext)
+                .compose(ignored -> executor.executeProcessedAuctionRequestStage(auctionContext));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(executor).abTests(same(account));
+
+            assertThat(auctionContext.getHookExecutionContext().getStageOutcomes())
+                    .containsOnlyKeys(Stage.raw_auction_request, Stage.processed_auction_request);
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldReuseCompiledAccountExecutionPlanForAccountsSharingHooksConfig(VertxTestContext context) {
+        // given
+        givenRawAuctionRequestHook("module-alpha", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+        givenProcessedAuctionRequestHook("module-alpha", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+
+        final String hostPlan = executionPlan(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(Map.of(
+                        Stage.raw_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a"),
+                        Stage.processed_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a")))));
+        final HookStageExecutor executor = spy(createExecutor(hostPlan));
+
+        final Account account = givenAccountWithModuleConfig();
+        final Account accountCopy = account.toBuilder().build();
+        final AuctionContext auctionContext = givenAuctionContextForAccount(account);
+        final AuctionContext otherAuctionContext = givenAuctionContextForAccount(accountCopy);
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(auctionContext)
+                .compose(ignored -> executor.executeProcessedAuctionRequestStage(otherAuctionContext));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(accountCopy).isNotSameAs(account);
+            verify(executor).abTests(any());
+
+            assertThat(otherAuctionContext.getHookExecutionContext().getStageOutcomes())
+                    .containsOnlyKeys(Stage.processed_auction_request);
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldCompileAccountExecutionPlanForEachHooksConfigInstance(VertxTestContext context) {
+        // given
+        givenRawAuctionRequestHook("module-alpha", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+        givenProcessedAuctionRequestHook("module-alpha", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+
+        final String hostPlan = executionPlan(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(Map.of(
+                        Stage.raw_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a"),
+                        Stage.processed_auction_request, execPlanOneGroupOneHook("module-alpha", "hook-a")))));
+        final HookStageExecutor executor = spy(createExecutor(hostPlan));
+
+        final AuctionContext auctionContext = givenAuctionContextForAccount(givenAccountWithModuleConfig());
+        final AuctionContext otherAuctionContext = givenAuctionContextForAccount(givenAccountWithModuleConfig());
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(auctionContext)
+                .compose(ignored -> executor.executeProcessedAuctionRequestStage(otherAuctionContext));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(executor, times(2)).abTests(any());
+
+            context.completeNow();
+        }));
+    }
+
+    private static Account givenAccountWithModuleConfig() {
+        return Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(
+                        null,
+                        singletonMap("module-alpha", mapper.createObjectNode().put("enabled", true)),
+                        null))
+                .build();
+    }
+
+    private static AuctionContext givenAuctionContextForAccount(Account account) {
+        return AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(account)
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+    }
+
     private String executionPlan(Map<Endpoint, EndpointExecutionPlan> endpoints) {
         return jacksonMapper.encodeToString(ExecutionPlan.of(null, endpoints));
     }
@@ -3274,6 +3581,12 @@ public class HookStageExecutorTest extends VertxTest {
                                 HookId.of("module-alpha", "hook-b")))));
     }
 
+    private static StageExecutionPlan execPlanTwoGroupsSecondParallel() {
+        return StageExecutionPlan.of(asList(
+                ExecutionGroup.of(200L, singletonList(HookId.of("module-alpha", "hook-a"))),
+                ExecutionGroup.of(200L, singletonList(HookId.of("module-beta", "hook-a")), true)));
+    }
+
     private StageExecutionPlan execPlanOneGroupOneHook(String moduleCode, String hookImplCode) {
         return StageExecutionPlan.of(singletonList(
                 ExecutionGroup.of(
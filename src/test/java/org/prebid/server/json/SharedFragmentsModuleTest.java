@@ -0,0 +1,148 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedFragmentsModuleTest {
+
+    private final JacksonMapper target = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    @Test
+    public void encodeToBytesShouldProduceSameBytesAsPlainSerialization() throws IOException {
+        // given
+        final BidRequest bidRequest = givenBidRequest("imp", givenSite(TextNode.valueOf("<value> & \"ü\"")));
+
+        final SharedFragments sharedFragments = new SharedFragments();
+
+        // when
+        final byte[] first = target.withSharedFragments(sharedFragments, () -> target.encodeToBytes(bidRequest));
+        final byte[] second = target.withSharedFragments(sharedFragments, () -> target.encodeToBytes(bidRequest));
+
+        // then
+        final byte[] expected = ObjectMapperProvider.mapper().writeValueAsBytes(bidRequest);
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+    }
+
+    @Test
+    public void encodeToBytesShouldSerializeSharedObjectOnceForAllRequests() {
+        // given
+        final CountingValue countingValue = new CountingValue();
+        final Site site = givenSite(new POJONode(countingValue));
+        final SharedFragments sharedFragments = new SharedFragments();
+
+        // when
+        final byte[] first = target.withSharedFragments(
+                sharedFragments, () -> target.encodeToBytes(givenBidRequest("imp1", site)));
+        final byte[] second = target.withSharedFragments(
+                sharedFragments, () -> target.encodeToBytes(givenBidRequest("imp2", site)));
+
+        // then
+        assertThat(countingValue.serializations).isEqualTo(1);
+        assertThat(new String(first)).contains("\"imp1\"", "\"counted\":1");
+        assertThat(new String(second)).contains("\"imp2\"", "\"counted\":1");
+    }
+
+    @Test
+    public void encodeToBytesShouldSerializeEqualButNotSameObjectsSeparately() {
+        // given
+        final CountingValue countingValue = new CountingValue();
+        final SharedFragments sharedFragments = new SharedFragments();
+
+        // when
+        target.withSharedFragments(sharedFragments,
+                () -> target.encodeToBytes(givenBidRequest("imp1", givenSite(new POJONode(countingValue)))));
+        target.withSharedFragments(sharedFragments,
+                () -> target.encodeToBytes(givenBidRequest("imp2", givenSite(new POJONode(countingValue)))));
+
+        // then
+        assertThat(countingValue.serializations).isEqualTo(2);
+    }
+
+    @Test
+    public void encodeToBytesShouldNotShareFragmentsBetweenScopes() {
+        // given
+        final CountingValue countingValue = new CountingValue();
+        final Site site = givenSite(new POJONode(countingValue));
+
+        // when
+        target.withSharedFragments(new SharedFragments(), () -> target.encodeToBytes(givenBidRequest("imp1", site)));
+        target.withSharedFragments(new SharedFragments(), () -> target.encodeToBytes(givenBidRequest("imp2", site)));
+        target.encodeToBytes(givenBidRequest("imp3", site));
+
+        // then
+        assertThat(countingValue.serializations).isEqualTo(3);
+    }
+
+    @Test
+    public void encodeToStringShouldNotUseSharedFragments() {
+        // given
+        final CountingValue countingValue = new CountingValue();
+        final Site site = givenSite(new POJONode(countingValue));
+
+        // when
+        target.encodeToString(givenBidRequest("imp1", site));
+        target.encodeToString(givenBidRequest("imp2", site));
+
+        // then
+        assertThat(countingValue.serializations).isEqualTo(2);
+    }
+
+    private static BidRequest givenBidRequest(String impId, Site site) {
+        return BidRequest.builder()
+                .id("id")
+                .imp(List.of(Imp.builder().id(impId).bidfloor(BigDecimal.valueOf(0.00001)).build()))
+                .site(site)
+                .device(Device.builder().ua("ua").build())
+                .build();
+    }
+
+    private static Site givenSite(JsonNode value) {
+        final ExtSite extSite = ExtSite.of(0, null);
+        extSite.addProperty("value", value);
+        return Site.builder()
+                .page("page")
+                .publisher(Publisher.builder().id("publisher").build())
+                .ext(extSite)
+                .build();
+    }
+
+    private static class CountingValue implements JsonSerializable {
+
+        private int serializations;
+
+        @Override
+        public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+            serializations++;
+            generator.writeStartObject();
+            generator.writeNumberField("counted", serializations);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator generator,
+                                      SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            serialize(generator, provider);
+        }
+    }
+}
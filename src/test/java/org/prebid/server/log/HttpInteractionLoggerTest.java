@@ -1,9 +1,12 @@
 package org.prebid.server.log;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,21 +16,32 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.UnaryOperator;
 
 import static java.util.Collections.singletonList;
 import static java.util.function.UnaryOperator.identity;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -40,13 +54,20 @@ public class HttpInteractionLoggerTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest serverRequest;
+    @Mock(strictness = LENIENT)
+    private RequestBody requestBody;
+    @Mock
+    private Metrics metrics;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
 
     private HttpInteractionLogger target;
 
     @BeforeEach
     public void setUp() {
-        target = new HttpInteractionLogger(jacksonMapper);
-        given(routingContext.getBodyAsString()).willReturn("{}");
+        target = new HttpInteractionLogger(jacksonMapper, metrics, clock, 0, Runnable::run);
+        given(routingContext.body()).willReturn(requestBody);
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{}"));
         given(routingContext.request()).willReturn(serverRequest);
         given(serverRequest.uri()).willReturn("example.com");
         ReflectionTestUtils.setField(target, "logger", logger);
@@ -150,10 +171,10 @@ public class HttpInteractionLoggerTest extends VertxTest {
     @Test
     public void maybeLogOpenrtb2AuctionShouldLogOneLineBodyFromContext() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("""
+        given(requestBody.buffer()).willReturn(Buffer.buffer("""
                 {
                   "param": "value"
-                }""");
+                }"""));
         final AuctionContext givenAuctionContext =
                 givenAuctionContext(accountBuilder -> accountBuilder.id("123"));
         final HttpLogSpec givenSpec = HttpLogSpec.of(null, null, "123", null, 1);
@@ -169,7 +190,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
     @Test
     public void maybeLogOpenrtb2AuctionShouldLogMessageInsteadOfInvalidBody() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("{");
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{"));
         final AuctionContext givenAuctionContext =
                 givenAuctionContext(accountBuilder -> accountBuilder.id("123"));
         final HttpLogSpec givenSpec = HttpLogSpec.of(null, null, "123", null, 1);
@@ -458,6 +479,115 @@ public class HttpInteractionLoggerTest extends VertxTest {
         verify(logger).info(anyString(), anyString(), anyString());
     }
 
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldWriteLogOffCallingThread() {
+        // given
+        final List<Runnable> writings = new ArrayList<>();
+        target = new HttpInteractionLogger(jacksonMapper, metrics, clock, 0, writings::add);
+        ReflectionTestUtils.setField(target, "logger", logger);
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1));
+
+        // when
+        target.maybeLogOpenrtb2Auction(givenAuctionContext(identity()), routingContext, 200, "responseBody");
+
+        // then
+        verifyNoInteractions(logger);
+        assertThat(writings).hasSize(1);
+
+        writings.getFirst().run();
+        verify(logger).info(anyString(), eq("example.com"), eq("{}"), eq(200), eq("responseBody"));
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldCountDroppedInteractionWhenQueueIsFull() {
+        // given
+        target = new HttpInteractionLogger(jacksonMapper, metrics, clock, 0, runnable -> {
+            throw new RejectedExecutionException();
+        });
+        ReflectionTestUtils.setField(target, "logger", logger);
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1));
+
+        // when
+        target.maybeLogOpenrtb2Auction(givenAuctionContext(identity()), routingContext, 200, null);
+
+        // then
+        verifyNoInteractions(logger);
+        verify(metrics).updateHttpInteractionLogDroppedMetric();
+    }
+
+    @Test
+    public void maybeLogBidderRequestShouldSerializeBidRequestOffCallingThread() {
+        // given
+        final JacksonMapper jacksonMapperSpy = spy(jacksonMapper);
+        final List<Runnable> writings = new ArrayList<>();
+        target = new HttpInteractionLogger(jacksonMapperSpy, metrics, clock, 0, writings::add);
+        ReflectionTestUtils.setField(target, "logger", logger);
+        target.setSpec(HttpLogSpec.of(null, null, null, "bidderName", 1));
+
+        final ObjectNode impExt = mapper.createObjectNode().put("bidder", "value");
+        final BidderRequest givenBidderRequest = givenBidderRequest(
+                bidRequestBuilder -> bidRequestBuilder.imp(singletonList(Imp.builder().ext(impExt).build())));
+
+        // when
+        target.maybeLogBidderRequest(givenAuctionContext(identity()), givenBidderRequest);
+
+        // then
+        verifyNoInteractions(jacksonMapperSpy, logger);
+
+        writings.getFirst().run();
+        verify(logger).info(anyString(), eq("bidderName"), eq("{\"imp\":[{\"ext\":{\"bidderName\":\"value\"}}]}"));
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldFormatRequestBodyOffCallingThread() {
+        // given
+        final JacksonMapper jacksonMapperSpy = spy(jacksonMapper);
+        final List<Runnable> writings = new ArrayList<>();
+        target = new HttpInteractionLogger(jacksonMapperSpy, metrics, clock, 0, writings::add);
+        ReflectionTestUtils.setField(target, "logger", logger);
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1));
+
+        // when
+        target.maybeLogOpenrtb2Auction(givenAuctionContext(identity()), routingContext, 200, "responseBody");
+
+        // then
+        verifyNoInteractions(jacksonMapperSpy);
+
+        writings.getFirst().run();
+        verify(jacksonMapperSpy).mapper();
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldCountDroppedInteractionWhenWritingFailed() {
+        // given
+        target.setSpec(HttpLogSpec.of(null, null, null, null, 1));
+        willThrow(new IllegalStateException("failed"))
+                .given(logger).info(anyString(), any(), any(), any(), any());
+
+        // when
+        target.maybeLogOpenrtb2Auction(givenAuctionContext(identity()), routingContext, 200, "responseBody");
+
+        // then
+        verify(metrics).updateHttpInteractionLogDroppedMetric();
+    }
+
+    @Test
+    public void maybeLogBidderRequestShouldLimitLogRatePerBidder() {
+        // given
+        target = new HttpInteractionLogger(jacksonMapper, metrics, clock, 1, Runnable::run);
+        ReflectionTestUtils.setField(target, "logger", logger);
+        final AuctionContext givenAuctionContext = givenAuctionContext(identity());
+        final BidderRequest givenBidderRequest = givenBidderRequest(identity());
+        target.setSpec(HttpLogSpec.of(null, null, null, "bidderName", 10));
+
+        // when
+        target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+
+        // then
+        verify(logger).info(anyString(), anyString(), anyString());
+    }
+
     private static AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountBuilderCustomizer) {
         final Account account = accountBuilderCustomizer.apply(Account.builder()).build();
 
@@ -0,0 +1,173 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+public class LogLinearReservoirTest {
+
+    private TestClock clock;
+
+    private LogLinearReservoir target;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new TestClock();
+        target = new LogLinearReservoir(1000L, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveInterval() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LogLinearReservoir(0L, clock));
+    }
+
+    @Test
+    public void getSnapshotShouldReturnZerosWhenNothingIsRecorded() {
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.getMin()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.get99thPercentile()).isZero();
+    }
+
+    @Test
+    public void getSnapshotShouldReturnExactValuesForSmallValues() {
+        // given
+        target.update(1L);
+        target.update(2L);
+        target.update(3L);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.getValues()).containsExactly(1L, 2L, 3L);
+        assertThat(snapshot.getMedian()).isEqualTo(2.0);
+        assertThat(snapshot.getMean()).isEqualTo(2.0);
+        assertThat(snapshot.getStdDev()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnAccurateTailPercentiles() {
+        // given
+        for (long value = 1; value <= 100_000; value++) {
+            target.update(TimeUnit.MICROSECONDS.toNanos(value));
+        }
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(100_000);
+        assertThat(snapshot.getMin()).isEqualTo(1_000L);
+        assertThat(snapshot.getMax()).isEqualTo(100_000_000L);
+        assertThat(snapshot.getMedian()).isCloseTo(50_000_000.0, within(50_000_000 * 0.016));
+        assertThat(snapshot.get99thPercentile()).isCloseTo(99_000_000.0, within(99_000_000 * 0.016));
+        assertThat(snapshot.get999thPercentile()).isCloseTo(99_900_000.0, within(99_900_000 * 0.016));
+        assertThat(snapshot.getMean()).isCloseTo(50_000_500.0, within(50_000_500 * 0.016));
+    }
+
+    @Test
+    public void updateShouldCountNegativeAndHugeValuesInEdgeBuckets() {
+        // given
+        target.update(-5L);
+        target.update(Long.MAX_VALUE);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.getMin()).isZero();
+        assertThat(snapshot.getMax()).isEqualTo(Long.MAX_VALUE);
+        assertThat(snapshot.getValue(0.0)).isZero();
+        assertThat(snapshot.getValue(1.0)).isGreaterThan(TimeUnit.MINUTES.toNanos(18));
+    }
+
+    @Test
+    public void getSnapshotShouldCoverCurrentAndPreviousIntervals() {
+        // given
+        target.update(10L);
+        clock.advance(1000L);
+        target.update(20L);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.getValues()).containsExactly(10L, 20L);
+
+        clock.advance(1000L);
+        assertThat(target.getSnapshot().getValues()).containsExactly(20L);
+
+        clock.advance(2000L);
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    public void getSnapshotShouldNotResetRecordedValues() {
+        // given
+        target.update(10L);
+
+        // when
+        target.getSnapshot();
+
+        // then
+        assertThat(target.getSnapshot().getValues()).containsExactly(10L);
+    }
+
+    @Test
+    public void updateShouldNotLoseValuesRecordedConcurrently() throws InterruptedException {
+        // given
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (long value = 0; value < 10_000; value++) {
+                    target.update(value);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        final Snapshot snapshot = target.getSnapshot();
+        assertThat(snapshot.size()).isEqualTo(40_000);
+        assertThat(snapshot.getMax()).isEqualTo(9_999L);
+    }
+
+    @Test
+    public void getValueShouldFailOnInvalidQuantile() {
+        assertThatIllegalArgumentException().isThrownBy(() -> target.getSnapshot().getValue(1.5));
+    }
+
+    private static class TestClock extends Clock {
+
+        private long tick;
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+
+        void advance(long millis) {
+            tick += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.validation.model.ValidationStage;
 
 import java.util.Collections;
 import java.util.EnumMap;
@@ -539,6 +540,22 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("account.accountId.adapter.conversant.request_time").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterRequestBuildMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterRequestBuildMetrics(RUBICON, 1000L, 2_000_000L);
+        metrics.updateAdapterRequestBuildMetrics(CONVERSANT, 500L, 1_000_000L);
+        metrics.updateAdapterRequestBuildMetrics(CONVERSANT, 700L, 1_000_000L);
+
+        // then
+        assertThat(metricRegistry.histogram("adapter.rubicon.request_size").getSnapshot().getValues())
+                .containsOnly(1000L);
+        assertThat(metricRegistry.timer("adapter.rubicon.request_build_time").getSnapshot().getValues())
+                .containsOnly(2_000_000L);
+        assertThat(metricRegistry.histogram("adapter.conversant.request_size").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer("adapter.conversant.request_build_time").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateAdapterRequestBuyerUidScrubbedMetricsShouldIncrementMetrics() {
         // when
@@ -1285,6 +1302,71 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateDatabasePoolWaitTimeMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateDatabasePoolWaitTimeMetric(5L);
+
+        // then
+        assertThat(metricRegistry.histogram("db_pool_wait_time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updatePrometheusScrapeTimeMetricShouldUpdateTimer() {
+        // when
+        metrics.updatePrometheusScrapeTimeMetric(5L);
+
+        // then
+        assertThat(metricRegistry.timer("prometheus_scrape_time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void createPrometheusSeriesGaugeShouldCreateGauge() {
+        // when
+        metrics.createPrometheusSeriesGauge(() -> 7L);
+
+        // then
+        assertThat(metricRegistry.gauge("prometheus_series").getValue()).isEqualTo(7L);
+    }
+
+    @Test
+    public void updateSettingsBatchSizeMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateSettingsBatchSizeMetric(MetricName.stored_request, 7);
+
+        // then
+        assertThat(metricRegistry.histogram("settings.cache.stored-request.batch_size").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateCacheBatchSizeMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateCacheBatchSizeMetric(12);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.batch_size").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateCacheBatchWaitTimeMetricShouldUpdateTimer() {
+        // when
+        metrics.updateCacheBatchWaitTimeMetric(3L);
+
+        // then
+        assertThat(metricRegistry.timer("prebid_cache.batch_wait_time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateSkippedValidationsMetricShouldIncrementMetricByCount() {
+        // when
+        metrics.updateSkippedValidationsMetric(ValidationStage.imp_override, 3);
+        metrics.updateSkippedValidationsMetric(ValidationStage.request, 0);
+
+        // then
+        assertThat(metricRegistry.counter("validation.imp_override.skipped").getCount()).isEqualTo(3);
+        assertThat(metricRegistry.getCounters()).doesNotContainKey("validation.request.skipped");
+    }
+
     @Test
     public void updateHooksMetricsShouldIncrementMetrics() {
         // when
@@ -1556,6 +1638,7 @@ public class MetricsTest {
         counterTypeClasses.put(CounterType.counter, Counter.class);
         counterTypeClasses.put(CounterType.flushingCounter, ResettingCounter.class);
         counterTypeClasses.put(CounterType.meter, Meter.class);
+        counterTypeClasses.put(CounterType.shardedCounter, ShardedCounter.class);
 
         final SoftAssertions softly = new SoftAssertions();
 
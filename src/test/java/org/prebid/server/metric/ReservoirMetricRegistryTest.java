@@ -0,0 +1,36 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReservoirMetricRegistryTest {
+
+    @Test
+    public void createShouldReturnDefaultRegistryForExponentiallyDecayingType() {
+        // when
+        final MetricRegistry registry = ReservoirMetricRegistry.create(ReservoirType.exponentiallyDecaying, 1000L);
+
+        // then
+        assertThat(registry).isNotInstanceOf(ReservoirMetricRegistry.class);
+    }
+
+    @Test
+    public void timerAndHistogramShouldUseReservoirOfGivenType() {
+        // given
+        final MetricRegistry registry = ReservoirMetricRegistry.create(ReservoirType.logLinear, 1000L);
+
+        // when
+        registry.timer("timer").update(5, TimeUnit.NANOSECONDS);
+        registry.histogram("histogram").update(7L);
+
+        // then
+        assertThat(registry.timer("timer").getSnapshot().getValues()).containsExactly(5L);
+        assertThat(registry.histogram("histogram").getSnapshot().getValues()).containsExactly(7L);
+        assertThat(registry.getTimers()).containsOnlyKeys("timer");
+        assertThat(registry.getHistograms()).containsOnlyKeys("histogram");
+    }
+}
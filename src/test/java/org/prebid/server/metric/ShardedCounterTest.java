@@ -0,0 +1,100 @@
+package org.prebid.server.metric;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ShardedCounterTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void getCountShouldSumUpIncrementsOfAllEventLoopsAndOtherThreads() throws Exception {
+        // given
+        final ShardedCounter counter = new ShardedCounter();
+        final ShardedCounter otherCounter = new ShardedCounter();
+
+        // when
+        final List<Future<Void>> increments = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            increments.add(incrementOnEventLoop(counter, 10_000));
+        }
+        counter.inc(5);
+        otherCounter.inc();
+
+        Future.all(increments).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(counter.getCount()).isEqualTo(80_005L);
+        assertThat(otherCounter.getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void decShouldDecrementCount() {
+        // given
+        final ShardedCounter counter = new ShardedCounter();
+        counter.inc(3);
+
+        // when
+        counter.dec();
+        counter.dec(2);
+
+        // then
+        assertThat(counter.getCount()).isZero();
+    }
+
+    @Test
+    public void getCountShouldKeepIncrementsOfStoppedEventLoops() throws Exception {
+        // given
+        final ShardedCounter counter = new ShardedCounter();
+        final Vertx otherVertx = Vertx.vertx();
+        incrementOnEventLoop(otherVertx, counter, 100).toCompletionStage().toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        // when
+        otherVertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        incrementOnEventLoop(counter, 10).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(counter.getCount()).isEqualTo(110L);
+    }
+
+    private Future<Void> incrementOnEventLoop(ShardedCounter counter, int times) {
+        return incrementOnEventLoop(vertx, counter, times);
+    }
+
+    private static Future<Void> incrementOnEventLoop(Vertx vertx, ShardedCounter counter, int times) {
+        final Promise<Void> promise = Promise.promise();
+        vertx.getOrCreateContext().runOnContext(ignored -> {
+            for (int i = 0; i < times; i++) {
+                counter.inc();
+            }
+            promise.complete();
+        });
+
+        return promise.future();
+    }
+}
@@ -0,0 +1,230 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import io.prometheus.client.dropwizard.samplebuilder.DefaultSampleBuilder;
+import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
+import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PrometheusExpositionTest {
+
+    private final Clock clock = mock(Clock.class);
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+        metricRegistry.counter("requests.ok.openrtb2-web").inc(3);
+        metricRegistry.meter("imps_requested").mark(2);
+        metricRegistry.timer("request_time").update(15, TimeUnit.MILLISECONDS);
+        metricRegistry.histogram("db_pool_wait_time").update(7);
+        metricRegistry.gauge("circuit-breaker.db.opened", () -> () -> 1);
+        metricRegistry.gauge("currency-rates.stale", () -> () -> true);
+        metricRegistry.gauge("unsupported", () -> () -> "value");
+        metricRegistry.counter("account.accountId.requests").inc(5);
+        metricRegistry.timer("account.accountId.adapter.bidder.request_time").update(3, TimeUnit.MILLISECONDS);
+        metricRegistry.counter("account.accountId.adapter.bidder.requests.gotbids").inc();
+        metricRegistry.counter("account.otherId.adapter.bidder.requests.gotbids").inc(2);
+    }
+
+    @Test
+    public void writeShouldProduceSameFamiliesAsDropwizardExports() throws IOException {
+        // given
+        final SampleBuilder sampleBuilder = new NamespaceSubsystemSampleBuilder("namespace", "subsystem", emptyList());
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, sampleBuilder, 0, 0L, clock);
+
+        // when
+        final String result = write(target);
+
+        // then
+        assertThat(families(result)).isEqualTo(families(writeWithDropwizardExports(sampleBuilder)));
+    }
+
+    @Test
+    public void writeShouldProduceSameFamiliesAsDropwizardExportsWithCustomLabels() throws IOException {
+        // given
+        final SampleBuilder sampleBuilder = new NamespaceSubsystemSampleBuilder("namespace", null, List.of(
+                new MapperConfig("account.*.adapter.*.request_time", "account.request_time",
+                        Map.of("account", "${0}", "adapter", "${1}")),
+                new MapperConfig("account.*.adapter.*.requests.*", "account.requests.responses",
+                        Map.of("account", "${0}", "adapter", "${1}", "response", "${2}"))));
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, sampleBuilder, 0, 0L, clock);
+
+        // when
+        final String result = write(target);
+
+        // then
+        assertThat(families(result)).isEqualTo(families(writeWithDropwizardExports(sampleBuilder)));
+        assertThat(result)
+                .contains("namespace_account_requests_responses{")
+                .contains("account=\"otherId\",")
+                .contains("response=\"gotbids\",");
+    }
+
+    @Test
+    public void writeShouldReuseSeriesUntilRegistryIsChanged() {
+        // given
+        final SampleBuilder sampleBuilder = spy(new DefaultSampleBuilder());
+        final PrometheusExposition target = new PrometheusExposition(metricRegistry, sampleBuilder, 0, 0L, clock);
+        write(target);
+
+        // when
+        metricRegistry.counter("requests.ok.openrtb2-web").inc();
+        final String result = write(target);
+
+        // then
+        verify(sampleBuilder, times(28)).createSample(anyString(), anyString(), anyList(), anyList(), anyDouble());
+        assertThat(result).contains("requests_ok_openrtb2_web 4.0\n");
+        assertThat(target.getSeriesCount()).isEqualTo(28);
+
+        metricRegistry.counter("new_counter").inc();
+        assertThat(write(target)).contains("new_counter 1.0\n");
+        assertThat(target.getSeriesCount()).isEqualTo(29);
+    }
+
+    @Test
+    public void writeShouldSumUpMetricsOfAccountsOutOfTopUnderOtherAccount() {
+        // given
+        metricRegistry.counter("account.otherId.requests").inc(2);
+        metricRegistry.counter("account.thirdId.requests").inc(1);
+        metricRegistry.counter("account.thirdId.adapter.bidder.requests.gotbids").inc(4);
+        final PrometheusExposition target = new PrometheusExposition(
+                metricRegistry, new DefaultSampleBuilder(), 1, 0L, clock);
+
+        // when
+        final String result = write(target);
+
+        // then
+        assertThat(result)
+                .contains("account_accountId_requests 5.0\n")
+                .contains("account_other_requests 3.0\n")
+                .contains("account_accountId_adapter_bidder_requests_gotbids 1.0\n")
+                .contains("account_other_adapter_bidder_requests_gotbids 6.0\n")
+                .contains("account_accountId_adapter_bidder_request_time{quantile=\"0.99\",}")
+                .doesNotContain("account_otherId")
+                .doesNotContain("account_thirdId");
+    }
+
+    @Test
+    public void writeShouldKeepAccountsAssignmentWhenRankingIsDisabled() {
+        // given
+        metricRegistry.counter("account.otherId.requests").inc(2);
+        final PrometheusExposition target = new PrometheusExposition(
+                metricRegistry, new DefaultSampleBuilder(), 1, 0L, clock);
+        final String firstResult = write(target);
+
+        metricRegistry.counter("account.otherId.requests").inc(100);
+        metricRegistry.counter("account.newId.requests").inc(200);
+
+        // when
+        final String secondResult = write(target);
+
+        // then
+        assertThat(firstResult)
+                .contains("account_accountId_requests 5.0\n")
+                .contains("account_other_requests 2.0\n");
+
+        assertThat(secondResult)
+                .contains("account_accountId_requests 5.0\n")
+                .contains("account_other_requests 302.0\n")
+                .contains("account_other_adapter_bidder_requests_gotbids 2.0\n")
+                .doesNotContain("account_otherId")
+                .doesNotContain("account_newId");
+    }
+
+    @Test
+    public void writeShouldRankAccountsAgainWhenRankIntervalPassed() {
+        // given
+        metricRegistry.counter("account.otherId.requests").inc(2);
+        final PrometheusExposition target = new PrometheusExposition(
+                metricRegistry, new DefaultSampleBuilder(), 1, 1000L, clock);
+        given(clock.millis()).willReturn(0L);
+        final String firstResult = write(target);
+
+        metricRegistry.counter("account.otherId.requests").inc(100);
+        given(clock.millis()).willReturn(999L);
+        final String secondResult = write(target);
+
+        given(clock.millis()).willReturn(1000L);
+
+        // when
+        final String thirdResult = write(target);
+
+        // then
+        assertThat(firstResult)
+                .contains("account_accountId_requests 5.0\n")
+                .contains("account_other_requests 2.0\n");
+
+        assertThat(secondResult)
+                .contains("account_accountId_requests 5.0\n")
+                .contains("account_other_requests 102.0\n");
+
+        assertThat(thirdResult)
+                .contains("account_otherId_requests 102.0\n")
+                .contains("account_other_requests 5.0\n")
+                .doesNotContain("account_accountId");
+    }
+
+    @Test
+    public void writeShouldPassOutputOnInChunks() {
+        // given
+        for (int i = 0; i < 2000; i++) {
+            metricRegistry.counter("adapter.bidder%d.requests.gotbids".formatted(i)).inc();
+        }
+        final PrometheusExposition target = new PrometheusExposition(
+                metricRegistry, new DefaultSampleBuilder(), 0, 0L, clock);
+        final List<Buffer> chunks = new ArrayList<>();
+
+        // when
+        target.write(chunks::add);
+
+        // then
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks.stream().map(Buffer::toString).collect(Collectors.joining())).isEqualTo(write(target));
+    }
+
+    private static String write(PrometheusExposition exposition) {
+        final Buffer result = Buffer.buffer();
+        exposition.write(result::appendBuffer);
+        return result.toString();
+    }
+
+    private String writeWithDropwizardExports(SampleBuilder sampleBuilder) throws IOException {
+        final StringWriter writer = new StringWriter();
+        TextFormat.write004(writer,
+                Collections.enumeration(new DropwizardExports(metricRegistry, sampleBuilder).collect()));
+        return writer.toString();
+    }
+
+    private static Set<String> families(String exposition) {
+        return Arrays.stream(exposition.split("(?=# HELP )")).collect(Collectors.toSet());
+    }
+}
@@ -15,12 +15,14 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.emptyList;
@@ -30,6 +32,7 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -85,6 +88,65 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(delegateSettings);
     }
 
+    @Test
+    public void getAccountByIdShouldReturnRestoredAccountAndVerifyItOnce() {
+        // given
+        final Account restoredAccount = Account.empty("accountId");
+        final Account account = Account.builder().id("accountId").build();
+        target.restoreAccount("accountId", restoredAccount);
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(account));
+
+        // when
+        final Future<Account> first = target.getAccountById("accountId", timeout);
+        final Future<Account> second = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(first.result()).isSameAs(restoredAccount);
+        assertThat(second.result()).isSameAs(account);
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verifyNoMoreInteractions(delegateSettings);
+    }
+
+    @Test
+    public void getAccountByIdShouldRetryVerificationOfRestoredAccountIfOriginalSourceFailed() {
+        // given
+        final Account restoredAccount = Account.empty("accountId");
+        final Account account = Account.builder().id("accountId").build();
+        target.restoreAccount("accountId", restoredAccount);
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.failedFuture(new TimeoutException("timeout")))
+                .willReturn(Future.succeededFuture(account));
+
+        // when
+        final Future<Account> first = target.getAccountById("accountId", timeout);
+        final Future<Account> second = target.getAccountById("accountId", timeout);
+        final Future<Account> third = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(first.result()).isSameAs(restoredAccount);
+        assertThat(second.result()).isSameAs(restoredAccount);
+        assertThat(third.result()).isSameAs(account);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verifyNoMoreInteractions(delegateSettings);
+    }
+
+    @Test
+    public void getAccountByIdShouldEvictRestoredAccountIfOriginalSourceDoesNotHaveIt() {
+        // given
+        target.restoreAccount("accountId", Account.empty("accountId"));
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.failedFuture(new PreBidException("not found")));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(PreBidException.class).hasMessage("not found");
+    }
+
     @Test
     public void getAccountByIdShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -349,6 +411,66 @@ public class CachingApplicationSettingsTest {
                 .hasMessage("timeout");
     }
 
+    @Test
+    public void getStoredDataShouldReturnRestoredStoredDataAndVerifyItOnce() {
+        // given
+        final SettingsCache cache = new SettingsCache(360, 100, 0);
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                cache,
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0);
+        cache.restoreRequestCache("reqid", singleton(StoredItem.of(null, "restoredReq")));
+        cache.restoreImpCache("impid", singleton(StoredItem.of(null, "restoredImp")));
+        given(delegateSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("reqid", "req"), emptyMap(), emptyList())));
+
+        // when
+        final Future<StoredDataResult> first =
+                target.getStoredData(null, singleton("reqid"), singleton("impid"), timeout);
+        final Future<StoredDataResult> second =
+                target.getStoredData(null, singleton("reqid"), emptySet(), timeout);
+
+        // then
+        assertThat(first.result().getStoredIdToRequest()).containsOnly(entry("reqid", "restoredReq"));
+        assertThat(first.result().getStoredIdToImp()).containsOnly(entry("impid", "restoredImp"));
+        assertThat(second.result().getStoredIdToRequest()).containsOnly(entry("reqid", "req"));
+        assertThat(cache.getImpCache()).isEmpty();
+        verify(delegateSettings).getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), same(timeout));
+        verifyNoMoreInteractions(delegateSettings);
+    }
+
+    @Test
+    public void getStoredDataShouldEvictOnlyRestoredStoredItemsOfAccountAbsentInOriginalSource() {
+        // given
+        final SettingsCache cache = new SettingsCache(360, 100, 0);
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                cache,
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0);
+        cache.restoreRequestCache("reqid", Set.of(StoredItem.of("1001", "req1"), StoredItem.of("1002", "req2")));
+        cache.restoreImpCache("impid", Set.of(StoredItem.of("1001", "imp1"), StoredItem.of("1002", "imp2")));
+        given(delegateSettings.getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid")), same(timeout)))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(emptyMap(), emptyMap(), emptyList())));
+
+        // when
+        target.getStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+
+        // then
+        assertThat(cache.getRequestCache()).containsOnly(entry("reqid", singleton(StoredItem.of("1002", "req2"))));
+        assertThat(cache.getImpCache()).containsOnly(entry("impid", singleton(StoredItem.of("1002", "imp2"))));
+    }
+
     @Test
     public void getStoredDataShouldReturnResultOnSuccessiveCalls() {
         // given
@@ -1,15 +1,27 @@
 package org.prebid.server.settings;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
 import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.helper.LookupBatcher;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
@@ -20,16 +32,24 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(MockitoExtension.class)
 
@@ -54,6 +74,12 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
     @Mock
     private DatabaseClient databaseClient;
 
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private Metrics metrics;
+
     private DatabaseApplicationSettings target;
 
     private Timeout timeout;
@@ -69,7 +95,8 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
                 SELECT_ACCOUNT_QUERY,
                 SELECT_QUERY,
                 SELECT_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                null);
     }
 
     @Test
@@ -131,6 +158,36 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
         assertThat(future.result()).isEqualTo(givenStoredDataResult);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getStoredDataShouldFetchBatchedLookupsWithOneQuery() {
+        // given
+        givenBatchingDatabaseApplicationSettings();
+        given(parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(SELECT_QUERY, 2, 1))
+                .willReturn("query");
+
+        final RowSet<Row> rowSet = mock(RowSet.class);
+        final List<Row> rows = List.of(
+                givenRow("1001", "1", "value1", "request"),
+                givenRow("1001", "2", "value2", "request"),
+                givenRow("1001", "4", "value4", "imp"));
+        given(rowSet.iterator()).willAnswer(invocation -> rowIterator(rows.iterator()));
+        given(databaseClient.executeQuery(eq("query"), eq(List.of("1", "2", "4")), any(), eq(timeout)))
+                .willReturn(Future.succeededFuture(rowSet));
+
+        // when
+        final Future<StoredDataResult> first = target.getStoredData("1001", Set.of("1"), Set.of("4"), timeout);
+        final Future<StoredDataResult> second = target.getStoredData("1001", Set.of("2"), emptySet(), timeout);
+        fireBatchTimer();
+
+        // then
+        assertThat(first.result())
+                .isEqualTo(StoredDataResult.of(Map.of("1", "value1"), Map.of("4", "value4"), emptyList()));
+        assertThat(second.result())
+                .isEqualTo(StoredDataResult.of(Map.of("2", "value2"), Map.of(), emptyList()));
+        verify(metrics).updateSettingsBatchSizeMetric(MetricName.stored_request, 2);
+    }
+
     @Test
     public void getAmpStoredDataShouldReturnExpectedResult() {
         // given
@@ -273,4 +330,54 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
         assertThat(result.cause()).isInstanceOf(PreBidException.class)
                 .hasMessage("Not supported");
     }
+
+    private void givenBatchingDatabaseApplicationSettings() {
+        final Context context = mock(Context.class);
+        given(vertx.getOrCreateContext()).willReturn(context);
+        doAnswer(invocation -> {
+            invocation.<Handler<Void>>getArgument(0).handle(null);
+            return null;
+        }).when(context).runOnContext(any());
+
+        target = new DatabaseApplicationSettings(
+                databaseClient,
+                jacksonMapper,
+                parametrizedQueryHelper,
+                SELECT_ACCOUNT_QUERY,
+                SELECT_QUERY,
+                SELECT_QUERY,
+                SELECT_RESPONSE_QUERY,
+                new LookupBatcher(vertx, metrics, 5, 10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireBatchTimer() {
+        final ArgumentCaptor<Handler<Long>> timerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerCaptor.capture());
+        timerCaptor.getValue().handle(1L);
+    }
+
+    private static Row givenRow(Object... values) {
+        final Row row = mock(Row.class, withSettings().strictness(Strictness.LENIENT));
+        given(row.getValue(anyInt())).willAnswer(invocation -> values[(Integer) invocation.getArgument(0)]);
+        final JsonObject json = new JsonObject();
+        IntStream.range(0, values.length).forEach(i -> json.put(String.valueOf(i), values[i]));
+        given(row.toJson()).willReturn(json);
+        return row;
+    }
+
+    private static RowIterator<Row> rowIterator(Iterator<Row> delegate) {
+        return new RowIterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Row next() {
+                return delegate.next();
+            }
+        };
+    }
 }
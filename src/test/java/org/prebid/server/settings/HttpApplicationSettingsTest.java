@@ -1,7 +1,10 @@
 package org.prebid.server.settings;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +15,9 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.helper.LookupBatcher;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountPrivacyConfig;
@@ -36,13 +42,16 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -56,6 +65,10 @@ public class HttpApplicationSettingsTest extends VertxTest {
 
     @Mock(strictness = LENIENT)
     private HttpClient httpClient;
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
 
     private HttpApplicationSettings httpApplicationSettings;
 
@@ -65,7 +78,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     @BeforeEach
     public void setUp() {
         httpApplicationSettings = new HttpApplicationSettings(httpClient, jacksonMapper, ENDPOINT, AMP_ENDPOINT,
-                VIDEO_ENDPOINT, CATEGORY_ENDPOINT);
+                VIDEO_ENDPOINT, CATEGORY_ENDPOINT, null);
 
         final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
@@ -77,7 +90,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     public void creationShouldFailsOnInvalidEndpoint() {
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> new HttpApplicationSettings(httpClient, jacksonMapper, "invalid_url", AMP_ENDPOINT,
-                        VIDEO_ENDPOINT, CATEGORY_ENDPOINT))
+                        VIDEO_ENDPOINT, CATEGORY_ENDPOINT, null))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -85,7 +98,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     public void creationShouldFailsOnInvalidAmpEndpoint() {
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> new HttpApplicationSettings(httpClient, jacksonMapper, ENDPOINT, "invalid_url",
-                        VIDEO_ENDPOINT, CATEGORY_ENDPOINT))
+                        VIDEO_ENDPOINT, CATEGORY_ENDPOINT, null))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -93,7 +106,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     public void creationShouldFailsOnInvalidVideoEndpoint() {
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> new HttpApplicationSettings(httpClient, jacksonMapper, ENDPOINT, AMP_ENDPOINT,
-                        "invalid_url", CATEGORY_ENDPOINT))
+                        "invalid_url", CATEGORY_ENDPOINT, null))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -243,7 +256,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
         // given
         givenHttpClientReturnsResponse(200, null);
         httpApplicationSettings = new HttpApplicationSettings(httpClient, jacksonMapper,
-                "http://some-domain?param1=value1", AMP_ENDPOINT, VIDEO_ENDPOINT, CATEGORY_ENDPOINT);
+                "http://some-domain?param1=value1", AMP_ENDPOINT, VIDEO_ENDPOINT, CATEGORY_ENDPOINT, null);
 
         // when
         httpApplicationSettings.getStoredData(null, singleton("id1"), singleton("id2"), timeout);
@@ -518,6 +531,100 @@ public class HttpApplicationSettingsTest extends VertxTest {
                 .containsEntry("iab", "id");
     }
 
+    @Test
+    public void getAccountByIdShouldFetchBatchedAccountsWithOneRequest() throws JsonProcessingException {
+        // given
+        givenBatchingHttpApplicationSettings();
+        final HttpAccountsResponse response = HttpAccountsResponse.of(Map.of(
+                "id1", Account.builder().id("id1").build(),
+                "id2", Account.builder().id("id2").build()));
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(response));
+
+        // when
+        final Future<Account> first = httpApplicationSettings.getAccountById("id1", timeout);
+        final Future<Account> second = httpApplicationSettings.getAccountById("id2", timeout);
+        final Future<Account> missing = httpApplicationSettings.getAccountById("id3", timeout);
+        fireBatchTimer();
+
+        // then
+        assertThat(first.result().getId()).isEqualTo("id1");
+        assertThat(second.result().getId()).isEqualTo("id2");
+        assertThat(missing.cause()).hasMessage("Account with id : id3 not found");
+
+        verify(httpClient).get(eq("http://stored-requests?account-ids=[\"id1\",\"id2\",\"id3\"]"), any(),
+                anyLong());
+        verify(metrics).updateSettingsBatchSizeMetric(MetricName.account, 3);
+    }
+
+    @Test
+    public void getStoredDataShouldReturnOnlyRequestedDataOfBatchedLookups() throws JsonProcessingException {
+        // given
+        givenBatchingHttpApplicationSettings();
+        final HttpFetcherResponse response = HttpFetcherResponse.of(
+                Map.of("id1", mapper.createObjectNode().put("field1", "value1"),
+                        "id2", mapper.createObjectNode().put("field2", "value2")),
+                Map.of("id3", mapper.createObjectNode().put("field3", "value3")));
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(response));
+
+        // when
+        final Future<StoredDataResult> first =
+                httpApplicationSettings.getStoredData(null, singleton("id1"), singleton("id3"), timeout);
+        final Future<StoredDataResult> second =
+                httpApplicationSettings.getStoredData(null, singleton("id2"), emptySet(), timeout);
+        fireBatchTimer();
+
+        // then
+        assertThat(first.result().getStoredIdToRequest()).containsOnly(entry("id1", "{\"field1\":\"value1\"}"));
+        assertThat(first.result().getStoredIdToImp()).containsOnly(entry("id3", "{\"field3\":\"value3\"}"));
+        assertThat(first.result().getErrors()).isEmpty();
+        assertThat(second.result().getStoredIdToRequest()).containsOnly(entry("id2", "{\"field2\":\"value2\"}"));
+        assertThat(second.result().getStoredIdToImp()).isEmpty();
+        assertThat(second.result().getErrors()).isEmpty();
+
+        verify(httpClient).get(eq("http://stored-requests?request-ids=[\"id1\",\"id2\"]&imp-ids=[\"id3\"]"),
+                any(), anyLong());
+        verify(metrics).updateSettingsBatchSizeMetric(MetricName.stored_request, 2);
+    }
+
+    @Test
+    public void getStoredDataShouldReturnErrorToEachBatchedLookupIfHttpClientFails() {
+        // given
+        givenBatchingHttpApplicationSettings();
+        givenHttpClientProducesException(new RuntimeException("Request exception"));
+
+        // when
+        final Future<StoredDataResult> first =
+                httpApplicationSettings.getStoredData(null, singleton("id1"), emptySet(), timeout);
+        final Future<StoredDataResult> second =
+                httpApplicationSettings.getStoredData(null, singleton("id2"), emptySet(), timeout);
+        fireBatchTimer();
+
+        // then
+        assertThat(first.result().getErrors())
+                .containsOnly("Error fetching stored requests for ids [id1] via HTTP: Request exception");
+        assertThat(second.result().getErrors())
+                .containsOnly("Error fetching stored requests for ids [id2] via HTTP: Request exception");
+    }
+
+    private void givenBatchingHttpApplicationSettings() {
+        final Context context = mock(Context.class);
+        given(vertx.getOrCreateContext()).willReturn(context);
+        doAnswer(invocation -> {
+            invocation.<Handler<Void>>getArgument(0).handle(null);
+            return null;
+        }).when(context).runOnContext(any());
+
+        httpApplicationSettings = new HttpApplicationSettings(httpClient, jacksonMapper, ENDPOINT, AMP_ENDPOINT,
+                VIDEO_ENDPOINT, CATEGORY_ENDPOINT, new LookupBatcher(vertx, metrics, 5, 10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireBatchTimer() {
+        final ArgumentCaptor<Handler<Long>> timerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerCaptor.capture());
+        timerCaptor.getValue().handle(1L);
+    }
+
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
         given(httpClient.get(anyString(), any(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
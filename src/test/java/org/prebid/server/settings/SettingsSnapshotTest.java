@@ -0,0 +1,199 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class SettingsSnapshotTest extends VertxTest {
+
+    @Mock(strictness = LENIENT)
+    private ApplicationSettings delegateSettings;
+    @Mock
+    private Metrics metrics;
+    @Mock(strictness = LENIENT)
+    private Vertx vertx;
+
+    @TempDir
+    private Path directory;
+
+    private Timeout timeout;
+
+    @BeforeEach
+    public void setUp() {
+        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        given(vertx.executeBlocking(anyCallable(), anyBoolean())).willAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
+        });
+    }
+
+    @Test
+    public void restoreShouldWarmUpCachesWithWrittenSnapshot() {
+        // given
+        final Account account = Account.builder()
+                .id("accountId")
+                .auction(AccountAuctionConfig.builder().priceGranularity("med").build())
+                .build();
+        given(delegateSettings.getAccountById(eq("accountId"), any())).willReturn(Future.succeededFuture(account));
+        given(delegateSettings.getStoredData(any(), any(), any(), any())).willReturn(Future.succeededFuture(
+                StoredDataResult.of(Map.of("reqId", "request"), Map.of("impId", "imp"), emptyList())));
+
+        final CachingApplicationSettings source = givenCachingApplicationSettings(delegateSettings);
+        source.getAccountById("accountId", timeout);
+        source.getStoredData("accountId", Set.of("reqId"), Set.of("impId"), timeout);
+
+        final Path path = directory.resolve("snapshot.jsonl");
+        assertThat(new SettingsSnapshot(source, path.toString(), 0, 10, vertx, jacksonMapper).write().succeeded())
+                .isTrue();
+
+        final ApplicationSettings otherDelegateSettings = mock(ApplicationSettings.class);
+        final CachingApplicationSettings target = givenCachingApplicationSettings(otherDelegateSettings);
+
+        // when
+        final int restored = new SettingsSnapshot(target, path.toString(), 0, 10, vertx, jacksonMapper).restore();
+
+        // then
+        assertThat(restored).isEqualTo(3);
+        assertThat(target.getAccountCache()).containsEntry("accountId", account);
+        assertThat(target.getCache().getRequestCache()).containsKey("reqId");
+        assertThat(target.getCache().getImpCache()).containsKey("impId");
+        assertThat(target.getCache().getUnverifiedRequestIds()).containsExactly("reqId");
+        verifyNoInteractions(otherDelegateSettings);
+    }
+
+    @Test
+    public void restoreShouldSkipMalformedEntries() throws IOException {
+        // given
+        final Path path = directory.resolve("snapshot.jsonl");
+        Files.write(path, List.of(
+                "{\"type\":\"account\",\"id\":\"accountId\",\"value\":{\"id\":\"accountId\"}}",
+                "{\"type\":\"unknown\",\"id\":\"id\",\"value\":{}}",
+                "{\"type\":\"request\",\"id\":\"reqId\"",
+                "",
+                "{\"type\":\"amp_request\",\"id\":\"ampId\",\"value\":[{\"data\":\"amp\"}]}"),
+                StandardCharsets.UTF_8);
+        final CachingApplicationSettings target = givenCachingApplicationSettings(delegateSettings);
+
+        // when
+        final int restored = new SettingsSnapshot(target, path.toString(), 0, 10, vertx, jacksonMapper).restore();
+
+        // then
+        assertThat(restored).isEqualTo(2);
+        assertThat(target.getAccountCache()).containsOnlyKeys("accountId");
+        assertThat(target.getCache().getRequestCache()).isEmpty();
+        assertThat(target.getAmpCache().getRequestCache()).containsKey("ampId");
+    }
+
+    @Test
+    public void restoreShouldTolerateMissingSnapshot() {
+        // given
+        final CachingApplicationSettings target = givenCachingApplicationSettings(delegateSettings);
+
+        // when
+        final int restored = new SettingsSnapshot(
+                target, directory.resolve("absent.jsonl").toString(), 0, 10, vertx, jacksonMapper).restore();
+
+        // then
+        assertThat(restored).isZero();
+        assertThat(target.getAccountCache()).isEmpty();
+    }
+
+    @Test
+    public void writeShouldLimitEntriesOfEachCache() throws IOException {
+        // given
+        final CachingApplicationSettings source = givenCachingApplicationSettings(delegateSettings);
+        source.restoreAccount("id1", Account.empty("id1"));
+        source.restoreAccount("id2", Account.empty("id2"));
+        source.restoreCategories("adserver", Map.of("iab", "id"));
+
+        final Path path = directory.resolve("nested").resolve("snapshot.jsonl");
+
+        // when
+        new SettingsSnapshot(source, path.toString(), 0, 1, vertx, jacksonMapper).write();
+
+        // then
+        final List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).isEqualTo("{\"type\":\"categories\",\"id\":\"adserver\",\"value\":{\"iab\":\"id\"}}");
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    public void initializeShouldScheduleWritesWhenPeriodIsPositive() {
+        // given
+        final SettingsSnapshot target = new SettingsSnapshot(
+                givenCachingApplicationSettings(delegateSettings),
+                directory.resolve("snapshot.jsonl").toString(),
+                1000L,
+                10,
+                vertx,
+                jacksonMapper);
+        final Promise<Void> promise = Promise.promise();
+
+        // when
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+        verify(vertx).setPeriodic(eq(1000L), any());
+    }
+
+    private CachingApplicationSettings givenCachingApplicationSettings(ApplicationSettings delegate) {
+        return new CachingApplicationSettings(
+                delegate,
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0);
+    }
+
+    private static Callable<Object> anyCallable() {
+        return any();
+    }
+}
@@ -0,0 +1,177 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class LookupBatcherTest {
+
+    @Mock(strictness = LENIENT)
+    private Vertx vertx;
+    @Mock(strictness = LENIENT)
+    private Context context;
+    @Mock
+    private Metrics metrics;
+    @Captor
+    private ArgumentCaptor<Handler<Long>> timerCaptor;
+    @Captor
+    private ArgumentCaptor<Handler<Void>> flushCaptor;
+
+    private final List<List<String>> loadedBatches = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        doAnswer(invocation -> {
+            invocation.<Handler<Void>>getArgument(0).handle(null);
+            return null;
+        }).when(context).runOnContext(any());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxBatchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LookupBatcher(vertx, metrics, 1, 0));
+    }
+
+    @Test
+    public void submitShouldMergeLookupsSubmittedWithinWindow() {
+        // given
+        final LookupBatcher target = new LookupBatcher(vertx, metrics, 5, 10);
+
+        // when
+        final Future<List<String>> first = target.submit(this, MetricName.account, "key", "id1", loader());
+        final Future<List<String>> second = target.submit(this, MetricName.account, "key", "id2", loader());
+
+        // then
+        assertThat(first.isComplete()).isFalse();
+        assertThat(loadedBatches).isEmpty();
+
+        fireTimer();
+
+        assertThat(loadedBatches).containsExactly(List.of("id1", "id2"));
+        assertThat(first.result()).containsExactly("id1", "id2");
+        assertThat(second.result()).containsExactly("id1", "id2");
+        verify(metrics).updateSettingsBatchSizeMetric(MetricName.account, 2);
+    }
+
+    @Test
+    public void submitShouldNotMergeLookupsWithDifferentKeys() {
+        // given
+        final LookupBatcher target = new LookupBatcher(vertx, metrics, 5, 10);
+
+        // when
+        target.submit(this, MetricName.account, "key1", "id1", loader());
+        target.submit(this, MetricName.stored_request, "key1", "id2", loader());
+        target.submit(this, MetricName.account, "key2", "id3", loader());
+
+        // then
+        verify(vertx, times(3)).setTimer(eq(5L), timerCaptor.capture());
+        timerCaptor.getAllValues().forEach(handler -> handler.handle(1L));
+
+        assertThat(loadedBatches).containsExactly(List.of("id1"), List.of("id2"), List.of("id3"));
+    }
+
+    @Test
+    public void submitShouldLoadBatchRightAwayWhenMaxBatchSizeIsReached() {
+        // given
+        final LookupBatcher target = new LookupBatcher(vertx, metrics, 5, 2);
+
+        // when
+        target.submit(this, MetricName.account, "key", "id1", loader());
+        final Future<List<String>> result = target.submit(this, MetricName.account, "key", "id2", loader());
+
+        // then
+        assertThat(loadedBatches).containsExactly(List.of("id1", "id2"));
+        assertThat(result.result()).containsExactly("id1", "id2");
+
+        fireTimer();
+        assertThat(loadedBatches).hasSize(1);
+    }
+
+    @Test
+    public void submitShouldFlushOnContextWhenWindowIsNotPositive() {
+        // given
+        final LookupBatcher target = new LookupBatcher(vertx, metrics, 0, 10);
+
+        // when
+        target.submit(this, MetricName.account, "key", "id1", loader());
+
+        // then
+        verify(vertx, never()).setTimer(anyLong(), any());
+        verify(vertx).runOnContext(flushCaptor.capture());
+        flushCaptor.getValue().handle(null);
+
+        assertThat(loadedBatches).containsExactly(List.of("id1"));
+    }
+
+    @Test
+    public void submitShouldFailAllLookupsWhenLoaderThrowsException() {
+        // given
+        final LookupBatcher target = new LookupBatcher(vertx, metrics, 5, 10);
+        final Function<List<String>, Future<List<String>>> loader = lookups -> {
+            throw new IllegalStateException("failed");
+        };
+
+        // when
+        final Future<List<String>> first = target.submit(this, MetricName.account, "key", "id1", loader);
+        final Future<List<String>> second = target.submit(this, MetricName.account, "key", "id2", loader);
+        fireTimer();
+
+        // then
+        assertThat(first.failed()).isTrue();
+        assertThat(first.cause()).hasMessage("failed");
+        assertThat(second.failed()).isTrue();
+    }
+
+    @Test
+    public void submitShouldNotTouchMetricsBeforeBatchIsLoaded() {
+        // given
+        final LookupBatcher target = new LookupBatcher(vertx, metrics, 5, 10);
+
+        // when
+        target.submit(this, MetricName.account, "key", "id1", loader());
+
+        // then
+        verifyNoInteractions(metrics);
+    }
+
+    private Function<List<String>, Future<List<String>>> loader() {
+        return lookups -> {
+            loadedBatches.add(lookups);
+            return Future.succeededFuture(lookups);
+        };
+    }
+
+    private void fireTimer() {
+        verify(vertx).setTimer(eq(5L), timerCaptor.capture());
+        timerCaptor.getValue().handle(1L);
+    }
+}
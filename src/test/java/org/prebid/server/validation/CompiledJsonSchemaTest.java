@@ -0,0 +1,290 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledJsonSchemaTest extends VertxTest {
+
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+    private static final Path BIDDER_PARAMS_DIRECTORY = Path.of("src/main/resources/static/bidder-params");
+    private static final int MAX_SAMPLES_PER_VALUE = 40;
+
+    @Test
+    public void compiledSchemasShouldAgreeWithSchemaEngineOnGeneratedBidderParamsSamples() throws IOException {
+        // given
+        final Map<String, JsonNode> bidderSchemas = bidderSchemas();
+
+        int compiledSchemas = 0;
+        int schemasWithValidSamples = 0;
+        for (Map.Entry<String, JsonNode> bidderSchema : bidderSchemas.entrySet()) {
+            final String bidder = bidderSchema.getKey();
+            final JsonSchema engineSchema = SCHEMA_FACTORY.getSchema(bidderSchema.getValue());
+
+            // when
+            final CompiledJsonSchema compiledSchema = CompiledJsonSchema.compile(bidderSchema.getValue());
+
+            // then
+            if (compiledSchema == null) {
+                continue;
+            }
+            compiledSchemas++;
+
+            final Set<JsonNode> samples = samples(bidderSchema.getValue(), 0);
+            int validSamples = 0;
+            for (JsonNode sample : samples) {
+                final boolean valid = engineSchema.validate(sample).isEmpty();
+                assertThat(compiledSchema.isValid(sample)).describedAs("%s: %s", bidder, sample).isEqualTo(valid);
+                validSamples += valid ? 1 : 0;
+            }
+
+            assertThat(samples.size() - validSamples).describedAs("%s has no invalid samples", bidder).isPositive();
+            // samples can not satisfy some patterns, so not every schema gets a valid one
+            schemasWithValidSamples += validSamples > 0 ? 1 : 0;
+        }
+
+        assertThat(compiledSchemas).isGreaterThan(bidderSchemas.size() * 9 / 10);
+        assertThat(schemasWithValidSamples).isGreaterThan(compiledSchemas * 9 / 10);
+    }
+
+    @Test
+    public void compileShouldReturnNullForSchemaWithUnsupportedKeyword() throws IOException {
+        // given
+        final JsonNode schema = mapper.readTree("""
+                {"type": "object", "properties": {"id": {"type": "string", "format": "uuid"}}}""");
+
+        // when and then
+        assertThat(CompiledJsonSchema.compile(schema)).isNull();
+    }
+
+    @Test
+    public void isValidShouldApplyCombinedKeywords() throws IOException {
+        // given
+        final CompiledJsonSchema schema = CompiledJsonSchema.compile(mapper.readTree("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "placementId": {"type": ["integer", "string"], "pattern": "^\\\\d+$", "minimum": 1},
+                    "sizes": {"type": "array", "items": {"type": "integer"}, "minItems": 1}
+                  },
+                  "oneOf": [{"required": ["placementId"]}, {"required": ["sizes"]}]
+                }"""));
+
+        // when and then
+        assertThat(schema.isValid(mapper.readTree("{\"placementId\": 12}"))).isTrue();
+        assertThat(schema.isValid(mapper.readTree("{\"placementId\": \"12\"}"))).isTrue();
+        assertThat(schema.isValid(mapper.readTree("{\"sizes\": [1, 2]}"))).isTrue();
+        assertThat(schema.isValid(mapper.readTree("{\"placementId\": 0}"))).isFalse();
+        assertThat(schema.isValid(mapper.readTree("{\"placementId\": \"a12\"}"))).isFalse();
+        assertThat(schema.isValid(mapper.readTree("{\"sizes\": []}"))).isFalse();
+        assertThat(schema.isValid(mapper.readTree("{\"placementId\": 12, \"sizes\": [1]}"))).isFalse();
+        assertThat(schema.isValid(mapper.readTree("{}"))).isFalse();
+    }
+
+    private static Map<String, JsonNode> bidderSchemas() throws IOException {
+        final Map<String, JsonNode> bidderSchemas = new TreeMap<>();
+        try (Stream<Path> files = Files.list(BIDDER_PARAMS_DIRECTORY)) {
+            for (Path file : files.toList()) {
+                bidderSchemas.put(
+                        StringUtils.removeEnd(file.getFileName().toString(), ".json"),
+                        mapper.readTree(Files.readString(file)));
+            }
+        }
+        return bidderSchemas;
+    }
+
+    /**
+     * Generates values around the constraints of the given schema. Objects are built of property values the schema
+     * engine considers valid, with every property then replaced by each of its samples, so both valid and invalid
+     * objects are produced.
+     */
+    private static Set<JsonNode> samples(JsonNode schema, int depth) {
+        final Set<JsonNode> samples = new LinkedHashSet<>();
+
+        schema.path("enum").forEach(samples::add);
+        samples.addAll(numberSamples(schema));
+        samples.addAll(stringSamples(schema));
+        samples.addAll(commonSamples());
+
+        if (depth < 3) {
+            samples.addAll(arraySamples(schema, depth));
+            samples.addAll(objectSamples(schema, depth));
+            for (String combinator : List.of("anyOf", "oneOf", "allOf")) {
+                for (JsonNode subschema : schema.path(combinator)) {
+                    samples.addAll(samples(subschema, depth + 1));
+                    samples.addAll(objectSamples(merge(schema, subschema), depth));
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static List<JsonNode> commonSamples() {
+        return List.of(
+                NullNode.getInstance(), mapper.getNodeFactory().booleanNode(true), TextNode.valueOf(""),
+                TextNode.valueOf("1"), IntNode.valueOf(1), IntNode.valueOf(0), IntNode.valueOf(-1),
+                DoubleNode.valueOf(1.0), DoubleNode.valueOf(1.5), DecimalNode.valueOf(new BigDecimal("2.0")),
+                LongNode.valueOf(10_000_000_000L), BigIntegerNode.valueOf(BigInteger.TEN.pow(30)),
+                mapper.createArrayNode(), mapper.createObjectNode());
+    }
+
+    private static List<JsonNode> stringSamples(JsonNode schema) {
+        final List<JsonNode> samples = new ArrayList<>();
+        for (String value : List.of("a", "abc", "12345", "abc-123_DEF", " ", "ab cd", "example.com",
+                "123e4567-e89b-12d3-a456-426614174000", "https://example.com/path?query=1", "\u00E9\uD83D\uDE00")) {
+            samples.add(TextNode.valueOf(value));
+        }
+        for (String keyword : List.of("minLength", "maxLength")) {
+            final int length = schema.path(keyword).asInt(-1);
+            for (int i = Math.max(0, length - 1); i <= length + 1; i++) {
+                samples.add(TextNode.valueOf("1".repeat(i)));
+                samples.add(TextNode.valueOf("\uD83D\uDE00".repeat(i)));
+            }
+        }
+        return samples;
+    }
+
+    private static List<JsonNode> numberSamples(JsonNode schema) {
+        final List<JsonNode> samples = new ArrayList<>();
+        for (String keyword : List.of("minimum", "maximum")) {
+            final JsonNode limit = schema.get(keyword);
+            if (limit != null && limit.isNumber()) {
+                final BigDecimal value = limit.decimalValue();
+                samples.add(DecimalNode.valueOf(value));
+                samples.add(DecimalNode.valueOf(value.subtract(new BigDecimal("0.5"))));
+                samples.add(DecimalNode.valueOf(value.add(new BigDecimal("0.5"))));
+                samples.add(DoubleNode.valueOf(value.doubleValue()));
+                samples.add(LongNode.valueOf(value.longValue() - 1));
+                samples.add(LongNode.valueOf(value.longValue()));
+                samples.add(LongNode.valueOf(value.longValue() + 1));
+            }
+        }
+        return samples;
+    }
+
+    private static List<JsonNode> arraySamples(JsonNode schema, int depth) {
+        final JsonNode items = schema.get("items");
+        if (items == null) {
+            return List.of();
+        }
+
+        final List<JsonNode> samples = new ArrayList<>();
+        final List<JsonNode> itemSamples = limit(samples(items, depth + 1));
+        final JsonNode validItem = validSample(itemSamples, items);
+        for (JsonNode itemSample : itemSamples) {
+            samples.add(mapper.createArrayNode().add(itemSample));
+            if (validItem != null) {
+                samples.add(mapper.createArrayNode().add(validItem).add(itemSample));
+            }
+        }
+        if (validItem != null) {
+            for (String keyword : List.of("minItems", "maxItems")) {
+                final int size = schema.path(keyword).asInt(-1);
+                for (int i = Math.max(0, size - 1); i <= size + 1; i++) {
+                    final ArrayNode array = mapper.createArrayNode();
+                    for (int j = 0; j < i; j++) {
+                        array.add(validItem);
+                    }
+                    samples.add(array);
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static List<JsonNode> objectSamples(JsonNode schema, int depth) {
+        final JsonNode properties = schema.path("properties");
+        final JsonNode required = schema.path("required");
+        if (properties.isEmpty() && required.isEmpty()) {
+            return List.of();
+        }
+
+        final ObjectNode base = mapper.createObjectNode();
+        final ObjectNode full = mapper.createObjectNode();
+        final List<Map.Entry<String, List<JsonNode>>> propertySamples = new ArrayList<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = properties.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> property = fields.next();
+            final List<JsonNode> values = limit(samples(property.getValue(), depth + 1));
+            propertySamples.add(Map.entry(property.getKey(), values));
+
+            final JsonNode validValue = validSample(values, property.getValue());
+            if (validValue != null) {
+                full.set(property.getKey(), validValue);
+            }
+        }
+        for (JsonNode requiredProperty : required) {
+            final String name = requiredProperty.asText();
+            base.set(name, full.has(name) ? full.get(name) : TextNode.valueOf("value"));
+        }
+
+        final List<JsonNode> samples = new ArrayList<>(List.of(base, full));
+        for (ObjectNode object : List.of(base, full)) {
+            for (JsonNode requiredProperty : required) {
+                samples.add(object.deepCopy().without(requiredProperty.asText()));
+            }
+            for (Map.Entry<String, List<JsonNode>> property : propertySamples) {
+                for (JsonNode value : property.getValue()) {
+                    samples.add(object.deepCopy().set(property.getKey(), value));
+                }
+            }
+            samples.add(object.deepCopy().put("unknownProperty", "value"));
+        }
+        return samples;
+    }
+
+    private static JsonNode validSample(List<JsonNode> samples, JsonNode schema) {
+        final JsonSchema valueSchema = SCHEMA_FACTORY.getSchema(schema);
+        return samples.stream()
+                .filter(sample -> !sample.isNull() && valueSchema.validate(sample).isEmpty())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static JsonNode merge(JsonNode schema, JsonNode subschema) {
+        final ObjectNode result = mapper.createObjectNode();
+        final ObjectNode properties = result.putObject("properties");
+        for (JsonNode source : List.of(schema, subschema)) {
+            if (source.path("properties").isObject()) {
+                properties.setAll((ObjectNode) source.get("properties"));
+            }
+        }
+        final ArrayNode required = result.putArray("required");
+        schema.path("required").forEach(required::add);
+        subschema.path("required").forEach(required::add);
+        return result;
+    }
+
+    private static List<JsonNode> limit(Set<JsonNode> samples) {
+        return samples.stream().limit(MAX_SAMPLES_PER_VALUE).toList();
+    }
+}
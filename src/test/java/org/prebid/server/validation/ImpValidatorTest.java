@@ -29,6 +29,8 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredAuctionResponse;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredBidResponse;
+import org.prebid.server.validation.model.ValidationMemo;
+import org.prebid.server.validation.model.ValidationStage;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -2381,6 +2383,76 @@ public class ImpValidatorTest extends VertxTest {
                 .hasMessage("imp[id=200].metric[0].value must be in the range [0.0, 1.0]");
     }
 
+    @Test
+    public void validateImpShouldSkipImpPartsValidatedOnRequestValidation() throws ValidationException {
+        // given
+        final Imp givenImp = validImpBuilder()
+                .metric(singletonList(Metric.builder().type("viewability").value(0.5f).build()))
+                .build();
+        final ValidationMemo validationMemo = new ValidationMemo();
+        target.validateImps(singletonList(givenImp), Collections.emptyMap(), new ArrayList<>(), validationMemo);
+
+        // when
+        target.validateImp(givenImp.toBuilder().tagid("bidderTagId").build(), validationMemo);
+
+        // then
+        assertThat(validationMemo.skippedValidations(ValidationStage.request)).isZero();
+        assertThat(validationMemo.skippedValidations(ValidationStage.imp_override)).isEqualTo(4);
+    }
+
+    @Test
+    public void validateImpShouldValidateReplacedImpPartsEvenIfOriginalOnesWereValidated() throws ValidationException {
+        // given
+        final Imp givenImp = validImpBuilder().build();
+        final ValidationMemo validationMemo = new ValidationMemo();
+        target.validateImps(singletonList(givenImp), Collections.emptyMap(), new ArrayList<>(), validationMemo);
+
+        final Imp modifiedImp = givenImp.toBuilder()
+                .pmp(Pmp.builder().deals(singletonList(Deal.builder().id(null).build())).build())
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> target.validateImp(modifiedImp, validationMemo))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("imp[id=200].pmp.deals[0] missing required field: \"id\"");
+        assertThat(validationMemo.skippedValidations(ValidationStage.imp_override)).isEqualTo(2);
+    }
+
+    @Test
+    public void validateImpShouldValidateEqualButReplacedImpPartsAgain() throws ValidationException {
+        // given
+        final Imp givenImp = validImpBuilder().build();
+        final ValidationMemo validationMemo = new ValidationMemo();
+        target.validateImp(givenImp, validationMemo);
+
+        final Imp modifiedImp = givenImp.toBuilder()
+                .banner(givenImp.getBanner().toBuilder().build())
+                .video(givenImp.getVideo().toBuilder().build())
+                .pmp(givenImp.getPmp().toBuilder().build())
+                .build();
+
+        // when
+        target.validateImp(modifiedImp, validationMemo);
+
+        // then
+        assertThat(validationMemo.skippedValidations(ValidationStage.imp_override)).isZero();
+    }
+
+    @Test
+    public void validateImpShouldValidateBannerAgainWhenImpIsNotInterstitialAnymore() throws ValidationException {
+        // given
+        final Imp givenImp = validImpBuilder().instl(1).banner(Banner.builder().build()).build();
+        final ValidationMemo validationMemo = new ValidationMemo();
+        target.validateImp(givenImp, validationMemo);
+
+        final Imp modifiedImp = givenImp.toBuilder().instl(0).build();
+
+        // when & then
+        assertThatThrownBy(() -> target.validateImp(modifiedImp, validationMemo))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("imp[id=200].banner has no sizes. Define \"w\" and \"h\", or include \"format\" elements");
+    }
+
     private static List<Imp> givenImps(UnaryOperator<Native.NativeBuilder> nativeCustomizer) {
         return singletonList(validImpBuilder().xNative(nativeCustomizer.apply(Native.builder()).build()).build());
     }
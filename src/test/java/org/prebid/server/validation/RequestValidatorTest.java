@@ -1462,7 +1462,7 @@ public class RequestValidatorTest extends VertxTest {
     public void validateShouldReturnValidationMessageWhenImpValidationFailed() throws ValidationException {
         // given
         doThrow(new ValidationException("imp[0] validation failed"))
-                .when(impValidator).validateImps(any(), any(), any());
+                .when(impValidator).validateImps(any(), any(), any(), any());
 
         final BidRequest bidRequest = validBidRequestBuilder().build();
 
@@ -1477,7 +1477,7 @@ public class RequestValidatorTest extends VertxTest {
     public void validateShouldReturnWarningMessageWhenImpValidationWarns() throws ValidationException {
         // given
         doAnswer(invocation -> ((List<String>) invocation.getArgument(2)).add("imp[0] validation warning"))
-                .when(impValidator).validateImps(any(), any(), any());
+                .when(impValidator).validateImps(any(), any(), any(), any());
 
         final BidRequest bidRequest = validBidRequestBuilder().build();
 
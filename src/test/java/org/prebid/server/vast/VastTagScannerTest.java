@@ -0,0 +1,170 @@
+package org.prebid.server.vast;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VastTagScannerTest extends VertxTest {
+
+    private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
+            Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_OPEN_TAG_PATTERN =
+            Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+
+    private static final String[] FRAGMENTS = {
+            "<VAST version=\"3.0\">", "</VAST>", "<Ad id=\"1\">", "</Ad>",
+            "<InLine>", "<inline>", "< InLine >", "<InLine\n>", "<InLine foo=\"a>b\">", "<InLine/>", "<InLineX>",
+            "</InLine>", "</ inline>", "< / INLINE >", "</InLine\nattr>", "</InLine attr\n>",
+            "<Wrapper>", "<wRaPpEr attr=\"1\">", "<Wrapper\r\n>", "</Wrapper>", "</\twrapper >", "</Wrappers>",
+            "<Impression>", "<Impression id=\"1\">", "</Impression>", "</impression >", "</ IMPRESSION>",
+            "</Impression x>", "</Impression x >", "</ImpressionX>", "<Impressio",
+            "<![CDATA[https://tracker.com/imp?a=1&b=2]]>", "<AdSystem>prebid</AdSystem>", "<Creatives></Creatives>",
+            "<", ">", "/", " ", "\n", "\r", "\u0085", "Knline", "x", "<<", "</", "<Inline<Impression>"};
+
+    @Test
+    public void impressionInsertionIndexShouldMatchRegexBasedLookupOnVastSamplesFromResources() throws IOException {
+        // given
+        final List<String> samples = vastSamplesFromResources();
+
+        // when and then
+        assertThat(samples).isNotEmpty();
+        for (String sample : samples) {
+            assertThat(VastTagScanner.impressionInsertionIndex(sample))
+                    .describedAs(sample)
+                    .isEqualTo(regexImpressionInsertionIndex(sample));
+        }
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldMatchRegexBasedLookupOnGeneratedFragments() {
+        // given
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder vastXml = new StringBuilder();
+            final int fragmentsCount = random.nextInt(12);
+            for (int j = 0; j < fragmentsCount; j++) {
+                vastXml.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            final String sample = vastXml.toString();
+
+            // when and then
+            assertThat(VastTagScanner.impressionInsertionIndex(sample))
+                    .describedAs(sample)
+                    .isEqualTo(regexImpressionInsertionIndex(sample));
+        }
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldMatchRegexBasedLookupOnLargeCreatives() {
+        // given
+        final Random random = new Random(42);
+
+        for (int size = 5 * 1024; size <= 200 * 1024; size *= 2) {
+            final String sample = givenLargeVast(random, size);
+
+            // when and then
+            assertThat(VastTagScanner.impressionInsertionIndex(sample))
+                    .isEqualTo(regexImpressionInsertionIndex(sample))
+                    .isPositive();
+        }
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldReturnNoAdElementWhenNeitherInLineNorWrapperPresent() {
+        assertThat(VastTagScanner.impressionInsertionIndex("<VAST><Ad></Ad></VAST>"))
+                .isEqualTo(VastTagScanner.NO_AD_ELEMENT);
+    }
+
+    @Test
+    public void impressionInsertionIndexShouldReturnNoInsertionPointWhenAdElementIsNotClosed() {
+        assertThat(VastTagScanner.impressionInsertionIndex("<VAST><Ad><InLine></Ad></VAST>"))
+                .isEqualTo(VastTagScanner.NO_INSERTION_POINT);
+    }
+
+    private static String givenLargeVast(Random random, int size) {
+        final StringBuilder vastXml = new StringBuilder("<VAST version=\"4.0\"><Ad id=\"1\"><InLine>");
+        while (vastXml.length() < size) {
+            vastXml.append(random.nextBoolean() ? "<Impression id=\"" : "<Tracking event=\"start\" id=\"")
+                    .append(random.nextInt())
+                    .append("\"><![CDATA[https://tracker.com/event?id=")
+                    .append(random.nextLong())
+                    .append("]]>")
+                    .append(random.nextBoolean() ? "</Impression>\n" : "</Tracking>\n");
+        }
+        return vastXml.append("</InLine></Ad></VAST>").toString();
+    }
+
+    private static List<String> vastSamplesFromResources() throws IOException {
+        final List<String> samples = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(Path.of("src/test/resources/org/prebid/server/it"))) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+                final String content = Files.readString(file);
+                if (content.contains("<VAST") || content.contains("<vast")) {
+                    collectVastSamples(mapper.readTree(content), samples);
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static void collectVastSamples(JsonNode node, List<String> samples) {
+        if (node.isTextual()) {
+            final String text = node.textValue();
+            if (text.contains("<VAST") || text.contains("<vast")) {
+                samples.add(text);
+            }
+        }
+        node.forEach(child -> collectVastSamples(child, samples));
+    }
+
+    /**
+     * Reference lookup as implemented with regexes before {@link VastTagScanner} was introduced.
+     */
+    private static int regexImpressionInsertionIndex(String vastXml) {
+        final int inlineIndex = regexImpressionInsertionIndex(
+                vastXml, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN);
+        return inlineIndex != VastTagScanner.NO_AD_ELEMENT
+                ? inlineIndex
+                : regexImpressionInsertionIndex(vastXml, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN);
+    }
+
+    private static int regexImpressionInsertionIndex(String vastXml, Pattern openTagPattern, Pattern closeTagPattern) {
+        final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
+        if (!openTagMatcher.find()) {
+            return VastTagScanner.NO_AD_ELEMENT;
+        }
+
+        final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
+        if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
+            int replacementEnd = impressionCloseTagMatcher.end();
+            while (impressionCloseTagMatcher.find(replacementEnd)) {
+                replacementEnd = impressionCloseTagMatcher.end();
+            }
+            return replacementEnd;
+        }
+
+        final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
+        return closeTagMatcher.find(openTagMatcher.end())
+                ? closeTagMatcher.start()
+                : VastTagScanner.NO_INSERTION_POINT;
+    }
+}
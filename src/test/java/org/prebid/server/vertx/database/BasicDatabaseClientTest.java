@@ -35,6 +35,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.withSettings;
@@ -204,6 +205,33 @@ public class BasicDatabaseClientTest {
         verify(metrics).updateDatabaseQueryTimeMetric(anyLong());
     }
 
+    @Test
+    public void executeQueryShouldReportPoolWaitTimeMetricIfConnectionIsAcquired() {
+        // given
+        final SqlConnection connection = mock(SqlConnection.class);
+        givenGetConnectionReturning(Future.succeededFuture(connection));
+
+        givenQueryReturning(connection, Future.succeededFuture(givenRowSet()));
+
+        // when
+        target.executeQuery("query", emptyList(), identity(), timeout);
+
+        // then
+        verify(metrics).updateDatabasePoolWaitTimeMetric(0L);
+    }
+
+    @Test
+    public void executeQueryShouldNotReportPoolWaitTimeMetricIfConnectionAcquisitionFails() {
+        // given
+        givenGetConnectionReturning(Future.failedFuture(new RuntimeException("Failed to acquire connection")));
+
+        // when
+        target.executeQuery("query", emptyList(), identity(), timeout);
+
+        // then
+        verify(metrics, never()).updateDatabasePoolWaitTimeMetric(anyLong());
+    }
+
     @SuppressWarnings("unchecked")
     private static void givenQueryReturning(SqlConnection connection, Future<RowSet<Row>> result) {
         final PreparedQuery<RowSet<Row>> preparedQueryMock = mock(PreparedQuery.class);
@@ -219,6 +247,7 @@ public class BasicDatabaseClientTest {
         return new TimeoutFactory(clock).create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
     }
 
+    @SuppressWarnings("unchecked")
     private RowSet<Row> givenRowSet(Row... rows) {
         final RowSet<Row> rowSet = mock(RowSet.class, withSettings().strictness(LENIENT));
         given(rowSet.iterator()).willReturn(CustomRowIterator.of(Arrays.asList(rows).iterator()));